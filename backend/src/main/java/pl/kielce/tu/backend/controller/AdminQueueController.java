@@ -0,0 +1,40 @@
+package pl.kielce.tu.backend.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/queue")
+@Tag(name = "Admin Work Queues", description = "Live updates of pending reservations and return requests")
+public class AdminQueueController {
+
+    private final AdminQueueEventPublisher adminQueueEventPublisher;
+
+    @GetMapping(value = "stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Stream admin queue changes (Admin only)", description = "Server-sent event stream of changes to the pending reservation and return request queues. Events are named after their type; a RESYNC event means buffered changes were dropped and the queues should be reloaded. Comment heartbeats keep idle connections open.", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+            @ApiResponse(responseCode = "503", description = "Too many open admin streams"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+    })
+    public ResponseEntity<SseEmitter> streamQueueEvents() {
+        return adminQueueEventPublisher.handleSubscribe();
+    }
+
+}
@@ -0,0 +1,66 @@
+package pl.kielce.tu.backend.controller;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.constant.UtilizationRanking;
+import pl.kielce.tu.backend.model.dto.DvdUtilizationDto;
+import pl.kielce.tu.backend.service.analytics.UtilizationAnalyticsService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/analytics")
+@Tag(name = "Inventory Analytics", description = "Per-DVD inventory utilization computed by a nightly job")
+public class AnalyticsController {
+
+    private final UtilizationAnalyticsService utilizationAnalyticsService;
+
+    @GetMapping("utilization")
+    @Operation(summary = "Get DVD utilization ranking (Admin only)", description = """
+            Returns DVDs ranked by utilization (rented copy-days over owned copy-days), overdue rate \
+            or average time reservations spent pending, as of the last analytics run.""", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Utilization ranking retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid ranking, direction or limit"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+    })
+    public ResponseEntity<List<DvdUtilizationDto>> getUtilizationRanking(
+            @Parameter(description = "Metric: UTILIZATION (default), OVERDUE_RATE or PENDING_HOLD") @RequestParam(required = false) UtilizationRanking rankBy,
+            @Parameter(description = "Sort direction: DESC (default) or ASC") @RequestParam(required = false) Sort.Direction direction,
+            @Parameter(description = "Number of DVDs to return (default 20, max 100)") @RequestParam(required = false) Integer limit) {
+        return utilizationAnalyticsService.handleGetUtilizationRanking(rankBy, direction, limit);
+    }
+
+    @PostMapping("utilization/recompute")
+    @Operation(summary = "Recompute DVD utilization (Admin only)", description = """
+            Runs the utilization job immediately instead of waiting for the nightly schedule.""", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Utilization recomputed successfully"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+            @ApiResponse(responseCode = "409", description = "A recompute is already running"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+    })
+    public ResponseEntity<Void> recomputeUtilization() {
+        return utilizationAnalyticsService.handleRecompute();
+    }
+
+}
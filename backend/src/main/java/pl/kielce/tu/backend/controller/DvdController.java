@@ -1,7 +1,9 @@
 package pl.kielce.tu.backend.controller;
 
+import java.time.LocalDate;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -22,9 +24,11 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.dto.DvdAvailabilityCalendarDto;
 import pl.kielce.tu.backend.model.dto.DvdDto;
 import pl.kielce.tu.backend.model.dto.PagedResponseDto;
 import pl.kielce.tu.backend.service.dvd.DvdService;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
 
 @RestController
 @RequiredArgsConstructor
@@ -33,6 +37,7 @@ import pl.kielce.tu.backend.service.dvd.DvdService;
 public class DvdController {
 
     private final DvdService dvdService;
+    private final DvdAvailabilityTimelineService availabilityTimelineService;
 
     @GetMapping
     @Operation(summary = "Get all DVDs with optional filtering and pagination", description = """
@@ -105,6 +110,39 @@ public class DvdController {
         return dvdService.handleGetDvdById(id);
     }
 
+    @GetMapping("{id}/calendar")
+    @Operation(summary = "Get DVD availability calendar", description = """
+            Returns the number of copies that can still be booked for every day of the requested range, \
+            together with the number of copies free for the whole range. Pending reservations and open rentals \
+            are taken into account using their rental periods. When no range is given, the next 30 days are returned. \
+            The range is limited to the configured booking horizon and cannot start in the past.""", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Availability calendar retrieved successfully", content = @Content(schema = @Schema(example = """
+                    {
+                      "dvdId": 42,
+                      "from": "2025-11-10",
+                      "to": "2025-11-12",
+                      "totalCopies": 5,
+                      "availableCopies": 2,
+                      "days": [
+                        { "date": "2025-11-10", "availableCopies": 3 },
+                        { "date": "2025-11-11", "availableCopies": 2 },
+                        { "date": "2025-11-12", "availableCopies": 4 }
+                      ]
+                    }"""))),
+            @ApiResponse(responseCode = "400", description = "Invalid DVD ID format or invalid date range", content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token", content = @Content),
+            @ApiResponse(responseCode = "404", description = "DVD not found with the specified ID", content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred while building the calendar", content = @Content)
+    })
+    public ResponseEntity<DvdAvailabilityCalendarDto> getAvailabilityCalendar(
+            @PathVariable String id,
+            @Parameter(description = "First day of the range (ISO date)", example = "2025-11-10") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Last day of the range (ISO date)", example = "2025-11-14") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return availabilityTimelineService.handleGetAvailabilityCalendar(id, from, to);
+    }
+
     @PostMapping("/create")
     @Operation(summary = "Create a new DVD (Admin only)", description = """
             Creates a new DVD entry in the rental system with the provided information. \
@@ -1,14 +1,18 @@
 package pl.kielce.tu.backend.controller;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
+import org.springframework.core.io.Resource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -21,9 +25,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.dto.BillRequestDto;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
 import pl.kielce.tu.backend.model.dto.TransactionDto;
 import pl.kielce.tu.backend.service.invoice.InvoiceService;
+import pl.kielce.tu.backend.service.invoice.export.InvoiceArchiveService;
+import pl.kielce.tu.backend.service.invoice.export.TransactionLedgerExportService;
 
 @RestController
 @RequiredArgsConstructor
@@ -32,72 +40,111 @@ import pl.kielce.tu.backend.service.invoice.InvoiceService;
 public class InvoiceController {
 
     private final InvoiceService invoiceService;
+    private final InvoiceArchiveService invoiceArchiveService;
+    private final TransactionLedgerExportService transactionLedgerExportService;
 
     @GetMapping
     @Operation(summary = "Get user transactions", description = """
-            Retrieves all transactions for the authenticated user. \
-            Returns transaction history sorted by generation date (newest first). \
+            Keyset paginated transactions of the authenticated user. \
+            Returns transaction history sorted by generation date (newest first); \
+            pass the returned nextCursor as 'after' to fetch the following page. \
             Only shows transactions belonging to the current user based on JWT token. \
             Note: billType is null for active rentals (not yet returned) and set to RECEIPT/INVOICE when rental is completed.""", security = {
             @SecurityRequirement(name = "accessToken") })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Transactions retrieved successfully", content = @Content(schema = @Schema(example = """
-                    [
-                      {
-                        "id": 1,
-                        "invoiceId": "INV-1697890123-ABC12345",
-                        "dvdTitle": "Matrix",
-                        "rentalPeriodDays": 7,
-                        "pricePerDay": 4.00,
-                        "lateFee": 0.00,
-                        "totalAmount": 28.00,
-                        "generatedAt": "2025-10-01T14:30:00",
-                        "pdfUrl": null,
-                        "billType": null,
-                        "rentalId": 1
-                      }
-                    ]"""))),
+                    {
+                      "content": [
+                        {
+                          "id": 1,
+                          "invoiceId": "INV-1697890123-ABC12345",
+                          "dvdTitle": "Matrix",
+                          "rentalPeriodDays": 7,
+                          "pricePerDay": 4.00,
+                          "lateFee": 0.00,
+                          "totalAmount": 28.00,
+                          "generatedAt": "2025-10-01T14:30:00",
+                          "pdfUrl": null,
+                          "billType": null,
+                          "rentalId": 1
+                        }
+                      ],
+                      "nextCursor": 1,
+                      "pageSize": 20,
+                      "hasNext": true
+                    }"""))),
+            @ApiResponse(responseCode = "400", description = "Invalid paging parameters or cursor"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
             @ApiResponse(responseCode = "500", description = "Internal server error occurred")
     })
-    public ResponseEntity<List<TransactionDto>> getUserTransactions(HttpServletRequest request) {
-        return invoiceService.handleGetUserTransactions(request);
+    public ResponseEntity<CursorPageDto<TransactionDto>> getUserTransactions(
+            HttpServletRequest request,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) Long after,
+            @Parameter(description = "Number of items per page (max 100)") @RequestParam(defaultValue = "20") int size) {
+        return invoiceService.handleGetUserTransactions(request, after, size);
     }
 
     @GetMapping("all")
     @Operation(summary = "Get all transactions (Admin only)", description = """
-            Retrieves all transactions from all users. \
-            Returns complete transaction history sorted by generation date (newest first). \
+            Keyset paginated transactions of all users. \
+            Returns transaction history sorted by generation date (newest first); \
+            pass the returned nextCursor as 'after' to fetch the following page. \
             This endpoint is restricted to admin users only.""", security = {
             @SecurityRequirement(name = "accessToken") })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "All transactions retrieved successfully", content = @Content(schema = @Schema(example = """
-                    [
-                      {
-                        "id": 1,
-                        "invoiceId": "INV-1697890123-ABC12345",
-                        "dvdTitle": "Matrix",
-                        "rentalPeriodDays": 7,
-                        "pricePerDay": 4.00,
-                        "lateFee": 2.00,
-                        "totalAmount": 30.00,
-                        "generatedAt": "2025-10-01T14:30:00",
-                        "pdfUrl": null,
-                        "billType": "INVOICE",
-                        "rentalId": 1
-                      }
-                    ]"""))),
+                    {
+                      "content": [
+                        {
+                          "id": 1,
+                          "invoiceId": "INV-1697890123-ABC12345",
+                          "dvdTitle": "Matrix",
+                          "rentalPeriodDays": 7,
+                          "pricePerDay": 4.00,
+                          "lateFee": 2.00,
+                          "totalAmount": 30.00,
+                          "generatedAt": "2025-10-01T14:30:00",
+                          "pdfUrl": null,
+                          "billType": "INVOICE",
+                          "rentalId": 1
+                        }
+                      ],
+                      "nextCursor": 1,
+                      "pageSize": 20,
+                      "hasNext": true
+                    }"""))),
+            @ApiResponse(responseCode = "400", description = "Invalid paging parameters or cursor"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
             @ApiResponse(responseCode = "500", description = "Internal server error occurred")
     })
-    public ResponseEntity<List<TransactionDto>> getAllTransactions(HttpServletRequest request) {
-        return invoiceService.handleGetAllTransactions(request);
+    public ResponseEntity<CursorPageDto<TransactionDto>> getAllTransactions(
+            HttpServletRequest request,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) Long after,
+            @Parameter(description = "Number of items per page (max 100)") @RequestParam(defaultValue = "20") int size) {
+        return invoiceService.handleGetAllTransactions(request, after, size);
+    }
+
+    @GetMapping(value = "all/csv", produces = "text/csv")
+    @Operation(summary = "Export the transaction ledger as CSV (Admin only)", description = """
+            Streams every transaction of all users as CSV, newest first. \
+            Rows are read in keyset batches straight into the response, so the full ledger is never held in memory.""", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ledger streamed successfully", content = @Content(mediaType = "text/csv")),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+    })
+    public ResponseEntity<StreamingResponseBody> exportLedger() {
+        return transactionLedgerExportService.handleExportLedger();
     }
 
     @PostMapping("/bill/{id}")
     @Operation(summary = "Generate and download bill PDF", description = """
-            Generates a PDF bill (invoice or receipt) for a specific transaction. \
+            Returns the PDF bill (invoice or receipt) for a specific transaction. \
+            Bills are rendered once when the rental is completed and served from storage afterwards; \
+            a missing file is regenerated on demand. \
             Users can only access their own bills, while admins can access any bill. \
             The PDF is generated in Polish language following Polish standards for receipts and invoices. \
             Bill includes rental period information and late fees if applicable.""", security = {
@@ -109,10 +156,31 @@ public class InvoiceController {
             @ApiResponse(responseCode = "404", description = "Rental not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error occurred")
     })
-    public ResponseEntity<byte[]> generateBill(
+    public ResponseEntity<Resource> generateBill(
             @Parameter(description = "Bill/Transaction ID", example = "1") @PathVariable Long id,
             @Parameter(description = "Bill generation request with bill type") @Valid @RequestBody BillRequestDto billRequest,
             HttpServletRequest request) {
         return invoiceService.handleGenerateBill(id, billRequest, request);
     }
+
+    @GetMapping(value = "export", produces = "application/zip")
+    @Operation(summary = "Export bills as a ZIP archive (Admin only)", description = """
+            Streams a ZIP archive with the bills of every completed rental whose transaction was generated \
+            in the given range, ordered by generation date. \
+            Bills are rendered in parallel on a bounded pool and reused from storage when already rendered. \
+            Bills that fail to render are listed in an errors.txt entry.""", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archive streamed successfully", content = @Content(mediaType = "application/zip")),
+            @ApiResponse(responseCode = "400", description = "Missing, inverted or too long date range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid or missing JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+    })
+    public ResponseEntity<StreamingResponseBody> exportBills(
+            @Parameter(description = "Earliest transaction generation date (inclusive)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Latest transaction generation date (exclusive)", required = true) @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Bill type: INVOICE (default) or RECEIPT") @RequestParam(required = false) BillType billType) {
+        return invoiceArchiveService.handleExportArchive(from, to, billType);
+    }
 }
@@ -1,7 +1,9 @@
 package pl.kielce.tu.backend.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -18,6 +20,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
 import pl.kielce.tu.backend.model.dto.RentalDto;
 import pl.kielce.tu.backend.service.rental.RentalService;
 
@@ -44,6 +47,26 @@ public class RentalController {
         return rentalService.handleGetUserRentals(request, filter);
     }
 
+    @GetMapping("history")
+    @Operation(summary = "Search current user's rental history", description = "Keyset paginated search over all rentals of the authenticated user, newest first. Pass the returned nextCursor as 'after' to fetch the following page.", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Rental history page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid paging parameters, cursor or date range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+    })
+    public ResponseEntity<CursorPageDto<RentalDto>> searchRentalHistory(
+            HttpServletRequest request,
+            @Parameter(description = "Case-insensitive fragment of the DVD title") @RequestParam(required = false) String title,
+            @Parameter(description = "Filter by status: ACTIVE, RETURN_REQUESTED, INACTIVE or HISTORICAL") @RequestParam(required = false) String filter,
+            @Parameter(description = "Earliest rental creation date (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Latest rental creation date (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) Long after,
+            @Parameter(description = "Number of items per page (max 100)") @RequestParam(defaultValue = "20") int size) {
+        return rentalService.handleSearchRentalHistory(request, title, filter, from, to, after, size);
+    }
+
     @GetMapping("return-requests")
     @Operation(summary = "Get all return requests (Admin only)", description = "Retrieve all rental return requests for admin review. Shows all rentals with RETURN_REQUESTED status across all users.", security = {
             @SecurityRequirement(name = "accessToken") })
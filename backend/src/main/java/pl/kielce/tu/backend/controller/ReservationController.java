@@ -1,12 +1,15 @@
 package pl.kielce.tu.backend.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -19,8 +22,16 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.dto.BulkReservationActionDto;
+import pl.kielce.tu.backend.model.dto.BulkReservationResultDto;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
+import pl.kielce.tu.backend.model.dto.PagedResponseDto;
 import pl.kielce.tu.backend.model.dto.ReservationDto;
+import pl.kielce.tu.backend.service.reservation.ReservationBulkService;
 import pl.kielce.tu.backend.service.reservation.ReservationService;
+import pl.kielce.tu.backend.service.reservation.idempotency.IdempotencyClaim;
+import pl.kielce.tu.backend.service.reservation.idempotency.ReservationIdempotencyService;
+import pl.kielce.tu.backend.service.reservation.lane.ReservationLaneService;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,6 +40,9 @@ import pl.kielce.tu.backend.service.reservation.ReservationService;
 public class ReservationController {
 
     private final ReservationService reservationService;
+    private final ReservationLaneService reservationLaneService;
+    private final ReservationBulkService reservationBulkService;
+    private final ReservationIdempotencyService reservationIdempotencyService;
 
     @GetMapping
     @Operation(summary = "Get current user's reservations", description = "Retrieve all reservations for the authenticated user with optional status filtering", security = {
@@ -46,17 +60,45 @@ public class ReservationController {
     }
 
     @GetMapping("all")
-    @Operation(summary = "Get all reservations (Admin only)", description = "Retrieve all reservations for admin review. Shows all reservations across all users with optional status filtering.", security = {
+    @Operation(summary = "Get all reservations (Admin only)", description = "Retrieve a page of reservations for admin review, newest first, together with total count and paging flags. Shows reservations across all users with optional filtering by status, DVD, user and rental start date range.", security = {
             @SecurityRequirement(name = "accessToken") })
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "All reservations retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid paging parameters or date range"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token"),
             @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
             @ApiResponse(responseCode = "500", description = "Internal server error occurred")
     })
-    public ResponseEntity<List<ReservationDto>> getAllReservations(
-            @Parameter(description = "Filter by status: CANCELLED, PENDING, ACCEPTED, REJECTED") @RequestParam(required = false) String filter) {
-        return reservationService.handleGetAllReservations(filter);
+    public ResponseEntity<PagedResponseDto<ReservationDto>> getAllReservations(
+            @Parameter(description = "Filter by status: CANCELLED, PENDING, ACCEPTED, REJECTED") @RequestParam(required = false) String filter,
+            @Parameter(description = "Filter by DVD ID") @RequestParam(required = false) Long dvdId,
+            @Parameter(description = "Filter by user ID") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Earliest rental start date (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Latest rental start date (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Page number (zero-indexed)") @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "Number of items per page (max 100)") @RequestParam(defaultValue = "20") int size) {
+        return reservationService.handleGetAllReservations(filter, dvdId, userId, from, to, page, size);
+    }
+
+    @GetMapping("all/cursor")
+    @Operation(summary = "Get all reservations by cursor (Admin only)", description = "Keyset paginated variant of the admin reservation listing, newest first. Pass the returned nextCursor as 'after' to fetch the following page.", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reservations page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid paging parameters or date range"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+    })
+    public ResponseEntity<CursorPageDto<ReservationDto>> getAllReservationsByCursor(
+            @Parameter(description = "Filter by status: CANCELLED, PENDING, ACCEPTED, REJECTED") @RequestParam(required = false) String filter,
+            @Parameter(description = "Filter by DVD ID") @RequestParam(required = false) Long dvdId,
+            @Parameter(description = "Filter by user ID") @RequestParam(required = false) Long userId,
+            @Parameter(description = "Earliest rental start date (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Latest rental start date (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Cursor returned by the previous page") @RequestParam(required = false) Long after,
+            @Parameter(description = "Number of items per page (max 100)") @RequestParam(defaultValue = "50") int size) {
+        return reservationService.handleGetAllReservationsByCursor(filter, dvdId, userId, from, to, after, size);
     }
 
     @PostMapping("new")
@@ -67,12 +109,24 @@ public class ReservationController {
             @ApiResponse(responseCode = "400", description = "Invalid reservation data or conflicts detected"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token"),
             @ApiResponse(responseCode = "404", description = "DVD or user not found"),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still in progress"),
+            @ApiResponse(responseCode = "422", description = "Idempotency-Key was already used with a different payload"),
             @ApiResponse(responseCode = "500", description = "Internal server error occurred")
     })
     public ResponseEntity<Void> createReservation(
             HttpServletRequest request,
+            @Parameter(description = "Client generated key making retries of the same request safe") @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @Parameter(description = "Reservation details", required = true) @RequestBody(required = true) ReservationDto reservationDto) {
-        return reservationService.handleCreateReservation(request, reservationDto);
+        return reservationIdempotencyService.handleCreateReservation(request, idempotencyKey, reservationDto,
+                claim -> dispatchCreateReservation(request, reservationDto, claim));
+    }
+
+    private ResponseEntity<Void> dispatchCreateReservation(HttpServletRequest request, ReservationDto reservationDto,
+            IdempotencyClaim claim) {
+        if (reservationLaneService.isEnabled()) {
+            return reservationLaneService.handleCreateReservation(request, reservationDto, claim);
+        }
+        return reservationService.handleCreateReservation(request, reservationDto, claim);
     }
 
     @PostMapping("{id}/accept")
@@ -107,6 +161,36 @@ public class ReservationController {
         return reservationService.handleDeclineReservation(id);
     }
 
+    @PostMapping("bulk-accept")
+    @Operation(summary = "Accept multiple reservations (Admin only)", description = "Accept a list of pending reservations in a single transaction. A rental is created for every accepted reservation and a per-id outcome is reported.", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk accept processed, see per-id outcomes"),
+            @ApiResponse(responseCode = "400", description = "Missing, null or too many reservation ids"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+    })
+    public ResponseEntity<BulkReservationResultDto> bulkAcceptReservations(
+            @Parameter(description = "Reservation ids to accept", required = true) @RequestBody(required = true) BulkReservationActionDto actionDto) {
+        return reservationBulkService.handleBulkAccept(actionDto);
+    }
+
+    @PostMapping("bulk-decline")
+    @Operation(summary = "Decline multiple reservations (Admin only)", description = "Decline a list of pending reservations in a single transaction. Released copies are returned to inventory once per DVD and a per-id outcome is reported.", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bulk decline processed, see per-id outcomes"),
+            @ApiResponse(responseCode = "400", description = "Missing, null or too many reservation ids"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+    })
+    public ResponseEntity<BulkReservationResultDto> bulkDeclineReservations(
+            @Parameter(description = "Reservation ids to decline", required = true) @RequestBody(required = true) BulkReservationActionDto actionDto) {
+        return reservationBulkService.handleBulkDecline(actionDto);
+    }
+
     @PostMapping("{id}/cancel")
     @Operation(summary = "Cancel reservation", description = "Cancel a pending reservation and return available DVD copies. Only the owner of the reservation can cancel it, and only pending reservations can be cancelled.", security = {
             @SecurityRequirement(name = "accessToken") })
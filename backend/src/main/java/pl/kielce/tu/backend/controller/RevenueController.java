@@ -0,0 +1,71 @@
+package pl.kielce.tu.backend.controller;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.constant.RevenueDimension;
+import pl.kielce.tu.backend.model.constant.RevenuePeriod;
+import pl.kielce.tu.backend.model.dto.RevenueReportDto;
+import pl.kielce.tu.backend.service.revenue.RevenueRollupService;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/revenue")
+@Tag(name = "Revenue Reports", description = "Revenue aggregates served from daily rollups")
+public class RevenueController {
+
+    private final RevenueRollupService revenueRollupService;
+
+    @GetMapping
+    @Operation(summary = "Get revenue report (Admin only)", description = """
+            Returns revenue of completed rentals for the day, month or year containing the given date, \
+            grouped per DVD or per genre. Served from daily rollups that are updated whenever a rental is completed.""", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Revenue report retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid period, dimension or date"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+    })
+    public ResponseEntity<RevenueReportDto> getRevenueReport(
+            @Parameter(description = "Period: DAY, MONTH (default) or YEAR") @RequestParam(required = false) RevenuePeriod period,
+            @Parameter(description = "Any day within the period, defaults to today") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Parameter(description = "Grouping: DVD (default) or GENRE") @RequestParam(required = false) RevenueDimension dimension) {
+        return revenueRollupService.handleGetRevenueReport(period, date, dimension);
+    }
+
+    @PostMapping("backfill")
+    @Operation(summary = "Rebuild revenue rollups (Admin only)", description = """
+            Recomputes the daily rollups of the given range from completed rentals. \
+            Defaults to the whole history up to today (exclusive).""", security = {
+            @SecurityRequirement(name = "accessToken") })
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Rollups rebuilt successfully"),
+            @ApiResponse(responseCode = "400", description = "Range start is not before its end"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized - Invalid JWT token"),
+            @ApiResponse(responseCode = "403", description = "Forbidden - Admin access required"),
+            @ApiResponse(responseCode = "409", description = "A backfill is already running"),
+            @ApiResponse(responseCode = "500", description = "Internal server error occurred")
+    })
+    public ResponseEntity<Void> backfillRevenue(
+            @Parameter(description = "First day to rebuild (inclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "Day after the last day to rebuild (exclusive)") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return revenueRollupService.handleBackfill(from, to);
+    }
+
+}
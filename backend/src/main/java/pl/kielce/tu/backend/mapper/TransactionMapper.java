@@ -1,44 +1,56 @@
 package pl.kielce.tu.backend.mapper;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.Money;
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.dto.TransactionDto;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.model.entity.Transaction;
+import pl.kielce.tu.backend.service.invoice.numbering.InvoiceNumberAllocator;
 
 @Component
+@RequiredArgsConstructor
 public class TransactionMapper {
 
-    public Transaction toEntity(Rental rental, long rentalDays, BigDecimal baseAmount,
-            BigDecimal lateFee, BigDecimal totalAmount) {
+    private final InvoiceNumberAllocator invoiceNumberAllocator;
+
+    public Transaction toEntity(Rental rental, long rentalDays, Money baseAmount,
+            Money lateFee, Money totalAmount) {
         return buildTransaction(rental, rentalDays, baseAmount, lateFee, totalAmount);
     }
 
-    private Transaction buildTransaction(Rental rental, long rentalDays, BigDecimal baseAmount,
-            BigDecimal lateFee, BigDecimal totalAmount) {
+    private Transaction buildTransaction(Rental rental, long rentalDays, Money baseAmount,
+            Money lateFee, Money totalAmount) {
         return Transaction.builder()
-                .invoiceId(generateInvoiceId())
+                .invoiceId(resolveInvoiceId(rental))
                 .billType(rental.getReturnDate() != null ? BillType.RECEIPT : null)
                 .dvdTitle(rental.getDvd().getTitle())
                 .rentalPeriodDays((int) rentalDays)
-                .pricePerDay(calculatePricePerDay(baseAmount, rentalDays))
-                .lateFee(lateFee)
-                .totalAmount(totalAmount)
+                .pricePerDay(calculatePricePerDay(baseAmount, rentalDays).toBigDecimal())
+                .lateFee(lateFee.toBigDecimal())
+                .totalAmount(totalAmount.toBigDecimal())
                 .generatedAt(LocalDateTime.now())
                 .build();
     }
 
-    private BigDecimal calculatePricePerDay(BigDecimal baseAmount, long rentalDays) {
+    private String resolveInvoiceId(Rental rental) {
+        Transaction existing = rental.getTransaction();
+        if (existing != null && existing.getInvoiceId() != null) {
+            return existing.getInvoiceId();
+        }
+        return invoiceNumberAllocator.nextInvoiceNumber();
+    }
+
+    private Money calculatePricePerDay(Money baseAmount, long rentalDays) {
         if (rentalDays == 0) {
-            return BigDecimal.ZERO;
+            return Money.ZERO;
         }
-        return baseAmount.divide(BigDecimal.valueOf(rentalDays));
+        return baseAmount.dividedBy(rentalDays);
     }
 
     public TransactionDto toDto(Rental rental) {
@@ -72,9 +84,4 @@ public class TransactionMapper {
                 .build();
     }
 
-    private String generateInvoiceId() {
-        return "INV-" + System.currentTimeMillis() + "-" +
-                UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-    }
-
 }
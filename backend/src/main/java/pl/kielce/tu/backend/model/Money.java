@@ -0,0 +1,75 @@
+package pl.kielce.tu.backend.model;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+public record Money(long minorUnits) implements Comparable<Money> {
+
+    public static final int SCALE = 2;
+    public static final Money ZERO = new Money(0L);
+
+    public static Money ofMinor(long minorUnits) {
+        return minorUnits == 0L ? ZERO : new Money(minorUnits);
+    }
+
+    public static Money of(BigDecimal amount) {
+        Objects.requireNonNull(amount, "Amount must not be null");
+        return ofMinor(amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public static Money of(float amount) {
+        return of(new BigDecimal(Float.toString(amount)));
+    }
+
+    public static long multiplyMinor(long minorUnits, long factor) {
+        return Math.multiplyExact(minorUnits, factor);
+    }
+
+    public static long divideMinor(long minorUnits, long divisor) {
+        if (divisor == 0L) {
+            throw new ArithmeticException("Division of money by zero");
+        }
+        long quotient = minorUnits / divisor;
+        long remainder = Math.abs(minorUnits % divisor);
+        if (remainder >= Math.abs(divisor) - remainder) {
+            quotient += Long.signum(minorUnits) * Long.signum(divisor);
+        }
+        return quotient;
+    }
+
+    public Money plus(Money other) {
+        return ofMinor(Math.addExact(minorUnits, other.minorUnits));
+    }
+
+    public Money minus(Money other) {
+        return ofMinor(Math.subtractExact(minorUnits, other.minorUnits));
+    }
+
+    public Money times(long factor) {
+        return ofMinor(multiplyMinor(minorUnits, factor));
+    }
+
+    public Money dividedBy(long divisor) {
+        return ofMinor(divideMinor(minorUnits, divisor));
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0L;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, SCALE);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+}
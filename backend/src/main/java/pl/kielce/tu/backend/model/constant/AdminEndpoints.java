@@ -17,10 +17,20 @@ public enum AdminEndpoints {
     RESERVATIONS_ACCEPT("/api/v1/reservations/*/accept"),
     RESERVATIONS_DECLINE("/api/v1/reservations/*/decline"),
     RESERVATIONS_ADMIN_ALL("/api/v1/reservations/all"),
+    RESERVATIONS_ADMIN_ALL_CURSOR("/api/v1/reservations/all/cursor"),
+    RESERVATIONS_BULK_ACCEPT("/api/v1/reservations/bulk-accept"),
+    RESERVATIONS_BULK_DECLINE("/api/v1/reservations/bulk-decline"),
     RETURN_ACCEPT("/api/v1/rentals/*/return-accept"),
     RETURN_DECLINE("/api/v1/rentals/*/return-decline"),
     RENTALS_ADMIN_RETURN_REQUESTS("/api/v1/rentals/return-requests"),
-    TRANSACTIONS_ALL("/api/v1/transactions/all");
+    TRANSACTIONS_ALL("/api/v1/transactions/all"),
+    ADMIN_QUEUE_STREAM("/api/v1/admin/queue/stream"),
+    TRANSACTIONS_EXPORT("/api/v1/transactions/export"),
+    TRANSACTIONS_ALL_CSV("/api/v1/transactions/all/csv"),
+    REVENUE_REPORT("/api/v1/revenue"),
+    REVENUE_BACKFILL("/api/v1/revenue/backfill"),
+    ANALYTICS_UTILIZATION("/api/v1/analytics/utilization"),
+    ANALYTICS_UTILIZATION_RECOMPUTE("/api/v1/analytics/utilization/recompute");
 
     private final String pattern;
     private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
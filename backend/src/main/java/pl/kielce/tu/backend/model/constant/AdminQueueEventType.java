@@ -0,0 +1,9 @@
+package pl.kielce.tu.backend.model.constant;
+
+public enum AdminQueueEventType {
+    RESERVATION_PENDING,
+    RESERVATION_RESOLVED,
+    RETURN_REQUESTED,
+    RETURN_RESOLVED,
+    RESYNC
+}
@@ -10,7 +10,8 @@ public enum RecommendationReason {
     USER_HISTORY("Rekomendacje bazowane na podstawie Twojej aktywności"),
     AGE_GROUP("Rekomendacje bazowane na podstawie wyborów Twojej grupy wiekowej."),
     PREFERRED_GENRES("Rekomendacje wygenerowane na podstawie twoich preferowanych gatunków filmów."),
-    POPULAR("Rekomendacje wygenerowane na podstawie najbardziej popularnych gatunków filmów.");
+    POPULAR("Rekomendacje wygenerowane na podstawie najbardziej popularnych gatunków filmów."),
+    CO_RENTAL("Rekomendacje bazowane na wyborach osób, które wypożyczyły te same filmy co Ty.");
 
     private final String message;
 
@@ -0,0 +1,8 @@
+package pl.kielce.tu.backend.model.constant;
+
+public enum ReservationActionOutcome {
+    ACCEPTED,
+    DECLINED,
+    NOT_FOUND,
+    NOT_PENDING
+}
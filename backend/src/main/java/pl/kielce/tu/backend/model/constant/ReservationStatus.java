@@ -9,7 +9,8 @@ public enum ReservationStatus {
     PENDING("PENDING"),
     CANCELLED("CANCELLED"),
     ACCEPTED("ACCEPTED"),
-    REJECTED("REJECTED");
+    REJECTED("REJECTED"),
+    EXPIRED("EXPIRED");
 
     private final String value;
 }
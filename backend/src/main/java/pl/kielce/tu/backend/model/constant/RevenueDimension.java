@@ -0,0 +1,6 @@
+package pl.kielce.tu.backend.model.constant;
+
+public enum RevenueDimension {
+    DVD,
+    GENRE
+}
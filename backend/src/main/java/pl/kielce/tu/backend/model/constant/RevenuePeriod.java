@@ -0,0 +1,7 @@
+package pl.kielce.tu.backend.model.constant;
+
+public enum RevenuePeriod {
+    DAY,
+    MONTH,
+    YEAR
+}
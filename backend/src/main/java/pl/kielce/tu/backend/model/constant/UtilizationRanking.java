@@ -0,0 +1,14 @@
+package pl.kielce.tu.backend.model.constant;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum UtilizationRanking {
+    UTILIZATION("utilization"),
+    OVERDUE_RATE("overdueRate"),
+    PENDING_HOLD("averagePendingHours");
+
+    private final String property;
+}
@@ -0,0 +1,29 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Change to an admin work queue streamed over server-sent events")
+public class AdminQueueEventDto {
+
+    @Schema(description = "Kind of queue change, RESYNC asks the client to reload the queues", example = "RESERVATION_PENDING")
+    private AdminQueueEventType type;
+
+    @Schema(description = "Identifiers of the reservations or rentals affected by the change", example = "[12, 13]")
+    private List<Long> ids;
+
+    @Schema(description = "Time the change was committed", example = "2024-01-15T10:00:00")
+    private LocalDateTime occurredAt;
+
+}
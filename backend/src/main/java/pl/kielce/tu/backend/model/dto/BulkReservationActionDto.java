@@ -0,0 +1,20 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "List of reservations to accept or decline in a single request")
+public class BulkReservationActionDto {
+
+    @Schema(description = "Identifiers of the reservations to process", example = "[1, 2, 3]")
+    private List<Long> reservationIds;
+}
@@ -0,0 +1,29 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of a bulk reservation accept or decline operation")
+public class BulkReservationResultDto {
+
+    @Schema(description = "Number of reservation ids in the request", example = "3")
+    private Integer requested;
+
+    @Schema(description = "Number of reservations processed successfully", example = "2")
+    private Integer succeeded;
+
+    @Schema(description = "Number of reservations that could not be processed", example = "1")
+    private Integer failed;
+
+    @Schema(description = "Per-reservation outcomes in request order")
+    private List<ReservationActionOutcomeDto> outcomes;
+}
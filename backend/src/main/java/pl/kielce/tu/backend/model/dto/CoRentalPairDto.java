@@ -0,0 +1,24 @@
+package pl.kielce.tu.backend.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Renter and DVD of a completed rental, used to build the co-rental model")
+public class CoRentalPairDto {
+
+    @Schema(description = "Rental identifier", example = "1")
+    private Long rentalId;
+
+    @Schema(description = "Identifier of the renter", example = "7")
+    private Long userId;
+
+    @Schema(description = "Identifier of the rented DVD", example = "42")
+    private Long dvdId;
+}
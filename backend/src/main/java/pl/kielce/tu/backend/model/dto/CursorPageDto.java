@@ -0,0 +1,30 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Keyset paginated response wrapper, the next page is requested with the returned cursor")
+public class CursorPageDto<T> {
+
+    @Schema(description = "List of items in the current page", example = "[]")
+    private List<T> content;
+
+    @Schema(description = "Cursor to pass as 'after' to fetch the next page, null when there are no more items", example = "1021")
+    private Long nextCursor;
+
+    @Schema(description = "Number of elements per page", example = "50")
+    private int pageSize;
+
+    @Schema(description = "Whether there are more items after this page", example = "true")
+    private boolean hasNext;
+
+}
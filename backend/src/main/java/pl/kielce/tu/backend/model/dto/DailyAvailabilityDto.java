@@ -0,0 +1,24 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Number of DVD copies that can still be booked on a single day")
+public class DailyAvailabilityDto {
+
+    @Schema(description = "Calendar day", example = "2025-11-10")
+    private LocalDate date;
+
+    @Schema(description = "Copies free for booking on this day", example = "3")
+    private Integer availableCopies;
+
+}
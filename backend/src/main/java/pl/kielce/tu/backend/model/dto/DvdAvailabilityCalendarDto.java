@@ -0,0 +1,37 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Booking calendar of a DVD describing free copies for every day of the requested range")
+public class DvdAvailabilityCalendarDto {
+
+    @Schema(description = "ID of the DVD", example = "42")
+    private Long dvdId;
+
+    @Schema(description = "First day of the calendar range", example = "2025-11-10")
+    private LocalDate from;
+
+    @Schema(description = "Last day of the calendar range", example = "2025-11-14")
+    private LocalDate to;
+
+    @Schema(description = "Total number of copies owned, including currently booked ones", example = "5")
+    private Integer totalCopies;
+
+    @Schema(description = "Copies free for the whole range, i.e. the number that can be reserved from the first to the last day", example = "2")
+    private Integer availableCopies;
+
+    @Schema(description = "Free copies for each day of the range")
+    private List<DailyAvailabilityDto> days;
+
+}
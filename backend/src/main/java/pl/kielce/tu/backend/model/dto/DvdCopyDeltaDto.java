@@ -0,0 +1,21 @@
+package pl.kielce.tu.backend.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Aggregated change of available copies for a single DVD")
+public class DvdCopyDeltaDto {
+
+    @Schema(description = "DVD identifier", example = "42")
+    private Long dvdId;
+
+    @Schema(description = "Number of copies to return to inventory", example = "3")
+    private Long copies;
+}
@@ -0,0 +1,29 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.time.LocalDate;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Number of rentals of a DVD by renters of one age on a single day")
+public class DvdPopularitySeedDto {
+
+    @Schema(description = "Identifier of the rented DVD", example = "42")
+    private Long dvdId;
+
+    @Schema(description = "Age of the renter, null when unknown", example = "30")
+    private Integer renterAge;
+
+    @Schema(description = "Day the rentals were created", example = "2024-01-15")
+    private LocalDate day;
+
+    @Schema(description = "Number of rentals", example = "3")
+    private Long rentals;
+}
@@ -0,0 +1,56 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Inventory utilization of a DVD over the analytics window")
+public class DvdUtilizationDto {
+
+    @Schema(description = "DVD identifier", example = "42")
+    private Long dvdId;
+
+    @Schema(description = "DVD title", example = "Matrix")
+    private String dvdTitle;
+
+    @Schema(description = "Copies owned: available plus held by rentals and pending reservations", example = "5")
+    private Integer totalCopies;
+
+    @Schema(description = "Copies owned multiplied by the window length in days", example = "450")
+    private Long ownedCopyDays;
+
+    @Schema(description = "Copy-days spent rented within the window", example = "312.5")
+    private Double rentedCopyDays;
+
+    @Schema(description = "Rented copy-days divided by owned copy-days", example = "0.69")
+    private Double utilization;
+
+    @Schema(description = "Rentals whose planned end fell within the window", example = "40")
+    private Long endedRentals;
+
+    @Schema(description = "Ended rentals returned after their planned end", example = "6")
+    private Long overdueRentals;
+
+    @Schema(description = "Overdue rentals divided by ended rentals", example = "0.15")
+    private Double overdueRate;
+
+    @Schema(description = "Reservations created within the window", example = "52")
+    private Long reservations;
+
+    @Schema(description = "Average time those reservations spent in PENDING, in hours", example = "7.25")
+    private Double averagePendingHours;
+
+    @Schema(description = "Length of the analytics window in days", example = "90")
+    private Integer windowDays;
+
+    @Schema(description = "When the figures were computed", example = "2025-10-14T02:30:00")
+    private LocalDateTime computedAt;
+}
@@ -0,0 +1,29 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lightweight view of an active rental past its end date")
+public class ExpiredRentalCandidateDto {
+
+    @Schema(description = "Rental identifier", example = "1")
+    private Long rentalId;
+
+    @Schema(description = "Identifier of the renting user", example = "7")
+    private Long userId;
+
+    @Schema(description = "Identifier of the rented DVD", example = "42")
+    private Long dvdId;
+
+    @Schema(description = "Planned end of the rental", example = "2024-01-22T10:00:00")
+    private LocalDateTime rentalEnd;
+}
@@ -21,4 +21,7 @@ public class ExpiredRentalProcessingDto {
 
     @Schema(description = "Number of rentals that failed to process", example = "1")
     private Integer failedToProcess;
+
+    @Schema(description = "Number of rentals skipped by veto strategies", example = "0")
+    private Integer vetoed;
 }
@@ -0,0 +1,31 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Rental history search parameters for the authenticated user")
+public class RentalHistoryFilterDto {
+
+    @Schema(description = "Rental status to filter by", example = "INACTIVE")
+    private RentalStatus status;
+
+    @Schema(description = "Case-insensitive LIKE pattern built from the DVD title fragment", example = "%matrix%")
+    private String titlePattern;
+
+    @Schema(description = "Earliest rental creation date (inclusive)", example = "2024-01-01T00:00:00")
+    private LocalDateTime from;
+
+    @Schema(description = "Latest rental creation date (exclusive)", example = "2024-02-01T00:00:00")
+    private LocalDateTime to;
+
+}
@@ -0,0 +1,39 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lightweight view of a rental used by inventory analytics")
+public class RentalUsageDto {
+
+    @Schema(description = "Rental identifier", example = "1")
+    private Long rentalId;
+
+    @Schema(description = "Identifier of the rented DVD", example = "42")
+    private Long dvdId;
+
+    @Schema(description = "Number of rented copies", example = "2")
+    private Integer count;
+
+    @Schema(description = "Rental status", example = "INACTIVE")
+    private RentalStatus status;
+
+    @Schema(description = "Start of the rental", example = "2024-01-15T10:00:00")
+    private LocalDateTime rentalStart;
+
+    @Schema(description = "Planned end of the rental", example = "2024-01-22T10:00:00")
+    private LocalDateTime rentalEnd;
+
+    @Schema(description = "Actual return date, null while the copies are out", example = "2024-01-23T12:00:00")
+    private LocalDateTime returnDate;
+}
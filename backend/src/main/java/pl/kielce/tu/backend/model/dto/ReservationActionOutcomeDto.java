@@ -0,0 +1,22 @@
+package pl.kielce.tu.backend.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pl.kielce.tu.backend.model.constant.ReservationActionOutcome;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk action for a single reservation")
+public class ReservationActionOutcomeDto {
+
+    @Schema(description = "Reservation identifier", example = "1")
+    private Long reservationId;
+
+    @Schema(description = "Result of the action", example = "ACCEPTED")
+    private ReservationActionOutcome outcome;
+}
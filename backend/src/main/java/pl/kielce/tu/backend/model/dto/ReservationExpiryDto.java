@@ -0,0 +1,27 @@
+package pl.kielce.tu.backend.model.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Result of expiring stale pending reservations")
+public class ReservationExpiryDto {
+
+    @Schema(description = "Number of reservations moved to EXPIRED", example = "120")
+    private Integer expiredReservations;
+
+    @Schema(description = "Number of copies returned to inventory", example = "150")
+    private Integer releasedCopies;
+
+    @Schema(description = "Number of DVDs whose availability changed", example = "37")
+    private Integer affectedDvds;
+
+    @Schema(description = "Number of chunks processed", example = "1")
+    private Integer chunks;
+}
@@ -0,0 +1,34 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Reservation filtering parameters for the admin reservation listing")
+public class ReservationFilterDto {
+
+    @Schema(description = "Reservation status to filter by", example = "PENDING")
+    private ReservationStatus status;
+
+    @Schema(description = "DVD identifier to filter by", example = "42")
+    private Long dvdId;
+
+    @Schema(description = "User identifier to filter by", example = "7")
+    private Long userId;
+
+    @Schema(description = "Earliest rental start date (inclusive)", example = "2024-01-01T00:00:00")
+    private LocalDateTime from;
+
+    @Schema(description = "Latest rental start date (exclusive)", example = "2024-02-01T00:00:00")
+    private LocalDateTime to;
+
+}
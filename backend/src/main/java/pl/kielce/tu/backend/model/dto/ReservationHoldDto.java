@@ -0,0 +1,36 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Lightweight view of a reservation used by inventory analytics")
+public class ReservationHoldDto {
+
+    @Schema(description = "Reservation identifier", example = "1")
+    private Long reservationId;
+
+    @Schema(description = "Identifier of the reserved DVD", example = "42")
+    private Long dvdId;
+
+    @Schema(description = "Number of reserved copies", example = "2")
+    private Integer count;
+
+    @Schema(description = "Reservation status", example = "ACCEPTED")
+    private ReservationStatus status;
+
+    @Schema(description = "When the reservation was created", example = "2024-01-10T09:00:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "When the reservation left PENDING, null while pending", example = "2024-01-10T15:30:00")
+    private LocalDateTime decidedAt;
+}
@@ -0,0 +1,35 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Revenue of a single DVD or genre within a reporting period")
+public class RevenueEntryDto {
+
+    @Schema(description = "Identifier of the DVD or genre", example = "42")
+    private Long id;
+
+    @Schema(description = "DVD title or genre name, null when it no longer exists", example = "Matrix")
+    private String name;
+
+    @Schema(description = "Revenue from rental days", example = "120.00")
+    private BigDecimal baseAmount;
+
+    @Schema(description = "Revenue from late fees", example = "15.50")
+    private BigDecimal lateFees;
+
+    @Schema(description = "Base amount plus late fees", example = "135.50")
+    private BigDecimal totalAmount;
+
+    @Schema(description = "Number of completed rentals", example = "12")
+    private Long rentalCount;
+}
@@ -0,0 +1,38 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pl.kielce.tu.backend.model.constant.RevenueDimension;
+import pl.kielce.tu.backend.model.constant.RevenuePeriod;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Revenue aggregated per DVD or genre for a day, month or year")
+public class RevenueReportDto {
+
+    @Schema(description = "Reporting period", example = "MONTH")
+    private RevenuePeriod period;
+
+    @Schema(description = "First day of the period (inclusive)", example = "2025-10-01")
+    private LocalDate from;
+
+    @Schema(description = "Day after the period (exclusive)", example = "2025-11-01")
+    private LocalDate to;
+
+    @Schema(description = "Dimension the entries are grouped by", example = "DVD")
+    private RevenueDimension dimension;
+
+    @Schema(description = "Overall revenue of the period; a rental of a DVD with several genres is counted once")
+    private RevenueTotalsDto totals;
+
+    @Schema(description = "Revenue per DVD or genre, highest total first; a rental counts towards each genre of its DVD")
+    private List<RevenueEntryDto> entries;
+}
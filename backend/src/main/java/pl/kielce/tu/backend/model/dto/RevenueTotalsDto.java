@@ -0,0 +1,29 @@
+package pl.kielce.tu.backend.model.dto;
+
+import java.math.BigDecimal;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Overall revenue within a reporting period")
+public class RevenueTotalsDto {
+
+    @Schema(description = "Revenue from rental days", example = "1200.00")
+    private BigDecimal baseAmount;
+
+    @Schema(description = "Revenue from late fees", example = "85.50")
+    private BigDecimal lateFees;
+
+    @Schema(description = "Base amount plus late fees", example = "1285.50")
+    private BigDecimal totalAmount;
+
+    @Schema(description = "Number of completed rentals", example = "240")
+    private Long rentalCount;
+}
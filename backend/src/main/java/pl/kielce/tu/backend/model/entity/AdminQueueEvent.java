@@ -0,0 +1,43 @@
+package pl.kielce.tu.backend.model.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "admin_queue_events", indexes = {
+        @Index(name = "idx_admin_queue_events_occurred_at", columnList = "occurred_at")
+})
+public class AdminQueueEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated
+    @Column(name = "type", nullable = false)
+    private AdminQueueEventType type;
+
+    @Column(name = "affected_ids", nullable = false, length = 4000)
+    private String affectedIds;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+}
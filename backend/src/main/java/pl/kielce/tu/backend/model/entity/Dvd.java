@@ -3,6 +3,10 @@ package pl.kielce.tu.backend.model.entity;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.OptimisticLockType;
+import org.hibernate.annotations.OptimisticLocking;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
@@ -17,10 +21,13 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import pl.kielce.tu.backend.model.Money;
 
 @Data
 @Entity
 @Builder
+@DynamicUpdate
+@OptimisticLocking(type = OptimisticLockType.DIRTY)
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "dvds")
@@ -67,6 +74,10 @@ public class Dvd {
     @Column(name = "rental_price_per_day", nullable = false)
     private Float rentalPricePerDay = 0.00f;
 
+    public Money getRentalPrice() {
+        return rentalPricePerDay != null ? Money.of(rentalPricePerDay) : Money.ZERO;
+    }
+
     @PrePersist
     protected void onCreate() {
         if (addedAt == null) {
@@ -0,0 +1,49 @@
+package pl.kielce.tu.backend.model.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "dvd_popularity_scores", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_dvd_popularity_scores_dvd_age", columnNames = { "dvd_id", "renter_age" })
+}, indexes = {
+        @Index(name = "idx_dvd_popularity_scores_scored_at", columnList = "scored_at")
+})
+public class DvdPopularityScore {
+
+    public static final int ALL_AGES = -1;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dvd_id", nullable = false)
+    private Long dvdId;
+
+    @Column(name = "renter_age", nullable = false)
+    private Integer renterAge;
+
+    @Builder.Default
+    @Column(name = "score", nullable = false)
+    private Double score = 0.0;
+
+    @Column(name = "scored_at", nullable = false)
+    private LocalDateTime scoredAt;
+
+}
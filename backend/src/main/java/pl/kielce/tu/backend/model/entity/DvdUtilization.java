@@ -0,0 +1,67 @@
+package pl.kielce.tu.backend.model.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "dvd_utilization")
+public class DvdUtilization {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dvd_id", nullable = false, unique = true)
+    private Long dvdId;
+
+    @Column(name = "dvd_title", nullable = false)
+    private String dvdTitle;
+
+    @Column(name = "total_copies", nullable = false)
+    private Integer totalCopies;
+
+    @Column(name = "owned_copy_days", nullable = false)
+    private Long ownedCopyDays;
+
+    @Column(name = "rented_copy_days", nullable = false)
+    private Double rentedCopyDays;
+
+    @Column(name = "utilization", nullable = false)
+    private Double utilization;
+
+    @Column(name = "ended_rentals", nullable = false)
+    private Long endedRentals;
+
+    @Column(name = "overdue_rentals", nullable = false)
+    private Long overdueRentals;
+
+    @Column(name = "overdue_rate", nullable = false)
+    private Double overdueRate;
+
+    @Column(name = "reservations", nullable = false)
+    private Long reservations;
+
+    @Column(name = "average_pending_hours", nullable = false)
+    private Double averagePendingHours;
+
+    @Column(name = "window_days", nullable = false)
+    private Integer windowDays;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,13 @@ import pl.kielce.tu.backend.model.constant.RentalStatus;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "rentals")
+@Table(name = "rentals", indexes = {
+        @Index(name = "idx_rentals_status_rental_end", columnList = "status, rental_end"),
+        @Index(name = "idx_rentals_user_status_created_at", columnList = "user_id, status, created_at"),
+        @Index(name = "idx_rentals_user_created_at", columnList = "user_id, created_at"),
+        @Index(name = "idx_rentals_generated_at_id", columnList = "generated_at, id"),
+        @Index(name = "idx_rentals_user_generated_at_id", columnList = "user_id, generated_at, id")
+})
 public class Rental {
 
     @Id
@@ -8,6 +8,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -23,7 +24,13 @@ import pl.kielce.tu.backend.model.constant.ReservationStatus;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "reservations")
+@Table(name = "reservations", indexes = {
+        @Index(name = "idx_reservations_status_id", columnList = "status, id"),
+        @Index(name = "idx_reservations_dvd_status", columnList = "dvd_id, status"),
+        @Index(name = "idx_reservations_user_status", columnList = "user_id, status"),
+        @Index(name = "idx_reservations_rental_start", columnList = "rental_start"),
+        @Index(name = "idx_reservations_status_created_at", columnList = "status, created_at")
+})
 public class Reservation {
 
     @Id
@@ -55,6 +62,12 @@ public class Reservation {
     @Column(name = "status", nullable = false)
     private ReservationStatus status = ReservationStatus.PENDING;
 
+    @Column(name = "approved_by_rule", length = 64)
+    private String approvedByRule;
+
+    @Column(name = "decided_at")
+    private LocalDateTime decidedAt;
+
     @PrePersist
     protected void onCreate() {
         if (createdAt == null) {
@@ -0,0 +1,58 @@
+package pl.kielce.tu.backend.model.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import pl.kielce.tu.backend.model.constant.RevenueDimension;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "revenue_daily_rollups", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_revenue_daily_rollups_dimension_day_key", columnNames = {
+                "dimension", "rollup_day", "dimension_id" })
+})
+public class RevenueRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "dimension", nullable = false, length = 16)
+    private RevenueDimension dimension;
+
+    @Column(name = "rollup_day", nullable = false)
+    private LocalDate day;
+
+    @Column(name = "dimension_id", nullable = false)
+    private Long dimensionId;
+
+    @Builder.Default
+    @Column(name = "base_amount", nullable = false, precision = 14, scale = 2)
+    private BigDecimal baseAmount = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(name = "late_fees", nullable = false, precision = 14, scale = 2)
+    private BigDecimal lateFees = BigDecimal.ZERO;
+
+    @Builder.Default
+    @Column(name = "rental_count", nullable = false)
+    private Long rentalCount = 0L;
+
+}
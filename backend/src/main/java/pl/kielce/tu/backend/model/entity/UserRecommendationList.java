@@ -0,0 +1,38 @@
+package pl.kielce.tu.backend.model.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Entity
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "user_recommendation_lists", indexes = {
+        @Index(name = "idx_user_recommendation_lists_computed_at", columnList = "computed_at")
+})
+public class UserRecommendationList {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "dvd_ids", nullable = false, length = 512)
+    private String dvdIds;
+
+    @Column(name = "reason_codes", nullable = false, length = 64)
+    private String reasonCodes;
+
+    @Column(name = "computed_at", nullable = false)
+    private LocalDateTime computedAt;
+
+}
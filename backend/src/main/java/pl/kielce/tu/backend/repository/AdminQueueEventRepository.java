@@ -0,0 +1,26 @@
+package pl.kielce.tu.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import pl.kielce.tu.backend.model.entity.AdminQueueEvent;
+
+@Repository
+public interface AdminQueueEventRepository extends JpaRepository<AdminQueueEvent, Long> {
+
+    List<AdminQueueEvent> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM AdminQueueEvent e")
+    long findLatestId();
+
+    @Modifying
+    @Query("DELETE FROM AdminQueueEvent e WHERE e.occurredAt < :cutoff")
+    int deleteOccurredBefore(@Param("cutoff") LocalDateTime cutoff);
+
+}
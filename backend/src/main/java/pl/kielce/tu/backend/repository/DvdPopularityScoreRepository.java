@@ -0,0 +1,27 @@
+package pl.kielce.tu.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+import pl.kielce.tu.backend.model.entity.DvdPopularityScore;
+
+@Repository
+public interface DvdPopularityScoreRepository extends JpaRepository<DvdPopularityScore, Long> {
+
+    boolean existsByScoredAtAfter(LocalDateTime scoredAt);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT s FROM DvdPopularityScore s WHERE s.dvdId IN :dvdIds \
+            ORDER BY s.dvdId, s.renterAge""")
+    List<DvdPopularityScore> findAllForUpdateByDvdIdIn(@Param("dvdIds") Collection<Long> dvdIds);
+
+}
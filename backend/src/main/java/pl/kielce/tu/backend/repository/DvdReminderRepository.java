@@ -1,10 +1,12 @@
 package pl.kielce.tu.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import pl.kielce.tu.backend.model.entity.DvdReminder;
@@ -19,6 +21,13 @@ public interface DvdReminderRepository extends JpaRepository<DvdReminder, Long>
             """)
     List<DvdReminder> findRemindersForAvailableDvds();
 
+    @Query("""
+                SELECT dr FROM DvdReminder dr
+                JOIN dr.dvd d
+                WHERE d.id IN :dvdIds AND d.avalaible = true AND d.copiesAvalaible > 0
+            """)
+    List<DvdReminder> findRemindersForAvailableDvdsIn(@Param("dvdIds") Collection<Long> dvdIds);
+
     @Query("""
                 SELECT dr FROM DvdReminder dr
                 WHERE dr.user.id = :userId AND dr.dvd.id = :dvdId
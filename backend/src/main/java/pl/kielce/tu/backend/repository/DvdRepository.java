@@ -1,11 +1,13 @@
 package pl.kielce.tu.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -27,23 +29,11 @@ public interface DvdRepository extends JpaRepository<Dvd, Long>, JpaSpecificatio
     @Query("SELECT DISTINCT d FROM Dvd d JOIN d.genres g WHERE g IN :genres AND d.avalaible = true ORDER BY d.addedAt DESC")
     Page<Dvd> findByPreferredGenresAndAvailable(@Param("genres") List<Genre> genres, Pageable pageable);
 
-    @Query("""
-            SELECT d FROM Dvd d \
-            LEFT JOIN Rental r ON r.dvd.id = d.id \
-            WHERE d.avalaible = true \
-            GROUP BY d.id \
-            ORDER BY COUNT(r) DESC""")
-    Page<Dvd> findMostPopularAvailableDvds(Pageable pageable);
-
-    @Query("""
-            SELECT d FROM Dvd d \
-            JOIN Rental r ON r.dvd.id = d.id \
-            JOIN User u ON r.user.id = u.id \
-            WHERE d.avalaible = true AND u.age BETWEEN :minAge AND :maxAge \
-            GROUP BY d.id \
-            ORDER BY COUNT(r) DESC""")
-    Page<Dvd> findMostPopularDvdsByAgeGroup(@Param("minAge") Integer minAge,
-            @Param("maxAge") Integer maxAge,
-            Pageable pageable);
+    @Query("SELECT d.id FROM Dvd d WHERE d.id IN :ids AND d.avalaible = true")
+    List<Long> findAvailableIdsIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Dvd d SET d.copiesAvalaible = d.copiesAvalaible + :count, d.avalaible = true WHERE d.id = :id")
+    int increaseCopiesAvailable(@Param("id") Long id, @Param("count") Integer count);
 
 }
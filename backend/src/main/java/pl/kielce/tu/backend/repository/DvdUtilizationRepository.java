@@ -0,0 +1,10 @@
+package pl.kielce.tu.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import pl.kielce.tu.backend.model.entity.DvdUtilization;
+
+@Repository
+public interface DvdUtilizationRepository extends JpaRepository<DvdUtilization, Long> {
+}
@@ -0,0 +1,23 @@
+package pl.kielce.tu.backend.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import pl.kielce.tu.backend.model.entity.InvoiceSequence;
+
+@Repository
+public interface InvoiceSequenceRepository extends JpaRepository<InvoiceSequence, Integer> {
+
+    @Modifying
+    @Query("UPDATE InvoiceSequence s SET s.nextValue = s.nextValue + :blockSize WHERE s.year = :year")
+    int advance(@Param("year") int year, @Param("blockSize") long blockSize);
+
+    @Query("SELECT s.nextValue FROM InvoiceSequence s WHERE s.year = :year")
+    Optional<Long> findNextValue(@Param("year") int year);
+
+}
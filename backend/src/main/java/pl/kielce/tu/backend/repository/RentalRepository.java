@@ -1,16 +1,24 @@
 package pl.kielce.tu.backend.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.dto.CoRentalPairDto;
+import pl.kielce.tu.backend.model.dto.DvdPopularitySeedDto;
+import pl.kielce.tu.backend.model.dto.ExpiredRentalCandidateDto;
+import pl.kielce.tu.backend.model.dto.RentalDto;
+import pl.kielce.tu.backend.model.dto.RentalUsageDto;
 import pl.kielce.tu.backend.model.entity.Rental;
 
 @Repository
@@ -44,6 +52,37 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.RentalDto( \
+            r.id, r.rentalStart, r.rentalEnd, r.returnDate, r.createdAt, d.id, d.title, r.count, r.status) \
+            FROM Rental r JOIN r.dvd d \
+            WHERE r.user.id = :userId \
+            AND (:afterId IS NULL OR r.createdAt < :afterCreatedAt \
+            OR (r.createdAt = :afterCreatedAt AND r.id < :afterId)) \
+            AND (:status IS NULL OR r.status = :status) \
+            AND (:from IS NULL OR r.createdAt >= :from) \
+            AND (:to IS NULL OR r.createdAt < :to) \
+            AND (:titlePattern IS NULL OR LOWER(d.title) LIKE :titlePattern) \
+            ORDER BY r.createdAt DESC, r.id DESC""")
+    List<RentalDto> findHistoryAfter(@Param("userId") Long userId,
+            @Param("afterId") Long afterId,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt,
+            @Param("status") RentalStatus status,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to,
+            @Param("titlePattern") String titlePattern,
+            Pageable pageable);
+
+    @Query("SELECT r.createdAt FROM Rental r WHERE r.id = :id AND r.user.id = :userId")
+    Optional<LocalDateTime> findCreatedAtByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("""
+            SELECT DISTINCT r.user.id FROM Rental r WHERE r.user.id IN :userIds \
+            AND r.status <> pl.kielce.tu.backend.model.constant.RentalStatus.INACTIVE \
+            AND r.rentalEnd < :currentDateTime""")
+    List<Long> findUserIdsWithOverdueRentals(@Param("userIds") Collection<Long> userIds,
+            @Param("currentDateTime") LocalDateTime currentDateTime);
+
     @Query("SELECT r FROM Rental r WHERE r.status = :status")
     List<Rental> findByStatus(@Param("status") RentalStatus status);
 
@@ -55,4 +94,91 @@ public interface RentalRepository extends JpaRepository<Rental, Long> {
             AND r.rentalEnd < :currentDateTime""")
     List<Rental> findExpiredActiveRentals(@Param("currentDateTime") LocalDateTime currentDateTime);
 
+    @Query("SELECT r FROM Rental r WHERE r.dvd.id = :dvdId AND r.status IN :statuses")
+    List<Rental> findByDvdIdAndStatusIn(@Param("dvdId") Long dvdId, @Param("statuses") List<RentalStatus> statuses);
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.ExpiredRentalCandidateDto( \
+            r.id, r.user.id, r.dvd.id, r.rentalEnd) \
+            FROM Rental r WHERE r.status = pl.kielce.tu.backend.model.constant.RentalStatus.ACTIVE \
+            AND r.rentalEnd < :currentDateTime AND r.id > :afterId \
+            ORDER BY r.id""")
+    List<ExpiredRentalCandidateDto> findExpiredActiveRentalCandidates(
+            @Param("currentDateTime") LocalDateTime currentDateTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query("""
+            SELECT r.id FROM Rental r WHERE r.status = pl.kielce.tu.backend.model.constant.RentalStatus.ACTIVE \
+            AND r.rentalEnd < :currentDateTime AND r.id > :afterId \
+            ORDER BY r.id""")
+    List<Long> findExpiredActiveRentalIds(@Param("currentDateTime") LocalDateTime currentDateTime,
+            @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.ExpiredRentalCandidateDto( \
+            r.id, r.user.id, r.dvd.id, r.rentalEnd) \
+            FROM Rental r WHERE r.id IN :ids \
+            AND r.status = pl.kielce.tu.backend.model.constant.RentalStatus.ACTIVE \
+            AND r.rentalEnd < :currentDateTime \
+            ORDER BY r.id""")
+    List<ExpiredRentalCandidateDto> findExpiredActiveRentalCandidatesByIdIn(@Param("ids") List<Long> ids,
+            @Param("currentDateTime") LocalDateTime currentDateTime);
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.ExpiredRentalCandidateDto( \
+            r.id, r.user.id, r.dvd.id, r.rentalEnd) \
+            FROM Rental r WHERE r.status = pl.kielce.tu.backend.model.constant.RentalStatus.ACTIVE""")
+    List<ExpiredRentalCandidateDto> findActiveRentalDeadlines();
+
+    @Modifying
+    @Query("""
+            UPDATE Rental r SET r.status = pl.kielce.tu.backend.model.constant.RentalStatus.RETURN_REQUESTED \
+            WHERE r.id IN :ids AND r.status = pl.kielce.tu.backend.model.constant.RentalStatus.ACTIVE \
+            AND r.rentalEnd < :currentDateTime""")
+    int markExpiredAsReturnRequested(@Param("ids") List<Long> ids,
+            @Param("currentDateTime") LocalDateTime currentDateTime);
+
+    @Query("SELECT COALESCE(MAX(r.id), 0) FROM Rental r")
+    long findMaxId();
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.RentalUsageDto( \
+            r.id, r.dvd.id, r.count, r.status, r.rentalStart, r.rentalEnd, r.returnDate) \
+            FROM Rental r WHERE r.id > :afterId AND r.id <= :toId \
+            ORDER BY r.id""")
+    List<RentalUsageDto> findUsageInRange(@Param("afterId") long afterId,
+            @Param("toId") long toId,
+            Pageable pageable);
+
+    @Query("""
+            SELECT DISTINCT r.user.id FROM Rental r WHERE r.user.id > :afterId \
+            AND r.createdAt >= :since \
+            ORDER BY r.user.id""")
+    List<Long> findActiveUserIdsAfter(@Param("afterId") long afterId,
+            @Param("since") LocalDateTime since,
+            Pageable pageable);
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.DvdPopularitySeedDto( \
+            r.dvd.id, r.user.age, CAST(r.createdAt AS LocalDate), COUNT(r)) \
+            FROM Rental r \
+            GROUP BY r.dvd.id, r.user.age, CAST(r.createdAt AS LocalDate)""")
+    List<DvdPopularitySeedDto> countRentalsPerDvdAgeAndDay();
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.CoRentalPairDto(r.id, r.user.id, r.dvd.id) \
+            FROM Rental r \
+            WHERE r.status = pl.kielce.tu.backend.model.constant.RentalStatus.INACTIVE AND r.id > :afterId \
+            ORDER BY r.id""")
+    List<CoRentalPairDto> findInactiveRentalPairsAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    @Query("""
+            SELECT r.dvd.id FROM Rental r WHERE r.user.id = :userId AND r.status = :status \
+            ORDER BY r.createdAt DESC""")
+    List<Long> findDvdIdsByUserIdAndStatus(@Param("userId") Long userId,
+            @Param("status") RentalStatus status,
+            Pageable pageable);
+
 }
@@ -0,0 +1,23 @@
+package pl.kielce.tu.backend.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import pl.kielce.tu.backend.model.entity.ReservationIdempotencyKey;
+
+@Repository
+public interface ReservationIdempotencyKeyRepository extends JpaRepository<ReservationIdempotencyKey, Long> {
+
+    Optional<ReservationIdempotencyKey> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    @Modifying
+    @Query("DELETE FROM ReservationIdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+}
@@ -1,20 +1,30 @@
 package pl.kielce.tu.backend.repository;
 
 import java.sql.Date;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+
 import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.dto.DvdCopyDeltaDto;
+import pl.kielce.tu.backend.model.dto.ReservationHoldDto;
 import pl.kielce.tu.backend.model.entity.Reservation;
 
 @Repository
-public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+public interface ReservationRepository extends JpaRepository<Reservation, Long>, JpaSpecificationExecutor<Reservation> {
 
     List<Reservation> findByUserIdOrderByCreatedAtDesc(Long userId);
 
@@ -57,5 +67,55 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
     List<Reservation> findConflictingReservations(@Param("dvdId") Long dvdId,
             @Param("status") ReservationStatus status,
             @Param("date") Date date);
-            
+
+    @Query("SELECT r FROM Reservation r WHERE r.dvd.id = :dvdId AND r.status IN :statuses")
+    List<Reservation> findByDvdIdAndStatusIn(@Param("dvdId") Long dvdId,
+            @Param("statuses") List<ReservationStatus> statuses);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.id = :id")
+    Optional<Reservation> findForUpdateById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :ids AND r.status = :status ORDER BY r.id")
+    List<Reservation> findAllForUpdateByIdInAndStatus(@Param("ids") Collection<Long> ids,
+            @Param("status") ReservationStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Reservation r JOIN FETCH r.dvd JOIN FETCH r.user WHERE r.id IN :ids ORDER BY r.id")
+    List<Reservation> findAllForUpdateWithDvdAndUserByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT r.id FROM Reservation r WHERE r.status = :status AND r.createdAt < :cutoff ORDER BY r.id")
+    List<Long> findIdsByStatusAndCreatedAtBefore(@Param("status") ReservationStatus status,
+            @Param("cutoff") LocalDateTime cutoff,
+            Pageable pageable);
+
+    @Modifying
+    @Query("""
+            UPDATE Reservation r SET r.status = :newStatus, r.decidedAt = :decidedAt \
+            WHERE r.id IN :ids AND r.status = :currentStatus""")
+    int updateStatusForIds(@Param("ids") List<Long> ids,
+            @Param("currentStatus") ReservationStatus currentStatus,
+            @Param("newStatus") ReservationStatus newStatus,
+            @Param("decidedAt") LocalDateTime decidedAt);
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.DvdCopyDeltaDto(r.dvd.id, SUM(r.count)) \
+            FROM Reservation r WHERE r.id IN :ids AND r.status = :status \
+            GROUP BY r.dvd.id""")
+    List<DvdCopyDeltaDto> sumCountsByDvdForIds(@Param("ids") List<Long> ids,
+            @Param("status") ReservationStatus status);
+
+    @Query("SELECT COALESCE(MAX(r.id), 0) FROM Reservation r")
+    long findMaxId();
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.ReservationHoldDto( \
+            r.id, r.dvd.id, r.count, r.status, r.createdAt, r.decidedAt) \
+            FROM Reservation r WHERE r.id > :afterId AND r.id <= :toId \
+            ORDER BY r.id""")
+    List<ReservationHoldDto> findHoldsInRange(@Param("afterId") long afterId,
+            @Param("toId") long toId,
+            Pageable pageable);
+
 }
@@ -0,0 +1,94 @@
+package pl.kielce.tu.backend.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import pl.kielce.tu.backend.model.constant.RevenueDimension;
+import pl.kielce.tu.backend.model.dto.RevenueEntryDto;
+import pl.kielce.tu.backend.model.dto.RevenueTotalsDto;
+import pl.kielce.tu.backend.model.entity.RevenueRollup;
+
+@Repository
+public interface RevenueRollupRepository extends JpaRepository<RevenueRollup, Long> {
+
+    boolean existsByDimensionAndDayAndDimensionId(RevenueDimension dimension, LocalDate day, Long dimensionId);
+
+    @Modifying
+    @Query("""
+            UPDATE RevenueRollup r SET r.baseAmount = r.baseAmount + :baseAmount, \
+            r.lateFees = r.lateFees + :lateFee, r.rentalCount = r.rentalCount + 1 \
+            WHERE r.dimension = :dimension AND r.day = :day AND r.dimensionId = :dimensionId""")
+    int increment(@Param("dimension") RevenueDimension dimension,
+            @Param("day") LocalDate day,
+            @Param("dimensionId") Long dimensionId,
+            @Param("baseAmount") BigDecimal baseAmount,
+            @Param("lateFee") BigDecimal lateFee);
+
+    @Modifying
+    @Query("DELETE FROM RevenueRollup r WHERE r.day >= :from AND r.day < :to")
+    int deleteByDayBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("""
+            INSERT INTO RevenueRollup (dimension, day, dimensionId, baseAmount, lateFees, rentalCount) \
+            SELECT pl.kielce.tu.backend.model.constant.RevenueDimension.DVD, \
+            CAST(r.transaction.generatedAt AS LocalDate), r.dvd.id, \
+            SUM(r.transaction.totalAmount - r.transaction.lateFee), SUM(r.transaction.lateFee), COUNT(r) \
+            FROM Rental r \
+            WHERE r.status = pl.kielce.tu.backend.model.constant.RentalStatus.INACTIVE \
+            AND r.transaction.generatedAt >= :from AND r.transaction.generatedAt < :to \
+            GROUP BY CAST(r.transaction.generatedAt AS LocalDate), r.dvd.id""")
+    int insertDvdRollups(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query("""
+            INSERT INTO RevenueRollup (dimension, day, dimensionId, baseAmount, lateFees, rentalCount) \
+            SELECT pl.kielce.tu.backend.model.constant.RevenueDimension.GENRE, \
+            CAST(r.transaction.generatedAt AS LocalDate), g.id, \
+            SUM(r.transaction.totalAmount - r.transaction.lateFee), SUM(r.transaction.lateFee), COUNT(r) \
+            FROM Rental r JOIN r.dvd d JOIN d.genres g \
+            WHERE r.status = pl.kielce.tu.backend.model.constant.RentalStatus.INACTIVE \
+            AND r.transaction.generatedAt >= :from AND r.transaction.generatedAt < :to \
+            GROUP BY CAST(r.transaction.generatedAt AS LocalDate), g.id""")
+    int insertGenreRollups(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.RevenueEntryDto( \
+            r.dimensionId, d.title, SUM(r.baseAmount), SUM(r.lateFees), SUM(r.baseAmount + r.lateFees), \
+            SUM(r.rentalCount)) \
+            FROM RevenueRollup r LEFT JOIN Dvd d ON d.id = r.dimensionId \
+            WHERE r.dimension = pl.kielce.tu.backend.model.constant.RevenueDimension.DVD \
+            AND r.day >= :from AND r.day < :to \
+            GROUP BY r.dimensionId, d.title \
+            ORDER BY SUM(r.baseAmount + r.lateFees) DESC, r.dimensionId ASC""")
+    List<RevenueEntryDto> findDvdRevenue(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.RevenueEntryDto( \
+            r.dimensionId, g.name, SUM(r.baseAmount), SUM(r.lateFees), SUM(r.baseAmount + r.lateFees), \
+            SUM(r.rentalCount)) \
+            FROM RevenueRollup r LEFT JOIN Genre g ON g.id = r.dimensionId \
+            WHERE r.dimension = pl.kielce.tu.backend.model.constant.RevenueDimension.GENRE \
+            AND r.day >= :from AND r.day < :to \
+            GROUP BY r.dimensionId, g.name \
+            ORDER BY SUM(r.baseAmount + r.lateFees) DESC, r.dimensionId ASC""")
+    List<RevenueEntryDto> findGenreRevenue(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.RevenueTotalsDto( \
+            COALESCE(SUM(r.baseAmount), 0), COALESCE(SUM(r.lateFees), 0), \
+            COALESCE(SUM(r.baseAmount + r.lateFees), 0), COALESCE(SUM(r.rentalCount), 0)) \
+            FROM RevenueRollup r \
+            WHERE r.dimension = pl.kielce.tu.backend.model.constant.RevenueDimension.DVD \
+            AND r.day >= :from AND r.day < :to""")
+    RevenueTotalsDto findTotals(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+}
@@ -0,0 +1,36 @@
+package pl.kielce.tu.backend.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import pl.kielce.tu.backend.model.entity.SchedulerLock;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+
+    @Modifying
+    @Query("""
+            UPDATE SchedulerLock l SET l.lockedBy = :nodeId, l.lockedAt = :now, l.lockedUntil = :lockedUntil \
+            WHERE l.jobName = :jobName AND l.lockedUntil <= :now""")
+    int acquireExpired(@Param("jobName") String jobName,
+            @Param("nodeId") String nodeId,
+            @Param("now") LocalDateTime now,
+            @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Modifying
+    @Query("""
+            UPDATE SchedulerLock l SET l.lockedUntil = :lockedUntil \
+            WHERE l.jobName = :jobName AND l.lockedBy = :nodeId""")
+    int updateLockedUntil(@Param("jobName") String jobName,
+            @Param("nodeId") String nodeId,
+            @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    @Query("SELECT LOCAL DATETIME")
+    LocalDateTime currentDatabaseTime();
+
+}
@@ -0,0 +1,11 @@
+package pl.kielce.tu.backend.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import pl.kielce.tu.backend.model.entity.SchedulerRun;
+
+@Repository
+public interface SchedulerRunRepository extends JpaRepository<SchedulerRun, Long> {
+
+}
@@ -1,5 +1,6 @@
 package pl.kielce.tu.backend.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +11,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import pl.kielce.tu.backend.model.dto.TransactionDto;
 import pl.kielce.tu.backend.model.entity.Rental;
 
 @Repository
@@ -40,13 +42,72 @@ public interface TransactionRepository extends JpaRepository<Rental, Long> {
     List<Rental> findByUserIdAndTransactionIsNotNull(Long userId);
 
     @Query("""
-            SELECT r FROM Rental r WHERE r.user.id = :userId \
-            AND r.transaction IS NOT NULL \
-            ORDER BY r.transaction.generatedAt DESC""")
-    List<Rental> findByUserIdOrderByGeneratedAtDesc(@Param("userId") Long userId);
+            SELECT r.id FROM Rental r WHERE r.transaction IS NOT NULL \
+            AND r.status = pl.kielce.tu.backend.model.constant.RentalStatus.INACTIVE \
+            AND r.transaction.generatedAt >= :from AND r.transaction.generatedAt < :to \
+            ORDER BY r.transaction.generatedAt ASC, r.id ASC""")
+    List<Long> findCompletedIdsGeneratedBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
 
     @Query("""
-            SELECT r FROM Rental r WHERE r.transaction IS NOT NULL \
-            ORDER BY r.transaction.generatedAt DESC""")
-    List<Rental> findAllOrderByGeneratedAtDesc();
+            SELECT new pl.kielce.tu.backend.model.dto.TransactionDto( \
+            r.id, r.transaction.invoiceId, r.transaction.dvdTitle, r.transaction.rentalPeriodDays, \
+            r.transaction.pricePerDay, r.transaction.lateFee, r.transaction.totalAmount, \
+            r.transaction.generatedAt, r.transaction.pdfUrl, \
+            CASE WHEN r.returnDate IS NOT NULL THEN r.transaction.billType ELSE NULL END, r.id) \
+            FROM Rental r \
+            WHERE r.user.id = :userId AND r.transaction.generatedAt IS NOT NULL \
+            ORDER BY r.transaction.generatedAt DESC, r.id DESC""")
+    List<TransactionDto> findFirstUserTransactions(@Param("userId") Long userId, Pageable pageable);
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.TransactionDto( \
+            r.id, r.transaction.invoiceId, r.transaction.dvdTitle, r.transaction.rentalPeriodDays, \
+            r.transaction.pricePerDay, r.transaction.lateFee, r.transaction.totalAmount, \
+            r.transaction.generatedAt, r.transaction.pdfUrl, \
+            CASE WHEN r.returnDate IS NOT NULL THEN r.transaction.billType ELSE NULL END, r.id) \
+            FROM Rental r \
+            WHERE r.user.id = :userId AND r.transaction.generatedAt IS NOT NULL \
+            AND (r.transaction.generatedAt < :afterGeneratedAt \
+            OR (r.transaction.generatedAt = :afterGeneratedAt AND r.id < :afterId)) \
+            ORDER BY r.transaction.generatedAt DESC, r.id DESC""")
+    List<TransactionDto> findUserTransactionsAfter(@Param("userId") Long userId,
+            @Param("afterId") Long afterId,
+            @Param("afterGeneratedAt") LocalDateTime afterGeneratedAt,
+            Pageable pageable);
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.TransactionDto( \
+            r.id, r.transaction.invoiceId, r.transaction.dvdTitle, r.transaction.rentalPeriodDays, \
+            r.transaction.pricePerDay, r.transaction.lateFee, r.transaction.totalAmount, \
+            r.transaction.generatedAt, r.transaction.pdfUrl, \
+            CASE WHEN r.returnDate IS NOT NULL THEN r.transaction.billType ELSE NULL END, r.id) \
+            FROM Rental r \
+            WHERE r.transaction.generatedAt IS NOT NULL \
+            ORDER BY r.transaction.generatedAt DESC, r.id DESC""")
+    List<TransactionDto> findFirstTransactions(Pageable pageable);
+
+    @Query("""
+            SELECT new pl.kielce.tu.backend.model.dto.TransactionDto( \
+            r.id, r.transaction.invoiceId, r.transaction.dvdTitle, r.transaction.rentalPeriodDays, \
+            r.transaction.pricePerDay, r.transaction.lateFee, r.transaction.totalAmount, \
+            r.transaction.generatedAt, r.transaction.pdfUrl, \
+            CASE WHEN r.returnDate IS NOT NULL THEN r.transaction.billType ELSE NULL END, r.id) \
+            FROM Rental r \
+            WHERE r.transaction.generatedAt IS NOT NULL \
+            AND (r.transaction.generatedAt < :afterGeneratedAt \
+            OR (r.transaction.generatedAt = :afterGeneratedAt AND r.id < :afterId)) \
+            ORDER BY r.transaction.generatedAt DESC, r.id DESC""")
+    List<TransactionDto> findTransactionsAfter(@Param("afterId") Long afterId,
+            @Param("afterGeneratedAt") LocalDateTime afterGeneratedAt,
+            Pageable pageable);
+
+    @Query("""
+            SELECT r.transaction.generatedAt FROM Rental r \
+            WHERE r.id = :id AND r.user.id = :userId AND r.transaction.generatedAt IS NOT NULL""")
+    Optional<LocalDateTime> findGeneratedAtByIdAndUserId(@Param("id") Long id, @Param("userId") Long userId);
+
+    @Query("""
+            SELECT r.transaction.generatedAt FROM Rental r \
+            WHERE r.id = :id AND r.transaction.generatedAt IS NOT NULL""")
+    Optional<LocalDateTime> findGeneratedAtById(@Param("id") Long id);
 }
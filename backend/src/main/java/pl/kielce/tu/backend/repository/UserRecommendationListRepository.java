@@ -0,0 +1,20 @@
+package pl.kielce.tu.backend.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import pl.kielce.tu.backend.model.entity.UserRecommendationList;
+
+@Repository
+public interface UserRecommendationListRepository extends JpaRepository<UserRecommendationList, Long> {
+
+    @Modifying
+    @Query("DELETE FROM UserRecommendationList l WHERE l.computedAt < :before")
+    int deleteComputedBefore(@Param("before") LocalDateTime before);
+
+}
@@ -1,5 +1,6 @@
 package pl.kielce.tu.backend.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,4 +21,7 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT u FROM User u JOIN u.preferredGenres g WHERE g.id = :genreId")
     List<User> findUsersByPreferredGenreId(@Param("genreId") Long genreId);
 
+    @Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.preferredGenres WHERE u.id IN :ids")
+    List<User> findAllWithPreferredGenresByIdIn(@Param("ids") Collection<Long> ids);
+
 }
@@ -0,0 +1,73 @@
+package pl.kielce.tu.backend.repository.specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import pl.kielce.tu.backend.model.dto.ReservationFilterDto;
+import pl.kielce.tu.backend.model.entity.Reservation;
+
+@Component
+public class ReservationSpecification {
+
+    public Specification<Reservation> withFilters(ReservationFilterDto filterDto) {
+        return withFilters(filterDto, null);
+    }
+
+    public Specification<Reservation> withFilters(ReservationFilterDto filterDto, Long afterId) {
+        return (root, query, criteriaBuilder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            addCursorFilter(afterId, root, criteriaBuilder, predicates);
+            addAttributeFilters(filterDto, root, criteriaBuilder, predicates);
+            fetchAssociations(root, query);
+
+            return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private void addCursorFilter(Long afterId, Root<Reservation> root, CriteriaBuilder criteriaBuilder,
+            List<Predicate> predicates) {
+        if (afterId != null) {
+            predicates.add(criteriaBuilder.lessThan(root.<Long>get("id"), afterId));
+        }
+    }
+
+    private void addAttributeFilters(ReservationFilterDto filterDto, Root<Reservation> root,
+            CriteriaBuilder criteriaBuilder, List<Predicate> predicates) {
+        if (filterDto.getStatus() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("status"), filterDto.getStatus()));
+        }
+        if (filterDto.getDvdId() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("dvd").get("id"), filterDto.getDvdId()));
+        }
+        if (filterDto.getUserId() != null) {
+            predicates.add(criteriaBuilder.equal(root.get("user").get("id"), filterDto.getUserId()));
+        }
+        if (filterDto.getFrom() != null) {
+            predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.<LocalDateTime>get("rentalStart"),
+                    filterDto.getFrom()));
+        }
+        if (filterDto.getTo() != null) {
+            predicates.add(criteriaBuilder.lessThan(root.<LocalDateTime>get("rentalStart"), filterDto.getTo()));
+        }
+    }
+
+    private void fetchAssociations(Root<Reservation> root, CriteriaQuery<?> query) {
+        if (query != null && !isCountQuery(query)) {
+            root.fetch("dvd");
+            root.fetch("user");
+        }
+    }
+
+    private boolean isCountQuery(CriteriaQuery<?> query) {
+        return Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType());
+    }
+}
@@ -0,0 +1,24 @@
+package pl.kielce.tu.backend.service.analytics;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.entity.DvdUtilization;
+import pl.kielce.tu.backend.repository.DvdUtilizationRepository;
+
+@Component
+@RequiredArgsConstructor
+public class DvdUtilizationWriter {
+
+    private final DvdUtilizationRepository dvdUtilizationRepository;
+
+    @Transactional
+    public void replaceAll(List<DvdUtilization> utilizations) {
+        dvdUtilizationRepository.deleteAllInBatch();
+        dvdUtilizationRepository.saveAll(utilizations);
+    }
+
+}
@@ -0,0 +1,212 @@
+package pl.kielce.tu.backend.service.analytics;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import pl.kielce.tu.backend.model.constant.UtilizationRanking;
+import pl.kielce.tu.backend.model.dto.DvdUtilizationDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.DvdUtilization;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.DvdUtilizationRepository;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class UtilizationAnalyticsService {
+
+    private static final String JOB_NAME = "dvd-utilization-analytics";
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 100;
+    private static final double SECONDS_PER_DAY = 86400.0;
+    private static final double SECONDS_PER_HOUR = 3600.0;
+
+    private final int windowDays;
+    private final long leafSize;
+    private final ForkJoinPool pool;
+    private final DvdRepository dvdRepository;
+    private final UtilizationScanner scanner;
+    private final DvdUtilizationWriter writer;
+    private final RentalRepository rentalRepository;
+    private final UserContextLogger userContextLogger;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final ReservationRepository reservationRepository;
+    private final DvdUtilizationRepository dvdUtilizationRepository;
+
+    public UtilizationAnalyticsService(
+            @Value("${analytics.utilization.window-days:90}") int windowDays,
+            @Value("${analytics.utilization.parallelism:4}") int parallelism,
+            @Value("${analytics.utilization.leaf-size:20000}") long leafSize,
+            DvdRepository dvdRepository,
+            UtilizationScanner scanner,
+            DvdUtilizationWriter writer,
+            RentalRepository rentalRepository,
+            UserContextLogger userContextLogger,
+            ScheduledJobRunner scheduledJobRunner,
+            ReservationRepository reservationRepository,
+            DvdUtilizationRepository dvdUtilizationRepository) {
+        if (windowDays <= 0) {
+            throw new IllegalArgumentException("Utilization window must be positive");
+        }
+        this.windowDays = windowDays;
+        this.leafSize = Math.max(1, leafSize);
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+        this.dvdRepository = dvdRepository;
+        this.scanner = scanner;
+        this.writer = writer;
+        this.rentalRepository = rentalRepository;
+        this.userContextLogger = userContextLogger;
+        this.scheduledJobRunner = scheduledJobRunner;
+        this.reservationRepository = reservationRepository;
+        this.dvdUtilizationRepository = dvdUtilizationRepository;
+    }
+
+    public ResponseEntity<List<DvdUtilizationDto>> handleGetUtilizationRanking(UtilizationRanking rankBy,
+            Sort.Direction direction, Integer limit) {
+        try {
+            UtilizationRanking resolvedRanking = rankBy != null ? rankBy : UtilizationRanking.UTILIZATION;
+            Sort.Direction resolvedDirection = direction != null ? direction : Sort.Direction.DESC;
+            int resolvedLimit = resolveLimit(limit);
+            Sort sort = Sort.by(resolvedDirection, resolvedRanking.getProperty()).and(Sort.by("dvdId"));
+            List<DvdUtilizationDto> ranking = dvdUtilizationRepository.findAll(PageRequest.of(0, resolvedLimit, sort))
+                    .map(this::toDto)
+                    .getContent();
+            userContextLogger.logUserOperation("GET_DVD_UTILIZATION",
+                    String.format("Rank by: %s %s, Limit: %d", resolvedRanking, resolvedDirection, resolvedLimit));
+            return ResponseEntity.status(HttpStatus.OK).body(ranking);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("GET_DVD_UTILIZATION", "Error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    public ResponseEntity<Void> handleRecompute() {
+        try {
+            if (!recompute()) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            }
+            return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("DVD_UTILIZATION_RECOMPUTE", "Error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    public void recomputeScheduled() {
+        try {
+            recompute();
+        } catch (IllegalStateException e) {
+            userContextLogger.logUserOperation("DVD_UTILIZATION_RECOMPUTE", "Error: " + e.getMessage());
+        }
+    }
+
+    public int computeUtilization() {
+        LocalDateTime now = LocalDateTime.now();
+        UtilizationWindow window = new UtilizationWindow(now.minusDays(windowDays), now);
+        List<Dvd> dvds = dvdRepository.findAll(Sort.by("id"));
+        long[] dvdIds = dvds.stream().mapToLong(Dvd::getId).toArray();
+        ForkJoinTask<UtilizationCounters> rentals = pool.submit(new UtilizationRangeTask(0,
+                rentalRepository.findMaxId(), leafSize, dvdIds,
+                (afterId, toId, counters) -> scanner.scanRentals(afterId, toId, counters, window)));
+        ForkJoinTask<UtilizationCounters> reservations = pool.submit(new UtilizationRangeTask(0,
+                reservationRepository.findMaxId(), leafSize, dvdIds,
+                (afterId, toId, counters) -> scanner.scanReservations(afterId, toId, counters, window)));
+        UtilizationCounters counters = rentals.join().merge(reservations.join());
+        List<DvdUtilization> utilizations = new ArrayList<>(dvds.size());
+        for (int i = 0; i < dvds.size(); i++) {
+            utilizations.add(toUtilization(dvds.get(i), counters, i, now));
+        }
+        writer.replaceAll(utilizations);
+        return utilizations.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private boolean recompute() {
+        AtomicInteger rows = new AtomicInteger(-1);
+        if (!scheduledJobRunner.run(JOB_NAME, () -> rows.set(computeUtilization()))) {
+            return false;
+        }
+        if (rows.get() < 0) {
+            throw new IllegalStateException("DVD utilization recompute failed");
+        }
+        userContextLogger.logUserOperation("DVD_UTILIZATION_RECOMPUTE",
+                String.format("Window: %d days, DVDs: %d", windowDays, rows.get()));
+        return true;
+    }
+
+    private DvdUtilization toUtilization(Dvd dvd, UtilizationCounters counters, int index, LocalDateTime now) {
+        int freeCopies = dvd.getCopiesAvalaible() != null ? dvd.getCopiesAvalaible() : 0;
+        int totalCopies = (int) (freeCopies + counters.getHeldCopies(index));
+        long ownedCopyDays = (long) totalCopies * windowDays;
+        double rentedCopyDays = counters.getRentedCopySeconds(index) / SECONDS_PER_DAY;
+        long endedRentals = counters.getEndedRentals(index);
+        long overdueRentals = counters.getOverdueRentals(index);
+        long reservations = counters.getReservations(index);
+        return DvdUtilization.builder()
+                .dvdId(dvd.getId())
+                .dvdTitle(dvd.getTitle())
+                .totalCopies(totalCopies)
+                .ownedCopyDays(ownedCopyDays)
+                .rentedCopyDays(rentedCopyDays)
+                .utilization(ownedCopyDays > 0 ? rentedCopyDays / ownedCopyDays : 0.0)
+                .endedRentals(endedRentals)
+                .overdueRentals(overdueRentals)
+                .overdueRate(endedRentals > 0 ? (double) overdueRentals / endedRentals : 0.0)
+                .reservations(reservations)
+                .averagePendingHours(reservations > 0
+                        ? counters.getPendingSeconds(index) / SECONDS_PER_HOUR / reservations
+                        : 0.0)
+                .windowDays(windowDays)
+                .computedAt(now)
+                .build();
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return DEFAULT_LIMIT;
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    private DvdUtilizationDto toDto(DvdUtilization utilization) {
+        return DvdUtilizationDto.builder()
+                .dvdId(utilization.getDvdId())
+                .dvdTitle(utilization.getDvdTitle())
+                .totalCopies(utilization.getTotalCopies())
+                .ownedCopyDays(utilization.getOwnedCopyDays())
+                .rentedCopyDays(utilization.getRentedCopyDays())
+                .utilization(utilization.getUtilization())
+                .endedRentals(utilization.getEndedRentals())
+                .overdueRentals(utilization.getOverdueRentals())
+                .overdueRate(utilization.getOverdueRate())
+                .reservations(utilization.getReservations())
+                .averagePendingHours(utilization.getAveragePendingHours())
+                .windowDays(utilization.getWindowDays())
+                .computedAt(utilization.getComputedAt())
+                .build();
+    }
+
+}
@@ -0,0 +1,115 @@
+package pl.kielce.tu.backend.service.analytics;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.dto.RentalUsageDto;
+import pl.kielce.tu.backend.model.dto.ReservationHoldDto;
+
+class UtilizationCounters {
+
+    private final long[] dvdIds;
+    private final long[] heldCopies;
+    private final long[] rentedCopySeconds;
+    private final long[] endedRentals;
+    private final long[] overdueRentals;
+    private final long[] reservations;
+    private final long[] pendingSeconds;
+
+    UtilizationCounters(long[] dvdIds) {
+        this.dvdIds = dvdIds;
+        this.heldCopies = new long[dvdIds.length];
+        this.rentedCopySeconds = new long[dvdIds.length];
+        this.endedRentals = new long[dvdIds.length];
+        this.overdueRentals = new long[dvdIds.length];
+        this.reservations = new long[dvdIds.length];
+        this.pendingSeconds = new long[dvdIds.length];
+    }
+
+    void addRental(RentalUsageDto rental, UtilizationWindow window) {
+        int index = indexOf(rental.getDvdId());
+        if (index < 0 || rental.getCount() == null) {
+            return;
+        }
+        int count = rental.getCount();
+        if (rental.getStatus() == RentalStatus.ACTIVE || rental.getStatus() == RentalStatus.RETURN_REQUESTED) {
+            heldCopies[index] += count;
+        }
+        rentedCopySeconds[index] += count * window.overlapSeconds(rental.getRentalStart(), rental.getReturnDate());
+        if (window.contains(rental.getRentalEnd())) {
+            endedRentals[index]++;
+            if (rental.getReturnDate() == null || rental.getReturnDate().isAfter(rental.getRentalEnd())) {
+                overdueRentals[index]++;
+            }
+        }
+    }
+
+    void addReservation(ReservationHoldDto reservation, UtilizationWindow window) {
+        int index = indexOf(reservation.getDvdId());
+        if (index < 0 || reservation.getCount() == null) {
+            return;
+        }
+        boolean pending = reservation.getStatus() == ReservationStatus.PENDING;
+        if (pending) {
+            heldCopies[index] += reservation.getCount();
+        }
+        if (!window.contains(reservation.getCreatedAt())) {
+            return;
+        }
+        if (reservation.getDecidedAt() != null) {
+            reservations[index]++;
+            pendingSeconds[index] += Duration.between(reservation.getCreatedAt(), reservation.getDecidedAt())
+                    .getSeconds();
+        } else if (pending) {
+            reservations[index]++;
+            pendingSeconds[index] += Duration.between(reservation.getCreatedAt(), window.end()).getSeconds();
+        }
+    }
+
+    UtilizationCounters merge(UtilizationCounters other) {
+        for (int i = 0; i < dvdIds.length; i++) {
+            heldCopies[i] += other.heldCopies[i];
+            rentedCopySeconds[i] += other.rentedCopySeconds[i];
+            endedRentals[i] += other.endedRentals[i];
+            overdueRentals[i] += other.overdueRentals[i];
+            reservations[i] += other.reservations[i];
+            pendingSeconds[i] += other.pendingSeconds[i];
+        }
+        return this;
+    }
+
+    int indexOf(Long dvdId) {
+        if (dvdId == null) {
+            return -1;
+        }
+        int index = Arrays.binarySearch(dvdIds, dvdId);
+        return index >= 0 ? index : -1;
+    }
+
+    long getHeldCopies(int index) {
+        return heldCopies[index];
+    }
+
+    long getRentedCopySeconds(int index) {
+        return rentedCopySeconds[index];
+    }
+
+    long getEndedRentals(int index) {
+        return endedRentals[index];
+    }
+
+    long getOverdueRentals(int index) {
+        return overdueRentals[index];
+    }
+
+    long getReservations(int index) {
+        return reservations[index];
+    }
+
+    long getPendingSeconds(int index) {
+        return pendingSeconds[index];
+    }
+
+}
@@ -0,0 +1,8 @@
+package pl.kielce.tu.backend.service.analytics;
+
+@FunctionalInterface
+interface UtilizationRangeScanner {
+
+    void scan(long afterId, long toId, UtilizationCounters counters);
+
+}
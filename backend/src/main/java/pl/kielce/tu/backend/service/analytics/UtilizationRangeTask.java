@@ -0,0 +1,38 @@
+package pl.kielce.tu.backend.service.analytics;
+
+import java.util.concurrent.RecursiveTask;
+
+class UtilizationRangeTask extends RecursiveTask<UtilizationCounters> {
+
+    private final long afterId;
+    private final long toId;
+    private final long leafSize;
+    private final long[] dvdIds;
+    private final UtilizationRangeScanner scanner;
+
+    UtilizationRangeTask(long afterId, long toId, long leafSize, long[] dvdIds, UtilizationRangeScanner scanner) {
+        this.afterId = afterId;
+        this.toId = toId;
+        this.leafSize = Math.max(1, leafSize);
+        this.dvdIds = dvdIds;
+        this.scanner = scanner;
+    }
+
+    @Override
+    protected UtilizationCounters compute() {
+        if (toId - afterId <= leafSize) {
+            UtilizationCounters counters = new UtilizationCounters(dvdIds);
+            if (toId > afterId) {
+                scanner.scan(afterId, toId, counters);
+            }
+            return counters;
+        }
+        long middleId = afterId + (toId - afterId) / 2;
+        UtilizationRangeTask lower = new UtilizationRangeTask(afterId, middleId, leafSize, dvdIds, scanner);
+        UtilizationRangeTask upper = new UtilizationRangeTask(middleId, toId, leafSize, dvdIds, scanner);
+        lower.fork();
+        UtilizationCounters upperCounters = upper.compute();
+        return lower.join().merge(upperCounters);
+    }
+
+}
@@ -0,0 +1,58 @@
+package pl.kielce.tu.backend.service.analytics;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import pl.kielce.tu.backend.model.dto.RentalUsageDto;
+import pl.kielce.tu.backend.model.dto.ReservationHoldDto;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+
+@Component
+public class UtilizationScanner {
+
+    private final int batchSize;
+    private final RentalRepository rentalRepository;
+    private final ReservationRepository reservationRepository;
+
+    public UtilizationScanner(
+            @Value("${analytics.utilization.batch-size:1000}") int batchSize,
+            RentalRepository rentalRepository,
+            ReservationRepository reservationRepository) {
+        this.batchSize = Math.max(1, batchSize);
+        this.rentalRepository = rentalRepository;
+        this.reservationRepository = reservationRepository;
+    }
+
+    void scanRentals(long afterId, long toId, UtilizationCounters counters, UtilizationWindow window) {
+        long cursor = afterId;
+        List<RentalUsageDto> batch;
+        do {
+            batch = rentalRepository.findUsageInRange(cursor, toId, PageRequest.of(0, batchSize));
+            for (RentalUsageDto rental : batch) {
+                counters.addRental(rental, window);
+            }
+            if (!batch.isEmpty()) {
+                cursor = batch.get(batch.size() - 1).getRentalId();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    void scanReservations(long afterId, long toId, UtilizationCounters counters, UtilizationWindow window) {
+        long cursor = afterId;
+        List<ReservationHoldDto> batch;
+        do {
+            batch = reservationRepository.findHoldsInRange(cursor, toId, PageRequest.of(0, batchSize));
+            for (ReservationHoldDto reservation : batch) {
+                counters.addReservation(reservation, window);
+            }
+            if (!batch.isEmpty()) {
+                cursor = batch.get(batch.size() - 1).getReservationId();
+            }
+        } while (batch.size() == batchSize);
+    }
+
+}
@@ -0,0 +1,24 @@
+package pl.kielce.tu.backend.service.analytics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+record UtilizationWindow(LocalDateTime start, LocalDateTime end) {
+
+    boolean contains(LocalDateTime moment) {
+        return moment != null && !moment.isBefore(start) && moment.isBefore(end);
+    }
+
+    long overlapSeconds(LocalDateTime from, LocalDateTime to) {
+        if (from == null) {
+            return 0;
+        }
+        LocalDateTime overlapStart = from.isAfter(start) ? from : start;
+        LocalDateTime overlapEnd = to == null || to.isAfter(end) ? end : to;
+        if (!overlapStart.isBefore(overlapEnd)) {
+            return 0;
+        }
+        return Duration.between(overlapStart, overlapEnd).getSeconds();
+    }
+
+}
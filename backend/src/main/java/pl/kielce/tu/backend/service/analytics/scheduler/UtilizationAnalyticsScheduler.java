@@ -0,0 +1,27 @@
+package pl.kielce.tu.backend.service.analytics.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.service.analytics.UtilizationAnalyticsService;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Component
+@RequiredArgsConstructor
+@Tag(name = "Analytics Scheduler", description = "Automated inventory analytics tasks")
+public class UtilizationAnalyticsScheduler {
+
+    private final UserContextLogger userContextLogger;
+    private final UtilizationAnalyticsService utilizationAnalyticsService;
+
+    @Scheduled(cron = "${analytics.utilization.cron:0 30 2 * * *}")
+    @Operation(summary = "Recompute DVD utilization", description = "Nightly recomputes per-DVD utilization, overdue rate and pending hold time over the analytics window")
+    public void recomputeUtilization() {
+        userContextLogger.logUserOperation("SCHEDULED_DVD_UTILIZATION", "Starting DVD utilization recompute");
+        utilizationAnalyticsService.recomputeScheduled();
+    }
+
+}
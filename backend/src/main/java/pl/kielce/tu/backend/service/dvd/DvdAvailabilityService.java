@@ -6,6 +6,7 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.service.recommendation.cohort.RecommendationCohortCache;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @Service
@@ -14,6 +15,7 @@ public class DvdAvailabilityService {
 
     private final DvdRepository dvdRepository;
     private final UserContextLogger userContextLogger;
+    private final RecommendationCohortCache recommendationCohortCache;
 
     @Transactional
     public void decreaseAvailability(Dvd dvd, Integer count) {
@@ -58,11 +60,14 @@ public class DvdAvailabilityService {
 
     private void updateAvailabilityStatus(Dvd dvd) {
         boolean hasAvailableCopies = dvd.getCopiesAvalaible() > 0;
+        if (!hasAvailableCopies && Boolean.TRUE.equals(dvd.getAvalaible())) {
+            recommendationCohortCache.evictDvd(dvd.getId());
+        }
         dvd.setAvalaible(hasAvailableCopies);
     }
 
     private void saveDvd(Dvd dvd) {
-        dvdRepository.save(dvd);
+        dvdRepository.saveAndFlush(dvd);
     }
 
 }
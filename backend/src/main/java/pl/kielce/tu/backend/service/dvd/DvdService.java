@@ -22,6 +22,7 @@ import pl.kielce.tu.backend.model.dto.PagedResponseDto;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.repository.DvdRepository;
 import pl.kielce.tu.backend.repository.specification.DvdSpecification;
+import pl.kielce.tu.backend.service.recommendation.cohort.RecommendationCohortCache;
 import pl.kielce.tu.backend.service.resource.ResourceService;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
@@ -38,6 +39,7 @@ public class DvdService {
     private final DvdSpecification dvdSpecification;
     private final UserContextLogger userContextLogger;
     private final DvdValidationService validationService;
+    private final RecommendationCohortCache recommendationCohortCache;
 
     public ResponseEntity<PagedResponseDto<DvdDto>> handleGetAllDvdsWithOptionalFilters(String searchPhrase,
             List<String> genreNames, List<Long> genreIds, int page, int size) {
@@ -117,8 +119,12 @@ public class DvdService {
             userContextLogger.logUserOperation("UPDATE_DVD", "Updating DVD with ID: " + dvdId);
             validationService.validateForUpdate(dvdDto);
             Dvd existingDvd = getDvdById(dvdId);
+            boolean wasAvailable = Boolean.TRUE.equals(existingDvd.getAvalaible());
             updateService.applyUpdates(existingDvd, dvdDto);
             dvdRepository.save(existingDvd);
+            if (wasAvailable && !Boolean.TRUE.equals(existingDvd.getAvalaible())) {
+                recommendationCohortCache.evictDvd(dvdId);
+            }
             userContextLogger.logUserOperation("UPDATE_DVD", "Successfully updated DVD");
             return ResponseEntity.status(HttpStatus.ACCEPTED).build();
         } catch (NumberFormatException e) {
@@ -0,0 +1,140 @@
+package pl.kielce.tu.backend.service.dvd.timeline;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+
+import pl.kielce.tu.backend.model.constant.TimelineBookingType;
+
+public class DvdAvailabilityTimeline {
+
+    private static final int OUT_OF_RANGE = Integer.MIN_VALUE / 2;
+
+    private final LocalDate origin;
+    private final int size;
+    private final int[] maxBooked;
+    private final int[] pending;
+    private final Map<String, Booking> bookings = new HashMap<>();
+    private int heldCopies;
+
+    public DvdAvailabilityTimeline(LocalDate origin, int horizonDays) {
+        if (horizonDays <= 0) {
+            throw new IllegalArgumentException("Timeline horizon must be positive");
+        }
+        this.origin = origin;
+        this.size = horizonDays;
+        this.maxBooked = new int[4 * horizonDays];
+        this.pending = new int[4 * horizonDays];
+    }
+
+    public synchronized void book(TimelineBookingType type, Long id, LocalDate start, LocalDate end, int count) {
+        String key = keyOf(type, id);
+        if (bookings.containsKey(key)) {
+            return;
+        }
+        Booking booking = new Booking(toIndex(start, 0), toIndex(end, size - 1), count);
+        bookings.put(key, booking);
+        heldCopies += count;
+        applyBooking(booking, count);
+    }
+
+    public synchronized void release(TimelineBookingType type, Long id) {
+        Booking booking = bookings.remove(keyOf(type, id));
+        if (booking == null) {
+            return;
+        }
+        heldCopies -= booking.count;
+        applyBooking(booking, -booking.count);
+    }
+
+    public synchronized int getMaxBooked(LocalDate from, LocalDate to) {
+        int fromIndex = toIndex(from, 0);
+        int toIndex = toIndex(to, size - 1);
+        if (fromIndex > toIndex) {
+            return 0;
+        }
+        return Math.max(0, query(1, 0, size - 1, fromIndex, toIndex));
+    }
+
+    public synchronized int getBookedOn(LocalDate day) {
+        return getMaxBooked(day, day);
+    }
+
+    public synchronized int getHeldCopies() {
+        return heldCopies;
+    }
+
+    public LocalDate getOrigin() {
+        return origin;
+    }
+
+    public LocalDate getLastDay() {
+        return origin.plusDays(size - 1L);
+    }
+
+    public boolean isStale(LocalDate today) {
+        return !origin.equals(today);
+    }
+
+    private void applyBooking(Booking booking, int delta) {
+        if (booking.fromIndex <= booking.toIndex) {
+            update(1, 0, size - 1, booking.fromIndex, booking.toIndex, delta);
+        }
+    }
+
+    private void update(int node, int left, int right, int from, int to, int delta) {
+        if (to < left || right < from) {
+            return;
+        }
+        if (from <= left && right <= to) {
+            maxBooked[node] += delta;
+            pending[node] += delta;
+            return;
+        }
+        int middle = (left + right) >>> 1;
+        update(2 * node, left, middle, from, to, delta);
+        update(2 * node + 1, middle + 1, right, from, to, delta);
+        maxBooked[node] = pending[node] + Math.max(maxBooked[2 * node], maxBooked[2 * node + 1]);
+    }
+
+    private int query(int node, int left, int right, int from, int to) {
+        if (to < left || right < from) {
+            return OUT_OF_RANGE;
+        }
+        if (from <= left && right <= to) {
+            return maxBooked[node];
+        }
+        int middle = (left + right) >>> 1;
+        int best = Math.max(query(2 * node, left, middle, from, to),
+                query(2 * node + 1, middle + 1, right, from, to));
+        return pending[node] + best;
+    }
+
+    private int toIndex(LocalDate day, int fallback) {
+        if (day == null) {
+            return fallback;
+        }
+        long index = ChronoUnit.DAYS.between(origin, day);
+        return (int) Math.max(-1, Math.min(size, index));
+    }
+
+    private String keyOf(TimelineBookingType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    private static final class Booking {
+
+        private final int fromIndex;
+        private final int toIndex;
+        private final int count;
+
+        private Booking(int fromIndex, int toIndex, int count) {
+            this.fromIndex = Math.max(0, fromIndex);
+            this.toIndex = toIndex;
+            this.count = count;
+        }
+
+    }
+
+}
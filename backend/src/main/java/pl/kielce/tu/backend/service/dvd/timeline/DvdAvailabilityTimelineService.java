@@ -0,0 +1,215 @@
+package pl.kielce.tu.backend.service.dvd.timeline;
+
+import static pl.kielce.tu.backend.util.TransactionCallbacks.afterCommit;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.persistence.EntityNotFoundException;
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.constant.TimelineBookingType;
+import pl.kielce.tu.backend.model.dto.DailyAvailabilityDto;
+import pl.kielce.tu.backend.model.dto.DvdAvailabilityCalendarDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class DvdAvailabilityTimelineService {
+
+    private static final int DEFAULT_CALENDAR_DAYS = 30;
+    private static final List<ReservationStatus> HOLDING_RESERVATION_STATUSES = List.of(ReservationStatus.PENDING);
+    private static final List<RentalStatus> HOLDING_RENTAL_STATUSES = List.of(RentalStatus.ACTIVE,
+            RentalStatus.RETURN_REQUESTED);
+
+    private final int horizonDays;
+    private final DvdRepository dvdRepository;
+    private final RentalRepository rentalRepository;
+    private final UserContextLogger userContextLogger;
+    private final ReservationRepository reservationRepository;
+    private final Cache<Long, DvdAvailabilityTimeline> timelines;
+
+    public DvdAvailabilityTimelineService(
+            @Value("${availability.timeline.horizon-days:365}") int horizonDays,
+            @Value("${availability.timeline.max-cached:1000}") long maxCached,
+            @Value("${availability.timeline.ttl-seconds:60}") long ttlSeconds,
+            DvdRepository dvdRepository,
+            RentalRepository rentalRepository,
+            UserContextLogger userContextLogger,
+            ReservationRepository reservationRepository) {
+        this.horizonDays = horizonDays;
+        this.dvdRepository = dvdRepository;
+        this.rentalRepository = rentalRepository;
+        this.userContextLogger = userContextLogger;
+        this.reservationRepository = reservationRepository;
+        this.timelines = Caffeine.newBuilder()
+                .maximumSize(maxCached)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public ResponseEntity<DvdAvailabilityCalendarDto> handleGetAvailabilityCalendar(String id, LocalDate from,
+            LocalDate to) {
+        try {
+            Long dvdId = Long.parseLong(id);
+            Dvd dvd = findDvdById(dvdId);
+            LocalDate rangeStart = resolveRangeStart(from);
+            LocalDate rangeEnd = resolveRangeEnd(rangeStart, to);
+            DvdAvailabilityCalendarDto calendar = buildCalendar(dvd, rangeStart, rangeEnd);
+            userContextLogger.logUserOperation("GET_DVD_CALENDAR",
+                    String.format("DVD ID: %d, Range: %s - %s", dvdId, rangeStart, rangeEnd));
+            return ResponseEntity.status(HttpStatus.OK).body(calendar);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("GET_DVD_CALENDAR", "Error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    public int getAvailableCopies(Dvd dvd, LocalDate from, LocalDate to) {
+        DvdAvailabilityTimeline timeline = getTimeline(dvd.getId());
+        int totalCopies = calculateTotalCopies(dvd, timeline);
+        return Math.max(0, totalCopies - timeline.getMaxBooked(from, to));
+    }
+
+    public void registerReservation(Reservation reservation) {
+        afterCommit(() -> book(TimelineBookingType.RESERVATION, reservation.getDvd(), reservation.getId(),
+                reservation.getRentalStart(), reservation.getRentalEnd(), reservation.getCount()));
+    }
+
+    public void releaseReservation(Reservation reservation) {
+        afterCommit(() -> release(TimelineBookingType.RESERVATION, reservation.getDvd(), reservation.getId()));
+    }
+
+    public void registerRental(Rental rental) {
+        afterCommit(() -> book(TimelineBookingType.RENTAL, rental.getDvd(), rental.getId(),
+                rental.getRentalStart(), rental.getRentalEnd(), rental.getCount()));
+    }
+
+    public void releaseRental(Rental rental) {
+        afterCommit(() -> release(TimelineBookingType.RENTAL, rental.getDvd(), rental.getId()));
+    }
+
+    public void evict(Long dvdId) {
+        afterCommit(() -> timelines.invalidate(dvdId));
+    }
+
+    private DvdAvailabilityCalendarDto buildCalendar(Dvd dvd, LocalDate from, LocalDate to) {
+        DvdAvailabilityTimeline timeline = getTimeline(dvd.getId());
+        int totalCopies = calculateTotalCopies(dvd, timeline);
+        List<DailyAvailabilityDto> days = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            days.add(DailyAvailabilityDto.builder()
+                    .date(day)
+                    .availableCopies(Math.max(0, totalCopies - timeline.getBookedOn(day)))
+                    .build());
+        }
+        return DvdAvailabilityCalendarDto.builder()
+                .dvdId(dvd.getId())
+                .from(from)
+                .to(to)
+                .totalCopies(totalCopies)
+                .availableCopies(Math.max(0, totalCopies - timeline.getMaxBooked(from, to)))
+                .days(days)
+                .build();
+    }
+
+    private int calculateTotalCopies(Dvd dvd, DvdAvailabilityTimeline timeline) {
+        int freeCopies = dvd.getCopiesAvalaible() != null ? dvd.getCopiesAvalaible() : 0;
+        return freeCopies + timeline.getHeldCopies();
+    }
+
+    private LocalDate resolveRangeStart(LocalDate from) {
+        LocalDate today = LocalDate.now();
+        if (from == null || from.isBefore(today)) {
+            return today;
+        }
+        return from;
+    }
+
+    private LocalDate resolveRangeEnd(LocalDate rangeStart, LocalDate to) {
+        LocalDate lastDay = LocalDate.now().plusDays(horizonDays - 1L);
+        LocalDate rangeEnd = to != null ? to : rangeStart.plusDays(DEFAULT_CALENDAR_DAYS - 1L);
+        if (rangeEnd.isAfter(lastDay)) {
+            rangeEnd = lastDay;
+        }
+        if (rangeStart.isAfter(rangeEnd)) {
+            throw new IllegalArgumentException("Calendar range start must not be after its end");
+        }
+        return rangeEnd;
+    }
+
+    private Dvd findDvdById(Long dvdId) {
+        return dvdRepository.findById(dvdId)
+                .orElseThrow(() -> new EntityNotFoundException("DVD not found with id: " + dvdId));
+    }
+
+    private DvdAvailabilityTimeline getTimeline(Long dvdId) {
+        LocalDate today = LocalDate.now();
+        DvdAvailabilityTimeline timeline = timelines.get(dvdId, id -> buildTimeline(id, today));
+        if (timeline.isStale(today)) {
+            timeline = buildTimeline(dvdId, today);
+            timelines.put(dvdId, timeline);
+        }
+        return timeline;
+    }
+
+    private DvdAvailabilityTimeline buildTimeline(Long dvdId, LocalDate today) {
+        DvdAvailabilityTimeline timeline = new DvdAvailabilityTimeline(today, horizonDays);
+        reservationRepository.findByDvdIdAndStatusIn(dvdId, HOLDING_RESERVATION_STATUSES)
+                .forEach(reservation -> timeline.book(TimelineBookingType.RESERVATION, reservation.getId(),
+                        reservation.getRentalStart().toLocalDate(), reservation.getRentalEnd().toLocalDate(),
+                        reservation.getCount()));
+        rentalRepository.findByDvdIdAndStatusIn(dvdId, HOLDING_RENTAL_STATUSES)
+                .forEach(rental -> timeline.book(TimelineBookingType.RENTAL, rental.getId(),
+                        rental.getRentalStart().toLocalDate(), resolveRentalEnd(rental.getRentalEnd(), today),
+                        rental.getCount()));
+        return timeline;
+    }
+
+    private LocalDate resolveRentalEnd(LocalDateTime rentalEnd, LocalDate today) {
+        LocalDate endDay = rentalEnd.toLocalDate();
+        return endDay.isBefore(today) ? today : endDay;
+    }
+
+    private void book(TimelineBookingType type, Dvd dvd, Long bookingId, LocalDateTime start, LocalDateTime end,
+            Integer count) {
+        if (dvd == null || bookingId == null || count == null) {
+            return;
+        }
+        DvdAvailabilityTimeline timeline = timelines.getIfPresent(dvd.getId());
+        if (timeline != null) {
+            timeline.book(type, bookingId, start.toLocalDate(), end.toLocalDate(), count);
+        }
+    }
+
+    private void release(TimelineBookingType type, Dvd dvd, Long bookingId) {
+        if (dvd == null || bookingId == null) {
+            return;
+        }
+        DvdAvailabilityTimeline timeline = timelines.getIfPresent(dvd.getId());
+        if (timeline != null) {
+            timeline.release(type, bookingId);
+        }
+    }
+
+}
@@ -1,8 +1,16 @@
 package pl.kielce.tu.backend.service.invoice;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -14,26 +22,27 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import pl.kielce.tu.backend.exception.ValidationException;
 import pl.kielce.tu.backend.extractor.ClaimsExtractor;
-import pl.kielce.tu.backend.mapper.TransactionMapper;
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.constant.CookieNames;
 import pl.kielce.tu.backend.model.constant.RankType;
 import pl.kielce.tu.backend.model.constant.RentalStatus;
 import pl.kielce.tu.backend.model.dto.BillRequestDto;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
 import pl.kielce.tu.backend.model.dto.TransactionDto;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.repository.RentalRepository;
 import pl.kielce.tu.backend.repository.TransactionRepository;
 import pl.kielce.tu.backend.repository.UserRepository;
 import pl.kielce.tu.backend.service.auth.CookieService;
-import pl.kielce.tu.backend.service.invoice.factory.BillPdfStrategyFactory;
-import pl.kielce.tu.backend.service.invoice.strategy.BillPdfStrategy;
+import pl.kielce.tu.backend.service.invoice.storage.InvoicePdfStore;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @Service
 @RequiredArgsConstructor
 public class InvoiceService {
 
+    private static final int MAX_TRANSACTIONS_PAGE_SIZE = 100;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -41,22 +50,22 @@ public class InvoiceService {
     private final UserRepository userRepository;
     private final ClaimsExtractor claimsExtractor;
     private final RentalRepository rentalRepository;
-    private final TransactionMapper transactionMapper;
     private final UserContextLogger userContextLogger;
-    private final BillPdfStrategyFactory strategyFactory;
+    private final InvoicePdfStore invoicePdfStore;
     private final TransactionRepository transactionRepository;
 
-    public ResponseEntity<List<TransactionDto>> handleGetUserTransactions(HttpServletRequest request) {
+    public ResponseEntity<CursorPageDto<TransactionDto>> handleGetUserTransactions(HttpServletRequest request,
+            Long after, int size) {
         try {
             Long userId = extractUserIdFromRequest(request);
-            List<TransactionDto> transactions = transactionRepository
-                    .findByUserIdOrderByGeneratedAtDesc(userId)
-                    .stream()
-                    .map(transactionMapper::toDto)
-                    .toList();
+            int pageSize = resolvePageSize(size);
+            CursorPageDto<TransactionDto> transactions = buildPage(
+                    findUserTransactions(userId, after, PageRequest.of(0, pageSize + 1)), pageSize);
             userContextLogger.logUserOperation("TRANSACTIONS_RETRIEVED",
-                    "Retrieved " + transactions.size() + " transactions for user");
+                    "Retrieved " + transactions.getContent().size() + " transactions for user");
             return ResponseEntity.ok(transactions);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         } catch (Exception e) {
             userContextLogger.logUserOperation("TRANSACTIONS_ERROR",
                     "Failed to get user transactions: " + e.getMessage());
@@ -64,17 +73,18 @@ public class InvoiceService {
         }
     }
 
-    public ResponseEntity<List<TransactionDto>> handleGetAllTransactions(HttpServletRequest request) {
+    public ResponseEntity<CursorPageDto<TransactionDto>> handleGetAllTransactions(HttpServletRequest request,
+            Long after, int size) {
         try {
             validateAdminAccess(request);
-            List<TransactionDto> transactions = transactionRepository
-                    .findAllOrderByGeneratedAtDesc()
-                    .stream()
-                    .map(transactionMapper::toDto)
-                    .toList();
+            int pageSize = resolvePageSize(size);
+            CursorPageDto<TransactionDto> transactions = buildPage(
+                    findTransactions(after, PageRequest.of(0, pageSize + 1)), pageSize);
             userContextLogger.logUserOperation("ALL_TRANSACTIONS_RETRIEVED",
-                    "Retrieved " + transactions.size() + " transactions for admin");
+                    "Retrieved " + transactions.getContent().size() + " transactions for admin");
             return ResponseEntity.ok(transactions);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         } catch (Exception e) {
             userContextLogger.logUserOperation("ALL_TRANSACTIONS_ERROR",
                     "Failed to get all transactions: " + e.getMessage());
@@ -82,7 +92,7 @@ public class InvoiceService {
         }
     }
 
-    public ResponseEntity<byte[]> handleGenerateBill(Long billId,
+    public ResponseEntity<Resource> handleGenerateBill(Long billId,
             BillRequestDto billRequest, HttpServletRequest request) {
         try {
             Long currentUserId = extractUserIdFromRequest(request);
@@ -90,8 +100,8 @@ public class InvoiceService {
             Rental rental = findRentalById(billId);
             validateRentalEnded(rental);
             validateUserAccess(rental, currentUserId, isAdmin);
-            byte[] pdfBytes = generatePdfForBill(rental, billRequest.getBillType());
-            return createPdfResponse(pdfBytes, rental, billRequest.getBillType());
+            Path pdfPath = invoicePdfStore.getOrRender(rental, billRequest.getBillType());
+            return createPdfResponse(pdfPath, rental, billRequest.getBillType());
         } catch (ValidationException | SecurityException | EntityNotFoundException e) {
             userContextLogger.logUserOperation("BILL_GENERATION_ERROR",
                     "Failed to generate bill: " + e.getMessage());
@@ -103,6 +113,49 @@ public class InvoiceService {
         }
     }
 
+    private int resolvePageSize(int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        return Math.min(size, MAX_TRANSACTIONS_PAGE_SIZE);
+    }
+
+    private CursorPageDto<TransactionDto> buildPage(List<TransactionDto> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<TransactionDto> content = hasNext ? rows.subList(0, pageSize) : rows;
+        return CursorPageDto.<TransactionDto>builder()
+                .content(content)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private List<TransactionDto> findUserTransactions(Long userId, Long after, Pageable pageable) {
+        if (after == null) {
+            return transactionRepository.findFirstUserTransactions(userId, pageable);
+        }
+        return transactionRepository.findUserTransactionsAfter(userId, after,
+                findUserCursorGeneratedAt(after, userId), pageable);
+    }
+
+    private List<TransactionDto> findTransactions(Long after, Pageable pageable) {
+        if (after == null) {
+            return transactionRepository.findFirstTransactions(pageable);
+        }
+        return transactionRepository.findTransactionsAfter(after, findCursorGeneratedAt(after), pageable);
+    }
+
+    private LocalDateTime findUserCursorGeneratedAt(Long after, Long userId) {
+        return transactionRepository.findGeneratedAtByIdAndUserId(after, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid transactions cursor"));
+    }
+
+    private LocalDateTime findCursorGeneratedAt(Long after) {
+        return transactionRepository.findGeneratedAtById(after)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid transactions cursor"));
+    }
+
     private Rental findRentalById(Long billId) {
         return rentalRepository.findById(billId)
                 .orElseThrow(() -> new EntityNotFoundException("Bill not found with id: " + billId));
@@ -114,28 +167,18 @@ public class InvoiceService {
         }
     }
 
-    private byte[] generatePdfForBill(Rental rental, BillType billType) {
-        BillPdfStrategy strategy = strategyFactory.getStrategy(billType);
-        return strategy.generatePdf(rental);
-    }
-
-    private ResponseEntity<byte[]> createPdfResponse(byte[] pdfBytes,
-            Rental rental, BillType billType) {
-        String filename = generateFilename(rental, billType);
+    private ResponseEntity<Resource> createPdfResponse(Path pdfPath,
+            Rental rental, BillType billType) throws IOException {
+        String filename = invoicePdfStore.getFilename(rental.getId(), billType);
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_PDF);
         headers.setContentDispositionFormData("attachment", filename);
-        headers.setContentLength(pdfBytes.length);
+        headers.setContentLength(Files.size(pdfPath));
         userContextLogger.logUserOperation("BILL_GENERATED",
-                "Generated " + billType + " PDF for rental: " + rental.getId());
+                "Served " + billType + " PDF for rental: " + rental.getId());
         return ResponseEntity.status(HttpStatus.OK)
                 .headers(headers)
-                .body(pdfBytes);
-    }
-
-    private String generateFilename(Rental rental, BillType billType) {
-        String typePrefix = billType == BillType.INVOICE ? "faktura" : "paragon";
-        return String.format("%s_%d.pdf", typePrefix, rental.getId());
+                .body(new FileSystemResource(pdfPath));
     }
 
     private Long extractUserIdFromRequest(HttpServletRequest request) {
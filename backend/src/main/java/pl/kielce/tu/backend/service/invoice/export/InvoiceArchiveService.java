@@ -0,0 +1,183 @@
+package pl.kielce.tu.backend.service.invoice.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import pl.kielce.tu.backend.model.constant.BillType;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.repository.TransactionRepository;
+import pl.kielce.tu.backend.service.invoice.storage.InvoicePdfStore;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class InvoiceArchiveService {
+
+    private static final String ERRORS_ENTRY = "errors.txt";
+    private static final DateTimeFormatter FILENAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final int window;
+    private final long maxRangeDays;
+    private final InvoicePdfStore invoicePdfStore;
+    private final UserContextLogger userContextLogger;
+    private final TransactionRepository transactionRepository;
+    private final ExecutorService renderExecutor;
+
+    public InvoiceArchiveService(
+            @Value("${invoice.export.threads:4}") int threads,
+            @Value("${invoice.export.window:8}") int window,
+            @Value("${invoice.export.max-range-days:366}") long maxRangeDays,
+            InvoicePdfStore invoicePdfStore,
+            UserContextLogger userContextLogger,
+            TransactionRepository transactionRepository) {
+        this.window = Math.max(1, window);
+        this.maxRangeDays = maxRangeDays;
+        this.invoicePdfStore = invoicePdfStore;
+        this.userContextLogger = userContextLogger;
+        this.transactionRepository = transactionRepository;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.renderExecutor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "invoice-export-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ResponseEntity<StreamingResponseBody> handleExportArchive(LocalDateTime from, LocalDateTime to,
+            BillType billType) {
+        try {
+            validateRange(from, to);
+            BillType resolvedType = billType != null ? billType : BillType.INVOICE;
+            List<Long> rentalIds = transactionRepository.findCompletedIdsGeneratedBetween(from, to);
+            userContextLogger.logUserOperation("BILL_ARCHIVE_EXPORT",
+                    String.format("Range: %s - %s, Type: %s, Bills: %d", from, to, resolvedType, rentalIds.size()));
+            return ResponseEntity.status(HttpStatus.OK)
+                    .headers(createHeaders(from, to, resolvedType))
+                    .body(outputStream -> writeArchive(rentalIds, resolvedType, outputStream));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("BILL_ARCHIVE_EXPORT", "Error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    public void writeArchive(List<Long> rentalIds, BillType billType, OutputStream outputStream)
+            throws IOException {
+        List<Long> failedIds = new ArrayList<>();
+        Deque<PendingBill> inFlight = new ArrayDeque<>(window);
+        Iterator<Long> remaining = rentalIds.iterator();
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        try {
+            fillWindow(inFlight, remaining, billType);
+            while (!inFlight.isEmpty()) {
+                PendingBill pending = inFlight.poll();
+                writeEntry(zip, pending, billType, failedIds);
+                fillWindow(inFlight, remaining, billType);
+            }
+            writeErrors(zip, failedIds);
+            zip.finish();
+            zip.flush();
+        } finally {
+            inFlight.forEach(pending -> pending.path().cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderExecutor.shutdownNow();
+    }
+
+    private void fillWindow(Deque<PendingBill> inFlight, Iterator<Long> remaining, BillType billType) {
+        while (inFlight.size() < window && remaining.hasNext()) {
+            Long rentalId = remaining.next();
+            inFlight.add(new PendingBill(rentalId,
+                    CompletableFuture.supplyAsync(() -> renderBill(rentalId, billType), renderExecutor)));
+        }
+    }
+
+    private Path renderBill(Long rentalId, BillType billType) {
+        Rental rental = transactionRepository.findByIdWithTransaction(rentalId)
+                .orElseThrow(() -> new EntityNotFoundException("Bill not found with id: " + rentalId));
+        return invoicePdfStore.getOrRender(rental, billType);
+    }
+
+    private void writeEntry(ZipOutputStream zip, PendingBill pending, BillType billType, List<Long> failedIds)
+            throws IOException {
+        Path pdfPath;
+        try {
+            pdfPath = pending.path().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Archive export interrupted", e);
+        } catch (ExecutionException e) {
+            userContextLogger.logUserOperation("BILL_ARCHIVE_EXPORT",
+                    "Skipped rental: " + pending.rentalId() + ", Error: " + e.getCause().getMessage());
+            failedIds.add(pending.rentalId());
+            return;
+        }
+        zip.putNextEntry(new ZipEntry(invoicePdfStore.getFilename(pending.rentalId(), billType)));
+        Files.copy(pdfPath, zip);
+        zip.closeEntry();
+    }
+
+    private void writeErrors(ZipOutputStream zip, List<Long> failedIds) throws IOException {
+        if (failedIds.isEmpty()) {
+            return;
+        }
+        zip.putNextEntry(new ZipEntry(ERRORS_ENTRY));
+        StringBuilder errors = new StringBuilder("Bills that could not be rendered (rental IDs):\n");
+        failedIds.forEach(id -> errors.append(id).append('\n'));
+        zip.write(errors.toString().getBytes(StandardCharsets.UTF_8));
+        zip.closeEntry();
+    }
+
+    private void validateRange(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Both from and to are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("Range start must be before its end");
+        }
+        if (Duration.between(from, to).toDays() > maxRangeDays) {
+            throw new IllegalArgumentException("Range must not exceed " + maxRangeDays + " days");
+        }
+    }
+
+    private HttpHeaders createHeaders(LocalDateTime from, LocalDateTime to, BillType billType) {
+        String typePrefix = billType == BillType.INVOICE ? "faktury" : "paragony";
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/zip"));
+        headers.setContentDispositionFormData("attachment", String.format("%s_%s_%s.zip", typePrefix,
+                from.format(FILENAME_FORMATTER), to.format(FILENAME_FORMATTER)));
+        return headers;
+    }
+
+}
@@ -0,0 +1,7 @@
+package pl.kielce.tu.backend.service.invoice.export;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+record PendingBill(Long rentalId, CompletableFuture<Path> path) {
+}
@@ -0,0 +1,132 @@
+package pl.kielce.tu.backend.service.invoice.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import pl.kielce.tu.backend.model.dto.TransactionDto;
+import pl.kielce.tu.backend.repository.TransactionRepository;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class TransactionLedgerExportService {
+
+    private static final String HEADER = "id,invoiceId,dvdTitle,rentalPeriodDays,pricePerDay,lateFee,totalAmount,generatedAt,billType,rentalId";
+    private static final DateTimeFormatter FILENAME_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final int batchSize;
+    private final UserContextLogger userContextLogger;
+    private final TransactionRepository transactionRepository;
+
+    public TransactionLedgerExportService(
+            @Value("${invoice.ledger.batch-size:500}") int batchSize,
+            UserContextLogger userContextLogger,
+            TransactionRepository transactionRepository) {
+        this.batchSize = Math.max(1, batchSize);
+        this.userContextLogger = userContextLogger;
+        this.transactionRepository = transactionRepository;
+    }
+
+    public ResponseEntity<StreamingResponseBody> handleExportLedger() {
+        try {
+            userContextLogger.logUserOperation("TRANSACTIONS_LEDGER_EXPORT", "Batch size: " + batchSize);
+            return ResponseEntity.status(HttpStatus.OK)
+                    .headers(createHeaders())
+                    .body(this::writeLedger);
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("TRANSACTIONS_LEDGER_EXPORT", "Error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    public void writeLedger(OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write('\n');
+        Long afterId = null;
+        LocalDateTime afterGeneratedAt = null;
+        List<TransactionDto> batch;
+        do {
+            batch = afterId == null
+                    ? transactionRepository.findFirstTransactions(PageRequest.of(0, batchSize))
+                    : transactionRepository.findTransactionsAfter(afterId, afterGeneratedAt,
+                            PageRequest.of(0, batchSize));
+            for (TransactionDto transaction : batch) {
+                writeRow(writer, transaction);
+            }
+            if (!batch.isEmpty()) {
+                TransactionDto last = batch.get(batch.size() - 1);
+                afterId = last.getId();
+                afterGeneratedAt = last.getGeneratedAt();
+            }
+            writer.flush();
+        } while (batch.size() == batchSize);
+    }
+
+    private void writeRow(Writer writer, TransactionDto transaction) throws IOException {
+        writer.write(String.valueOf(transaction.getId()));
+        writer.write(',');
+        writer.write(escape(transaction.getInvoiceId()));
+        writer.write(',');
+        writer.write(escape(transaction.getDvdTitle()));
+        writer.write(',');
+        writer.write(formatValue(transaction.getRentalPeriodDays()));
+        writer.write(',');
+        writer.write(formatAmount(transaction.getPricePerDay()));
+        writer.write(',');
+        writer.write(formatAmount(transaction.getLateFee()));
+        writer.write(',');
+        writer.write(formatAmount(transaction.getTotalAmount()));
+        writer.write(',');
+        writer.write(formatValue(transaction.getGeneratedAt()));
+        writer.write(',');
+        writer.write(formatValue(transaction.getBillType()));
+        writer.write(',');
+        writer.write(formatValue(transaction.getRentalId()));
+        writer.write('\n');
+    }
+
+    private String formatAmount(BigDecimal amount) {
+        return amount != null ? amount.toPlainString() : "";
+    }
+
+    private String formatValue(Object value) {
+        return value != null ? value.toString() : "";
+    }
+
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private HttpHeaders createHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(new MediaType("text", "csv", StandardCharsets.UTF_8));
+        headers.setContentDispositionFormData("attachment",
+                "transakcje_" + LocalDateTime.now().format(FILENAME_FORMATTER) + ".csv");
+        return headers;
+    }
+
+}
@@ -0,0 +1,73 @@
+package pl.kielce.tu.backend.service.invoice.numbering;
+
+import java.time.LocalDate;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class InvoiceNumberAllocator {
+
+    private static final String INVOICE_NUMBER_FORMAT = "INV-%d-%06d";
+
+    private final int blockSize;
+    private final InvoiceSequenceStore sequenceStore;
+    private final UserContextLogger userContextLogger;
+    private final ReentrantLock lock = new ReentrantLock();
+    private int blockYear;
+    private long nextNumber;
+    private long blockEnd;
+
+    public InvoiceNumberAllocator(
+            @Value("${invoice.number.block-size:20}") int blockSize,
+            InvoiceSequenceStore sequenceStore,
+            UserContextLogger userContextLogger) {
+        if (blockSize <= 0) {
+            throw new IllegalArgumentException("Invoice number block size must be positive");
+        }
+        this.blockSize = blockSize;
+        this.sequenceStore = sequenceStore;
+        this.userContextLogger = userContextLogger;
+    }
+
+    public String nextInvoiceNumber() {
+        return nextInvoiceNumber(LocalDate.now().getYear());
+    }
+
+    public String nextInvoiceNumber(int year) {
+        lock.lock();
+        try {
+            if (year != blockYear || nextNumber >= blockEnd) {
+                reserveBlock(year);
+            }
+            return String.format(INVOICE_NUMBER_FORMAT, year, nextNumber++);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reserveBlock(int year) {
+        long blockStart = sequenceStore.reserveBlock(year, blockSize)
+                .orElseGet(() -> createAndReserve(year));
+        blockYear = year;
+        nextNumber = blockStart;
+        blockEnd = blockStart + blockSize;
+        userContextLogger.logUserOperation("INVOICE_NUMBER_BLOCK_RESERVED",
+                String.format("Year: %d, Range: %d - %d", year, blockStart, blockEnd - 1));
+    }
+
+    private long createAndReserve(int year) {
+        try {
+            sequenceStore.createSequence(year);
+        } catch (DataIntegrityViolationException e) {
+            userContextLogger.logUserOperation("INVOICE_SEQUENCE_RACE", "Year: " + year);
+        }
+        return sequenceStore.reserveBlock(year, blockSize)
+                .orElseThrow(() -> new IllegalStateException("Invoice sequence missing for year " + year));
+    }
+
+}
@@ -0,0 +1,40 @@
+package pl.kielce.tu.backend.service.invoice.numbering;
+
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.entity.InvoiceSequence;
+import pl.kielce.tu.backend.repository.InvoiceSequenceRepository;
+
+@Component
+@RequiredArgsConstructor
+public class InvoiceSequenceStore {
+
+    private static final long FIRST_NUMBER = 1L;
+
+    private final InvoiceSequenceRepository invoiceSequenceRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<Long> reserveBlock(int year, int blockSize) {
+        if (invoiceSequenceRepository.advance(year, blockSize) == 0) {
+            return Optional.empty();
+        }
+        return invoiceSequenceRepository.findNextValue(year).map(nextValue -> nextValue - blockSize);
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createSequence(int year) {
+        if (invoiceSequenceRepository.existsById(year)) {
+            return;
+        }
+        invoiceSequenceRepository.saveAndFlush(InvoiceSequence.builder()
+                .year(year)
+                .nextValue(FIRST_NUMBER)
+                .build());
+    }
+
+}
@@ -0,0 +1,11 @@
+package pl.kielce.tu.backend.service.invoice.pdf;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+
+@FunctionalInterface
+public interface BillPdfContent {
+
+    void write(Document document) throws DocumentException;
+
+}
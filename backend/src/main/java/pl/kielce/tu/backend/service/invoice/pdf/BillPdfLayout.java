@@ -0,0 +1,153 @@
+package pl.kielce.tu.backend.service.invoice.pdf;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.itextpdf.text.Document;
+import com.itextpdf.text.DocumentException;
+import com.itextpdf.text.Element;
+import com.itextpdf.text.Font;
+import com.itextpdf.text.Paragraph;
+import com.itextpdf.text.Phrase;
+import com.itextpdf.text.pdf.PdfPCell;
+import com.itextpdf.text.pdf.PdfPTable;
+import com.itextpdf.text.pdf.PdfWriter;
+
+import pl.kielce.tu.backend.model.Money;
+
+@Component
+public class BillPdfLayout {
+
+    private static final String CURRENCY_SUFFIX = " PLN";
+    private static final DateTimeFormatter INVOICE_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    private static final DateTimeFormatter RECEIPT_DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+
+    private final Font bodyFont = new Font(Font.FontFamily.HELVETICA, 10, Font.NORMAL);
+    private final Font smallFont = new Font(Font.FontFamily.HELVETICA, 8, Font.NORMAL);
+    private final Font labelFont = new Font(Font.FontFamily.HELVETICA, 10, Font.BOLD);
+    private final Font sectionFont = new Font(Font.FontFamily.HELVETICA, 12, Font.BOLD);
+    private final Font invoiceTotalFont = new Font(Font.FontFamily.HELVETICA, 14, Font.BOLD);
+    private final Font receiptTitleFont = new Font(Font.FontFamily.HELVETICA, 16, Font.BOLD);
+    private final Font invoiceTitleFont = new Font(Font.FontFamily.HELVETICA, 18, Font.BOLD);
+
+    private final Paragraph blankLine = new Paragraph(" ");
+    private final List<Element> invoiceHeader = List.of(
+            aligned("FAKTURA", invoiceTitleFont, Element.ALIGN_CENTER), blankLine);
+    private final List<Element> invoiceSeller = List.of(
+            new Paragraph("Sprzedawca:", sectionFont),
+            new Paragraph("CineRent Sp. z o.o.", bodyFont),
+            new Paragraph("ul. Choroszczanska 10", bodyFont),
+            new Paragraph("15-950 Bialystok", bodyFont),
+            new Paragraph("NIP: 123-456-78-90", bodyFont),
+            blankLine);
+    private final List<Element> invoiceFooter = List.of(
+            aligned("Dziekujemy za skorzystanie z uslug CineRent!", bodyFont, Element.ALIGN_CENTER));
+    private final List<PdfPCell> invoiceTableHeader = List.of(
+            cell("Opis", labelFont), cell("Ilosc", labelFont), cell("Cena jedn.", labelFont),
+            cell("Wartosc", labelFont));
+    private final List<Element> receiptHeader = List.of(
+            aligned("PARAGON FISKALNY", receiptTitleFont, Element.ALIGN_CENTER), blankLine);
+    private final List<Element> receiptCompany = List.of(
+            aligned("CineRent Sp. z o.o.", sectionFont, Element.ALIGN_CENTER),
+            aligned("ul. Choroszczanska 10", bodyFont, Element.ALIGN_CENTER),
+            aligned("15-950 Bialystok", bodyFont, Element.ALIGN_CENTER),
+            aligned("NIP: 123-456-78-90", bodyFont, Element.ALIGN_CENTER),
+            blankLine);
+    private final List<Element> receiptFooter = List.of(
+            aligned("Dziekujemy za zakup!", bodyFont, Element.ALIGN_CENTER),
+            aligned("CineRent - Twoje ulubione filmy na DVD", smallFont, Element.ALIGN_CENTER));
+
+    public void write(OutputStream outputStream, BillPdfContent content) throws DocumentException {
+        Document document = new Document();
+        PdfWriter writer = PdfWriter.getInstance(document, outputStream);
+        writer.setCloseStream(false);
+        document.open();
+        content.write(document);
+        document.close();
+    }
+
+    public void addInvoiceHeader(Document document) throws DocumentException {
+        addAll(document, invoiceHeader);
+    }
+
+    public void addInvoiceSeller(Document document) throws DocumentException {
+        addAll(document, invoiceSeller);
+    }
+
+    public void addInvoiceFooter(Document document) throws DocumentException {
+        addAll(document, invoiceFooter);
+    }
+
+    public void addInvoiceTableHeader(PdfPTable table) {
+        invoiceTableHeader.forEach(table::addCell);
+    }
+
+    public void addReceiptHeader(Document document) throws DocumentException {
+        addAll(document, receiptHeader);
+    }
+
+    public void addReceiptCompany(Document document) throws DocumentException {
+        addAll(document, receiptCompany);
+    }
+
+    public void addReceiptFooter(Document document) throws DocumentException {
+        addAll(document, receiptFooter);
+    }
+
+    public void addBlankLine(Document document) throws DocumentException {
+        document.add(blankLine);
+    }
+
+    public void addSectionLine(Document document, String text) throws DocumentException {
+        document.add(new Paragraph(text, sectionFont));
+    }
+
+    public void addBodyLine(Document document, String text) throws DocumentException {
+        document.add(new Paragraph(text, bodyFont));
+    }
+
+    public void addInvoiceTotal(Document document, String text) throws DocumentException {
+        document.add(aligned(text, invoiceTotalFont, Element.ALIGN_RIGHT));
+    }
+
+    public void addReceiptTotal(Document document, String text) throws DocumentException {
+        document.add(aligned(text, sectionFont, Element.ALIGN_RIGHT));
+    }
+
+    public void addBodyCell(PdfPTable table, String text) {
+        table.addCell(cell(text, bodyFont));
+    }
+
+    public String formatAmount(Money amount) {
+        return amount + CURRENCY_SUFFIX;
+    }
+
+    public String formatInvoiceDate(LocalDateTime dateTime) {
+        return dateTime.format(INVOICE_DATE_FORMATTER);
+    }
+
+    public String formatReceiptDate(LocalDateTime dateTime) {
+        return dateTime.format(RECEIPT_DATE_FORMATTER);
+    }
+
+    private void addAll(Document document, List<? extends Element> elements) throws DocumentException {
+        for (Element element : elements) {
+            document.add(element);
+        }
+    }
+
+    private static Paragraph aligned(String text, Font font, int alignment) {
+        Paragraph paragraph = new Paragraph(text, font);
+        paragraph.setAlignment(alignment);
+        return paragraph;
+    }
+
+    private static PdfPCell cell(String text, Font font) {
+        return new PdfPCell(new Phrase(text, font));
+    }
+
+}
@@ -0,0 +1,61 @@
+package pl.kielce.tu.backend.service.invoice.render;
+
+import static pl.kielce.tu.backend.util.TransactionCallbacks.afterCommit;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class InvoicePdfRenderService {
+
+    private final InvoicePdfRenderer renderer;
+    private final UserContextLogger userContextLogger;
+    private final ExecutorService executor;
+
+    public InvoicePdfRenderService(
+            @Value("${invoice.pdf.render-threads:2}") int renderThreads,
+            InvoicePdfRenderer renderer,
+            UserContextLogger userContextLogger) {
+        this.renderer = renderer;
+        this.userContextLogger = userContextLogger;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(renderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "invoice-pdf-render-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void scheduleRender(Rental rental) {
+        Long rentalId = rental.getId();
+        if (rentalId == null) {
+            return;
+        }
+        afterCommit(() -> executor.execute(() -> render(rentalId)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void render(Long rentalId) {
+        try {
+            if (renderer.render(rentalId)) {
+                userContextLogger.logUserOperation("BILL_PRERENDERED", "Rental ID: " + rentalId);
+            }
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("BILL_PRERENDER_ERROR",
+                    "Rental ID: " + rentalId + ", Error: " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package pl.kielce.tu.backend.service.invoice.render;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.constant.BillType;
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.model.entity.Transaction;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.invoice.storage.InvoicePdfStore;
+
+@Component
+@RequiredArgsConstructor
+public class InvoicePdfRenderer {
+
+    private final InvoicePdfStore invoicePdfStore;
+    private final RentalRepository rentalRepository;
+
+    @Transactional
+    public boolean render(Long rentalId) {
+        Rental rental = rentalRepository.findById(rentalId).orElse(null);
+        if (rental == null || rental.getTransaction() == null || rental.getStatus() != RentalStatus.INACTIVE) {
+            return false;
+        }
+        for (BillType billType : BillType.values()) {
+            invoicePdfStore.render(rental, billType);
+        }
+        Transaction transaction = rental.getTransaction();
+        transaction.setPdfUrl(invoicePdfStore.getStorageKey(rentalId, transaction.getBillType()));
+        rentalRepository.save(rental);
+        return true;
+    }
+
+}
@@ -0,0 +1,100 @@
+package pl.kielce.tu.backend.service.invoice.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import pl.kielce.tu.backend.model.constant.BillType;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.service.invoice.factory.BillPdfStrategyFactory;
+import pl.kielce.tu.backend.service.invoice.strategy.BillPdfStrategy;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Component
+public class InvoicePdfStore {
+
+    private static final int WRITE_BUFFER_SIZE = 16 * 1024;
+
+    private final Path invoiceDirectory;
+    private final UserContextLogger userContextLogger;
+    private final BillPdfStrategyFactory strategyFactory;
+
+    public InvoicePdfStore(
+            @Value("${media.invoice.dir:/app/uploads/invoices}") String invoiceDirectory,
+            UserContextLogger userContextLogger,
+            BillPdfStrategyFactory strategyFactory) {
+        this.invoiceDirectory = Paths.get(invoiceDirectory).toAbsolutePath().normalize();
+        this.userContextLogger = userContextLogger;
+        this.strategyFactory = strategyFactory;
+    }
+
+    @PostConstruct
+    public void initializeDirectory() {
+        try {
+            Files.createDirectories(invoiceDirectory);
+            userContextLogger.logUserOperation("INIT", "Created invoice directory: " + invoiceDirectory);
+        } catch (IOException e) {
+            userContextLogger.logUserOperation("INIT", "Failed to create invoice directory: " + e.getMessage());
+            throw new RuntimeException("Failed to initialize invoice directory", e);
+        }
+    }
+
+    public Path getOrRender(Rental rental, BillType billType) {
+        Path filePath = resolve(rental.getId(), billType);
+        if (Files.isReadable(filePath)) {
+            return filePath;
+        }
+        return render(rental, billType);
+    }
+
+    public Path render(Rental rental, BillType billType) {
+        Path filePath = resolve(rental.getId(), billType);
+        BillPdfStrategy strategy = strategyFactory.getStrategy(billType);
+        try {
+            write(filePath, outputStream -> strategy.writePdf(rental, outputStream));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store " + billType + " PDF for rental: " + rental.getId(), e);
+        }
+        userContextLogger.logUserOperation("BILL_STORED",
+                "Stored " + billType + " PDF for rental: " + rental.getId());
+        return filePath;
+    }
+
+    public String getStorageKey(Long rentalId, BillType billType) {
+        return rentalId + "/" + getFilename(rentalId, billType);
+    }
+
+    public String getFilename(Long rentalId, BillType billType) {
+        String typePrefix = billType == BillType.INVOICE ? "faktura" : "paragon";
+        return String.format("%s_%d.pdf", typePrefix, rentalId);
+    }
+
+    private Path resolve(Long rentalId, BillType billType) {
+        return invoiceDirectory.resolve(getStorageKey(rentalId, billType)).normalize();
+    }
+
+    private void write(Path filePath, Consumer<OutputStream> renderer) throws IOException {
+        Files.createDirectories(filePath.getParent());
+        Path tempFile = Files.createTempFile(filePath.getParent(), filePath.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(tempFile),
+                    WRITE_BUFFER_SIZE)) {
+                renderer.accept(outputStream);
+            }
+            Files.move(tempFile, filePath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+}
@@ -1,11 +1,20 @@
 package pl.kielce.tu.backend.service.invoice.strategy;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.entity.Rental;
 
 public interface BillPdfStrategy {
 
-    byte[] generatePdf(Rental rental);
+    void writePdf(Rental rental, OutputStream outputStream);
 
     BillType getSupportedBillType();
+
+    default byte[] generatePdf(Rental rental) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        writePdf(rental, outputStream);
+        return outputStream.toByteArray();
+    }
 }
@@ -1,37 +1,34 @@
 package pl.kielce.tu.backend.service.invoice.strategy;
 
-import java.io.ByteArrayOutputStream;
-import java.math.BigDecimal;
-import java.time.format.DateTimeFormatter;
+import java.io.OutputStream;
 
 import org.springframework.stereotype.Component;
 
 import com.itextpdf.text.Document;
 import com.itextpdf.text.DocumentException;
-import com.itextpdf.text.Element;
-import com.itextpdf.text.Font;
-import com.itextpdf.text.Paragraph;
-import com.itextpdf.text.Phrase;
-import com.itextpdf.text.pdf.PdfPCell;
 import com.itextpdf.text.pdf.PdfPTable;
-import com.itextpdf.text.pdf.PdfWriter;
 
 import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.Money;
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.model.entity.Transaction;
+import pl.kielce.tu.backend.service.invoice.pdf.BillPdfLayout;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @Component
 @RequiredArgsConstructor
 public class ReceiptPdfStrategy implements BillPdfStrategy {
 
+    private static final float[] SERVICE_TABLE_WIDTHS = { 4, 1 };
+
+    private final BillPdfLayout layout;
     private final UserContextLogger userContextLogger;
 
     @Override
-    public byte[] generatePdf(Rental rental) {
+    public void writePdf(Rental rental, OutputStream outputStream) {
         try {
-            return createReceiptPdf(rental);
+            layout.write(outputStream, document -> addReceiptContent(document, rental));
         } catch (Exception e) {
             userContextLogger.logUserOperation("RECEIPT_PDF_GENERATION_ERROR",
                     "Failed to generate receipt PDF for rental: " + rental.getId());
@@ -44,99 +41,43 @@ public class ReceiptPdfStrategy implements BillPdfStrategy {
         return BillType.RECEIPT;
     }
 
-    private byte[] createReceiptPdf(Rental rental) {
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-        Document document = new Document();
-        try {
-            PdfWriter.getInstance(document, outputStream);
-            document.open();
-            addReceiptContent(document, rental);
-            document.close();
-        } catch (DocumentException e) {
-            throw new RuntimeException("Failed to create PDF document", e);
-        }
-        return outputStream.toByteArray();
-    }
-
     private void addReceiptContent(Document document, Rental rental) throws DocumentException {
         Transaction transaction = rental.getTransaction();
-        addReceiptHeader(document);
-        addCompanyInfo(document);
+        layout.addReceiptHeader(document);
+        layout.addReceiptCompany(document);
         addReceiptDetails(document, transaction);
-        addServiceTable(document, rental, transaction);
+        addServiceTable(document, transaction);
         addTotalSection(document, transaction);
-        addReceiptFooter(document);
-    }
-
-    private void addReceiptHeader(Document document) throws DocumentException {
-        Font headerFont = new Font(Font.FontFamily.HELVETICA, 16, Font.BOLD);
-        Paragraph header = new Paragraph("PARAGON FISKALNY", headerFont);
-        header.setAlignment(Element.ALIGN_CENTER);
-        document.add(header);
-        document.add(new Paragraph(" "));
-    }
-
-    private void addCompanyInfo(Document document) throws DocumentException {
-        Font boldFont = new Font(Font.FontFamily.HELVETICA, 12, Font.BOLD);
-        Font normalFont = new Font(Font.FontFamily.HELVETICA, 10, Font.NORMAL);
-        Paragraph company = new Paragraph("CineRent Sp. z o.o.", boldFont);
-        company.setAlignment(Element.ALIGN_CENTER);
-        document.add(company);
-        addCenteredParagraph(document, "ul. Choroszczanska 10", normalFont);
-        addCenteredParagraph(document, "15-950 Bialystok", normalFont);
-        addCenteredParagraph(document, "NIP: 123-456-78-90", normalFont);
-        document.add(new Paragraph(" "));
+        layout.addReceiptFooter(document);
     }
 
     private void addReceiptDetails(Document document, Transaction transaction) throws DocumentException {
-        Font normalFont = new Font(Font.FontFamily.HELVETICA, 10, Font.NORMAL);
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
-        document.add(new Paragraph("Data i godzina: " +
-                transaction.getGeneratedAt().format(formatter), normalFont));
-        document.add(new Paragraph("Paragon nr: " + transaction.getInvoiceId(), normalFont));
-        document.add(new Paragraph(" "));
+        layout.addBodyLine(document, "Data i godzina: " + layout.formatReceiptDate(transaction.getGeneratedAt()));
+        layout.addBodyLine(document, "Paragon nr: " + transaction.getInvoiceId());
+        layout.addBlankLine(document);
     }
 
-    private void addServiceTable(Document document, Rental rental, Transaction transaction) throws DocumentException {
-        Font normalFont = new Font(Font.FontFamily.HELVETICA, 10, Font.NORMAL);
-        PdfPTable table = new PdfPTable(2);
+    private void addServiceTable(Document document, Transaction transaction) throws DocumentException {
+        PdfPTable table = new PdfPTable(SERVICE_TABLE_WIDTHS.length);
         table.setWidthPercentage(100);
-        table.setWidths(new float[] { 4, 1 });
-        BigDecimal rentalAmount = calculateRentalAmount(transaction);
-        table.addCell(new PdfPCell(new Phrase("Usluga wypozyczenia plyty DVD", normalFont)));
-        table.addCell(new PdfPCell(new Phrase(String.format("%.2f PLN", rentalAmount), normalFont)));
-        if (transaction.getLateFee().compareTo(BigDecimal.ZERO) > 0) {
-            table.addCell(new PdfPCell(new Phrase("Doplata za przetrzymanie", normalFont)));
-            table.addCell(new PdfPCell(new Phrase(String.format("%.2f PLN", transaction.getLateFee()), normalFont)));
+        table.setWidths(SERVICE_TABLE_WIDTHS);
+        layout.addBodyCell(table, "Usluga wypozyczenia plyty DVD");
+        layout.addBodyCell(table, layout.formatAmount(calculateRentalAmount(transaction)));
+        if (Money.of(transaction.getLateFee()).isPositive()) {
+            layout.addBodyCell(table, "Doplata za przetrzymanie");
+            layout.addBodyCell(table, layout.formatAmount(Money.of(transaction.getLateFee())));
         }
         document.add(table);
-        document.add(new Paragraph(" "));
+        layout.addBlankLine(document);
     }
 
     private void addTotalSection(Document document, Transaction transaction) throws DocumentException {
-        Font boldFont = new Font(Font.FontFamily.HELVETICA, 12, Font.BOLD);
-        Paragraph total = new Paragraph("DO ZAPLATY: " +
-                String.format("%.2f PLN", transaction.getTotalAmount()), boldFont);
-        total.setAlignment(Element.ALIGN_RIGHT);
-        document.add(total);
-        document.add(new Paragraph(" "));
-    }
-
-    private void addReceiptFooter(Document document) throws DocumentException {
-        Font normalFont = new Font(Font.FontFamily.HELVETICA, 10, Font.NORMAL);
-        Font smallFont = new Font(Font.FontFamily.HELVETICA, 8, Font.NORMAL);
-        addCenteredParagraph(document, "Dziekujemy za zakup!", normalFont);
-        addCenteredParagraph(document, "CineRent - Twoje ulubione filmy na DVD", smallFont);
-    }
-
-    private void addCenteredParagraph(Document document, String text, Font font) throws DocumentException {
-        Paragraph paragraph = new Paragraph(text, font);
-        paragraph.setAlignment(Element.ALIGN_CENTER);
-        document.add(paragraph);
+        layout.addReceiptTotal(document, "DO ZAPLATY: " + layout.formatAmount(Money.of(transaction.getTotalAmount())));
+        layout.addBlankLine(document);
     }
 
-    private BigDecimal calculateRentalAmount(Transaction transaction) {
-        return transaction.getTotalAmount().subtract(transaction.getLateFee());
+    private Money calculateRentalAmount(Transaction transaction) {
+        return Money.of(transaction.getTotalAmount()).minus(Money.of(transaction.getLateFee()));
     }
 
 }
@@ -0,0 +1,250 @@
+package pl.kielce.tu.backend.service.queue;
+
+import static pl.kielce.tu.backend.util.TransactionCallbacks.afterCommit;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import jakarta.annotation.PreDestroy;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
+import pl.kielce.tu.backend.model.dto.AdminQueueEventDto;
+import pl.kielce.tu.backend.model.entity.AdminQueueEvent;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class AdminQueueEventPublisher {
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMillis;
+    private final Duration retention;
+    private final AdminQueueEventStore eventStore;
+    private final UserContextLogger userContextLogger;
+    private final ExecutorService sender;
+    private final AtomicLong sequence = new AtomicLong();
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Set<Long> localEventIds = ConcurrentHashMap.newKeySet();
+    private volatile Long lastSeenEventId;
+
+    public AdminQueueEventPublisher(
+            @Value("${admin.queue.buffer-size:256}") int bufferSize,
+            @Value("${admin.queue.max-subscribers:50}") int maxSubscribers,
+            @Value("${admin.queue.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${admin.queue.sender-threads:2}") int senderThreads,
+            @Value("${admin.queue.retention-ms:600000}") long retentionMillis,
+            AdminQueueEventStore eventStore,
+            UserContextLogger userContextLogger) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.retention = Duration.ofMillis(retentionMillis);
+        this.eventStore = eventStore;
+        this.userContextLogger = userContextLogger;
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "admin-queue-sender-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ResponseEntity<SseEmitter> handleSubscribe() {
+        try {
+            if (subscribers.size() >= maxSubscribers) {
+                userContextLogger.logUserOperation("ADMIN_QUEUE_SUBSCRIBE", "Rejected - subscriber limit reached");
+                return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+            }
+            SseEmitter emitter = createEmitter(emitterTimeoutMillis);
+            Subscriber subscriber = new Subscriber(emitter);
+            emitter.onCompletion(() -> subscribers.remove(subscriber));
+            emitter.onTimeout(() -> subscribers.remove(subscriber));
+            emitter.onError(error -> subscribers.remove(subscriber));
+            subscribers.add(subscriber);
+            userContextLogger.logUserOperation("ADMIN_QUEUE_SUBSCRIBE", "Subscribers: " + subscribers.size());
+            return ResponseEntity.status(HttpStatus.OK).body(emitter);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    public void publish(AdminQueueEventType type, Long id) {
+        if (id == null) {
+            return;
+        }
+        publish(type, List.of(id));
+    }
+
+    public void publish(AdminQueueEventType type, List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<Long> affectedIds = List.copyOf(ids);
+        LocalDateTime occurredAt = LocalDateTime.now();
+        List<Long> eventIds = eventStore.append(type, affectedIds, occurredAt);
+        afterCommit(() -> {
+            localEventIds.addAll(eventIds);
+            broadcast(AdminQueueEventDto.builder()
+                    .type(type)
+                    .ids(affectedIds)
+                    .occurredAt(occurredAt)
+                    .build());
+        });
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @Scheduled(fixedDelayString = "${admin.queue.heartbeat-ms:15000}")
+    public void sendHeartbeat() {
+        subscribers.forEach(Subscriber::requestHeartbeat);
+    }
+
+    @Scheduled(fixedDelayString = "${admin.queue.poll-ms:1000}")
+    public void pollCommittedEvents() {
+        if (subscribers.isEmpty()) {
+            lastSeenEventId = null;
+            localEventIds.clear();
+            return;
+        }
+        try {
+            if (lastSeenEventId == null) {
+                lastSeenEventId = eventStore.findLatestId();
+                return;
+            }
+            long cursor = lastSeenEventId;
+            for (AdminQueueEvent event : eventStore.findAfter(cursor)) {
+                cursor = event.getId();
+                if (!localEventIds.remove(event.getId())) {
+                    broadcast(toDto(event));
+                }
+            }
+            long seen = cursor;
+            localEventIds.removeIf(eventId -> eventId <= seen);
+            lastSeenEventId = cursor;
+        } catch (DataAccessException e) {
+            userContextLogger.logUserOperation("ADMIN_QUEUE_POLL", "Failed - " + e.getMessage());
+        }
+    }
+
+    public int sweepExpired() {
+        int deleted = eventStore.deleteOccurredBefore(LocalDateTime.now().minus(retention));
+        userContextLogger.logUserOperation("ADMIN_QUEUE_SWEEP", "Deleted events: " + deleted);
+        return deleted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+    }
+
+    SseEmitter createEmitter(long timeoutMillis) {
+        return new SseEmitter(timeoutMillis);
+    }
+
+    private void broadcast(AdminQueueEventDto event) {
+        subscribers.forEach(subscriber -> subscriber.offer(event));
+    }
+
+    private AdminQueueEventDto toDto(AdminQueueEvent event) {
+        return AdminQueueEventDto.builder()
+                .type(event.getType())
+                .ids(Arrays.stream(event.getAffectedIds().split(",")).map(Long::valueOf).toList())
+                .occurredAt(event.getOccurredAt())
+                .build();
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<AdminQueueEventDto> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean overflowed = new AtomicBoolean();
+        private final AtomicBoolean heartbeatDue = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            this.pending = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        private void offer(AdminQueueEventDto event) {
+            if (!pending.offer(event)) {
+                overflowed.set(true);
+                pending.clear();
+            }
+            scheduleDrain();
+        }
+
+        private void requestHeartbeat() {
+            heartbeatDue.set(true);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                if (heartbeatDue.getAndSet(false)) {
+                    emitter.send(SseEmitter.event().comment("heartbeat"));
+                }
+                if (overflowed.getAndSet(false)) {
+                    send(AdminQueueEventDto.builder()
+                            .type(AdminQueueEventType.RESYNC)
+                            .ids(List.of())
+                            .occurredAt(LocalDateTime.now())
+                            .build());
+                }
+                AdminQueueEventDto event;
+                while ((event = pending.poll()) != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                pending.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!pending.isEmpty() || overflowed.get() || heartbeatDue.get()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(AdminQueueEventDto event) throws IOException {
+            emitter.send(SseEmitter.event()
+                    .id(String.valueOf(sequence.incrementAndGet()))
+                    .name(event.getType().name())
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package pl.kielce.tu.backend.service.queue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
+import pl.kielce.tu.backend.model.entity.AdminQueueEvent;
+import pl.kielce.tu.backend.repository.AdminQueueEventRepository;
+
+@Component
+@RequiredArgsConstructor
+public class AdminQueueEventStore {
+
+    private static final int MAX_IDS_PER_ROW = 200;
+
+    private final AdminQueueEventRepository eventRepository;
+
+    @Transactional
+    public List<Long> append(AdminQueueEventType type, List<Long> ids, LocalDateTime occurredAt) {
+        List<AdminQueueEvent> events = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += MAX_IDS_PER_ROW) {
+            List<Long> chunk = ids.subList(from, Math.min(from + MAX_IDS_PER_ROW, ids.size()));
+            events.add(AdminQueueEvent.builder()
+                    .type(type)
+                    .affectedIds(chunk.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                    .occurredAt(occurredAt)
+                    .build());
+        }
+        return eventRepository.saveAll(events).stream().map(AdminQueueEvent::getId).toList();
+    }
+
+    public long findLatestId() {
+        return eventRepository.findLatestId();
+    }
+
+    public List<AdminQueueEvent> findAfter(long lastSeenId) {
+        return eventRepository.findTop500ByIdGreaterThanOrderByIdAsc(lastSeenId);
+    }
+
+    @Transactional
+    public int deleteOccurredBefore(LocalDateTime cutoff) {
+        return eventRepository.deleteOccurredBefore(cutoff);
+    }
+
+}
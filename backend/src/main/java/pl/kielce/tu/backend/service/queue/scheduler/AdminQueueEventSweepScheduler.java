@@ -0,0 +1,28 @@
+package pl.kielce.tu.backend.service.queue.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+
+@Component
+@RequiredArgsConstructor
+@Tag(name = "Admin Queue Scheduler", description = "Automated admin queue maintenance tasks")
+public class AdminQueueEventSweepScheduler {
+
+    private static final String JOB_NAME = "admin-queue-event-sweep";
+
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final AdminQueueEventPublisher adminQueueEventPublisher;
+
+    @Scheduled(cron = "${admin.queue.sweep-cron:0 */5 * * * *}")
+    @Operation(summary = "Sweep admin queue events", description = "Deletes committed admin queue events that every node has already had the chance to poll")
+    public void sweepExpiredEvents() {
+        scheduledJobRunner.run(JOB_NAME, adminQueueEventPublisher::sweepExpired);
+    }
+
+}
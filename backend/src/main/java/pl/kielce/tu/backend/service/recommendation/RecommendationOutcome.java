@@ -0,0 +1,8 @@
+package pl.kielce.tu.backend.service.recommendation;
+
+import java.util.List;
+
+import pl.kielce.tu.backend.model.dto.DvdDto;
+
+public record RecommendationOutcome(List<DvdDto> recommendations, boolean complete) {
+}
@@ -0,0 +1,241 @@
+package pl.kielce.tu.backend.service.recommendation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import pl.kielce.tu.backend.mapper.RecommendationMapper;
+import pl.kielce.tu.backend.model.dto.DvdDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.service.recommendation.cohort.RecommendationCohortCache;
+import pl.kielce.tu.backend.service.recommendation.cohort.RecommendationCohortKey;
+import pl.kielce.tu.backend.service.recommendation.strategy.RecommendationStrategy;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Component
+public class RecommendationStrategyExecutor {
+
+    private static final int MAX_RECOMMENDATIONS = 20;
+
+    private final long timeoutMillis;
+    private final Semaphore connectionPermits;
+    private final ExecutorService executor;
+    private final UserContextLogger userContextLogger;
+    private final PlatformTransactionManager transactionManager;
+    private final List<RecommendationStrategy> strategies;
+    private final RecommendationMapper recommendationMapper;
+    private final RecommendationCohortCache cohortCache;
+    private final DvdRepository dvdRepository;
+
+    public RecommendationStrategyExecutor(
+            @Value("${recommendation.strategy.timeout-ms:800}") long timeoutMillis,
+            @Value("${recommendation.strategy.max-concurrent:0}") int maxConcurrentStrategies,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize,
+            UserContextLogger userContextLogger,
+            PlatformTransactionManager transactionManager,
+            List<RecommendationStrategy> strategies,
+            RecommendationMapper recommendationMapper,
+            RecommendationCohortCache cohortCache,
+            DvdRepository dvdRepository) {
+        this.timeoutMillis = Math.max(1, timeoutMillis);
+        this.connectionPermits = new Semaphore(resolvePermits(maxConcurrentStrategies, connectionPoolSize));
+        this.userContextLogger = userContextLogger;
+        this.transactionManager = transactionManager;
+        this.strategies = strategies;
+        this.recommendationMapper = recommendationMapper;
+        this.cohortCache = cohortCache;
+        this.dvdRepository = dvdRepository;
+        this.executor = new DelegatingSecurityContextExecutorService(Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("recommendation-strategy-", 1).factory()));
+    }
+
+    public RecommendationOutcome recommend(User user) {
+        return recommend(user, timeoutMillis);
+    }
+
+    public RecommendationOutcome recommend(User user, long timeoutMillis) {
+        Hibernate.initialize(user.getPreferredGenres());
+        RecommendationCohortKey cohortKey = RecommendationCohortKey.of(user);
+        List<DvdDto> cohortRecommendations = cohortCache.find(cohortKey).orElse(null);
+        if (cohortRecommendations != null) {
+            List<List<DvdDto>> layers = new ArrayList<>(executeStrategies(getPersonalStrategies(), user,
+                    timeoutMillis));
+            boolean complete = layers.stream().allMatch(Objects::nonNull);
+            layers.add(filterAvailable(cohortRecommendations));
+            return new RecommendationOutcome(mergeRecommendations(layers), complete);
+        }
+        long cohortGeneration = cohortCache.generation();
+        List<RecommendationStrategy> sortedStrategies = getSortedStrategies();
+        List<List<DvdDto>> results = executeStrategies(sortedStrategies, user, timeoutMillis);
+        List<List<DvdDto>> personalLayers = new ArrayList<>();
+        List<List<DvdDto>> cohortLayers = new ArrayList<>();
+        for (int i = 0; i < sortedStrategies.size(); i++) {
+            (sortedStrategies.get(i).isCohortShared() ? cohortLayers : personalLayers).add(results.get(i));
+        }
+        boolean complete = results.stream().allMatch(Objects::nonNull);
+        if (cohortLayers.stream().allMatch(Objects::nonNull)) {
+            cohortRecommendations = mergeRecommendations(cohortLayers);
+            cohortCache.store(cohortKey, cohortRecommendations, cohortGeneration);
+            personalLayers.add(cohortRecommendations);
+        } else {
+            personalLayers.addAll(cohortLayers);
+        }
+        return new RecommendationOutcome(mergeRecommendations(personalLayers), complete);
+    }
+
+    public List<List<DvdDto>> execute(User user) {
+        Hibernate.initialize(user.getPreferredGenres());
+        return executeStrategies(getSortedStrategies(), user, timeoutMillis).stream()
+                .map(recommendations -> recommendations != null ? recommendations : List.<DvdDto>of())
+                .toList();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // Request threads already hold a connection through open-in-view, so strategies get at most half of the
+    // pool by default and the other half stays free for every other endpoint.
+    static int resolvePermits(int maxConcurrentStrategies, int connectionPoolSize) {
+        if (maxConcurrentStrategies > 0) {
+            return Math.min(maxConcurrentStrategies, Math.max(1, connectionPoolSize - 1));
+        }
+        return Math.max(1, connectionPoolSize / 2);
+    }
+
+    private List<List<DvdDto>> executeStrategies(List<RecommendationStrategy> sortedStrategies, User user,
+            long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<Future<List<DvdDto>>> futures = new ArrayList<>(sortedStrategies.size());
+        for (RecommendationStrategy strategy : sortedStrategies) {
+            futures.add(executor.submit(() -> runStrategy(strategy, user, deadline)));
+        }
+        List<List<DvdDto>> results = new ArrayList<>(sortedStrategies.size());
+        for (int i = 0; i < sortedStrategies.size(); i++) {
+            results.add(awaitResult(sortedStrategies.get(i), futures.get(i), deadline, timeoutMillis));
+        }
+        return results;
+    }
+
+    private List<DvdDto> filterAvailable(List<DvdDto> recommendations) {
+        if (recommendations.isEmpty()) {
+            return recommendations;
+        }
+        Set<Long> availableIds = new HashSet<>(dvdRepository.findAvailableIdsIn(recommendations.stream()
+                .map(DvdDto::getId)
+                .toList()));
+        return recommendations.stream()
+                .filter(dto -> availableIds.contains(dto.getId()))
+                .toList();
+    }
+
+    private List<DvdDto> mergeRecommendations(List<List<DvdDto>> layers) {
+        List<DvdDto> recommendations = new ArrayList<>();
+        for (List<DvdDto> layerRecommendations : layers) {
+            if (recommendations.size() >= MAX_RECOMMENDATIONS) {
+                break;
+            }
+            if (layerRecommendations != null) {
+                addUniqueRecommendations(layerRecommendations, recommendations);
+            }
+        }
+        return recommendations.size() > MAX_RECOMMENDATIONS
+                ? new ArrayList<>(recommendations.subList(0, MAX_RECOMMENDATIONS))
+                : recommendations;
+    }
+
+    private List<DvdDto> runStrategy(RecommendationStrategy strategy, User user, long deadline)
+            throws InterruptedException, TimeoutException {
+        if (!connectionPermits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+            throw new TimeoutException("No connection permit before deadline");
+        }
+        try {
+            if (deadline - System.nanoTime() <= 0) {
+                throw new TimeoutException("Connection permit acquired after deadline");
+            }
+            return createTransactionTemplate(deadline).execute(status -> {
+                List<Dvd> dvds = strategy.recommend(user, userContextLogger);
+                if (dvds == null || dvds.isEmpty()) {
+                    return List.of();
+                }
+                List<DvdDto> recommendations = recommendationMapper.mapToRecommendationDtos(dvds,
+                        strategy.getReason(), userContextLogger);
+                return recommendations != null ? recommendations : List.of();
+            });
+        } finally {
+            connectionPermits.release();
+        }
+    }
+
+    private TransactionTemplate createTransactionTemplate(long deadline) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(Math.max(0, deadline - System.nanoTime()));
+        template.setTimeout((int) Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingMillis + 999)));
+        return template;
+    }
+
+    private List<DvdDto> awaitResult(RecommendationStrategy strategy, Future<List<DvdDto>> future, long deadline,
+            long timeoutMillis) {
+        try {
+            List<DvdDto> recommendations = future.get(Math.max(0, deadline - System.nanoTime()),
+                    TimeUnit.NANOSECONDS);
+            return recommendations != null ? recommendations : List.of();
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            userContextLogger.logUserOperation("STRATEGY_TIMEOUT", "Strategy " + strategy.getClass().getSimpleName()
+                    + " exceeded " + timeoutMillis + " ms");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            userContextLogger.logUserOperation("STRATEGY_ERROR",
+                    "Strategy " + strategy.getClass().getSimpleName() + " failed: " + e.getCause().getMessage());
+        }
+        return null;
+    }
+
+    private void addUniqueRecommendations(List<DvdDto> newRecommendations, List<DvdDto> existingRecommendations) {
+        Set<Long> existingIds = existingRecommendations.stream()
+                .map(DvdDto::getId)
+                .collect(Collectors.toSet());
+        newRecommendations.stream()
+                .filter(dto -> !existingIds.contains(dto.getId()))
+                .forEach(existingRecommendations::add);
+    }
+
+    private List<RecommendationStrategy> getSortedStrategies() {
+        return strategies.stream()
+                .sorted(Comparator.comparingInt(RecommendationStrategy::getPriority))
+                .toList();
+    }
+
+    private List<RecommendationStrategy> getPersonalStrategies() {
+        return getSortedStrategies().stream()
+                .filter(strategy -> !strategy.isCohortShared())
+                .toList();
+    }
+
+}
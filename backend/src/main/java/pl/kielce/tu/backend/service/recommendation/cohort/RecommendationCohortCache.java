@@ -0,0 +1,55 @@
+package pl.kielce.tu.backend.service.recommendation.cohort;
+
+import static pl.kielce.tu.backend.util.TransactionCallbacks.afterCommit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import pl.kielce.tu.backend.model.dto.DvdDto;
+
+@Component
+public class RecommendationCohortCache {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final Cache<RecommendationCohortKey, List<DvdDto>> cohorts;
+
+    public RecommendationCohortCache(
+            @Value("${recommendation.cohort.max-cached:10000}") long maxCached,
+            @Value("${recommendation.cohort.ttl-minutes:10}") long ttlMinutes) {
+        this.cohorts = Caffeine.newBuilder()
+                .maximumSize(maxCached)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public Optional<List<DvdDto>> find(RecommendationCohortKey key) {
+        return Optional.ofNullable(cohorts.getIfPresent(key));
+    }
+
+    public long generation() {
+        return generation.get();
+    }
+
+    public void store(RecommendationCohortKey key, List<DvdDto> recommendations, long computedAtGeneration) {
+        cohorts.asMap().compute(key, (cohortKey, current) -> generation.get() == computedAtGeneration
+                ? List.copyOf(recommendations)
+                : current);
+    }
+
+    public void evictDvd(Long dvdId) {
+        afterCommit(() -> {
+            generation.incrementAndGet();
+            cohorts.asMap().values().removeIf(recommendations -> recommendations.stream()
+                    .anyMatch(dto -> dvdId.equals(dto.getId())));
+        });
+    }
+
+}
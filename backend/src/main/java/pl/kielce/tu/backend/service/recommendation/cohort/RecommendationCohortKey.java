@@ -0,0 +1,27 @@
+package pl.kielce.tu.backend.service.recommendation.cohort;
+
+import java.util.List;
+import java.util.Objects;
+
+import pl.kielce.tu.backend.model.constant.RecommendationConstants;
+import pl.kielce.tu.backend.model.entity.Genre;
+import pl.kielce.tu.backend.model.entity.User;
+
+public record RecommendationCohortKey(Integer minAge, Integer maxAge, List<Long> preferredGenreIds) {
+
+    public static RecommendationCohortKey of(User user) {
+        Integer age = user.getAge();
+        Integer minAge = age != null ? age - RecommendationConstants.MIN_AGE_RANGE.getValue() : null;
+        Integer maxAge = age != null ? age + RecommendationConstants.MAX_AGE_RANGE.getValue() : null;
+        List<Long> genreIds = user.getPreferredGenres() == null ? List.of()
+                : user.getPreferredGenres().stream()
+                        .filter(Objects::nonNull)
+                        .map(Genre::getId)
+                        .filter(Objects::nonNull)
+                        .sorted()
+                        .distinct()
+                        .toList();
+        return new RecommendationCohortKey(minAge, maxAge, genreIds);
+    }
+
+}
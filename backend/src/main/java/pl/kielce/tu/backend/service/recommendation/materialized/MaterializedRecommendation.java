@@ -0,0 +1,6 @@
+package pl.kielce.tu.backend.service.recommendation.materialized;
+
+import pl.kielce.tu.backend.model.constant.RecommendationReason;
+
+record MaterializedRecommendation(long dvdId, RecommendationReason reason) {
+}
@@ -0,0 +1,55 @@
+package pl.kielce.tu.backend.service.recommendation.materialized;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.mapper.RecommendationMapper;
+import pl.kielce.tu.backend.model.dto.DvdDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.UserRecommendationList;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.UserRecommendationListRepository;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Component
+@RequiredArgsConstructor
+public class MaterializedRecommendationReader {
+
+    private final DvdRepository dvdRepository;
+    private final UserContextLogger userContextLogger;
+    private final RecommendationMapper recommendationMapper;
+    private final UserRecommendationListRepository listRepository;
+
+    public Optional<List<DvdDto>> find(Long userId) {
+        return listRepository.findById(userId).map(this::toRecommendations);
+    }
+
+    private List<DvdDto> toRecommendations(UserRecommendationList list) {
+        List<MaterializedRecommendation> entries = RecommendationListCodec.decode(list);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        List<Long> dvdIds = entries.stream()
+                .map(MaterializedRecommendation::dvdId)
+                .toList();
+        Map<Long, Dvd> dvds = dvdRepository.findAllById(dvdIds).stream()
+                .collect(Collectors.toMap(Dvd::getId, Function.identity()));
+        List<DvdDto> recommendations = new ArrayList<>(entries.size());
+        for (MaterializedRecommendation entry : entries) {
+            Dvd dvd = dvds.get(entry.dvdId());
+            if (dvd != null && Boolean.TRUE.equals(dvd.getAvalaible())) {
+                recommendations.addAll(recommendationMapper.mapToRecommendationDtos(List.of(dvd),
+                        entry.reason().getMessage(), userContextLogger));
+            }
+        }
+        return recommendations;
+    }
+
+}
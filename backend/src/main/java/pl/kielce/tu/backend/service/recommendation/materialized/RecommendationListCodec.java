@@ -0,0 +1,68 @@
+package pl.kielce.tu.backend.service.recommendation.materialized;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import pl.kielce.tu.backend.model.constant.RecommendationReason;
+import pl.kielce.tu.backend.model.dto.DvdDto;
+import pl.kielce.tu.backend.model.entity.UserRecommendationList;
+
+final class RecommendationListCodec {
+
+    private static final char SEPARATOR = ',';
+    private static final int RADIX = Character.MAX_RADIX;
+    private static final RecommendationReason[] REASONS = RecommendationReason.values();
+    private static final Map<String, RecommendationReason> REASONS_BY_MESSAGE = Arrays.stream(REASONS)
+            .collect(Collectors.toMap(RecommendationReason::getMessage, Function.identity()));
+
+    private RecommendationListCodec() {
+    }
+
+    static UserRecommendationList encode(Long userId, List<DvdDto> recommendations, LocalDateTime computedAt) {
+        StringBuilder dvdIds = new StringBuilder();
+        StringBuilder reasonCodes = new StringBuilder();
+        for (DvdDto recommendation : recommendations) {
+            RecommendationReason reason = REASONS_BY_MESSAGE.get(recommendation.getRecommendationReason());
+            if (recommendation.getId() == null || reason == null) {
+                continue;
+            }
+            if (!dvdIds.isEmpty()) {
+                dvdIds.append(SEPARATOR);
+            }
+            dvdIds.append(recommendation.getId());
+            reasonCodes.append(Character.forDigit(reason.ordinal(), RADIX));
+        }
+        return UserRecommendationList.builder()
+                .userId(userId)
+                .dvdIds(dvdIds.toString())
+                .reasonCodes(reasonCodes.toString())
+                .computedAt(computedAt)
+                .build();
+    }
+
+    static List<MaterializedRecommendation> decode(UserRecommendationList list) {
+        String dvdIds = list.getDvdIds();
+        String reasonCodes = list.getReasonCodes();
+        List<MaterializedRecommendation> recommendations = new ArrayList<>(reasonCodes.length());
+        int start = 0;
+        for (int i = 0; i < reasonCodes.length() && start < dvdIds.length(); i++) {
+            int end = dvdIds.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = dvdIds.length();
+            }
+            int reasonIndex = Character.digit(reasonCodes.charAt(i), RADIX);
+            if (reasonIndex >= 0 && reasonIndex < REASONS.length) {
+                recommendations.add(new MaterializedRecommendation(Long.parseLong(dvdIds, start, end, 10),
+                        REASONS[reasonIndex]));
+            }
+            start = end + 1;
+        }
+        return recommendations;
+    }
+
+}
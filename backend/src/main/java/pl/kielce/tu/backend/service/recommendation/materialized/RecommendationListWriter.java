@@ -0,0 +1,29 @@
+package pl.kielce.tu.backend.service.recommendation.materialized;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.entity.UserRecommendationList;
+import pl.kielce.tu.backend.repository.UserRecommendationListRepository;
+
+@Component
+@RequiredArgsConstructor
+public class RecommendationListWriter {
+
+    private final UserRecommendationListRepository listRepository;
+
+    @Transactional
+    public void saveAll(List<UserRecommendationList> lists) {
+        listRepository.saveAll(lists);
+    }
+
+    @Transactional
+    public int deleteComputedBefore(LocalDateTime before) {
+        return listRepository.deleteComputedBefore(before);
+    }
+
+}
@@ -0,0 +1,219 @@
+package pl.kielce.tu.backend.service.recommendation.materialized;
+
+import static pl.kielce.tu.backend.util.TransactionCallbacks.afterCommit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import pl.kielce.tu.backend.model.dto.DvdDto;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.model.entity.UserRecommendationList;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.repository.UserRepository;
+import pl.kielce.tu.backend.service.recommendation.RecommendationOutcome;
+import pl.kielce.tu.backend.service.recommendation.RecommendationStrategyExecutor;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class RecommendationMaterializer {
+
+    private static final String JOB_NAME = "recommendation-materializer";
+
+    private final int batchSize;
+    private final int activeDays;
+    private final long strategyTimeoutMillis;
+    private final ExecutorService executor;
+    private final RecommendationListWriter writer;
+    private final UserRepository userRepository;
+    private final RentalRepository rentalRepository;
+    private final UserContextLogger userContextLogger;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final RecommendationStrategyExecutor strategyExecutor;
+    private final Set<Long> pendingUserIds = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public RecommendationMaterializer(
+            @Value("${recommendation.materialize.batch-size:200}") int batchSize,
+            @Value("${recommendation.materialize.active-days:180}") int activeDays,
+            @Value("${recommendation.materialize.strategy-timeout-ms:5000}") long strategyTimeoutMillis,
+            RecommendationListWriter writer,
+            UserRepository userRepository,
+            RentalRepository rentalRepository,
+            UserContextLogger userContextLogger,
+            ScheduledJobRunner scheduledJobRunner,
+            PlatformTransactionManager transactionManager,
+            RecommendationStrategyExecutor strategyExecutor) {
+        if (activeDays <= 0) {
+            throw new IllegalArgumentException("Active user window must be positive");
+        }
+        this.batchSize = Math.max(1, batchSize);
+        this.activeDays = activeDays;
+        this.strategyTimeoutMillis = Math.max(1, strategyTimeoutMillis);
+        this.writer = writer;
+        this.userRepository = userRepository;
+        this.rentalRepository = rentalRepository;
+        this.userContextLogger = userContextLogger;
+        this.scheduledJobRunner = scheduledJobRunner;
+        this.strategyExecutor = strategyExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "recommendation-materializer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void scheduleRefresh(Rental rental) {
+        if (rental.getUser() == null || rental.getUser().getId() == null) {
+            return;
+        }
+        Long userId = rental.getUser().getId();
+        afterCommit(() -> {
+            pendingUserIds.add(userId);
+            startDraining();
+        });
+    }
+
+    public void store(Long userId, List<DvdDto> recommendations) {
+        UserRecommendationList list = RecommendationListCodec.encode(userId, recommendations, LocalDateTime.now());
+        executor.execute(() -> {
+            try {
+                writer.saveAll(List.of(list));
+            } catch (Exception e) {
+                userContextLogger.logUserOperation("RECOMMENDATIONS_STORE_ERROR",
+                        "User ID: " + userId + ", Error: " + e.getMessage());
+            }
+        });
+    }
+
+    public void refreshScheduled() {
+        try {
+            refresh();
+        } catch (IllegalStateException e) {
+            userContextLogger.logUserOperation("RECOMMENDATIONS_MATERIALIZE", "Error: " + e.getMessage());
+        }
+    }
+
+    public int materializeActiveUsers() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = startedAt.minusDays(activeDays);
+        int materialized = 0;
+        long afterId = 0;
+        List<Long> userIds;
+        do {
+            userIds = rentalRepository.findActiveUserIdsAfter(afterId, since, PageRequest.of(0, batchSize));
+            if (!userIds.isEmpty()) {
+                materialized += materialize(userIds);
+                afterId = userIds.get(userIds.size() - 1);
+            }
+        } while (userIds.size() == batchSize);
+        int removed = writer.deleteComputedBefore(startedAt);
+        userContextLogger.logUserOperation("RECOMMENDATIONS_PRUNED", "Removed lists: " + removed);
+        return materialized;
+    }
+
+    public int materialize(List<Long> userIds) {
+        LocalDateTime computedAt = LocalDateTime.now();
+        List<User> users = transactionTemplate.execute(
+                status -> userRepository.findAllWithPreferredGenresByIdIn(userIds));
+        List<UserRecommendationList> lists = users == null ? List.of() : users.stream()
+                .map(user -> encodeComplete(user, computedAt))
+                .filter(Objects::nonNull)
+                .toList();
+        int stored = lists.size();
+        if (stored < userIds.size()) {
+            userContextLogger.logUserOperation("RECOMMENDATIONS_MATERIALIZE_INCOMPLETE",
+                    String.format("Users: %d, Skipped: %d", userIds.size(), userIds.size() - stored));
+        }
+        if (stored == 0) {
+            return 0;
+        }
+        writer.saveAll(lists);
+        return lists.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private UserRecommendationList encodeComplete(User user, LocalDateTime computedAt) {
+        RecommendationOutcome outcome = strategyExecutor.recommend(user, strategyTimeoutMillis);
+        return outcome.complete()
+                ? RecommendationListCodec.encode(user.getId(), outcome.recommendations(), computedAt)
+                : null;
+    }
+
+    private boolean refresh() {
+        AtomicInteger users = new AtomicInteger(-1);
+        if (!scheduledJobRunner.run(JOB_NAME, () -> users.set(materializeActiveUsers()))) {
+            return false;
+        }
+        if (users.get() < 0) {
+            throw new IllegalStateException("Recommendation materialization failed");
+        }
+        userContextLogger.logUserOperation("RECOMMENDATIONS_MATERIALIZE",
+                String.format("Active window: %d days, Users: %d", activeDays, users.get()));
+        return true;
+    }
+
+    private void startDraining() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drainPending);
+        }
+    }
+
+    private void drainPending() {
+        try {
+            List<Long> batch;
+            while (!(batch = takePendingBatch()).isEmpty()) {
+                materializePending(batch);
+            }
+        } finally {
+            draining.set(false);
+        }
+        if (!pendingUserIds.isEmpty()) {
+            startDraining();
+        }
+    }
+
+    private void materializePending(List<Long> userIds) {
+        try {
+            materialize(userIds);
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("RECOMMENDATIONS_REFRESH_ERROR",
+                    "Users: " + userIds.size() + ", Error: " + e.getMessage());
+        }
+    }
+
+    private List<Long> takePendingBatch() {
+        List<Long> batch = new ArrayList<>(Math.min(batchSize, pendingUserIds.size()));
+        Iterator<Long> iterator = pendingUserIds.iterator();
+        while (iterator.hasNext() && batch.size() < batchSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+}
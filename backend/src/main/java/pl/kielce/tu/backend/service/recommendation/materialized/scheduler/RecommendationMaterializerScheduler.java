@@ -0,0 +1,27 @@
+package pl.kielce.tu.backend.service.recommendation.materialized.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.service.recommendation.materialized.RecommendationMaterializer;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Component
+@RequiredArgsConstructor
+@Tag(name = "Recommendation Scheduler", description = "Automated recommendation precomputation tasks")
+public class RecommendationMaterializerScheduler {
+
+    private final UserContextLogger userContextLogger;
+    private final RecommendationMaterializer recommendationMaterializer;
+
+    @Scheduled(cron = "${recommendation.materialize.cron:0 0 3 * * *}")
+    @Operation(summary = "Materialize recommendations", description = "Nightly recomputes stored recommendation lists for users active within the configured window")
+    public void materializeRecommendations() {
+        userContextLogger.logUserOperation("SCHEDULED_RECOMMENDATIONS", "Starting recommendation materialization");
+        recommendationMaterializer.refreshScheduled();
+    }
+
+}
@@ -0,0 +1,210 @@
+package pl.kielce.tu.backend.service.recommendation.popularity;
+
+import static pl.kielce.tu.backend.util.TransactionCallbacks.afterCommit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import pl.kielce.tu.backend.model.dto.DvdPopularitySeedDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.DvdPopularityScore;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.repository.DvdPopularityScoreRepository;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class DvdPopularityService {
+
+    private static final String SEED_JOB_NAME = "dvd-popularity-seed";
+
+    private final DvdRepository dvdRepository;
+    private final PopularityLeaderboard leaderboard;
+    private final RentalRepository rentalRepository;
+    private final UserContextLogger userContextLogger;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final TransactionTemplate transactionTemplate;
+    private final DvdPopularityScoreRepository scoreRepository;
+    private volatile LocalDateTime reloadedAt;
+
+    public DvdPopularityService(
+            @Value("${recommendation.popularity.half-life-days:30}") double halfLifeDays,
+            @Value("${recommendation.popularity.top-size:100}") int topSize,
+            DvdRepository dvdRepository,
+            RentalRepository rentalRepository,
+            UserContextLogger userContextLogger,
+            ScheduledJobRunner scheduledJobRunner,
+            PlatformTransactionManager transactionManager,
+            DvdPopularityScoreRepository scoreRepository) {
+        this.dvdRepository = dvdRepository;
+        this.rentalRepository = rentalRepository;
+        this.userContextLogger = userContextLogger;
+        this.scheduledJobRunner = scheduledJobRunner;
+        this.scoreRepository = scoreRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leaderboard = new PopularityLeaderboard(halfLifeDays, topSize, LocalDateTime.now());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            seedIfEmpty();
+            reload(LocalDateTime.now());
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("DVD_POPULARITY_LOAD", "Error: " + e.getMessage());
+        }
+    }
+
+    public void record(Rental rental) {
+        if (rental.getDvd() == null || rental.getDvd().getId() == null) {
+            return;
+        }
+        Integer renterAge = rental.getUser() != null ? rental.getUser().getAge() : null;
+        LocalDateTime occurredAt = rental.getCreatedAt() != null ? rental.getCreatedAt() : LocalDateTime.now();
+        PopularityEvent event = new PopularityEvent(rental.getDvd().getId(), renterAge, occurredAt);
+        afterCommit(() -> leaderboard.record(event));
+    }
+
+    public List<Dvd> findMostPopularAvailable(int limit) {
+        return resolveAvailable(leaderboard.top(), limit);
+    }
+
+    public List<Dvd> findMostPopularAvailableInAgeGroup(int minAge, int maxAge, int limit) {
+        return resolveAvailable(leaderboard.topForAges(minAge, maxAge), limit);
+    }
+
+    public void checkpoint() {
+        LocalDateTime now = LocalDateTime.now();
+        List<PopularityEvent> events = leaderboard.drainPending();
+        if (!events.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> merge(leaderboard.toDeltas(events, now), now));
+            } catch (RuntimeException e) {
+                leaderboard.restorePending(events);
+                throw e;
+            }
+        }
+        LocalDateTime lastReload = reloadedAt;
+        if (!events.isEmpty() || lastReload == null || scoreRepository.existsByScoredAtAfter(lastReload)) {
+            reload(now);
+        }
+    }
+
+    public void checkpointScheduled() {
+        try {
+            checkpoint();
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("DVD_POPULARITY_CHECKPOINT", "Error: " + e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        checkpointScheduled();
+    }
+
+    private void seedIfEmpty() {
+        if (scoreRepository.count() > 0) {
+            return;
+        }
+        AtomicInteger rows = new AtomicInteger(-1);
+        if (!scheduledJobRunner.run(SEED_JOB_NAME, () -> rows.set(seed(LocalDateTime.now())))) {
+            return;
+        }
+        if (rows.get() < 0) {
+            throw new IllegalStateException("DVD popularity seed failed");
+        }
+        userContextLogger.logUserOperation("DVD_POPULARITY_SEED", "Rows: " + rows.get());
+    }
+
+    private int seed(LocalDateTime now) {
+        Integer seeded = transactionTemplate.execute(status -> {
+            if (scoreRepository.count() > 0) {
+                return 0;
+            }
+            Map<PopularityKey, Double> scores = new HashMap<>();
+            for (DvdPopularitySeedDto seed : rentalRepository.countRentalsPerDvdAgeAndDay()) {
+                double value = seed.getRentals() * leaderboard.decay(seed.getDay().atStartOfDay(), now);
+                scores.merge(new PopularityKey(seed.getDvdId(), DvdPopularityScore.ALL_AGES), value, Double::sum);
+                if (seed.getRenterAge() != null) {
+                    scores.merge(new PopularityKey(seed.getDvdId(), seed.getRenterAge()), value, Double::sum);
+                }
+            }
+            List<DvdPopularityScore> rows = new ArrayList<>(scores.size());
+            scores.forEach((key, score) -> rows.add(newRow(key, score, now)));
+            scoreRepository.saveAll(rows);
+            return rows.size();
+        });
+        return seeded != null ? seeded : 0;
+    }
+
+    private void merge(Map<PopularityKey, Double> deltas, LocalDateTime now) {
+        TreeSet<Long> dvdIds = deltas.keySet().stream()
+                .map(PopularityKey::dvdId)
+                .collect(Collectors.toCollection(TreeSet::new));
+        Map<PopularityKey, DvdPopularityScore> rows = scoreRepository.findAllForUpdateByDvdIdIn(dvdIds).stream()
+                .collect(Collectors.toMap(row -> new PopularityKey(row.getDvdId(), row.getRenterAge()),
+                        Function.identity()));
+        List<DvdPopularityScore> changed = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            DvdPopularityScore row = rows.get(key);
+            if (row == null) {
+                changed.add(newRow(key, delta, now));
+                return;
+            }
+            row.setScore(row.getScore() * leaderboard.decay(row.getScoredAt(), now) + delta);
+            row.setScoredAt(now);
+            changed.add(row);
+        });
+        scoreRepository.saveAll(changed);
+    }
+
+    private void reload(LocalDateTime now) {
+        leaderboard.reload(scoreRepository.findAll(), now);
+        reloadedAt = now;
+    }
+
+    private DvdPopularityScore newRow(PopularityKey key, double score, LocalDateTime now) {
+        return DvdPopularityScore.builder()
+                .dvdId(key.dvdId())
+                .renterAge(key.renterAge())
+                .score(score)
+                .scoredAt(now)
+                .build();
+    }
+
+    private List<Dvd> resolveAvailable(List<Long> rankedIds, int limit) {
+        List<Dvd> available = new ArrayList<>(limit);
+        int chunkSize = Math.max(1, limit * 2);
+        for (int from = 0; from < rankedIds.size() && available.size() < limit; from += chunkSize) {
+            List<Long> chunk = rankedIds.subList(from, Math.min(from + chunkSize, rankedIds.size()));
+            Map<Long, Dvd> dvds = dvdRepository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(Dvd::getId, Function.identity()));
+            for (Long dvdId : chunk) {
+                Dvd dvd = dvds.get(dvdId);
+                if (dvd != null && Boolean.TRUE.equals(dvd.getAvalaible()) && available.size() < limit) {
+                    available.add(dvd);
+                }
+            }
+        }
+        return available;
+    }
+
+}
@@ -0,0 +1,6 @@
+package pl.kielce.tu.backend.service.recommendation.popularity;
+
+import java.time.LocalDateTime;
+
+record PopularityEvent(long dvdId, Integer renterAge, LocalDateTime occurredAt) {
+}
@@ -0,0 +1,4 @@
+package pl.kielce.tu.backend.service.recommendation.popularity;
+
+record PopularityKey(long dvdId, int renterAge) {
+}
@@ -0,0 +1,138 @@
+package pl.kielce.tu.backend.service.recommendation.popularity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import pl.kielce.tu.backend.model.entity.DvdPopularityScore;
+
+final class PopularityLeaderboard {
+
+    private static final long OVERALL_KEY = Long.MIN_VALUE;
+    private static final Comparator<Map.Entry<Long, Double>> WORST_FIRST = Map.Entry.<Long, Double>comparingByValue()
+            .thenComparing(Map.Entry.comparingByKey(Comparator.reverseOrder()));
+
+    private final int topSize;
+    private final double decayPerSecond;
+    private final List<PopularityEvent> pending = new ArrayList<>();
+    private final Map<Long, List<Long>> rankings = new HashMap<>();
+    private Map<Integer, Map<Long, Double>> scores = new HashMap<>();
+    private LocalDateTime landmark;
+
+    PopularityLeaderboard(double halfLifeDays, int topSize, LocalDateTime landmark) {
+        if (halfLifeDays <= 0 || topSize <= 0) {
+            throw new IllegalArgumentException("Popularity half-life and top size must be positive");
+        }
+        this.topSize = topSize;
+        this.decayPerSecond = Math.log(2) / Duration.ofDays(1).toSeconds() / halfLifeDays;
+        this.landmark = landmark;
+    }
+
+    synchronized void record(PopularityEvent event) {
+        pending.add(event);
+        apply(event);
+        rankings.clear();
+    }
+
+    synchronized List<Long> top() {
+        return rankings.computeIfAbsent(OVERALL_KEY,
+                key -> rank(scores.getOrDefault(DvdPopularityScore.ALL_AGES, Map.of())));
+    }
+
+    synchronized List<Long> topForAges(int minAge, int maxAge) {
+        int from = Math.max(0, minAge);
+        long rankingKey = ((long) from << 32) | (maxAge & 0xFFFFFFFFL);
+        return rankings.computeIfAbsent(rankingKey, key -> rank(collectAges(from, maxAge)));
+    }
+
+    synchronized boolean isEmpty() {
+        return scores.getOrDefault(DvdPopularityScore.ALL_AGES, Map.of()).isEmpty();
+    }
+
+    synchronized List<PopularityEvent> drainPending() {
+        List<PopularityEvent> drained = new ArrayList<>(pending);
+        pending.clear();
+        return drained;
+    }
+
+    synchronized void restorePending(List<PopularityEvent> events) {
+        pending.addAll(0, events);
+    }
+
+    synchronized void reload(Collection<DvdPopularityScore> rows, LocalDateTime now) {
+        landmark = now;
+        scores = new HashMap<>();
+        for (DvdPopularityScore row : rows) {
+            add(row.getDvdId(), row.getRenterAge(), row.getScore() * decay(row.getScoredAt(), now));
+        }
+        pending.forEach(this::apply);
+        rankings.clear();
+    }
+
+    Map<PopularityKey, Double> toDeltas(List<PopularityEvent> events, LocalDateTime now) {
+        Map<PopularityKey, Double> deltas = new HashMap<>();
+        for (PopularityEvent event : events) {
+            double value = decay(event.occurredAt(), now);
+            deltas.merge(new PopularityKey(event.dvdId(), DvdPopularityScore.ALL_AGES), value, Double::sum);
+            if (event.renterAge() != null) {
+                deltas.merge(new PopularityKey(event.dvdId(), event.renterAge()), value, Double::sum);
+            }
+        }
+        return deltas;
+    }
+
+    double decay(LocalDateTime from, LocalDateTime to) {
+        return Math.exp(-decayPerSecond * secondsBetween(from, to));
+    }
+
+    private void apply(PopularityEvent event) {
+        double weight = Math.exp(decayPerSecond * secondsBetween(landmark, event.occurredAt()));
+        add(event.dvdId(), DvdPopularityScore.ALL_AGES, weight);
+        if (event.renterAge() != null) {
+            add(event.dvdId(), event.renterAge(), weight);
+        }
+    }
+
+    private void add(long dvdId, int renterAge, double value) {
+        scores.computeIfAbsent(renterAge, age -> new HashMap<>()).merge(dvdId, value, Double::sum);
+    }
+
+    private Map<Long, Double> collectAges(int minAge, int maxAge) {
+        Map<Long, Double> merged = new HashMap<>();
+        for (int age = minAge; age <= maxAge; age++) {
+            Map<Long, Double> ageScores = scores.get(age);
+            if (ageScores != null) {
+                ageScores.forEach((dvdId, score) -> merged.merge(dvdId, score, Double::sum));
+            }
+        }
+        return merged;
+    }
+
+    private List<Long> rank(Map<Long, Double> candidates) {
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(topSize + 1, WORST_FIRST);
+        for (Map.Entry<Long, Double> candidate : candidates.entrySet()) {
+            heap.offer(candidate);
+            if (heap.size() > topSize) {
+                heap.poll();
+            }
+        }
+        List<Long> ranked = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ranked.add(heap.poll().getKey());
+        }
+        Collections.reverse(ranked);
+        return List.copyOf(ranked);
+    }
+
+    private double secondsBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).toMillis() / 1000.0;
+    }
+
+}
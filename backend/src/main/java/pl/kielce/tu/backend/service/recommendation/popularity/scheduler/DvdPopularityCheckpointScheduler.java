@@ -0,0 +1,24 @@
+package pl.kielce.tu.backend.service.recommendation.popularity.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.service.recommendation.popularity.DvdPopularityService;
+
+@Component
+@RequiredArgsConstructor
+@Tag(name = "Popularity Scheduler", description = "Automated DVD popularity checkpoint tasks")
+public class DvdPopularityCheckpointScheduler {
+
+    private final DvdPopularityService dvdPopularityService;
+
+    @Scheduled(fixedDelayString = "${recommendation.popularity.checkpoint-ms:300000}")
+    @Operation(summary = "Checkpoint DVD popularity", description = "Merges popularity counters recorded since the last checkpoint into the stored scores and reloads scores written by other nodes")
+    public void checkpointPopularity() {
+        dvdPopularityService.checkpointScheduled();
+    }
+
+}
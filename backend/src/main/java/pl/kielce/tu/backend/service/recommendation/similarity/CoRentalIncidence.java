@@ -0,0 +1,13 @@
+package pl.kielce.tu.backend.service.recommendation.similarity;
+
+record CoRentalIncidence(int[] userOffsets, int[] userItems, int[] itemOffsets, int[] itemUsers) {
+
+    int itemCount() {
+        return itemOffsets.length - 1;
+    }
+
+    int renters(int item) {
+        return itemOffsets[item + 1] - itemOffsets[item];
+    }
+
+}
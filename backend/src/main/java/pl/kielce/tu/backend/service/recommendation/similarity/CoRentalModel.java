@@ -0,0 +1,104 @@
+package pl.kielce.tu.backend.service.recommendation.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+final class CoRentalModel {
+
+    static final CoRentalModel EMPTY = new CoRentalModel(new long[0], new int[1], new int[0], new float[0]);
+
+    private final long[] dvdIds;
+    private final int[] offsets;
+    private final int[] neighbours;
+    private final float[] scores;
+
+    CoRentalModel(long[] dvdIds, int[] offsets, int[] neighbours, float[] scores) {
+        this.dvdIds = dvdIds;
+        this.offsets = offsets;
+        this.neighbours = neighbours;
+        this.scores = scores;
+    }
+
+    int size() {
+        return dvdIds.length;
+    }
+
+    int neighbourCount() {
+        return neighbours.length;
+    }
+
+    List<Long> recommend(Collection<Long> seedDvdIds, int limit) {
+        int[] seeds = seedDvdIds.stream()
+                .filter(Objects::nonNull)
+                .mapToInt(this::indexOf)
+                .filter(index -> index >= 0)
+                .sorted()
+                .distinct()
+                .toArray();
+        if (seeds.length == 0 || limit <= 0) {
+            return List.of();
+        }
+        long[] candidates = collectCandidates(seeds);
+        int candidateCount = candidates.length;
+        Arrays.sort(candidates);
+        int[] ranked = new int[Math.min(limit, candidateCount)];
+        float[] rankedScores = new float[ranked.length];
+        int filled = 0;
+        for (int k = 0; k < candidateCount;) {
+            int index = (int) (candidates[k] >>> 32);
+            float score = 0;
+            for (; k < candidateCount && (int) (candidates[k] >>> 32) == index; k++) {
+                score += Float.intBitsToFloat((int) candidates[k]);
+            }
+            filled = insertRanked(ranked, rankedScores, filled, index, score);
+        }
+        List<Long> result = new ArrayList<>(filled);
+        for (int i = 0; i < filled; i++) {
+            result.add(dvdIds[ranked[i]]);
+        }
+        return result;
+    }
+
+    static int insertRanked(int[] indices, float[] rankedScores, int filled, int index, float score) {
+        int capacity = indices.length;
+        if (capacity == 0 || (filled == capacity && score <= rankedScores[capacity - 1])) {
+            return filled;
+        }
+        int position = filled < capacity ? filled : capacity - 1;
+        while (position > 0 && rankedScores[position - 1] < score) {
+            indices[position] = indices[position - 1];
+            rankedScores[position] = rankedScores[position - 1];
+            position--;
+        }
+        indices[position] = index;
+        rankedScores[position] = score;
+        return Math.min(filled + 1, capacity);
+    }
+
+    private long[] collectCandidates(int[] seeds) {
+        int total = 0;
+        for (int seed : seeds) {
+            total += offsets[seed + 1] - offsets[seed];
+        }
+        long[] candidates = new long[total];
+        int count = 0;
+        for (int seed : seeds) {
+            for (int k = offsets[seed]; k < offsets[seed + 1]; k++) {
+                if (Arrays.binarySearch(seeds, neighbours[k]) < 0) {
+                    candidates[count++] = ((long) neighbours[k] << 32)
+                            | (Float.floatToRawIntBits(scores[k]) & 0xFFFFFFFFL);
+                }
+            }
+        }
+        return count == total ? candidates : Arrays.copyOf(candidates, count);
+    }
+
+    private int indexOf(long dvdId) {
+        int index = Arrays.binarySearch(dvdIds, dvdId);
+        return index >= 0 ? index : -1;
+    }
+
+}
@@ -0,0 +1,107 @@
+package pl.kielce.tu.backend.service.recommendation.similarity;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+final class CoRentalModelBuilder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] userIds = new long[INITIAL_CAPACITY];
+    private long[] dvdIds = new long[INITIAL_CAPACITY];
+    private int size;
+
+    void add(long userId, long dvdId) {
+        if (size == userIds.length) {
+            userIds = Arrays.copyOf(userIds, size * 2);
+            dvdIds = Arrays.copyOf(dvdIds, size * 2);
+        }
+        userIds[size] = userId;
+        dvdIds[size] = dvdId;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    CoRentalModel build(ForkJoinPool pool, int leafSize, int minSupport, int maxNeighbours) {
+        long[] items = distinctSorted(dvdIds);
+        if (items.length == 0) {
+            return CoRentalModel.EMPTY;
+        }
+        CoRentalIncidence incidence = buildIncidence(items, distinctSorted(userIds));
+        int[][] neighbours = new int[items.length][];
+        float[][] scores = new float[items.length][];
+        pool.invoke(new CoRentalRowTask(0, items.length, leafSize, minSupport, maxNeighbours, incidence, neighbours,
+                scores));
+        int[] offsets = new int[items.length + 1];
+        for (int item = 0; item < items.length; item++) {
+            offsets[item + 1] = offsets[item] + neighbours[item].length;
+        }
+        int[] flatNeighbours = new int[offsets[items.length]];
+        float[] flatScores = new float[flatNeighbours.length];
+        for (int item = 0; item < items.length; item++) {
+            System.arraycopy(neighbours[item], 0, flatNeighbours, offsets[item], neighbours[item].length);
+            System.arraycopy(scores[item], 0, flatScores, offsets[item], scores[item].length);
+        }
+        return new CoRentalModel(items, offsets, flatNeighbours, flatScores);
+    }
+
+    private CoRentalIncidence buildIncidence(long[] items, long[] users) {
+        int[] pairUsers = new int[size];
+        int[] userOffsets = new int[users.length + 1];
+        for (int p = 0; p < size; p++) {
+            pairUsers[p] = Arrays.binarySearch(users, userIds[p]);
+            userOffsets[pairUsers[p] + 1]++;
+        }
+        prefixSum(userOffsets);
+        int[] userItems = new int[size];
+        int[] cursor = Arrays.copyOf(userOffsets, users.length);
+        for (int p = 0; p < size; p++) {
+            userItems[cursor[pairUsers[p]]++] = Arrays.binarySearch(items, dvdIds[p]);
+        }
+        int distinctPairs = removeRepeatedRentals(userOffsets, userItems);
+        int[] itemOffsets = new int[items.length + 1];
+        for (int k = 0; k < distinctPairs; k++) {
+            itemOffsets[userItems[k] + 1]++;
+        }
+        prefixSum(itemOffsets);
+        int[] itemUsers = new int[distinctPairs];
+        cursor = Arrays.copyOf(itemOffsets, items.length);
+        for (int user = 0; user < users.length; user++) {
+            for (int k = userOffsets[user]; k < userOffsets[user + 1]; k++) {
+                itemUsers[cursor[userItems[k]]++] = user;
+            }
+        }
+        return new CoRentalIncidence(userOffsets, Arrays.copyOf(userItems, distinctPairs), itemOffsets, itemUsers);
+    }
+
+    private int removeRepeatedRentals(int[] userOffsets, int[] userItems) {
+        int write = 0;
+        for (int user = 0; user < userOffsets.length - 1; user++) {
+            int from = userOffsets[user];
+            int to = userOffsets[user + 1];
+            Arrays.sort(userItems, from, to);
+            userOffsets[user] = write;
+            for (int k = from; k < to; k++) {
+                if (k == from || userItems[k] != userItems[k - 1]) {
+                    userItems[write++] = userItems[k];
+                }
+            }
+        }
+        userOffsets[userOffsets.length - 1] = write;
+        return write;
+    }
+
+    private long[] distinctSorted(long[] values) {
+        return Arrays.stream(values, 0, size).sorted().distinct().toArray();
+    }
+
+    private void prefixSum(int[] offsets) {
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package pl.kielce.tu.backend.service.recommendation.similarity;
+
+import java.util.Arrays;
+import java.util.concurrent.RecursiveAction;
+
+class CoRentalRowTask extends RecursiveAction {
+
+    private final int fromItem;
+    private final int toItem;
+    private final int leafSize;
+    private final int minSupport;
+    private final int maxNeighbours;
+    private final CoRentalIncidence incidence;
+    private final int[][] neighbours;
+    private final float[][] scores;
+
+    CoRentalRowTask(int fromItem, int toItem, int leafSize, int minSupport, int maxNeighbours,
+            CoRentalIncidence incidence, int[][] neighbours, float[][] scores) {
+        this.fromItem = fromItem;
+        this.toItem = toItem;
+        this.leafSize = Math.max(1, leafSize);
+        this.minSupport = minSupport;
+        this.maxNeighbours = maxNeighbours;
+        this.incidence = incidence;
+        this.neighbours = neighbours;
+        this.scores = scores;
+    }
+
+    @Override
+    protected void compute() {
+        if (toItem - fromItem <= leafSize) {
+            computeRows();
+            return;
+        }
+        int middleItem = fromItem + (toItem - fromItem) / 2;
+        invokeAll(
+                new CoRentalRowTask(fromItem, middleItem, leafSize, minSupport, maxNeighbours, incidence, neighbours,
+                        scores),
+                new CoRentalRowTask(middleItem, toItem, leafSize, minSupport, maxNeighbours, incidence, neighbours,
+                        scores));
+    }
+
+    private void computeRows() {
+        int[] counts = new int[incidence.itemCount()];
+        int[] touched = new int[incidence.itemCount()];
+        for (int item = fromItem; item < toItem; item++) {
+            computeRow(item, counts, touched);
+        }
+    }
+
+    private void computeRow(int item, int[] counts, int[] touched) {
+        int[] userOffsets = incidence.userOffsets();
+        int[] userItems = incidence.userItems();
+        int[] itemOffsets = incidence.itemOffsets();
+        int[] itemUsers = incidence.itemUsers();
+        int touchedCount = 0;
+        for (int k = itemOffsets[item]; k < itemOffsets[item + 1]; k++) {
+            int user = itemUsers[k];
+            for (int m = userOffsets[user]; m < userOffsets[user + 1]; m++) {
+                int other = userItems[m];
+                if (other != item && counts[other]++ == 0) {
+                    touched[touchedCount++] = other;
+                }
+            }
+        }
+        int[] rowNeighbours = new int[Math.min(maxNeighbours, touchedCount)];
+        float[] rowScores = new float[rowNeighbours.length];
+        int filled = 0;
+        double itemRenters = incidence.renters(item);
+        for (int t = 0; t < touchedCount; t++) {
+            int other = touched[t];
+            int together = counts[other];
+            counts[other] = 0;
+            if (together >= minSupport) {
+                float score = (float) (together / Math.sqrt(itemRenters * incidence.renters(other)));
+                filled = CoRentalModel.insertRanked(rowNeighbours, rowScores, filled, other, score);
+            }
+        }
+        neighbours[item] = filled == rowNeighbours.length ? rowNeighbours : Arrays.copyOf(rowNeighbours, filled);
+        scores[item] = filled == rowScores.length ? rowScores : Arrays.copyOf(rowScores, filled);
+    }
+
+}
@@ -0,0 +1,144 @@
+package pl.kielce.tu.backend.service.recommendation.similarity;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import pl.kielce.tu.backend.model.dto.CoRentalPairDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class CoRentalService {
+
+    private static final int CANDIDATE_FACTOR = 4;
+
+    private final int pageSize;
+    private final int leafSize;
+    private final int minSupport;
+    private final int maxNeighbours;
+    private final ForkJoinPool pool;
+    private final DvdRepository dvdRepository;
+    private final RentalRepository rentalRepository;
+    private final UserContextLogger userContextLogger;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile CoRentalModel model = CoRentalModel.EMPTY;
+
+    public CoRentalService(
+            @Value("${recommendation.co-rental.page-size:5000}") int pageSize,
+            @Value("${recommendation.co-rental.leaf-size:256}") int leafSize,
+            @Value("${recommendation.co-rental.min-support:2}") int minSupport,
+            @Value("${recommendation.co-rental.max-neighbours:50}") int maxNeighbours,
+            @Value("${recommendation.co-rental.parallelism:2}") int parallelism,
+            DvdRepository dvdRepository,
+            RentalRepository rentalRepository,
+            UserContextLogger userContextLogger) {
+        if (maxNeighbours <= 0) {
+            throw new IllegalArgumentException("Co-rental neighbour count must be positive");
+        }
+        this.pageSize = Math.max(1, pageSize);
+        this.leafSize = Math.max(1, leafSize);
+        this.minSupport = Math.max(1, minSupport);
+        this.maxNeighbours = maxNeighbours;
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+        this.dvdRepository = dvdRepository;
+        this.rentalRepository = rentalRepository;
+        this.userContextLogger = userContextLogger;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        pool.execute(this::rebuildScheduled);
+    }
+
+    public void rebuildScheduled() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("CO_RENTAL_MODEL_REBUILD", "Error: " + e.getMessage());
+        }
+    }
+
+    public boolean rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            userContextLogger.logUserOperation("CO_RENTAL_MODEL_REBUILD", "Skipped - rebuild already in progress");
+            return false;
+        }
+        try {
+            long start = System.nanoTime();
+            CoRentalModelBuilder builder = loadCompletedRentals();
+            CoRentalModel built = builder.build(pool, leafSize, minSupport, maxNeighbours);
+            model = built;
+            userContextLogger.logUserOperation("CO_RENTAL_MODEL_REBUILD",
+                    String.format("Rentals: %d, DVDs: %d, Neighbours: %d, Duration: %d ms", builder.size(),
+                            built.size(), built.neighbourCount(),
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+            return true;
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    public List<Dvd> findCoRentedAvailable(Collection<Long> rentedDvdIds, int limit) {
+        if (rentedDvdIds.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        return resolveAvailable(model.recommend(rentedDvdIds, limit * CANDIDATE_FACTOR), limit);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    private CoRentalModelBuilder loadCompletedRentals() {
+        CoRentalModelBuilder builder = new CoRentalModelBuilder();
+        long afterId = 0;
+        List<CoRentalPairDto> pairs;
+        do {
+            pairs = rentalRepository.findInactiveRentalPairsAfter(afterId, PageRequest.of(0, pageSize));
+            for (CoRentalPairDto pair : pairs) {
+                builder.add(pair.getUserId(), pair.getDvdId());
+            }
+            if (!pairs.isEmpty()) {
+                afterId = pairs.get(pairs.size() - 1).getRentalId();
+            }
+        } while (pairs.size() == pageSize);
+        return builder;
+    }
+
+    private List<Dvd> resolveAvailable(List<Long> rankedIds, int limit) {
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Dvd> dvds = dvdRepository.findAllById(rankedIds).stream()
+                .collect(Collectors.toMap(Dvd::getId, Function.identity()));
+        List<Dvd> available = new ArrayList<>(limit);
+        for (Long dvdId : rankedIds) {
+            Dvd dvd = dvds.get(dvdId);
+            if (dvd != null && Boolean.TRUE.equals(dvd.getAvalaible())) {
+                available.add(dvd);
+                if (available.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return available;
+    }
+
+}
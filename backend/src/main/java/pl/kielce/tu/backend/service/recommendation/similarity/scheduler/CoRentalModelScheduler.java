@@ -0,0 +1,24 @@
+package pl.kielce.tu.backend.service.recommendation.similarity.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.service.recommendation.similarity.CoRentalService;
+
+@Component
+@RequiredArgsConstructor
+@Tag(name = "Co-Rental Scheduler", description = "Automated co-rental similarity model tasks")
+public class CoRentalModelScheduler {
+
+    private final CoRentalService coRentalService;
+
+    @Scheduled(cron = "${recommendation.co-rental.cron:0 30 2 * * *}")
+    @Operation(summary = "Rebuild co-rental model", description = "Nightly rebuilds the in-memory DVD similarity model from completed rentals")
+    public void rebuildCoRentalModel() {
+        coRentalService.rebuildScheduled();
+    }
+
+}
@@ -5,18 +5,17 @@ import java.util.List;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.constant.RecommendationConstants;
 import pl.kielce.tu.backend.model.constant.RecommendationReason;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.User;
-import pl.kielce.tu.backend.repository.DvdRepository;
-import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.recommendation.popularity.DvdPopularityService;
 
 @Component
 @RequiredArgsConstructor
 public class AgeGroupRecommendationStrategy extends BaseRecommendationStrategy {
 
-    private final DvdRepository dvdRepository;
-    private final RentalRepository rentalRepository;
+    private final DvdPopularityService dvdPopularityService;
 
     @Override
     public List<Dvd> executeRecommendation(User user) {
@@ -31,21 +30,21 @@ public class AgeGroupRecommendationStrategy extends BaseRecommendationStrategy {
         return 2;
     }
 
+    @Override
+    public boolean isCohortShared() {
+        return true;
+    }
+
     @Override
     public String getReason() {
         return RecommendationReason.AGE_GROUP.getMessage();
     }
 
     private List<Dvd> findPopularDvdsInAgeGroup(User user) {
-        long totalRentals = rentalRepository.count();
-        if (totalRentals == 0) {
-            return List.of();
-        }
-        Integer userAge = user.getAge();
-        Integer minAge = userAge - 5;
-        Integer maxAge = userAge + 5;
-        var page = dvdRepository.findMostPopularDvdsByAgeGroup(minAge, maxAge, createPageable());
-        return extractContent(page);
+        int userAge = user.getAge();
+        int minAge = userAge - RecommendationConstants.MIN_AGE_RANGE.getValue();
+        int maxAge = userAge + RecommendationConstants.MAX_AGE_RANGE.getValue();
+        return dvdPopularityService.findMostPopularAvailableInAgeGroup(minAge, maxAge, getRecommendationLimit());
     }
 
 }
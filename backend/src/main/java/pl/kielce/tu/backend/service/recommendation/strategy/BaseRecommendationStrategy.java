@@ -34,7 +34,11 @@ public abstract class BaseRecommendationStrategy implements RecommendationStrate
     }
 
     protected Pageable createPageable() {
-        return PageRequest.of(0, RecommendationConstants.MAX_RECOMMENDATIONS.getValue());
+        return PageRequest.of(0, getRecommendationLimit());
+    }
+
+    protected int getRecommendationLimit() {
+        return RecommendationConstants.MAX_RECOMMENDATIONS.getValue();
     }
 
     protected List<Dvd> extractContent(Page<Dvd> page) {
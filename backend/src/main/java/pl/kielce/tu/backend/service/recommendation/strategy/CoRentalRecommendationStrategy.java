@@ -0,0 +1,53 @@
+package pl.kielce.tu.backend.service.recommendation.strategy;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import pl.kielce.tu.backend.model.constant.RecommendationReason;
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.recommendation.similarity.CoRentalService;
+
+@Component
+public class CoRentalRecommendationStrategy extends BaseRecommendationStrategy {
+
+    private final int historySize;
+    private final CoRentalService coRentalService;
+    private final RentalRepository rentalRepository;
+
+    public CoRentalRecommendationStrategy(
+            @Value("${recommendation.co-rental.history-size:20}") int historySize,
+            CoRentalService coRentalService,
+            RentalRepository rentalRepository) {
+        this.historySize = Math.max(1, historySize);
+        this.coRentalService = coRentalService;
+        this.rentalRepository = rentalRepository;
+    }
+
+    @Override
+    public List<Dvd> executeRecommendation(User user) {
+        List<Long> rentedDvdIds = rentalRepository.findDvdIdsByUserIdAndStatus(user.getId(), RentalStatus.INACTIVE,
+                PageRequest.of(0, historySize));
+        if (rentedDvdIds == null || rentedDvdIds.isEmpty()) {
+            return List.of();
+        }
+        return coRentalService.findCoRentedAvailable(new LinkedHashSet<>(rentedDvdIds), getRecommendationLimit());
+    }
+
+    @Override
+    public int getPriority() {
+        return 0;
+    }
+
+    @Override
+    public String getReason() {
+        return RecommendationReason.CO_RENTAL.getMessage();
+    }
+
+}
@@ -8,25 +8,17 @@ import lombok.RequiredArgsConstructor;
 import pl.kielce.tu.backend.model.constant.RecommendationReason;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.User;
-import pl.kielce.tu.backend.repository.DvdRepository;
-import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.recommendation.popularity.DvdPopularityService;
 
 @Component
 @RequiredArgsConstructor
 public class PopularRecommendationStrategy extends BaseRecommendationStrategy {
 
-    private final DvdRepository dvdRepository;
-    private final RentalRepository rentalRepository;
+    private final DvdPopularityService dvdPopularityService;
 
     @Override
     public List<Dvd> executeRecommendation(User user) {
-        long totalRentals = rentalRepository.count();
-        if (totalRentals == 0) {
-            return List.of();
-        }
-
-        var page = dvdRepository.findMostPopularAvailableDvds(createPageable());
-        return extractContent(page);
+        return dvdPopularityService.findMostPopularAvailable(getRecommendationLimit());
     }
 
     @Override
@@ -34,6 +26,11 @@ public class PopularRecommendationStrategy extends BaseRecommendationStrategy {
         return 4;
     }
 
+    @Override
+    public boolean isCohortShared() {
+        return true;
+    }
+
     @Override
     public String getReason() {
         return RecommendationReason.POPULAR.getMessage();
@@ -30,6 +30,11 @@ public class PreferredGenreRecommendationStrategy extends BaseRecommendationStra
         return 3;
     }
 
+    @Override
+    public boolean isCohortShared() {
+        return true;
+    }
+
     @Override
     public String getReason() {
         return RecommendationReason.PREFERRED_GENRES.getMessage();
@@ -13,4 +13,8 @@ public interface RecommendationStrategy {
     int getPriority();
 
     String getReason();
+
+    default boolean isCohortShared() {
+        return false;
+    }
 }
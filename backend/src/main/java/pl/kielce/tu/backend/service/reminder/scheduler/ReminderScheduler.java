@@ -0,0 +1,27 @@
+package pl.kielce.tu.backend.service.reminder.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+
+@Component
+@RequiredArgsConstructor
+@Tag(name = "Reminder Scheduler", description = "Automated DVD availability reminder tasks")
+public class ReminderScheduler {
+
+    private static final String JOB_NAME = "dvd-availability-reminders";
+
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final ReminderSchedulerService reminderSchedulerService;
+
+    @Scheduled(cron = "${reminder.cron:0 * * * * *}")
+    @Operation(summary = "Send availability reminders", description = "Notifies users about reminded DVDs that became available")
+    public void processAvailableDvdReminders() {
+        scheduledJobRunner.run(JOB_NAME, reminderSchedulerService::processAvailableDvdReminders);
+    }
+
+}
@@ -2,12 +2,12 @@ package pl.kielce.tu.backend.service.reminder.scheduler;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StreamUtils;
@@ -38,7 +38,6 @@ public class ReminderSchedulerService {
     private final DvdReminderRepository dvdReminderRepository;
     private final UserContextLogger userContextLogger;
 
-    @Scheduled(cron = "0 * * * * *")
     @Transactional
     public void processAvailableDvdReminders() {
         userContextLogger.logUserOperation("SCHEDULER_START", "Processing DVD availability reminders");
@@ -52,6 +51,20 @@ public class ReminderSchedulerService {
         processReminders(reminders);
     }
 
+    @Transactional
+    public void processAvailableDvdReminders(Collection<Long> dvdIds) {
+        if (dvdIds.isEmpty()) {
+            return;
+        }
+        List<DvdReminder> reminders = dvdReminderRepository.findRemindersForAvailableDvdsIn(dvdIds);
+        if (reminders.isEmpty()) {
+            return;
+        }
+        userContextLogger.logUserOperation("SCHEDULER_PROCESSING",
+                String.format("Found %d reminders for %d released DVDs", reminders.size(), dvdIds.size()));
+        processReminders(reminders);
+    }
+
     private void processReminders(List<DvdReminder> reminders) {
         int successCount = 0;
         int failureCount = 0;
@@ -0,0 +1,4 @@
+package pl.kielce.tu.backend.service.rental;
+
+public record ExpiredRentalChunk(int scanned, int updated, int vetoed, Long lastRentalId) {
+}
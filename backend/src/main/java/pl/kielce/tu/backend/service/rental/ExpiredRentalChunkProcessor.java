@@ -0,0 +1,72 @@
+package pl.kielce.tu.backend.service.rental;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
+import pl.kielce.tu.backend.model.dto.ExpiredRentalCandidateDto;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+import pl.kielce.tu.backend.service.rental.strategy.ExpiredRentalVetoStrategy;
+
+@Component
+@RequiredArgsConstructor
+public class ExpiredRentalChunkProcessor {
+
+    private final RentalRepository rentalRepository;
+    private final List<ExpiredRentalVetoStrategy> vetoStrategies;
+    private final AdminQueueEventPublisher adminQueueEventPublisher;
+
+    @Transactional
+    public ExpiredRentalChunk processChunk(LocalDateTime currentDateTime, Long afterId, int chunkSize) {
+        List<ExpiredRentalCandidateDto> candidates = rentalRepository.findExpiredActiveRentalCandidates(
+                currentDateTime, afterId, PageRequest.of(0, chunkSize));
+        if (candidates.isEmpty()) {
+            return new ExpiredRentalChunk(0, 0, 0, afterId);
+        }
+        return markCandidates(candidates, currentDateTime);
+    }
+
+    public List<Long> findChunkIds(LocalDateTime currentDateTime, Long afterId, int chunkSize) {
+        return rentalRepository.findExpiredActiveRentalIds(currentDateTime, afterId, PageRequest.of(0, chunkSize));
+    }
+
+    @Transactional
+    public ExpiredRentalChunk processDueRentals(List<Long> rentalIds, LocalDateTime currentDateTime) {
+        List<ExpiredRentalCandidateDto> candidates = rentalRepository.findExpiredActiveRentalCandidatesByIdIn(
+                rentalIds, currentDateTime);
+        if (candidates.isEmpty()) {
+            return new ExpiredRentalChunk(0, 0, 0, null);
+        }
+        return markCandidates(candidates, currentDateTime);
+    }
+
+    private ExpiredRentalChunk markCandidates(List<ExpiredRentalCandidateDto> candidates,
+            LocalDateTime currentDateTime) {
+        Set<Long> vetoed = collectVetoedIds(candidates);
+        List<Long> ids = candidates.stream()
+                .map(ExpiredRentalCandidateDto::getRentalId)
+                .filter(id -> !vetoed.contains(id))
+                .toList();
+        int updated = ids.isEmpty() ? 0 : rentalRepository.markExpiredAsReturnRequested(ids, currentDateTime);
+        adminQueueEventPublisher.publish(AdminQueueEventType.RETURN_REQUESTED, ids);
+        Long lastRentalId = candidates.get(candidates.size() - 1).getRentalId();
+        return new ExpiredRentalChunk(candidates.size(), updated, candidates.size() - ids.size(), lastRentalId);
+    }
+
+    private Set<Long> collectVetoedIds(List<ExpiredRentalCandidateDto> candidates) {
+        Set<Long> vetoed = new HashSet<>();
+        for (ExpiredRentalVetoStrategy strategy : vetoStrategies) {
+            vetoed.addAll(strategy.findVetoedRentalIds(candidates));
+        }
+        return vetoed;
+    }
+
+}
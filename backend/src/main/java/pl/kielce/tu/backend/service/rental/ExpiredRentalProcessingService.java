@@ -3,87 +3,83 @@ package pl.kielce.tu.backend.service.rental;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
 import pl.kielce.tu.backend.model.dto.ExpiredRentalProcessingDto;
-import pl.kielce.tu.backend.model.entity.Rental;
-import pl.kielce.tu.backend.repository.RentalRepository;
-import pl.kielce.tu.backend.service.rental.strategy.ReturnRequestStrategy;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @Service
 @RequiredArgsConstructor
 public class ExpiredRentalProcessingService {
 
-    private final RentalRepository rentalRepository;
+    @Value("${rental.expiry.chunk-size:1000}")
+    private int chunkSize;
+
     private final UserContextLogger userContextLogger;
-    private final ReturnRequestStrategy returnRequestStrategy;
+    private final ExpiredRentalChunkProcessor chunkProcessor;
 
-    @Transactional
     public ExpiredRentalProcessingDto processExpiredRentals() {
-        List<Rental> expiredRentals = findExpiredRentals();
-        return processRentals(expiredRentals);
-    }
-
-    private List<Rental> findExpiredRentals() {
         LocalDateTime currentDateTime = LocalDateTime.now();
-        return rentalRepository.findExpiredActiveRentals(currentDateTime);
-    }
-
-    private ExpiredRentalProcessingDto processRentals(List<Rental> rentals) {
-        int successCount = 0;
-        int failureCount = 0;
-
-        for (Rental rental : rentals) {
-            if (processRental(rental)) {
-                successCount++;
-            } else {
-                failureCount++;
+        Long afterId = 0L;
+        int total = 0;
+        int updated = 0;
+        int vetoed = 0;
+        while (true) {
+            ExpiredRentalChunk chunk;
+            try {
+                chunk = chunkProcessor.processChunk(currentDateTime, afterId, chunkSize);
+            } catch (Exception e) {
+                logFailedChunk(afterId, e);
+                chunk = skipFailedChunk(currentDateTime, afterId);
+                if (chunk == null) {
+                    break;
+                }
             }
+            total += chunk.scanned();
+            updated += chunk.updated();
+            vetoed += chunk.vetoed();
+            if (chunk.scanned() > 0) {
+                logProcessedChunk(chunk);
+            }
+            if (chunk.scanned() < chunkSize) {
+                break;
+            }
+            afterId = chunk.lastRentalId();
         }
-
-        return buildProcessingResult(rentals.size(), successCount, failureCount);
+        return buildProcessingResult(total, updated, vetoed);
     }
 
-    private boolean processRental(Rental rental) {
+    private ExpiredRentalChunk skipFailedChunk(LocalDateTime currentDateTime, Long afterId) {
         try {
-            if (returnRequestStrategy.canProcess(rental)) {
-                returnRequestStrategy.processReturnRequest(rental);
-                logSuccessfulProcessing(rental);
-                return true;
-            }
-            logSkippedRental(rental);
-            return false;
+            List<Long> ids = chunkProcessor.findChunkIds(currentDateTime, afterId, chunkSize);
+            Long lastRentalId = ids.isEmpty() ? afterId : ids.get(ids.size() - 1);
+            return new ExpiredRentalChunk(ids.size(), 0, 0, lastRentalId);
         } catch (Exception e) {
-            logFailedProcessing(rental, e);
-            return false;
+            logFailedChunk(afterId, e);
+            return null;
         }
     }
 
-    private ExpiredRentalProcessingDto buildProcessingResult(
-            int total, int success, int failure) {
+    private ExpiredRentalProcessingDto buildProcessingResult(int total, int updated, int vetoed) {
         return ExpiredRentalProcessingDto.builder()
                 .totalExpiredRentals(total)
-                .processedSuccessfully(success)
-                .failedToProcess(failure)
+                .processedSuccessfully(updated)
+                .failedToProcess(total - updated - vetoed)
+                .vetoed(vetoed)
                 .build();
     }
 
-    private void logSuccessfulProcessing(Rental rental) {
-        userContextLogger.logUserOperation("EXPIRED_RENTAL_PROCESSED",
-                "Rental ID: " + rental.getId());
-    }
-
-    private void logSkippedRental(Rental rental) {
-        userContextLogger.logUserOperation("EXPIRED_RENTAL_SKIPPED",
-                "Rental ID: " + rental.getId() + " - Cannot process");
+    private void logProcessedChunk(ExpiredRentalChunk chunk) {
+        userContextLogger.logUserOperation("EXPIRED_RENTAL_CHUNK_PROCESSED",
+                String.format("Scanned: %d, Updated: %d, Vetoed: %d, Last rental ID: %d",
+                        chunk.scanned(), chunk.updated(), chunk.vetoed(), chunk.lastRentalId()));
     }
 
-    private void logFailedProcessing(Rental rental, Exception e) {
-        userContextLogger.logUserOperation("EXPIRED_RENTAL_FAILED",
-                "Rental ID: " + rental.getId() + " - " + e.getMessage());
+    private void logFailedChunk(Long afterId, Exception e) {
+        userContextLogger.logUserOperation("EXPIRED_RENTAL_CHUNK_FAILED",
+                "After rental ID: " + afterId + " - " + e.getMessage());
     }
 
 }
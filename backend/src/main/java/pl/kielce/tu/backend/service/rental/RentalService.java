@@ -2,6 +2,7 @@ package pl.kielce.tu.backend.service.rental;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
@@ -17,13 +18,20 @@ import lombok.RequiredArgsConstructor;
 import pl.kielce.tu.backend.extractor.ClaimsExtractor;
 import pl.kielce.tu.backend.mapper.RentalFilterMapper;
 import pl.kielce.tu.backend.mapper.RentalMapper;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
 import pl.kielce.tu.backend.model.constant.CookieNames;
 import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
 import pl.kielce.tu.backend.model.dto.RentalDto;
+import pl.kielce.tu.backend.model.dto.RentalHistoryFilterDto;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.repository.RentalRepository;
 import pl.kielce.tu.backend.service.auth.CookieService;
 import pl.kielce.tu.backend.service.dvd.DvdAvailabilityService;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
+import pl.kielce.tu.backend.service.invoice.render.InvoicePdfRenderService;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+import pl.kielce.tu.backend.service.recommendation.materialized.RecommendationMaterializer;
 import pl.kielce.tu.backend.service.rental.strategy.ReturnRequestStrategy;
 import pl.kielce.tu.backend.service.rental.transaction.TransactionGeneratorService;
 
@@ -31,6 +39,8 @@ import pl.kielce.tu.backend.service.rental.transaction.TransactionGeneratorServi
 @RequiredArgsConstructor
 public class RentalService {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -42,6 +52,10 @@ public class RentalService {
     private final ReturnRequestStrategy returnRequestStrategy;
     private final DvdAvailabilityService dvdAvailabilityService;
     private final TransactionGeneratorService transactionGenerator;
+    private final DvdAvailabilityTimelineService availabilityTimelineService;
+    private final AdminQueueEventPublisher adminQueueEventPublisher;
+    private final InvoicePdfRenderService invoicePdfRenderService;
+    private final RecommendationMaterializer recommendationMaterializer;
 
     public ResponseEntity<List<RentalDto>> handleGetUserRentals(HttpServletRequest request, String filter) {
         try {
@@ -54,6 +68,20 @@ public class RentalService {
         }
     }
 
+    public ResponseEntity<CursorPageDto<RentalDto>> handleSearchRentalHistory(HttpServletRequest request, String title,
+            String filter, LocalDateTime from, LocalDateTime to, Long after, int size) {
+        try {
+            Long userId = extractUserIdFromRequest(request);
+            RentalHistoryFilterDto filterDto = buildHistoryFilter(title, filter, from, to);
+            CursorPageDto<RentalDto> history = searchRentalHistory(userId, filterDto, after, size);
+            return ResponseEntity.status(HttpStatus.OK).body(history);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
     @Transactional
     public ResponseEntity<Void> handleReturnDvd(String id) {
         try {
@@ -61,6 +89,7 @@ public class RentalService {
             Rental rental = findRentalById(rentalId);
             validateRentalForReturn(rental);
             returnRequestStrategy.processReturnRequest(rental);
+            adminQueueEventPublisher.publish(AdminQueueEventType.RETURN_REQUESTED, rentalId);
             return ResponseEntity.status(HttpStatus.ACCEPTED).build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -78,6 +107,7 @@ public class RentalService {
             Rental rental = findRentalById(rentalId);
             validateReturnRequest(rental);
             completeRental(rental);
+            adminQueueEventPublisher.publish(AdminQueueEventType.RETURN_RESOLVED, rentalId);
             return ResponseEntity.status(HttpStatus.ACCEPTED).build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -95,6 +125,7 @@ public class RentalService {
             Rental rental = findRentalById(rentalId);
             validateReturnRequest(rental);
             updateRentalStatus(rental, RentalStatus.ACTIVE);
+            adminQueueEventPublisher.publish(AdminQueueEventType.RETURN_RESOLVED, rentalId);
             return ResponseEntity.status(HttpStatus.ACCEPTED).build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -127,6 +158,51 @@ public class RentalService {
         return rentalRepository.findByUserIdWithOptionalStatus(userId, status, pageable).getContent();
     }
 
+    private RentalHistoryFilterDto buildHistoryFilter(String title, String filter, LocalDateTime from,
+            LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Filter start date must be before end date");
+        }
+        return RentalHistoryFilterDto.builder()
+                .status(filterMapper.mapFilterToStatus(filter))
+                .titlePattern(buildTitlePattern(title))
+                .from(from)
+                .to(to)
+                .build();
+    }
+
+    private String buildTitlePattern(String title) {
+        if (title == null || title.isBlank()) {
+            return null;
+        }
+        return "%" + title.trim().toLowerCase(Locale.ROOT) + "%";
+    }
+
+    private CursorPageDto<RentalDto> searchRentalHistory(Long userId, RentalHistoryFilterDto filterDto, Long after,
+            int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        int pageSize = Math.min(size, MAX_HISTORY_PAGE_SIZE);
+        LocalDateTime afterCreatedAt = after != null ? findCursorCreatedAt(after, userId) : null;
+        List<RentalDto> rows = rentalRepository.findHistoryAfter(userId, after, afterCreatedAt,
+                filterDto.getStatus(), filterDto.getFrom(), filterDto.getTo(), filterDto.getTitlePattern(),
+                PageRequest.of(0, pageSize + 1));
+        boolean hasNext = rows.size() > pageSize;
+        List<RentalDto> content = hasNext ? rows.subList(0, pageSize) : rows;
+        return CursorPageDto.<RentalDto>builder()
+                .content(content)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private LocalDateTime findCursorCreatedAt(Long after, Long userId) {
+        return rentalRepository.findCreatedAtByIdAndUserId(after, userId)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid history cursor"));
+    }
+
     private Rental findRentalById(Long rentalId) {
         return rentalRepository.findById(rentalId)
                 .orElseThrow(() -> new EntityNotFoundException("Rental not found"));
@@ -155,6 +231,9 @@ public class RentalService {
         rental.setTransaction(transactionGenerator.generateTransaction(rental));
         dvdAvailabilityService.increaseAvailability(rental.getDvd(), rental.getCount());
         rentalRepository.save(rental);
+        availabilityTimelineService.releaseRental(rental);
+        invoicePdfRenderService.scheduleRender(rental);
+        recommendationMaterializer.scheduleRefresh(rental);
     }
 
     private List<Rental> getAllReturnRequests() {
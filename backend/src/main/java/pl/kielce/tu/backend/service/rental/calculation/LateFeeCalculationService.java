@@ -1,12 +1,12 @@
 package pl.kielce.tu.backend.service.rental.calculation;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.Money;
 import pl.kielce.tu.backend.model.constant.CalculationConstants;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.util.UserContextLogger;
@@ -15,9 +15,12 @@ import pl.kielce.tu.backend.util.UserContextLogger;
 @RequiredArgsConstructor
 public class LateFeeCalculationService {
 
+    private static final long LATE_FEE_MULTIPLIER = CalculationConstants.LATE_FEE_MULTIPLIER.getValue()
+            .longValueExact();
+
     private final UserContextLogger userContextLogger;
 
-    public BigDecimal calculateLateFee(Rental rental) {
+    public Money calculateLateFee(Rental rental) {
         logStart(rental);
 
         LocalDateTime returnDate = rental.getReturnDate();
@@ -25,16 +28,23 @@ public class LateFeeCalculationService {
 
         if (isReturnOnTime(returnDate, dueDate)) {
             logOnTimeCompletion(rental);
-            return BigDecimal.ZERO;
+            return Money.ZERO;
         }
 
         long overdueDays = calculateOverdueDays(returnDate, dueDate);
-        BigDecimal lateFee = computeLateFeeForRental(rental, overdueDays);
+        Money lateFee = Money.ofMinor(calculateTotalLateFee(getBasisPricePerDay(rental), overdueDays));
 
         logCompletedWithFee(rental, overdueDays, lateFee);
         return lateFee;
     }
 
+    public long calculateLateFeeMinor(long pricePerDayMinor, LocalDateTime dueDate, LocalDateTime returnDate) {
+        if (isReturnOnTime(returnDate, dueDate)) {
+            return 0L;
+        }
+        return calculateTotalLateFee(pricePerDayMinor, calculateOverdueDays(returnDate, dueDate));
+    }
+
     private void logStart(Rental rental) {
         userContextLogger.logUserOperation("LATE_FEE_CALCULATION_STARTED",
                 "Rental ID: " + rental.getId());
@@ -45,12 +55,7 @@ public class LateFeeCalculationService {
                 "Rental ID: " + rental.getId() + ", Fee: 0.00 (on time)");
     }
 
-    private BigDecimal computeLateFeeForRental(Rental rental, long overdueDays) {
-        BigDecimal basePricePerDay = getBasisPricePerDay(rental);
-        return calculateTotalLateFee(basePricePerDay, overdueDays);
-    }
-
-    private void logCompletedWithFee(Rental rental, long overdueDays, BigDecimal lateFee) {
+    private void logCompletedWithFee(Rental rental, long overdueDays, Money lateFee) {
         userContextLogger.logUserOperation("LATE_FEE_CALCULATION_COMPLETED",
                 String.format("Rental ID: %d, Overdue days: %d, Fee: %s",
                         rental.getId(), overdueDays, lateFee));
@@ -65,14 +70,12 @@ public class LateFeeCalculationService {
         return (long) Math.ceil(overdueHours / 24.0);
     }
 
-    private BigDecimal getBasisPricePerDay(Rental rental) {
-        return BigDecimal.valueOf(rental.getDvd().getRentalPricePerDay());
+    private long getBasisPricePerDay(Rental rental) {
+        return rental.getDvd().getRentalPrice().minorUnits();
     }
 
-    private BigDecimal calculateTotalLateFee(BigDecimal basePricePerDay, long overdueDays) {
-        BigDecimal overdueAmount = BigDecimal.valueOf(overdueDays);
-        BigDecimal multiplier = CalculationConstants.LATE_FEE_MULTIPLIER.getValue();
-        return basePricePerDay.multiply(multiplier).multiply(overdueAmount);
+    private long calculateTotalLateFee(long pricePerDayMinor, long overdueDays) {
+        return Money.multiplyMinor(Money.multiplyMinor(pricePerDayMinor, LATE_FEE_MULTIPLIER), overdueDays);
     }
 
 }
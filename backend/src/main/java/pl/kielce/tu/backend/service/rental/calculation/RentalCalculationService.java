@@ -1,11 +1,11 @@
 package pl.kielce.tu.backend.service.rental.calculation;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 
 import org.springframework.stereotype.Component;
 
+import pl.kielce.tu.backend.model.Money;
 import pl.kielce.tu.backend.model.entity.Rental;
 
 @Component
@@ -18,22 +18,17 @@ public class RentalCalculationService {
         return (long) Math.ceil(hours / 24.0);
     }
 
-    public BigDecimal calculateBaseAmount(Rental rental, long rentalDays) {
-        BigDecimal pricePerDay = getBasisPricePerDay(rental);
-        int copyCount = rental.getCount();
-
-        return calculateTotalBaseAmount(pricePerDay, rentalDays, copyCount);
+    public Money calculateBaseAmount(Rental rental, long rentalDays) {
+        long pricePerDay = rental.getDvd().getRentalPrice().minorUnits();
+        return Money.ofMinor(calculateBaseAmountMinor(pricePerDay, rentalDays, rental.getCount()));
     }
 
-    public BigDecimal calculateTotalAmount(BigDecimal baseAmount, BigDecimal lateFee) {
-        return baseAmount.add(lateFee);
+    public long calculateBaseAmountMinor(long pricePerDayMinor, long rentalDays, int copyCount) {
+        return Money.multiplyMinor(Money.multiplyMinor(pricePerDayMinor, rentalDays), copyCount);
     }
 
-    private BigDecimal getBasisPricePerDay(Rental rental) {
-        return BigDecimal.valueOf(rental.getDvd().getRentalPricePerDay());
+    public Money calculateTotalAmount(Money baseAmount, Money lateFee) {
+        return baseAmount.plus(lateFee);
     }
 
-    private BigDecimal calculateTotalBaseAmount(BigDecimal pricePerDay, long days, int count) {
-        return pricePerDay.multiply(BigDecimal.valueOf(days)).multiply(BigDecimal.valueOf(count));
-    }
 }
@@ -0,0 +1,28 @@
+package pl.kielce.tu.backend.service.rental.deadline;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+public record RentalDeadline(Long rentalId, LocalDateTime rentalEnd, long dueAtMillis) implements Delayed {
+
+    public static RentalDeadline of(Long rentalId, LocalDateTime rentalEnd) {
+        long dueAtMillis = rentalEnd.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() + 1;
+        return new RentalDeadline(rentalId, rentalEnd, dueAtMillis);
+    }
+
+    @Override
+    public long getDelay(TimeUnit unit) {
+        return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public int compareTo(Delayed other) {
+        if (other instanceof RentalDeadline deadline) {
+            return Long.compare(dueAtMillis, deadline.dueAtMillis);
+        }
+        return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+    }
+
+}
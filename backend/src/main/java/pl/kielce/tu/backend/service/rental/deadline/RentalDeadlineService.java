@@ -0,0 +1,146 @@
+package pl.kielce.tu.backend.service.rental.deadline;
+
+import static pl.kielce.tu.backend.util.TransactionCallbacks.afterCommit;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.rental.ExpiredRentalChunk;
+import pl.kielce.tu.backend.service.rental.ExpiredRentalChunkProcessor;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class RentalDeadlineService {
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long retryDelayMillis;
+    private final RentalRepository rentalRepository;
+    private final UserContextLogger userContextLogger;
+    private final ExpiredRentalChunkProcessor chunkProcessor;
+    private final DelayQueue<RentalDeadline> queue = new DelayQueue<>();
+    private final Map<Long, LocalDateTime> deadlines = new ConcurrentHashMap<>();
+    private final ExecutorService executor;
+
+    public RentalDeadlineService(
+            @Value("${rental.deadline.enabled:true}") boolean enabled,
+            @Value("${rental.deadline.batch-size:200}") int batchSize,
+            @Value("${rental.deadline.retry-delay-ms:30000}") long retryDelayMillis,
+            RentalRepository rentalRepository,
+            UserContextLogger userContextLogger,
+            ExpiredRentalChunkProcessor chunkProcessor) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retryDelayMillis = Math.max(1, retryDelayMillis);
+        this.rentalRepository = rentalRepository;
+        this.userContextLogger = userContextLogger;
+        this.chunkProcessor = chunkProcessor;
+        this.executor = enabled
+                ? Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "rental-deadline");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        rentalRepository.findActiveRentalDeadlines()
+                .forEach(candidate -> enqueue(candidate.getRentalId(), candidate.getRentalEnd()));
+        userContextLogger.logUserOperation("RENTAL_DEADLINES_LOADED", "Scheduled: " + deadlines.size());
+        executor.execute(this::runWorker);
+    }
+
+    public void schedule(Rental rental) {
+        if (!enabled || rental.getId() == null || rental.getRentalEnd() == null
+                || rental.getStatus() != RentalStatus.ACTIVE) {
+            return;
+        }
+        Long rentalId = rental.getId();
+        LocalDateTime rentalEnd = rental.getRentalEnd();
+        afterCommit(() -> enqueue(rentalId, rentalEnd));
+    }
+
+    public int getScheduledCount() {
+        return deadlines.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void enqueue(Long rentalId, LocalDateTime rentalEnd) {
+        deadlines.put(rentalId, rentalEnd);
+        queue.put(RentalDeadline.of(rentalId, rentalEnd));
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<RentalDeadline> due = new ArrayList<>(batchSize);
+                due.add(queue.take());
+                queue.drainTo(due, batchSize - 1);
+                fire(due);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                userContextLogger.logUserOperation("RENTAL_DEADLINE_FAILED", "Error: " + e.getMessage());
+            }
+        }
+    }
+
+    private void fire(List<RentalDeadline> due) {
+        List<RentalDeadline> current = due.stream()
+                .filter(deadline -> deadlines.remove(deadline.rentalId(), deadline.rentalEnd()))
+                .toList();
+        if (current.isEmpty()) {
+            return;
+        }
+        List<Long> rentalIds = current.stream().map(RentalDeadline::rentalId).toList();
+        ExpiredRentalChunk result;
+        try {
+            result = chunkProcessor.processDueRentals(rentalIds, LocalDateTime.now());
+        } catch (Exception e) {
+            retryLater(current);
+            userContextLogger.logUserOperation("RENTAL_DEADLINE_RETRY",
+                    String.format("Due: %d, Retry in: %d ms, Error: %s", rentalIds.size(), retryDelayMillis,
+                            e.getMessage()));
+            return;
+        }
+        userContextLogger.logUserOperation("RENTAL_DEADLINE_FIRED",
+                String.format("Due: %d, Updated: %d, Vetoed: %d",
+                        rentalIds.size(), result.updated(), result.vetoed()));
+    }
+
+    private void retryLater(List<RentalDeadline> failed) {
+        long retryAtMillis = System.currentTimeMillis() + retryDelayMillis;
+        for (RentalDeadline deadline : failed) {
+            if (deadlines.putIfAbsent(deadline.rentalId(), deadline.rentalEnd()) == null) {
+                queue.put(new RentalDeadline(deadline.rentalId(), deadline.rentalEnd(), retryAtMillis));
+            }
+        }
+    }
+
+}
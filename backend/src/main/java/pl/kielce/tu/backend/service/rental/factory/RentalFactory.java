@@ -1,11 +1,11 @@
 package pl.kielce.tu.backend.service.rental.factory;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.Money;
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.constant.RentalStatus;
 import pl.kielce.tu.backend.model.entity.Dvd;
@@ -13,10 +13,14 @@ import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.model.entity.Reservation;
 import pl.kielce.tu.backend.model.entity.Transaction;
 import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.service.invoice.numbering.InvoiceNumberAllocator;
 
 @Component
+@RequiredArgsConstructor
 public class RentalFactory {
 
+    private final InvoiceNumberAllocator invoiceNumberAllocator;
+
     public Rental createFromReservation(Reservation reservation) {
         User user = reservation.getUser();
         Dvd dvd = reservation.getDvd();
@@ -43,17 +47,17 @@ public class RentalFactory {
     }
 
     private Transaction createTransaction(Dvd dvd, int count, LocalDateTime rentalStart, LocalDateTime rentalEnd) {
-        BigDecimal pricePerDay = BigDecimal.valueOf(dvd.getRentalPricePerDay());
+        Money pricePerDay = dvd.getRentalPrice();
         int rentalPeriodDays = calculateRentalPeriodDays(rentalStart, rentalEnd);
-        BigDecimal totalAmount = pricePerDay.multiply(BigDecimal.valueOf(rentalPeriodDays * count));
+        Money totalAmount = pricePerDay.times(rentalPeriodDays).times(count);
 
         return Transaction.builder()
-                .invoiceId(generateInvoiceId())
+                .invoiceId(invoiceNumberAllocator.nextInvoiceNumber())
                 .dvdTitle(dvd.getTitle())
                 .rentalPeriodDays(rentalPeriodDays)
-                .pricePerDay(pricePerDay)
-                .lateFee(BigDecimal.ZERO)
-                .totalAmount(totalAmount)
+                .pricePerDay(pricePerDay.toBigDecimal())
+                .lateFee(Money.ZERO.toBigDecimal())
+                .totalAmount(totalAmount.toBigDecimal())
                 .generatedAt(LocalDateTime.now())
                 .billType(BillType.INVOICE)
                 .build();
@@ -65,8 +69,4 @@ public class RentalFactory {
         return Math.max(0, days);
     }
 
-    private String generateInvoiceId() {
-        return "INV-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-    }
-
 }
@@ -8,6 +8,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import pl.kielce.tu.backend.model.dto.ExpiredRentalProcessingDto;
 import pl.kielce.tu.backend.service.rental.ExpiredRentalProcessingService;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @Component
@@ -15,22 +16,30 @@ import pl.kielce.tu.backend.util.UserContextLogger;
 @Tag(name = "Rental Scheduler", description = "Automated rental processing tasks")
 public class RentalScheduler {
 
+    private static final String JOB_NAME = "expired-rental-sweep";
+
     private final UserContextLogger userContextLogger;
+    private final ScheduledJobRunner scheduledJobRunner;
     private final ExpiredRentalProcessingService expiredRentalProcessingService;
 
-    @Scheduled(cron = "0 */5 * * * *")
-    @Operation(summary = "Process expired rentals", description = "Automatically creates return requests for rentals past their end date")
+    @Scheduled(cron = "${rental.expiry.reconcile-cron:0 0 * * * *}")
+    @Operation(summary = "Process expired rentals", description = "Reconciles return requests for rentals past their end date that were missed by the deadline queue")
     public void processExpiredRentals() {
+        scheduledJobRunner.run(JOB_NAME, this::runExpiredRentalProcessing);
+    }
+
+    private void runExpiredRentalProcessing() {
         userContextLogger.logUserOperation("SCHEDULED_EXPIRED_RENTAL_CHECK", "Starting expired rental processing");
         ExpiredRentalProcessingDto result = expiredRentalProcessingService.processExpiredRentals();
         logProcessingResults(result);
     }
 
     private void logProcessingResults(ExpiredRentalProcessingDto result) {
-        String details = String.format("Total: %d, Success: %d, Failed: %d",
+        String details = String.format("Total: %d, Success: %d, Failed: %d, Vetoed: %d",
                 result.getTotalExpiredRentals(),
                 result.getProcessedSuccessfully(),
-                result.getFailedToProcess());
+                result.getFailedToProcess(),
+                result.getVetoed());
         userContextLogger.logUserOperation("EXPIRED_RENTAL_PROCESSING_COMPLETED", details);
     }
 
@@ -0,0 +1,14 @@
+package pl.kielce.tu.backend.service.rental.strategy;
+
+import java.util.List;
+import java.util.Set;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import pl.kielce.tu.backend.model.dto.ExpiredRentalCandidateDto;
+
+@Schema(description = "Strategy that can exclude expired rentals from the automatic return request sweep")
+public interface ExpiredRentalVetoStrategy {
+
+    @Schema(description = "Return identifiers of the candidate rentals that must not be moved to RETURN_REQUESTED")
+    Set<Long> findVetoedRentalIds(List<ExpiredRentalCandidateDto> candidates);
+}
@@ -0,0 +1,198 @@
+package pl.kielce.tu.backend.service.reservation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
+import pl.kielce.tu.backend.model.constant.ReservationActionOutcome;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.dto.BulkReservationActionDto;
+import pl.kielce.tu.backend.model.dto.BulkReservationResultDto;
+import pl.kielce.tu.backend.model.dto.ReservationActionOutcomeDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.service.dvd.DvdAvailabilityService;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+import pl.kielce.tu.backend.service.recommendation.popularity.DvdPopularityService;
+import pl.kielce.tu.backend.service.rental.deadline.RentalDeadlineService;
+import pl.kielce.tu.backend.service.rental.factory.RentalFactory;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+@RequiredArgsConstructor
+public class ReservationBulkService {
+
+    @Value("${reservation.bulk.max-size:500}")
+    private int maxBulkSize;
+
+    private final RentalFactory rentalFactory;
+    private final RentalRepository rentalRepository;
+    private final UserContextLogger userContextLogger;
+    private final DvdAvailabilityService availabilityService;
+    private final ReservationRepository reservationRepository;
+    private final DvdAvailabilityTimelineService availabilityTimelineService;
+    private final RentalDeadlineService rentalDeadlineService;
+    private final AdminQueueEventPublisher adminQueueEventPublisher;
+    private final DvdPopularityService dvdPopularityService;
+
+    @Transactional
+    public ResponseEntity<BulkReservationResultDto> handleBulkAccept(BulkReservationActionDto actionDto) {
+        try {
+            List<Long> ids = validateIds(actionDto);
+            Map<Long, Reservation> reservations = loadReservations(ids);
+            List<Reservation> pending = collectPending(ids, reservations);
+            acceptPendingReservations(pending);
+            BulkReservationResultDto result = buildResult(ids, reservations, pending,
+                    ReservationActionOutcome.ACCEPTED);
+            logBulkOperation("BULK_ACCEPT_RESERVATIONS", result);
+            return ResponseEntity.status(HttpStatus.OK).body(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("BULK_ACCEPT_RESERVATIONS", "Error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @Transactional
+    public ResponseEntity<BulkReservationResultDto> handleBulkDecline(BulkReservationActionDto actionDto) {
+        try {
+            List<Long> ids = validateIds(actionDto);
+            Map<Long, Reservation> reservations = loadReservations(ids);
+            List<Reservation> pending = collectPending(ids, reservations);
+            declineReservations(pending);
+            publishResolved(pending);
+            BulkReservationResultDto result = buildResult(ids, reservations, pending,
+                    ReservationActionOutcome.DECLINED);
+            logBulkOperation("BULK_DECLINE_RESERVATIONS", result);
+            return ResponseEntity.status(HttpStatus.OK).body(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("BULK_DECLINE_RESERVATIONS", "Error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @Transactional
+    public void acceptPendingReservations(List<Reservation> pending) {
+        acceptReservations(pending);
+        publishResolved(pending);
+    }
+
+    private List<Long> validateIds(BulkReservationActionDto actionDto) {
+        if (actionDto == null || actionDto.getReservationIds() == null || actionDto.getReservationIds().isEmpty()) {
+            throw new IllegalArgumentException("At least one reservation id is required");
+        }
+        List<Long> ids = actionDto.getReservationIds().stream().distinct().toList();
+        if (ids.contains(null)) {
+            throw new IllegalArgumentException("Reservation ids must not be null");
+        }
+        if (ids.size() > maxBulkSize) {
+            throw new IllegalArgumentException("Too many reservation ids, maximum is " + maxBulkSize);
+        }
+        return ids;
+    }
+
+    private Map<Long, Reservation> loadReservations(List<Long> ids) {
+        return reservationRepository.findAllForUpdateWithDvdAndUserByIdIn(ids).stream()
+                .collect(Collectors.toMap(Reservation::getId, Function.identity()));
+    }
+
+    private List<Reservation> collectPending(List<Long> ids, Map<Long, Reservation> reservations) {
+        List<Reservation> pending = new ArrayList<>();
+        for (Long id : ids) {
+            Reservation reservation = reservations.get(id);
+            if (reservation != null && reservation.getStatus() == ReservationStatus.PENDING) {
+                pending.add(reservation);
+            }
+        }
+        return pending;
+    }
+
+    private void acceptReservations(List<Reservation> pending) {
+        LocalDateTime decidedAt = LocalDateTime.now();
+        List<Rental> rentals = new ArrayList<>(pending.size());
+        for (Reservation reservation : pending) {
+            rentals.add(rentalFactory.createFromReservation(reservation));
+            reservation.setStatus(ReservationStatus.ACCEPTED);
+            reservation.setDecidedAt(decidedAt);
+        }
+        rentalRepository.saveAll(rentals);
+        reservationRepository.saveAll(pending);
+        rentals.forEach(availabilityTimelineService::registerRental);
+        rentals.forEach(rentalDeadlineService::schedule);
+        rentals.forEach(dvdPopularityService::record);
+        pending.forEach(availabilityTimelineService::releaseReservation);
+    }
+
+    private void publishResolved(List<Reservation> pending) {
+        adminQueueEventPublisher.publish(AdminQueueEventType.RESERVATION_RESOLVED,
+                pending.stream().map(Reservation::getId).toList());
+    }
+
+    private void declineReservations(List<Reservation> pending) {
+        Map<Long, Dvd> dvds = new LinkedHashMap<>();
+        Map<Long, Integer> releasedCopies = new LinkedHashMap<>();
+        LocalDateTime decidedAt = LocalDateTime.now();
+        for (Reservation reservation : pending) {
+            Dvd dvd = reservation.getDvd();
+            dvds.putIfAbsent(dvd.getId(), dvd);
+            releasedCopies.merge(dvd.getId(), reservation.getCount(), Integer::sum);
+            reservation.setStatus(ReservationStatus.REJECTED);
+            reservation.setDecidedAt(decidedAt);
+        }
+        releasedCopies.forEach((dvdId, count) -> availabilityService.increaseAvailability(dvds.get(dvdId), count));
+        reservationRepository.saveAll(pending);
+        pending.forEach(availabilityTimelineService::releaseReservation);
+    }
+
+    private BulkReservationResultDto buildResult(List<Long> ids, Map<Long, Reservation> reservations,
+            List<Reservation> processed, ReservationActionOutcome successOutcome) {
+        Set<Long> processedIds = processed.stream().map(Reservation::getId).collect(Collectors.toSet());
+        List<ReservationActionOutcomeDto> outcomes = ids.stream()
+                .map(id -> ReservationActionOutcomeDto.builder()
+                        .reservationId(id)
+                        .outcome(resolveOutcome(id, reservations, processedIds, successOutcome))
+                        .build())
+                .toList();
+        int succeeded = (int) outcomes.stream().filter(outcome -> outcome.getOutcome() == successOutcome).count();
+        return BulkReservationResultDto.builder()
+                .requested(ids.size())
+                .succeeded(succeeded)
+                .failed(ids.size() - succeeded)
+                .outcomes(outcomes)
+                .build();
+    }
+
+    private ReservationActionOutcome resolveOutcome(Long id, Map<Long, Reservation> reservations,
+            Set<Long> processedIds, ReservationActionOutcome successOutcome) {
+        if (!reservations.containsKey(id)) {
+            return ReservationActionOutcome.NOT_FOUND;
+        }
+        return processedIds.contains(id) ? successOutcome : ReservationActionOutcome.NOT_PENDING;
+    }
+
+    private void logBulkOperation(String operation, BulkReservationResultDto result) {
+        userContextLogger.logUserOperation(operation, String.format("Requested: %d, Succeeded: %d, Failed: %d",
+                result.getRequested(), result.getSucceeded(), result.getFailed()));
+    }
+
+}
@@ -4,39 +4,60 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import pl.kielce.tu.backend.exception.ValidationException;
 import pl.kielce.tu.backend.extractor.ClaimsExtractor;
+import pl.kielce.tu.backend.mapper.PageMapper;
 import pl.kielce.tu.backend.mapper.ReservationFilterMapper;
 import pl.kielce.tu.backend.mapper.ReservationMapper;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
 import pl.kielce.tu.backend.model.constant.CookieNames;
 import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
+import pl.kielce.tu.backend.model.dto.PagedResponseDto;
 import pl.kielce.tu.backend.model.dto.ReservationDto;
+import pl.kielce.tu.backend.model.dto.ReservationFilterDto;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.model.entity.ReservationIdempotencyKey;
 import pl.kielce.tu.backend.model.entity.User;
 import pl.kielce.tu.backend.repository.DvdRepository;
 import pl.kielce.tu.backend.repository.RentalRepository;
 import pl.kielce.tu.backend.repository.ReservationRepository;
 import pl.kielce.tu.backend.repository.UserRepository;
+import pl.kielce.tu.backend.repository.specification.ReservationSpecification;
 import pl.kielce.tu.backend.service.auth.CookieService;
 import pl.kielce.tu.backend.service.dvd.DvdAvailabilityService;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+import pl.kielce.tu.backend.service.recommendation.popularity.DvdPopularityService;
+import pl.kielce.tu.backend.service.rental.deadline.RentalDeadlineService;
 import pl.kielce.tu.backend.service.rental.factory.RentalFactory;
+import pl.kielce.tu.backend.service.reservation.approval.ReservationAutoApprovalService;
+import pl.kielce.tu.backend.service.reservation.idempotency.IdempotencyClaim;
+import pl.kielce.tu.backend.service.reservation.idempotency.ReservationIdempotencyStore;
 
 @Service
 @RequiredArgsConstructor
 public class ReservationService {
 
+    private static final int MAX_ADMIN_PAGE_SIZE = 100;
+    private static final Sort ADMIN_VIEW_ORDER = Sort.by(Sort.Direction.DESC, "id");
+
     @Value("${jwt.secret}")
     private String jwtSecret;
 
@@ -46,11 +67,19 @@ public class ReservationService {
     private final CookieService cookieService;
     private final ClaimsExtractor claimsExtractor;
     private final RentalRepository rentalRepository;
+    private final PageMapper pageMapper;
     private final ReservationMapper reservationMapper;
     private final ReservationFilterMapper filterMapper;
     private final DvdAvailabilityService availabilityService;
     private final ReservationRepository reservationRepository;
+    private final ReservationSpecification reservationSpecification;
     private final ReservationValidationService reservationValidationService;
+    private final DvdAvailabilityTimelineService availabilityTimelineService;
+    private final RentalDeadlineService rentalDeadlineService;
+    private final AdminQueueEventPublisher adminQueueEventPublisher;
+    private final ReservationAutoApprovalService autoApprovalService;
+    private final DvdPopularityService dvdPopularityService;
+    private final ReservationIdempotencyStore idempotencyStore;
 
     public ResponseEntity<List<ReservationDto>> handleGetUserReservations(HttpServletRequest request, String filter) {
         try {
@@ -64,20 +93,29 @@ public class ReservationService {
     }
 
     @Transactional
-    public ResponseEntity<Void> handleCreateReservation(HttpServletRequest request, ReservationDto reservationDto) {
+    public ResponseEntity<Void> handleCreateReservation(HttpServletRequest request, ReservationDto reservationDto,
+            IdempotencyClaim claim) {
+        ReservationIdempotencyKey idempotencyKey = null;
         try {
             Long userId = extractUserIdFromRequest(request);
             validateBasicReservationData(reservationDto);
+            idempotencyKey = claim != null ? idempotencyStore.claim(claim) : null;
             Reservation reservation = buildReservation(userId, reservationDto);
             validateReservationAvailability(reservationDto, reservation.getDvd());
             decreaseDvdAvailability(reservation.getDvd(), reservationDto.getCount());
             reservationRepository.save(reservation);
-            return ResponseEntity.status(HttpStatus.CREATED).build();
+            availabilityTimelineService.registerReservation(reservation);
+            adminQueueEventPublisher.publish(AdminQueueEventType.RESERVATION_PENDING, reservation.getId());
+            autoApprovalService.submit(reservation);
+            return recordOutcome(idempotencyKey, HttpStatus.CREATED);
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+            return recordOutcome(idempotencyKey, HttpStatus.BAD_REQUEST);
         } catch (EntityNotFoundException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            return recordOutcome(idempotencyKey, HttpStatus.NOT_FOUND);
         } catch (Exception e) {
+            if (claim != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            }
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
@@ -86,10 +124,12 @@ public class ReservationService {
     public ResponseEntity<Void> handleAcceptReservation(String id) {
         try {
             Long reservationId = filterMapper.parseReservationId(id);
-            Reservation reservation = findReservationById(reservationId);
+            Reservation reservation = findReservationForUpdate(reservationId);
             validateReservationForAcceptance(reservation);
             createRentalFromReservation(reservation);
             updateReservationStatus(reservation, ReservationStatus.ACCEPTED);
+            availabilityTimelineService.releaseReservation(reservation);
+            adminQueueEventPublisher.publish(AdminQueueEventType.RESERVATION_RESOLVED, reservation.getId());
             return ResponseEntity.status(HttpStatus.ACCEPTED).build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -104,10 +144,12 @@ public class ReservationService {
     public ResponseEntity<Void> handleDeclineReservation(String id) {
         try {
             Long reservationId = filterMapper.parseReservationId(id);
-            Reservation reservation = findReservationById(reservationId);
+            Reservation reservation = findReservationForUpdate(reservationId);
             validateReservationForDecline(reservation);
             increaseDvdAvailability(reservation.getDvd(), reservation.getCount());
             updateReservationStatus(reservation, ReservationStatus.REJECTED);
+            availabilityTimelineService.releaseReservation(reservation);
+            adminQueueEventPublisher.publish(AdminQueueEventType.RESERVATION_RESOLVED, reservation.getId());
             return ResponseEntity.status(HttpStatus.ACCEPTED).build();
         } catch (IllegalArgumentException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -123,10 +165,12 @@ public class ReservationService {
         try {
             Long userId = extractUserIdFromRequest(request);
             Long reservationId = filterMapper.parseReservationId(id);
-            Reservation reservation = findReservationById(reservationId);
+            Reservation reservation = findReservationForUpdate(reservationId);
             reservationValidationService.validateReservationCancellation(reservation, userId);
             increaseDvdAvailability(reservation.getDvd(), reservation.getCount());
             updateReservationStatus(reservation, ReservationStatus.CANCELLED);
+            availabilityTimelineService.releaseReservation(reservation);
+            adminQueueEventPublisher.publish(AdminQueueEventType.RESERVATION_RESOLVED, reservation.getId());
             return ResponseEntity.status(HttpStatus.ACCEPTED).build();
         } catch (IllegalArgumentException | ValidationException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
@@ -137,17 +181,33 @@ public class ReservationService {
         }
     }
 
-    public ResponseEntity<List<ReservationDto>> handleGetAllReservations(String filter) {
+    public ResponseEntity<PagedResponseDto<ReservationDto>> handleGetAllReservations(String filter, Long dvdId,
+            Long userId, LocalDateTime from, LocalDateTime to, int page, int size) {
         try {
-            ReservationStatus status = filterMapper.mapFilterToStatus(filter);
-            List<Reservation> reservations = getAllReservations(status);
-            return ResponseEntity.status(HttpStatus.OK).body(reservationMapper.toDtoList(reservations));
+            ReservationFilterDto filterDto = buildFilter(filter, dvdId, userId, from, to);
+            Page<ReservationDto> reservations = getAllReservations(filterDto, createPageable(page, size));
+            return ResponseEntity.status(HttpStatus.OK).body(pageMapper.toPagedResponse(reservations));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
-    private Long extractUserIdFromRequest(HttpServletRequest request) {
+    public ResponseEntity<CursorPageDto<ReservationDto>> handleGetAllReservationsByCursor(String filter, Long dvdId,
+            Long userId, LocalDateTime from, LocalDateTime to, Long after, int size) {
+        try {
+            ReservationFilterDto filterDto = buildFilter(filter, dvdId, userId, from, to);
+            CursorPageDto<ReservationDto> reservations = getAllReservationsAfter(filterDto, after, size);
+            return ResponseEntity.status(HttpStatus.OK).body(reservations);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    public Long extractUserIdFromRequest(HttpServletRequest request) {
         String token = cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN);
         if (token == null) {
             throw new RuntimeException("Authentication token not found");
@@ -155,17 +215,24 @@ public class ReservationService {
         return claimsExtractor.extractUserId(token, jwtSecret);
     }
 
-    private List<Reservation> getReservationsForUser(Long userId, ReservationStatus status) {
-        Pageable pageable = PageRequest.of(0, 50);
-        return reservationRepository.findByUserIdWithOptionalStatus(userId, status, pageable).getContent();
-    }
-
-    private void validateBasicReservationData(ReservationDto reservationDto) {
+    public void validateBasicReservationData(ReservationDto reservationDto) {
         validateRequiredFields(reservationDto);
         validateDateRange(reservationDto);
         validateCopyCount(reservationDto);
     }
 
+    private ResponseEntity<Void> recordOutcome(ReservationIdempotencyKey idempotencyKey, HttpStatus status) {
+        if (idempotencyKey != null) {
+            idempotencyStore.complete(idempotencyKey, status);
+        }
+        return ResponseEntity.status(status).build();
+    }
+
+    private List<Reservation> getReservationsForUser(Long userId, ReservationStatus status) {
+        Pageable pageable = PageRequest.of(0, 50);
+        return reservationRepository.findByUserIdWithOptionalStatus(userId, status, pageable).getContent();
+    }
+
     private void validateRequiredFields(ReservationDto reservationDto) {
         if (reservationDto.getDvdId() == null) {
             throw new IllegalArgumentException("DVD ID is required");
@@ -212,8 +279,8 @@ public class ReservationService {
                 .build();
     }
 
-    private Reservation findReservationById(Long reservationId) {
-        return reservationRepository.findById(reservationId)
+    private Reservation findReservationForUpdate(Long reservationId) {
+        return reservationRepository.findForUpdateById(reservationId)
                 .orElseThrow(() -> new EntityNotFoundException("Reservation not found"));
     }
 
@@ -231,6 +298,7 @@ public class ReservationService {
 
     private void updateReservationStatus(Reservation reservation, ReservationStatus status) {
         reservation.setStatus(status);
+        reservation.setDecidedAt(LocalDateTime.now());
         reservationRepository.save(reservation);
     }
 
@@ -245,14 +313,51 @@ public class ReservationService {
     private void createRentalFromReservation(Reservation reservation) {
         Rental rental = rentalFactory.createFromReservation(reservation);
         rentalRepository.save(rental);
+        availabilityTimelineService.registerRental(rental);
+        rentalDeadlineService.schedule(rental);
+        dvdPopularityService.record(rental);
     }
 
-    private List<Reservation> getAllReservations(ReservationStatus status) {
-        Pageable pageable = PageRequest.of(0, 100);
-        if (status == null) {
-            return reservationRepository.findAll(pageable).getContent();
+    private ReservationFilterDto buildFilter(String filter, Long dvdId, Long userId, LocalDateTime from,
+            LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("Filter start date must be before end date");
         }
-        return reservationRepository.findByStatus(status);
+        return ReservationFilterDto.builder()
+                .status(filterMapper.mapFilterToStatus(filter))
+                .dvdId(dvdId)
+                .userId(userId)
+                .from(from)
+                .to(to)
+                .build();
+    }
+
+    private Pageable createPageable(int page, int size) {
+        if (page < 0 || size <= 0) {
+            throw new IllegalArgumentException("Page must not be negative and size must be positive");
+        }
+        return PageRequest.of(page, Math.min(size, MAX_ADMIN_PAGE_SIZE), ADMIN_VIEW_ORDER);
+    }
+
+    private Page<ReservationDto> getAllReservations(ReservationFilterDto filterDto, Pageable pageable) {
+        return reservationRepository.findAll(reservationSpecification.withFilters(filterDto), pageable)
+                .map(reservationMapper::toDto);
+    }
+
+    private CursorPageDto<ReservationDto> getAllReservationsAfter(ReservationFilterDto filterDto, Long after,
+            int size) {
+        int pageSize = createPageable(0, size).getPageSize();
+        List<ReservationDto> rows = reservationMapper.toDtoList(reservationRepository.findBy(
+                reservationSpecification.withFilters(filterDto, after),
+                query -> query.sortBy(ADMIN_VIEW_ORDER).limit(pageSize + 1).all()));
+        boolean hasNext = rows.size() > pageSize;
+        List<ReservationDto> content = hasNext ? rows.subList(0, pageSize) : rows;
+        return CursorPageDto.<ReservationDto>builder()
+                .content(content)
+                .nextCursor(hasNext ? content.get(content.size() - 1).getId() : null)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .build();
     }
 
 }
@@ -0,0 +1,6 @@
+package pl.kielce.tu.backend.service.reservation.approval;
+
+import java.util.Map;
+
+public record AutoApprovalBatch(int evaluated, int approved, Map<String, Integer> approvedByRule) {
+}
@@ -0,0 +1,6 @@
+package pl.kielce.tu.backend.service.reservation.approval;
+
+import pl.kielce.tu.backend.model.entity.Reservation;
+
+public record AutoApprovalCandidate(Reservation reservation, boolean hasOverdueRentals) {
+}
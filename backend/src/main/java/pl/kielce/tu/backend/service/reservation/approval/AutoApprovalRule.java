@@ -0,0 +1,9 @@
+package pl.kielce.tu.backend.service.reservation.approval;
+
+public interface AutoApprovalRule {
+
+    String getName();
+
+    boolean matches(AutoApprovalCandidate candidate);
+
+}
@@ -0,0 +1,66 @@
+package pl.kielce.tu.backend.service.reservation.approval;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.service.reservation.ReservationBulkService;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationAutoApprovalProcessor {
+
+    private final List<AutoApprovalRule> rules;
+    private final RentalRepository rentalRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationBulkService reservationBulkService;
+
+    @Transactional
+    public AutoApprovalBatch process(List<Long> reservationIds) {
+        List<Reservation> pending = reservationRepository.findAllForUpdateWithDvdAndUserByIdIn(reservationIds).stream()
+                .filter(reservation -> reservation.getStatus() == ReservationStatus.PENDING)
+                .toList();
+        if (pending.isEmpty()) {
+            return new AutoApprovalBatch(0, 0, Map.of());
+        }
+        Set<Long> usersWithOverdueRentals = findUsersWithOverdueRentals(pending);
+        List<Reservation> approved = new ArrayList<>();
+        Map<String, Integer> approvedByRule = new LinkedHashMap<>();
+        for (Reservation reservation : pending) {
+            AutoApprovalCandidate candidate = new AutoApprovalCandidate(reservation,
+                    usersWithOverdueRentals.contains(reservation.getUser().getId()));
+            for (AutoApprovalRule rule : rules) {
+                if (rule.matches(candidate)) {
+                    reservation.setApprovedByRule(rule.getName());
+                    approvedByRule.merge(rule.getName(), 1, Integer::sum);
+                    approved.add(reservation);
+                    break;
+                }
+            }
+        }
+        if (!approved.isEmpty()) {
+            reservationBulkService.acceptPendingReservations(approved);
+        }
+        return new AutoApprovalBatch(pending.size(), approved.size(), approvedByRule);
+    }
+
+    private Set<Long> findUsersWithOverdueRentals(List<Reservation> pending) {
+        Set<Long> userIds = pending.stream()
+                .map(reservation -> reservation.getUser().getId())
+                .collect(Collectors.toSet());
+        return Set.copyOf(rentalRepository.findUserIdsWithOverdueRentals(userIds, LocalDateTime.now()));
+    }
+
+}
@@ -0,0 +1,113 @@
+package pl.kielce.tu.backend.service.reservation.approval;
+
+import static pl.kielce.tu.backend.util.TransactionCallbacks.afterCommit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class ReservationAutoApprovalService {
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final UserContextLogger userContextLogger;
+    private final ReservationAutoApprovalProcessor processor;
+    private final BlockingQueue<Long> queue;
+    private final ExecutorService executor;
+
+    public ReservationAutoApprovalService(
+            @Value("${reservation.auto-approval.enabled:false}") boolean enabled,
+            @Value("${reservation.auto-approval.batch-size:50}") int batchSize,
+            @Value("${reservation.auto-approval.linger-ms:200}") long lingerMillis,
+            @Value("${reservation.auto-approval.queue-capacity:10000}") int queueCapacity,
+            UserContextLogger userContextLogger,
+            ReservationAutoApprovalProcessor processor) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.userContextLogger = userContextLogger;
+        this.processor = processor;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.executor = enabled
+                ? Executors.newSingleThreadExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "reservation-auto-approval");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            executor.execute(this::runWorker);
+        }
+    }
+
+    public void submit(Reservation reservation) {
+        submit(List.of(reservation));
+    }
+
+    public void submit(List<Reservation> reservations) {
+        if (!enabled || reservations.isEmpty()) {
+            return;
+        }
+        List<Long> ids = reservations.stream().map(Reservation::getId).toList();
+        afterCommit(() -> ids.forEach(this::enqueue));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void enqueue(Long reservationId) {
+        if (reservationId != null && !queue.offer(reservationId)) {
+            userContextLogger.logUserOperation("AUTO_APPROVAL_SKIPPED",
+                    "Queue full, reservation ID: " + reservationId + " left for manual review");
+        }
+    }
+
+    private void runWorker() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                List<Long> batch = new ArrayList<>(batchSize);
+                batch.add(queue.take());
+                TimeUnit.MILLISECONDS.sleep(lingerMillis);
+                queue.drainTo(batch, batchSize - 1);
+                processBatch(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void processBatch(List<Long> batch) {
+        try {
+            AutoApprovalBatch result = processor.process(batch);
+            userContextLogger.logUserOperation("AUTO_APPROVAL_BATCH",
+                    String.format("Evaluated: %d, Approved: %d, Rules: %s",
+                            result.evaluated(), result.approved(), result.approvedByRule()));
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("AUTO_APPROVAL_BATCH", "Error: " + e.getMessage());
+        }
+    }
+
+}
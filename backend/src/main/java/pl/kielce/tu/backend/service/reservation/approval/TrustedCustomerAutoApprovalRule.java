@@ -0,0 +1,66 @@
+package pl.kielce.tu.backend.service.reservation.approval;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import pl.kielce.tu.backend.model.Money;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.model.entity.User;
+
+@Component
+public class TrustedCustomerAutoApprovalRule implements AutoApprovalRule {
+
+    private final boolean enabled;
+    private final int maxCount;
+    private final Money maxPricePerDay;
+    private final long maxRentalDays;
+
+    public TrustedCustomerAutoApprovalRule(
+            @Value("${reservation.auto-approval.trusted.enabled:true}") boolean enabled,
+            @Value("${reservation.auto-approval.trusted.max-count:2}") int maxCount,
+            @Value("${reservation.auto-approval.trusted.max-price-per-day:10.0}") BigDecimal maxPricePerDay,
+            @Value("${reservation.auto-approval.trusted.max-rental-days:14}") long maxRentalDays) {
+        this.enabled = enabled;
+        this.maxCount = maxCount;
+        this.maxPricePerDay = Money.of(maxPricePerDay);
+        this.maxRentalDays = maxRentalDays;
+    }
+
+    @Override
+    public String getName() {
+        return "trusted-customer";
+    }
+
+    @Override
+    public boolean matches(AutoApprovalCandidate candidate) {
+        if (!enabled || candidate.hasOverdueRentals()) {
+            return false;
+        }
+        Reservation reservation = candidate.reservation();
+        return isVerified(reservation.getUser())
+                && reservation.getCount() != null && reservation.getCount() <= maxCount
+                && isCheapEnough(reservation.getDvd())
+                && isShortEnough(reservation);
+    }
+
+    private boolean isVerified(User user) {
+        return user != null && Boolean.TRUE.equals(user.getIsVerified());
+    }
+
+    private boolean isCheapEnough(Dvd dvd) {
+        return dvd != null && dvd.getRentalPricePerDay() != null
+                && dvd.getRentalPrice().compareTo(maxPricePerDay) < 0;
+    }
+
+    private boolean isShortEnough(Reservation reservation) {
+        if (reservation.getRentalStart() == null || reservation.getRentalEnd() == null) {
+            return false;
+        }
+        return Duration.between(reservation.getRentalStart(), reservation.getRentalEnd()).toDays() < maxRentalDays;
+    }
+
+}
@@ -0,0 +1,6 @@
+package pl.kielce.tu.backend.service.reservation.expiry;
+
+import java.util.List;
+
+public record ReservationExpiryChunk(int expiredReservations, int releasedCopies, List<Long> dvdIds) {
+}
@@ -0,0 +1,53 @@
+package pl.kielce.tu.backend.service.reservation.expiry;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.dto.DvdCopyDeltaDto;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationExpiryChunkProcessor {
+
+    private final DvdRepository dvdRepository;
+    private final ReservationRepository reservationRepository;
+    private final DvdAvailabilityTimelineService availabilityTimelineService;
+    private final AdminQueueEventPublisher adminQueueEventPublisher;
+
+    @Transactional
+    public ReservationExpiryChunk expireChunk(LocalDateTime cutoff, int chunkSize) {
+        List<Long> candidateIds = reservationRepository.findIdsByStatusAndCreatedAtBefore(ReservationStatus.PENDING,
+                cutoff, PageRequest.of(0, chunkSize));
+        List<Long> ids = candidateIds.isEmpty() ? List.of()
+                : reservationRepository.findAllForUpdateByIdInAndStatus(candidateIds, ReservationStatus.PENDING)
+                        .stream().map(Reservation::getId).toList();
+        if (ids.isEmpty()) {
+            return new ReservationExpiryChunk(0, 0, List.of());
+        }
+        List<DvdCopyDeltaDto> deltas = reservationRepository.sumCountsByDvdForIds(ids, ReservationStatus.PENDING);
+        int expired = reservationRepository.updateStatusForIds(ids, ReservationStatus.PENDING,
+                ReservationStatus.EXPIRED, LocalDateTime.now());
+        adminQueueEventPublisher.publish(AdminQueueEventType.RESERVATION_RESOLVED, ids);
+        int releasedCopies = 0;
+        for (DvdCopyDeltaDto delta : deltas) {
+            dvdRepository.increaseCopiesAvailable(delta.getDvdId(), delta.getCopies().intValue());
+            availabilityTimelineService.evict(delta.getDvdId());
+            releasedCopies += delta.getCopies().intValue();
+        }
+        List<Long> dvdIds = deltas.stream().map(DvdCopyDeltaDto::getDvdId).toList();
+        return new ReservationExpiryChunk(expired, releasedCopies, dvdIds);
+    }
+
+}
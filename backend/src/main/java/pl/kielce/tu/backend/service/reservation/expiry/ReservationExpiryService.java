@@ -0,0 +1,65 @@
+package pl.kielce.tu.backend.service.reservation.expiry;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.dto.ReservationExpiryDto;
+import pl.kielce.tu.backend.service.reminder.scheduler.ReminderSchedulerService;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+@RequiredArgsConstructor
+public class ReservationExpiryService {
+
+    @Value("${reservation.hold.timeout-hours:48}")
+    private long holdTimeoutHours;
+
+    @Value("${reservation.expiry.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${reservation.expiry.max-chunks:100}")
+    private int maxChunks;
+
+    private final UserContextLogger userContextLogger;
+    private final ReservationExpiryChunkProcessor chunkProcessor;
+    private final ReminderSchedulerService reminderSchedulerService;
+
+    public ReservationExpiryDto expireStaleReservations() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(holdTimeoutHours);
+        Set<Long> releasedDvdIds = new LinkedHashSet<>();
+        int expired = 0;
+        int releasedCopies = 0;
+        int chunks = 0;
+        while (chunks < maxChunks) {
+            ReservationExpiryChunk chunk = chunkProcessor.expireChunk(cutoff, chunkSize);
+            if (chunk.expiredReservations() == 0) {
+                break;
+            }
+            chunks++;
+            expired += chunk.expiredReservations();
+            releasedCopies += chunk.releasedCopies();
+            releasedDvdIds.addAll(chunk.dvdIds());
+        }
+        notifyReminders(releasedDvdIds);
+        return ReservationExpiryDto.builder()
+                .expiredReservations(expired)
+                .releasedCopies(releasedCopies)
+                .affectedDvds(releasedDvdIds.size())
+                .chunks(chunks)
+                .build();
+    }
+
+    private void notifyReminders(Set<Long> releasedDvdIds) {
+        try {
+            reminderSchedulerService.processAvailableDvdReminders(releasedDvdIds);
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("RESERVATION_EXPIRY_REMINDERS_FAILED", "Error: " + e.getMessage());
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+package pl.kielce.tu.backend.service.reservation.idempotency;
+
+public record IdempotencyClaim(Long userId, String key, String fingerprint) {
+}
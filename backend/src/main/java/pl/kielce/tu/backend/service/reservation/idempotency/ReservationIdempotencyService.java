@@ -0,0 +1,139 @@
+package pl.kielce.tu.backend.service.reservation.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import pl.kielce.tu.backend.extractor.ClaimsExtractor;
+import pl.kielce.tu.backend.model.constant.CookieNames;
+import pl.kielce.tu.backend.model.dto.ReservationDto;
+import pl.kielce.tu.backend.model.entity.ReservationIdempotencyKey;
+import pl.kielce.tu.backend.service.auth.CookieService;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class ReservationIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    @Value("${jwt.secret}")
+    private String jwtSecret;
+
+    private final Duration ttl;
+    private final CookieService cookieService;
+    private final ClaimsExtractor claimsExtractor;
+    private final UserContextLogger userContextLogger;
+    private final ReservationIdempotencyStore idempotencyStore;
+
+    public ReservationIdempotencyService(
+            @Value("${reservation.idempotency.ttl-minutes:1440}") long ttlMinutes,
+            CookieService cookieService,
+            ClaimsExtractor claimsExtractor,
+            UserContextLogger userContextLogger,
+            ReservationIdempotencyStore idempotencyStore) {
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.cookieService = cookieService;
+        this.claimsExtractor = claimsExtractor;
+        this.userContextLogger = userContextLogger;
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    public ResponseEntity<Void> handleCreateReservation(HttpServletRequest request, String idempotencyKey,
+            ReservationDto reservationDto, Function<IdempotencyClaim, ResponseEntity<Void>> action) {
+        if (idempotencyKey == null) {
+            return action.apply(null);
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH || reservationDto == null) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        IdempotencyClaim claim;
+        try {
+            claim = new IdempotencyClaim(extractUserIdFromRequest(request), idempotencyKey,
+                    fingerprint(reservationDto));
+        } catch (Exception e) {
+            return action.apply(null);
+        }
+        Optional<ResponseEntity<Void>> stored = replayStored(claim);
+        if (stored.isPresent()) {
+            return stored.get();
+        }
+        ResponseEntity<Void> response = execute(claim, action);
+        if (isReplayable(HttpStatus.valueOf(response.getStatusCode().value()))
+                && response.getStatusCode() != HttpStatus.CONFLICT) {
+            return response;
+        }
+        return replayStored(claim).orElse(response);
+    }
+
+    public int sweepExpired() {
+        int deleted = idempotencyStore.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        userContextLogger.logUserOperation("RESERVATION_IDEMPOTENCY_SWEEP", "Deleted keys: " + deleted);
+        return deleted;
+    }
+
+    private ResponseEntity<Void> execute(IdempotencyClaim claim,
+            Function<IdempotencyClaim, ResponseEntity<Void>> action) {
+        try {
+            return action.apply(claim);
+        } catch (RuntimeException e) {
+            userContextLogger.logUserOperation("RESERVATION_IDEMPOTENCY_FAILED",
+                    String.format("Key: %s, Error: %s", claim.key(), e.getMessage()));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private Optional<ResponseEntity<Void>> replayStored(IdempotencyClaim claim) {
+        return idempotencyStore.find(claim).map(stored -> replay(claim, stored));
+    }
+
+    private ResponseEntity<Void> replay(IdempotencyClaim claim, ReservationIdempotencyKey stored) {
+        if (!stored.getFingerprint().equals(claim.fingerprint())) {
+            userContextLogger.logUserOperation("RESERVATION_IDEMPOTENCY_MISMATCH",
+                    "User ID: " + claim.userId() + ", Key: " + claim.key());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        }
+        if (stored.getResponseStatus() == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        HttpStatus status = HttpStatus.valueOf(stored.getResponseStatus());
+        userContextLogger.logUserOperation("RESERVATION_IDEMPOTENCY_REPLAY",
+                String.format("User ID: %d, Key: %s, Status: %d", claim.userId(), claim.key(), status.value()));
+        return ResponseEntity.status(status).header("Idempotent-Replayed", "true").build();
+    }
+
+    private boolean isReplayable(HttpStatus status) {
+        return !status.is5xxServerError() && status != HttpStatus.UNAUTHORIZED;
+    }
+
+    private String fingerprint(ReservationDto reservationDto) {
+        String canonical = String.join("|", String.valueOf(reservationDto.getDvdId()),
+                String.valueOf(reservationDto.getRentalStart()), String.valueOf(reservationDto.getRentalEnd()),
+                String.valueOf(reservationDto.getCount()));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private Long extractUserIdFromRequest(HttpServletRequest request) {
+        String token = cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN);
+        if (token == null) {
+            throw new RuntimeException("Authentication token not found");
+        }
+        return claimsExtractor.extractUserId(token, jwtSecret);
+    }
+
+}
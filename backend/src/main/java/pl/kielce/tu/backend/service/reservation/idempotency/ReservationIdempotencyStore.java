@@ -0,0 +1,46 @@
+package pl.kielce.tu.backend.service.reservation.idempotency;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.entity.ReservationIdempotencyKey;
+import pl.kielce.tu.backend.repository.ReservationIdempotencyKeyRepository;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationIdempotencyStore {
+
+    private final ReservationIdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ReservationIdempotencyKey claim(IdempotencyClaim claim) {
+        return idempotencyKeyRepository.saveAndFlush(ReservationIdempotencyKey.builder()
+                .userId(claim.userId())
+                .idempotencyKey(claim.key())
+                .fingerprint(claim.fingerprint())
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void complete(ReservationIdempotencyKey idempotencyKey, HttpStatus status) {
+        idempotencyKey.setResponseStatus(status.value());
+        idempotencyKeyRepository.save(idempotencyKey);
+    }
+
+    public Optional<ReservationIdempotencyKey> find(IdempotencyClaim claim) {
+        return idempotencyKeyRepository.findByUserIdAndIdempotencyKey(claim.userId(), claim.key());
+    }
+
+    @Transactional
+    public int deleteCreatedBefore(LocalDateTime cutoff) {
+        return idempotencyKeyRepository.deleteCreatedBefore(cutoff);
+    }
+
+}
@@ -0,0 +1,127 @@
+package pl.kielce.tu.backend.service.reservation.lane;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.exception.ValidationException;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.model.entity.ReservationIdempotencyKey;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.repository.UserRepository;
+import pl.kielce.tu.backend.service.dvd.DvdAvailabilityService;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+import pl.kielce.tu.backend.service.reservation.ReservationValidationService;
+import pl.kielce.tu.backend.service.reservation.approval.ReservationAutoApprovalService;
+import pl.kielce.tu.backend.service.reservation.idempotency.IdempotencyClaim;
+import pl.kielce.tu.backend.service.reservation.idempotency.ReservationIdempotencyStore;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationBatchAllocator {
+
+    private final DvdRepository dvdRepository;
+    private final UserRepository userRepository;
+    private final UserContextLogger userContextLogger;
+    private final DvdAvailabilityService availabilityService;
+    private final ReservationRepository reservationRepository;
+    private final ReservationValidationService reservationValidationService;
+    private final DvdAvailabilityTimelineService availabilityTimelineService;
+    private final AdminQueueEventPublisher adminQueueEventPublisher;
+    private final ReservationAutoApprovalService autoApprovalService;
+    private final ReservationIdempotencyStore idempotencyStore;
+
+    @Transactional
+    public List<HttpStatus> allocate(Long dvdId, List<ReservationLaneRequest> requests) {
+        Optional<Dvd> dvd = dvdRepository.findById(dvdId);
+        if (dvd.isEmpty()) {
+            return requests.stream().map(request -> HttpStatus.NOT_FOUND).toList();
+        }
+        Map<Long, User> users = findUsers(requests);
+        List<HttpStatus> outcomes = new ArrayList<>(requests.size());
+        List<Reservation> reservations = new ArrayList<>();
+        Set<String> claimedKeys = new HashSet<>();
+        for (ReservationLaneRequest request : requests) {
+            outcomes.add(allocateClaimed(dvd.get(), users.get(request.userId()), request, reservations, claimedKeys));
+        }
+        reservationRepository.saveAll(reservations);
+        reservations.forEach(availabilityTimelineService::registerReservation);
+        adminQueueEventPublisher.publish(AdminQueueEventType.RESERVATION_PENDING,
+                reservations.stream().map(Reservation::getId).toList());
+        autoApprovalService.submit(reservations);
+        logBatch(dvdId, requests.size(), reservations.size());
+        return outcomes;
+    }
+
+    private HttpStatus allocateClaimed(Dvd dvd, User user, ReservationLaneRequest request,
+            List<Reservation> reservations, Set<String> claimedKeys) {
+        IdempotencyClaim claim = request.claim();
+        if (claim == null || user == null) {
+            return allocateSingle(dvd, user, request, reservations);
+        }
+        if (!claimedKeys.add(claim.userId() + ":" + claim.key()) || idempotencyStore.find(claim).isPresent()) {
+            return HttpStatus.CONFLICT;
+        }
+        ReservationIdempotencyKey idempotencyKey = idempotencyStore.claim(claim);
+        HttpStatus outcome = allocateSingle(dvd, user, request, reservations);
+        idempotencyStore.complete(idempotencyKey, outcome);
+        return outcome;
+    }
+
+    private HttpStatus allocateSingle(Dvd dvd, User user, ReservationLaneRequest request,
+            List<Reservation> reservations) {
+        if (user == null) {
+            return HttpStatus.NOT_FOUND;
+        }
+        try {
+            reservationValidationService.validateReservationRequest(request.reservation(), dvd);
+        } catch (ValidationException e) {
+            return HttpStatus.BAD_REQUEST;
+        }
+        availabilityService.decreaseAvailability(dvd, request.reservation().getCount());
+        reservations.add(buildReservation(user, dvd, request));
+        return HttpStatus.CREATED;
+    }
+
+    private Map<Long, User> findUsers(List<ReservationLaneRequest> requests) {
+        List<Long> userIds = requests.stream().map(ReservationLaneRequest::userId).distinct().toList();
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
+
+    private Reservation buildReservation(User user, Dvd dvd, ReservationLaneRequest request) {
+        return Reservation.builder()
+                .user(user)
+                .dvd(dvd)
+                .rentalStart(request.reservation().getRentalStart())
+                .rentalEnd(request.reservation().getRentalEnd())
+                .count(request.reservation().getCount())
+                .createdAt(LocalDateTime.now())
+                .status(ReservationStatus.PENDING)
+                .build();
+    }
+
+    private void logBatch(Long dvdId, int requested, int allocated) {
+        userContextLogger.logUserOperation("RESERVATION_LANE_BATCH",
+                String.format("DVD ID: %d, Requests: %d, Allocated: %d", dvdId, requested, allocated));
+    }
+
+}
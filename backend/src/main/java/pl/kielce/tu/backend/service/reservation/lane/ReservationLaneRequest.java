@@ -0,0 +1,23 @@
+package pl.kielce.tu.backend.service.reservation.lane;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpStatus;
+
+import pl.kielce.tu.backend.model.dto.ReservationDto;
+import pl.kielce.tu.backend.service.reservation.idempotency.IdempotencyClaim;
+
+public record ReservationLaneRequest(Long userId, ReservationDto reservation, IdempotencyClaim claim,
+        CompletableFuture<HttpStatus> result, AtomicBoolean taken) {
+
+    public ReservationLaneRequest(Long userId, ReservationDto reservation, IdempotencyClaim claim,
+            CompletableFuture<HttpStatus> result) {
+        this(userId, reservation, claim, result, new AtomicBoolean());
+    }
+
+    public boolean take() {
+        return taken.compareAndSet(false, true);
+    }
+
+}
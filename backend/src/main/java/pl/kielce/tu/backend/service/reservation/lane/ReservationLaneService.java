@@ -0,0 +1,212 @@
+package pl.kielce.tu.backend.service.reservation.lane;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import pl.kielce.tu.backend.model.dto.ReservationDto;
+import pl.kielce.tu.backend.service.reservation.ReservationService;
+import pl.kielce.tu.backend.service.reservation.idempotency.IdempotencyClaim;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class ReservationLaneService {
+
+    private static final int BATCH_ATTEMPTS = 2;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long timeoutMillis;
+    private final ReservationService reservationService;
+    private final UserContextLogger userContextLogger;
+    private final ReservationBatchAllocator batchAllocator;
+    private final List<Lane> lanes = new ArrayList<>();
+
+    public ReservationLaneService(
+            @Value("${reservation.lanes.enabled:false}") boolean enabled,
+            @Value("${reservation.lanes.count:8}") int laneCount,
+            @Value("${reservation.lanes.batch-size:64}") int batchSize,
+            @Value("${reservation.lanes.timeout-ms:5000}") long timeoutMillis,
+            ReservationService reservationService,
+            UserContextLogger userContextLogger,
+            ReservationBatchAllocator batchAllocator) {
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.timeoutMillis = timeoutMillis;
+        this.reservationService = reservationService;
+        this.userContextLogger = userContextLogger;
+        this.batchAllocator = batchAllocator;
+        if (enabled) {
+            for (int i = 0; i < laneCount; i++) {
+                lanes.add(new Lane(i));
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public ResponseEntity<Void> handleCreateReservation(HttpServletRequest request, ReservationDto reservationDto,
+            IdempotencyClaim claim) {
+        try {
+            Long userId = reservationService.extractUserIdFromRequest(request);
+            reservationService.validateBasicReservationData(reservationDto);
+            ReservationLaneRequest laneRequest = enqueue(userId, reservationDto, claim);
+            HttpStatus status = awaitOutcome(laneRequest);
+            return ResponseEntity.status(status).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    public CompletableFuture<HttpStatus> submit(Long userId, ReservationDto reservationDto, IdempotencyClaim claim) {
+        return enqueue(userId, reservationDto, claim).result();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lanes.forEach(Lane::shutdown);
+    }
+
+    private ReservationLaneRequest enqueue(Long userId, ReservationDto reservationDto, IdempotencyClaim claim) {
+        if (!enabled) {
+            throw new IllegalStateException("Reservation lanes are disabled");
+        }
+        ReservationLaneRequest laneRequest = new ReservationLaneRequest(userId, reservationDto, claim,
+                new CompletableFuture<>());
+        laneFor(reservationDto.getDvdId()).enqueue(laneRequest);
+        return laneRequest;
+    }
+
+    private HttpStatus awaitOutcome(ReservationLaneRequest laneRequest) throws Exception {
+        try {
+            return laneRequest.result().get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            boolean abandoned = laneRequest.take();
+            userContextLogger.logUserOperation("RESERVATION_LANE_TIMEOUT", String.format(
+                    "DVD ID: %d, Waited: %d ms, %s", laneRequest.reservation().getDvdId(), timeoutMillis,
+                    abandoned ? "Dropped from queue" : "Still allocating"));
+            return HttpStatus.SERVICE_UNAVAILABLE;
+        }
+    }
+
+    private Lane laneFor(Long dvdId) {
+        return lanes.get(Math.floorMod(dvdId.hashCode(), lanes.size()));
+    }
+
+    private void processBatch(List<ReservationLaneRequest> batch) {
+        Map<Long, List<ReservationLaneRequest>> byDvd = new LinkedHashMap<>();
+        batch.stream().filter(ReservationLaneRequest::take).forEach(request -> byDvd.computeIfAbsent(request.reservation().getDvdId(), id -> new ArrayList<>())
+                .add(request));
+        byDvd.forEach(this::allocateForDvd);
+    }
+
+    private void allocateForDvd(Long dvdId, List<ReservationLaneRequest> requests) {
+        for (int attempt = 1; attempt <= BATCH_ATTEMPTS; attempt++) {
+            try {
+                complete(requests, batchAllocator.allocate(dvdId, requests));
+                return;
+            } catch (Exception e) {
+                userContextLogger.logUserOperation("RESERVATION_LANE_BATCH",
+                        String.format("DVD ID: %d, Attempt: %d, Error: %s", dvdId, attempt, e.getMessage()));
+            }
+        }
+        if (requests.size() > 1) {
+            requests.forEach(request -> allocateAlone(dvdId, request));
+        } else {
+            requests.forEach(request -> request.result().complete(HttpStatus.INTERNAL_SERVER_ERROR));
+        }
+    }
+
+    private void allocateAlone(Long dvdId, ReservationLaneRequest request) {
+        try {
+            complete(List.of(request), batchAllocator.allocate(dvdId, List.of(request)));
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("RESERVATION_LANE_SINGLE",
+                    String.format("DVD ID: %d, User ID: %d, Error: %s", dvdId, request.userId(), e.getMessage()));
+            request.result().complete(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void complete(List<ReservationLaneRequest> requests, List<HttpStatus> outcomes) {
+        for (int i = 0; i < requests.size(); i++) {
+            requests.get(i).result().complete(outcomes.get(i));
+        }
+    }
+
+    private class Lane {
+
+        private final Queue<ReservationLaneRequest> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final ExecutorService executor;
+
+        private Lane(int index) {
+            this.executor = Executors.newSingleThreadExecutor(
+                    runnable -> new Thread(runnable, "reservation-lane-" + index));
+        }
+
+        private void enqueue(ReservationLaneRequest request) {
+            queue.add(request);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                List<ReservationLaneRequest> batch = pollBatch();
+                while (!batch.isEmpty()) {
+                    processBatch(batch);
+                    batch = pollBatch();
+                }
+            } finally {
+                draining.set(false);
+                if (!queue.isEmpty()) {
+                    scheduleDrain();
+                }
+            }
+        }
+
+        private List<ReservationLaneRequest> pollBatch() {
+            List<ReservationLaneRequest> batch = new ArrayList<>(batchSize);
+            ReservationLaneRequest request;
+            while (batch.size() < batchSize && (request = queue.poll()) != null) {
+                batch.add(request);
+            }
+            return batch;
+        }
+
+        private void shutdown() {
+            executor.shutdown();
+            queue.forEach(request -> request.result().complete(HttpStatus.SERVICE_UNAVAILABLE));
+        }
+
+    }
+
+}
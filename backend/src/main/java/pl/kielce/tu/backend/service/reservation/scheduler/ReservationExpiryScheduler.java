@@ -0,0 +1,46 @@
+package pl.kielce.tu.backend.service.reservation.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.dto.ReservationExpiryDto;
+import pl.kielce.tu.backend.service.reservation.expiry.ReservationExpiryService;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Component
+@RequiredArgsConstructor
+@Tag(name = "Reservation Scheduler", description = "Automated reservation processing tasks")
+public class ReservationExpiryScheduler {
+
+    private static final String JOB_NAME = "reservation-expiry";
+
+    private final UserContextLogger userContextLogger;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final ReservationExpiryService reservationExpiryService;
+
+    @Scheduled(cron = "${reservation.expiry.cron:0 */10 * * * *}")
+    @Operation(summary = "Expire stale reservations", description = "Automatically expires pending reservations older than the configured hold timeout and releases their copies")
+    public void expireStaleReservations() {
+        scheduledJobRunner.run(JOB_NAME, this::runReservationExpiry);
+    }
+
+    private void runReservationExpiry() {
+        userContextLogger.logUserOperation("SCHEDULED_RESERVATION_EXPIRY", "Starting stale reservation expiry");
+        ReservationExpiryDto result = reservationExpiryService.expireStaleReservations();
+        logProcessingResults(result);
+    }
+
+    private void logProcessingResults(ReservationExpiryDto result) {
+        String details = String.format("Expired: %d, Released copies: %d, DVDs: %d, Chunks: %d",
+                result.getExpiredReservations(),
+                result.getReleasedCopies(),
+                result.getAffectedDvds(),
+                result.getChunks());
+        userContextLogger.logUserOperation("RESERVATION_EXPIRY_COMPLETED", details);
+    }
+
+}
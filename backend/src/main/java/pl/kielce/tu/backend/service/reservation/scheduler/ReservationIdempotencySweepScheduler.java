@@ -0,0 +1,28 @@
+package pl.kielce.tu.backend.service.reservation.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.service.reservation.idempotency.ReservationIdempotencyService;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+
+@Component
+@RequiredArgsConstructor
+@Tag(name = "Reservation Scheduler", description = "Automated reservation processing tasks")
+public class ReservationIdempotencySweepScheduler {
+
+    private static final String JOB_NAME = "reservation-idempotency-sweep";
+
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final ReservationIdempotencyService reservationIdempotencyService;
+
+    @Scheduled(cron = "${reservation.idempotency.sweep-cron:0 30 * * * *}")
+    @Operation(summary = "Sweep idempotency keys", description = "Deletes stored reservation idempotency keys older than the configured TTL")
+    public void sweepExpiredKeys() {
+        scheduledJobRunner.run(JOB_NAME, reservationIdempotencyService::sweepExpired);
+    }
+
+}
@@ -0,0 +1,182 @@
+package pl.kielce.tu.backend.service.revenue;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import pl.kielce.tu.backend.model.constant.RevenueDimension;
+import pl.kielce.tu.backend.model.constant.RevenuePeriod;
+import pl.kielce.tu.backend.model.dto.RevenueEntryDto;
+import pl.kielce.tu.backend.model.dto.RevenueReportDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.Genre;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.repository.RevenueRollupRepository;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class RevenueRollupService {
+
+    private static final String BACKFILL_JOB_NAME = "revenue-rollup-backfill";
+
+    private final boolean backfillOnStartup;
+    private final RevenueRollupStore rollupStore;
+    private final UserContextLogger userContextLogger;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final RevenueRollupRepository rollupRepository;
+
+    public RevenueRollupService(
+            @Value("${revenue.rollup.backfill-on-startup:true}") boolean backfillOnStartup,
+            RevenueRollupStore rollupStore,
+            UserContextLogger userContextLogger,
+            ScheduledJobRunner scheduledJobRunner,
+            RevenueRollupRepository rollupRepository) {
+        this.backfillOnStartup = backfillOnStartup;
+        this.rollupStore = rollupStore;
+        this.userContextLogger = userContextLogger;
+        this.scheduledJobRunner = scheduledJobRunner;
+        this.rollupRepository = rollupRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!backfillOnStartup || rollupRepository.count() > 0) {
+            return;
+        }
+        try {
+            backfill(LocalDate.EPOCH, LocalDate.now().plusDays(1));
+        } catch (IllegalStateException e) {
+            userContextLogger.logUserOperation("REVENUE_ROLLUP_BACKFILL", "Error: " + e.getMessage());
+        }
+    }
+
+    @Transactional
+    public void record(Rental rental, LocalDateTime generatedAt, BigDecimal baseAmount, BigDecimal lateFee) {
+        Dvd dvd = rental.getDvd();
+        if (dvd == null || generatedAt == null) {
+            return;
+        }
+        LocalDate day = generatedAt.toLocalDate();
+        increment(RevenueDimension.DVD, day, dvd.getId(), baseAmount, lateFee);
+        resolveGenreIds(dvd).forEach(genreId -> increment(RevenueDimension.GENRE, day, genreId, baseAmount, lateFee));
+    }
+
+    public ResponseEntity<RevenueReportDto> handleGetRevenueReport(RevenuePeriod period, LocalDate date,
+            RevenueDimension dimension) {
+        try {
+            RevenuePeriod resolvedPeriod = period != null ? period : RevenuePeriod.MONTH;
+            RevenueDimension resolvedDimension = dimension != null ? dimension : RevenueDimension.DVD;
+            LocalDate from = resolvePeriodStart(resolvedPeriod, date != null ? date : LocalDate.now());
+            LocalDate to = resolvePeriodEnd(resolvedPeriod, from);
+            RevenueReportDto report = RevenueReportDto.builder()
+                    .period(resolvedPeriod)
+                    .from(from)
+                    .to(to)
+                    .dimension(resolvedDimension)
+                    .totals(rollupRepository.findTotals(from, to))
+                    .entries(findEntries(resolvedDimension, from, to))
+                    .build();
+            userContextLogger.logUserOperation("GET_REVENUE_REPORT",
+                    String.format("Period: %s, Range: %s - %s, Dimension: %s", resolvedPeriod, from, to,
+                            resolvedDimension));
+            return ResponseEntity.status(HttpStatus.OK).body(report);
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("GET_REVENUE_REPORT", "Error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    public ResponseEntity<Void> handleBackfill(LocalDate from, LocalDate to) {
+        try {
+            LocalDate rangeStart = from != null ? from : LocalDate.EPOCH;
+            LocalDate rangeEnd = to != null ? to : LocalDate.now();
+            if (!rangeStart.isBefore(rangeEnd)) {
+                throw new IllegalArgumentException("Backfill range start must be before its end");
+            }
+            if (!backfill(rangeStart, rangeEnd)) {
+                return ResponseEntity.status(HttpStatus.CONFLICT).build();
+            }
+            return ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("REVENUE_ROLLUP_BACKFILL", "Error: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    private boolean backfill(LocalDate from, LocalDate to) {
+        AtomicInteger rows = new AtomicInteger(-1);
+        if (!scheduledJobRunner.run(BACKFILL_JOB_NAME, () -> rows.set(rollupStore.rebuild(from, to)))) {
+            return false;
+        }
+        if (rows.get() < 0) {
+            throw new IllegalStateException("Revenue rollup backfill failed");
+        }
+        userContextLogger.logUserOperation("REVENUE_ROLLUP_BACKFILL",
+                String.format("Range: %s - %s, Rows: %d", from, to, rows.get()));
+        return true;
+    }
+
+    private void increment(RevenueDimension dimension, LocalDate day, Long dimensionId, BigDecimal baseAmount,
+            BigDecimal lateFee) {
+        if (rollupRepository.increment(dimension, day, dimensionId, baseAmount, lateFee) > 0) {
+            return;
+        }
+        try {
+            rollupStore.ensureRow(dimension, day, dimensionId);
+        } catch (DataIntegrityViolationException e) {
+            userContextLogger.logUserOperation("REVENUE_ROLLUP_ROW_RACE",
+                    String.format("Dimension: %s, Day: %s, ID: %d", dimension, day, dimensionId));
+        }
+        rollupRepository.increment(dimension, day, dimensionId, baseAmount, lateFee);
+    }
+
+    private List<Long> resolveGenreIds(Dvd dvd) {
+        if (dvd.getGenres() == null) {
+            return List.of();
+        }
+        return dvd.getGenres().stream()
+                .map(Genre::getId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .sorted()
+                .toList();
+    }
+
+    private List<RevenueEntryDto> findEntries(RevenueDimension dimension, LocalDate from, LocalDate to) {
+        return dimension == RevenueDimension.GENRE
+                ? rollupRepository.findGenreRevenue(from, to)
+                : rollupRepository.findDvdRevenue(from, to);
+    }
+
+    private LocalDate resolvePeriodStart(RevenuePeriod period, LocalDate date) {
+        return switch (period) {
+            case DAY -> date;
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+
+    private LocalDate resolvePeriodEnd(RevenuePeriod period, LocalDate from) {
+        return switch (period) {
+            case DAY -> from.plusDays(1);
+            case MONTH -> from.plusMonths(1);
+            case YEAR -> from.plusYears(1);
+        };
+    }
+
+}
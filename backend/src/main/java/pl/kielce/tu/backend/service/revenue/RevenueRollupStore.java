@@ -0,0 +1,39 @@
+package pl.kielce.tu.backend.service.revenue;
+
+import java.time.LocalDate;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.constant.RevenueDimension;
+import pl.kielce.tu.backend.model.entity.RevenueRollup;
+import pl.kielce.tu.backend.repository.RevenueRollupRepository;
+
+@Component
+@RequiredArgsConstructor
+public class RevenueRollupStore {
+
+    private final RevenueRollupRepository rollupRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void ensureRow(RevenueDimension dimension, LocalDate day, Long dimensionId) {
+        if (rollupRepository.existsByDimensionAndDayAndDimensionId(dimension, day, dimensionId)) {
+            return;
+        }
+        rollupRepository.saveAndFlush(RevenueRollup.builder()
+                .dimension(dimension)
+                .day(day)
+                .dimensionId(dimensionId)
+                .build());
+    }
+
+    @Transactional
+    public int rebuild(LocalDate from, LocalDate to) {
+        rollupRepository.deleteByDayBetween(from, to);
+        return rollupRepository.insertDvdRollups(from.atStartOfDay(), to.atStartOfDay())
+                + rollupRepository.insertGenreRollups(from.atStartOfDay(), to.atStartOfDay());
+    }
+
+}
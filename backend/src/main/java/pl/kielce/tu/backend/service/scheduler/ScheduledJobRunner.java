@@ -0,0 +1,191 @@
+package pl.kielce.tu.backend.service.scheduler;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import pl.kielce.tu.backend.model.constant.SchedulerRunOutcome;
+import pl.kielce.tu.backend.model.entity.SchedulerRun;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@Service
+public class ScheduledJobRunner {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final Duration CLOCK_SKEW_MARGIN = Duration.ofSeconds(5);
+
+    private final String nodeId;
+    private final Duration lockTtl;
+    private final Duration minHold;
+    private final long maxJitterMillis;
+    private final ScheduledExecutorService leaseRenewer;
+    private final SchedulerLockStore lockStore;
+    private final UserContextLogger userContextLogger;
+    private final Map<String, AtomicBoolean> running = new ConcurrentHashMap<>();
+
+    public ScheduledJobRunner(
+            @Value("${scheduler.node-id:}") String nodeId,
+            @Value("${scheduler.lock.ttl-seconds:600}") long lockTtlSeconds,
+            @Value("${scheduler.lock.min-hold-seconds:30}") long minHoldSeconds,
+            @Value("${scheduler.jitter-ms:2000}") long maxJitterMillis,
+            SchedulerLockStore lockStore,
+            UserContextLogger userContextLogger) {
+        this.nodeId = nodeId.isBlank() ? ManagementFactory.getRuntimeMXBean().getName() : nodeId;
+        this.lockTtl = Duration.ofSeconds(lockTtlSeconds);
+        this.minHold = Duration.ofSeconds(minHoldSeconds);
+        this.maxJitterMillis = maxJitterMillis;
+        this.lockStore = lockStore;
+        this.userContextLogger = userContextLogger;
+        validateLockDurations();
+        this.leaseRenewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "scheduler-lease-renewer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean run(String jobName, Runnable task) {
+        AtomicBoolean jobRunning = running.computeIfAbsent(jobName, name -> new AtomicBoolean());
+        if (!jobRunning.compareAndSet(false, true)) {
+            userContextLogger.logUserOperation("SCHEDULER_JOB_SKIPPED", jobName + " - previous run still in progress");
+            return false;
+        }
+        try {
+            if (!applyJitter() || !acquire(jobName)) {
+                return false;
+            }
+            ScheduledFuture<?> renewal = scheduleLeaseRenewal(jobName);
+            try {
+                execute(jobName, task);
+            } finally {
+                renewal.cancel(false);
+                release(jobName);
+            }
+            return true;
+        } finally {
+            jobRunning.set(false);
+        }
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        leaseRenewer.shutdownNow();
+    }
+
+    private void validateLockDurations() {
+        Duration minimum = Duration.ofMillis(maxJitterMillis).plus(CLOCK_SKEW_MARGIN);
+        if (minHold.compareTo(minimum) < 0) {
+            throw new IllegalArgumentException("scheduler.lock.min-hold-seconds must be at least " + minimum.toSeconds()
+                    + "s to cover jitter and clock skew");
+        }
+        if (lockTtl.compareTo(minHold) <= 0) {
+            throw new IllegalArgumentException("scheduler.lock.ttl-seconds must be longer than the minimum hold");
+        }
+    }
+
+    private ScheduledFuture<?> scheduleLeaseRenewal(String jobName) {
+        long periodMillis = lockTtl.toMillis() / 3;
+        return leaseRenewer.scheduleAtFixedRate(() -> renewLease(jobName), periodMillis, periodMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    private void renewLease(String jobName) {
+        try {
+            if (!lockStore.extend(jobName, nodeId, lockTtl)) {
+                userContextLogger.logUserOperation("SCHEDULER_LEASE_LOST", jobName);
+            }
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("SCHEDULER_LEASE_RENEWAL_FAILED", jobName + " - " + e.getMessage());
+        }
+    }
+
+    private void release(String jobName) {
+        try {
+            lockStore.release(jobName, nodeId, minHold);
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("SCHEDULER_LOCK_RELEASE_FAILED", jobName + " - " + e.getMessage());
+        }
+    }
+
+    private boolean applyJitter() {
+        if (maxJitterMillis <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(ThreadLocalRandom.current().nextLong(maxJitterMillis + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean acquire(String jobName) {
+        try {
+            if (lockStore.tryAcquire(jobName, nodeId, lockTtl)) {
+                return true;
+            }
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("SCHEDULER_LOCK_FAILED", jobName + " - " + e.getMessage());
+            return false;
+        }
+        userContextLogger.logUserOperation("SCHEDULER_JOB_SKIPPED", jobName + " - lock held by another node");
+        return false;
+    }
+
+    private void execute(String jobName, Runnable task) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        SchedulerRunOutcome outcome = SchedulerRunOutcome.SUCCEEDED;
+        String errorMessage = null;
+        try {
+            task.run();
+        } catch (Exception e) {
+            outcome = SchedulerRunOutcome.FAILED;
+            errorMessage = truncate(e.getMessage());
+            userContextLogger.logUserOperation("SCHEDULER_JOB_FAILED", jobName + " - " + e.getMessage());
+        }
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        recordRun(jobName, startedAt, durationMs, outcome, errorMessage);
+    }
+
+    private void recordRun(String jobName, LocalDateTime startedAt, long durationMs, SchedulerRunOutcome outcome,
+            String errorMessage) {
+        try {
+            lockStore.recordRun(SchedulerRun.builder()
+                    .jobName(jobName)
+                    .nodeId(nodeId)
+                    .startedAt(startedAt)
+                    .durationMs(durationMs)
+                    .outcome(outcome)
+                    .errorMessage(errorMessage)
+                    .build());
+        } catch (Exception e) {
+            userContextLogger.logUserOperation("SCHEDULER_RUN_RECORD_FAILED", jobName + " - " + e.getMessage());
+        }
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+
+}
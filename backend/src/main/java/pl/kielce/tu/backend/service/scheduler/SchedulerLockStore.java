@@ -0,0 +1,66 @@
+package pl.kielce.tu.backend.service.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import pl.kielce.tu.backend.model.entity.SchedulerLock;
+import pl.kielce.tu.backend.model.entity.SchedulerRun;
+import pl.kielce.tu.backend.repository.SchedulerLockRepository;
+import pl.kielce.tu.backend.repository.SchedulerRunRepository;
+
+@Component
+@RequiredArgsConstructor
+public class SchedulerLockStore {
+
+    private final SchedulerLockRepository lockRepository;
+    private final SchedulerRunRepository runRepository;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean tryAcquire(String jobName, String nodeId, Duration lockTtl) {
+        LocalDateTime now = lockRepository.currentDatabaseTime();
+        LocalDateTime lockedUntil = now.plus(lockTtl);
+        if (lockRepository.acquireExpired(jobName, nodeId, now, lockedUntil) == 1) {
+            return true;
+        }
+        if (lockRepository.existsById(jobName)) {
+            return false;
+        }
+        lockRepository.saveAndFlush(SchedulerLock.builder()
+                .jobName(jobName)
+                .lockedBy(nodeId)
+                .lockedAt(now)
+                .lockedUntil(lockedUntil)
+                .build());
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean extend(String jobName, String nodeId, Duration lockTtl) {
+        LocalDateTime now = lockRepository.currentDatabaseTime();
+        return lockRepository.updateLockedUntil(jobName, nodeId, now.plus(lockTtl)) == 1;
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void release(String jobName, String nodeId, Duration minHold) {
+        LocalDateTime now = lockRepository.currentDatabaseTime();
+        lockRepository.findById(jobName)
+                .filter(lock -> nodeId.equals(lock.getLockedBy()))
+                .ifPresent(lock -> lockRepository.updateLockedUntil(jobName, nodeId,
+                        latest(now, lock.getLockedAt().plus(minHold))));
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordRun(SchedulerRun run) {
+        runRepository.save(run);
+    }
+
+    private LocalDateTime latest(LocalDateTime first, LocalDateTime second) {
+        return first.isAfter(second) ? first : second;
+    }
+
+}
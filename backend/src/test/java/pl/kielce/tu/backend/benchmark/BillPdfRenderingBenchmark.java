@@ -0,0 +1,90 @@
+package pl.kielce.tu.backend.benchmark;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import pl.kielce.tu.backend.model.constant.BillType;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.model.entity.Transaction;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.service.invoice.pdf.BillPdfLayout;
+import pl.kielce.tu.backend.service.invoice.strategy.InvoicePdfStrategy;
+import pl.kielce.tu.backend.service.invoice.strategy.ReceiptPdfStrategy;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BillPdfRenderingBenchmark {
+
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    private Rental rental;
+    private InvoicePdfStrategy invoiceStrategy;
+    private ReceiptPdfStrategy receiptStrategy;
+
+    @Setup
+    public void setUp() {
+        BillPdfLayout layout = new BillPdfLayout();
+        UserContextLogger userContextLogger = new UserContextLogger();
+        invoiceStrategy = new InvoicePdfStrategy(layout, userContextLogger);
+        receiptStrategy = new ReceiptPdfStrategy(layout, userContextLogger);
+        rental = Rental.builder()
+                .id(1L)
+                .user(User.builder().id(1L).nickname("benchmark").build())
+                .transaction(Transaction.builder()
+                        .invoiceId("INV-1700000000-BENCH001")
+                        .dvdTitle("The Matrix")
+                        .rentalPeriodDays(7)
+                        .pricePerDay(new BigDecimal("4.00"))
+                        .lateFee(new BigDecimal("2.50"))
+                        .totalAmount(new BigDecimal("30.50"))
+                        .generatedAt(LocalDateTime.of(2025, 10, 1, 14, 30))
+                        .billType(BillType.INVOICE)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public void invoiceStreamed() {
+        invoiceStrategy.writePdf(rental, sink);
+    }
+
+    @Benchmark
+    public void receiptStreamed() {
+        receiptStrategy.writePdf(rental, sink);
+    }
+
+    @Benchmark
+    public byte[] invoiceBuffered() {
+        return invoiceStrategy.generatePdf(rental);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BillPdfRenderingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
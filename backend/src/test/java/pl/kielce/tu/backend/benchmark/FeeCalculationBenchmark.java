@@ -0,0 +1,118 @@
+package pl.kielce.tu.backend.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import pl.kielce.tu.backend.model.Money;
+import pl.kielce.tu.backend.model.constant.CalculationConstants;
+import pl.kielce.tu.backend.service.rental.calculation.LateFeeCalculationService;
+import pl.kielce.tu.backend.service.rental.calculation.RentalCalculationService;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FeeCalculationBenchmark {
+
+    private static final LocalDateTime ORIGIN = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    @Param({ "10000" })
+    private int batchSize;
+
+    private float[] prices;
+    private long[] priceMinorUnits;
+    private int[] counts;
+    private long[] rentalDays;
+    private LocalDateTime[] dueDates;
+    private LocalDateTime[] returnDates;
+    private LateFeeCalculationService lateFeeService;
+    private RentalCalculationService calculationService;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        lateFeeService = new LateFeeCalculationService(new UserContextLogger());
+        calculationService = new RentalCalculationService();
+        prices = new float[batchSize];
+        priceMinorUnits = new long[batchSize];
+        counts = new int[batchSize];
+        rentalDays = new long[batchSize];
+        dueDates = new LocalDateTime[batchSize];
+        returnDates = new LocalDateTime[batchSize];
+        for (int i = 0; i < batchSize; i++) {
+            prices[i] = (100 + random.nextInt(4900)) / 100f;
+            priceMinorUnits[i] = Money.of(prices[i]).minorUnits();
+            counts[i] = 1 + random.nextInt(3);
+            rentalDays[i] = 1 + random.nextInt(14);
+            dueDates[i] = ORIGIN.plusHours(random.nextInt(24 * 30));
+            returnDates[i] = dueDates[i].plusHours(random.nextInt(24 * 10) - 24 * 5);
+        }
+    }
+
+    @Benchmark
+    public long totalsInMinorUnits() {
+        long sum = 0L;
+        for (int i = 0; i < batchSize; i++) {
+            sum += calculationService.calculateBaseAmountMinor(priceMinorUnits[i], rentalDays[i], counts[i]);
+            sum += lateFeeService.calculateLateFeeMinor(priceMinorUnits[i], dueDates[i], returnDates[i]);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Money totalsAsMoney() {
+        Money sum = Money.ZERO;
+        for (int i = 0; i < batchSize; i++) {
+            Money price = Money.of(prices[i]);
+            sum = sum.plus(price.times(rentalDays[i]).times(counts[i]))
+                    .plus(Money.ofMinor(lateFeeService.calculateLateFeeMinor(price.minorUnits(), dueDates[i],
+                            returnDates[i])));
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public BigDecimal totalsAsBigDecimalBaseline() {
+        BigDecimal multiplier = CalculationConstants.LATE_FEE_MULTIPLIER.getValue();
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int i = 0; i < batchSize; i++) {
+            BigDecimal price = BigDecimal.valueOf(prices[i]);
+            sum = sum.add(price.multiply(BigDecimal.valueOf(rentalDays[i])).multiply(BigDecimal.valueOf(counts[i])));
+            if (returnDates[i].isAfter(dueDates[i])) {
+                long overdueDays = (long) Math.ceil(ChronoUnit.HOURS.between(dueDates[i], returnDates[i]) / 24.0);
+                sum = sum.add(price.multiply(multiplier).multiply(BigDecimal.valueOf(overdueDays)));
+            }
+        }
+        return sum;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(FeeCalculationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,42 @@
+package pl.kielce.tu.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class AdminQueueControllerTest {
+
+    @Mock
+    private AdminQueueEventPublisher adminQueueEventPublisher;
+
+    private AdminQueueController adminQueueController;
+
+    @BeforeEach
+    void setUp() {
+        adminQueueController = new AdminQueueController(adminQueueEventPublisher);
+    }
+
+    @Test
+    void shouldStreamQueueEvents_forwardToPublisher_andReturnResponse() {
+        ResponseEntity<SseEmitter> expected = ResponseEntity.ok(new SseEmitter());
+
+        when(adminQueueEventPublisher.handleSubscribe()).thenReturn(expected);
+
+        ResponseEntity<SseEmitter> actual = adminQueueController.streamQueueEvents();
+
+        assertSame(expected, actual);
+        verify(adminQueueEventPublisher).handleSubscribe();
+    }
+
+}
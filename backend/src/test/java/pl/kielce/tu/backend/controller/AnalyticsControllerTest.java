@@ -0,0 +1,59 @@
+package pl.kielce.tu.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import pl.kielce.tu.backend.model.constant.UtilizationRanking;
+import pl.kielce.tu.backend.model.dto.DvdUtilizationDto;
+import pl.kielce.tu.backend.service.analytics.UtilizationAnalyticsService;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsControllerTest {
+
+    @Mock
+    private UtilizationAnalyticsService utilizationAnalyticsService;
+
+    @InjectMocks
+    private AnalyticsController analyticsController;
+
+    @Test
+    void getUtilizationRanking_delegatesToService_andReturnsResponse() {
+        ResponseEntity<List<DvdUtilizationDto>> expected = ResponseEntity
+                .ok(List.of(DvdUtilizationDto.builder().dvdId(1L).build()));
+
+        when(utilizationAnalyticsService.handleGetUtilizationRanking(UtilizationRanking.PENDING_HOLD,
+                Sort.Direction.ASC, 10)).thenReturn(expected);
+
+        ResponseEntity<List<DvdUtilizationDto>> actual = analyticsController
+                .getUtilizationRanking(UtilizationRanking.PENDING_HOLD, Sort.Direction.ASC, 10);
+
+        verify(utilizationAnalyticsService, times(1)).handleGetUtilizationRanking(UtilizationRanking.PENDING_HOLD,
+                Sort.Direction.ASC, 10);
+        assertSame(expected, actual);
+    }
+
+    @Test
+    void recomputeUtilization_delegatesToService_andReturnsResponse() {
+        ResponseEntity<Void> expected = ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+
+        when(utilizationAnalyticsService.handleRecompute()).thenReturn(expected);
+
+        ResponseEntity<Void> actual = analyticsController.recomputeUtilization();
+
+        verify(utilizationAnalyticsService, times(1)).handleRecompute();
+        assertSame(expected, actual);
+    }
+}
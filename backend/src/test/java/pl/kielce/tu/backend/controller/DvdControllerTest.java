@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -13,9 +15,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import pl.kielce.tu.backend.model.dto.DvdAvailabilityCalendarDto;
 import pl.kielce.tu.backend.model.dto.DvdDto;
 import pl.kielce.tu.backend.model.dto.PagedResponseDto;
 import pl.kielce.tu.backend.service.dvd.DvdService;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
 
 @ExtendWith(MockitoExtension.class)
 class DvdControllerTest {
@@ -23,6 +27,9 @@ class DvdControllerTest {
     @Mock
     private DvdService dvdService;
 
+    @Mock
+    private DvdAvailabilityTimelineService availabilityTimelineService;
+
     @InjectMocks
     private DvdController dvdController;
 
@@ -67,4 +74,16 @@ class DvdControllerTest {
         assertSame(expected, actual);
         verify(dvdService).handleUpdateDvd("42", dto);
     }
+
+    @Test
+    void getAvailabilityCalendar_delegatesToTimelineService_andReturnsResponse() {
+        LocalDate from = LocalDate.of(2030, 1, 1);
+        LocalDate to = LocalDate.of(2030, 1, 7);
+        ResponseEntity<DvdAvailabilityCalendarDto> expected = ResponseEntity
+                .ok(DvdAvailabilityCalendarDto.builder().build());
+        when(availabilityTimelineService.handleGetAvailabilityCalendar("7", from, to)).thenReturn(expected);
+        ResponseEntity<DvdAvailabilityCalendarDto> actual = dvdController.getAvailabilityCalendar("7", from, to);
+        assertSame(expected, actual);
+        verify(availabilityTimelineService).handleGetAvailabilityCalendar("7", from, to);
+    }
 }
@@ -6,66 +6,116 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
-import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.servlet.http.HttpServletRequest;
+import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.dto.BillRequestDto;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
 import pl.kielce.tu.backend.model.dto.TransactionDto;
 import pl.kielce.tu.backend.service.invoice.InvoiceService;
+import pl.kielce.tu.backend.service.invoice.export.InvoiceArchiveService;
+import pl.kielce.tu.backend.service.invoice.export.TransactionLedgerExportService;
 
 class InvoiceControllerTest {
 
     @Test
     void getUserTransactions_delegatesToService_andReturnsResponse() {
         InvoiceService invoiceService = mock(InvoiceService.class);
-        InvoiceController controller = new InvoiceController(invoiceService);
+        InvoiceController controller = new InvoiceController(invoiceService, mock(InvoiceArchiveService.class),
+                mock(TransactionLedgerExportService.class));
 
         HttpServletRequest request = mock(HttpServletRequest.class);
-        ResponseEntity<List<TransactionDto>> expected = ResponseEntity.ok(Collections.<TransactionDto>emptyList());
+        ResponseEntity<CursorPageDto<TransactionDto>> expected = ResponseEntity.ok(CursorPageDto.<TransactionDto>builder()
+                .content(Collections.emptyList())
+                .pageSize(20)
+                .build());
 
-        when(invoiceService.handleGetUserTransactions(request)).thenReturn(expected);
+        when(invoiceService.handleGetUserTransactions(request, 5L, 20)).thenReturn(expected);
 
-        ResponseEntity<List<TransactionDto>> actual = controller.getUserTransactions(request);
+        ResponseEntity<CursorPageDto<TransactionDto>> actual = controller.getUserTransactions(request, 5L, 20);
 
-        verify(invoiceService, times(1)).handleGetUserTransactions(request);
+        verify(invoiceService, times(1)).handleGetUserTransactions(request, 5L, 20);
         assertSame(expected, actual);
     }
 
     @Test
     void getAllTransactions_delegatesToService_andReturnsResponse() {
         InvoiceService invoiceService = mock(InvoiceService.class);
-        InvoiceController controller = new InvoiceController(invoiceService);
+        InvoiceController controller = new InvoiceController(invoiceService, mock(InvoiceArchiveService.class),
+                mock(TransactionLedgerExportService.class));
 
         HttpServletRequest request = mock(HttpServletRequest.class);
-        ResponseEntity<List<TransactionDto>> expected = ResponseEntity.ok(Collections.<TransactionDto>emptyList());
+        ResponseEntity<CursorPageDto<TransactionDto>> expected = ResponseEntity.ok(CursorPageDto.<TransactionDto>builder()
+                .content(Collections.emptyList())
+                .pageSize(20)
+                .build());
 
-        when(invoiceService.handleGetAllTransactions(request)).thenReturn(expected);
+        when(invoiceService.handleGetAllTransactions(request, 5L, 20)).thenReturn(expected);
 
-        ResponseEntity<List<TransactionDto>> actual = controller.getAllTransactions(request);
+        ResponseEntity<CursorPageDto<TransactionDto>> actual = controller.getAllTransactions(request, 5L, 20);
 
-        verify(invoiceService, times(1)).handleGetAllTransactions(request);
+        verify(invoiceService, times(1)).handleGetAllTransactions(request, 5L, 20);
         assertSame(expected, actual);
     }
 
     @Test
     void generateBill_delegatesToService_withCorrectParameters_andReturnsResponse() {
         InvoiceService invoiceService = mock(InvoiceService.class);
-        InvoiceController controller = new InvoiceController(invoiceService);
+        InvoiceController controller = new InvoiceController(invoiceService, mock(InvoiceArchiveService.class),
+                mock(TransactionLedgerExportService.class));
 
         HttpServletRequest request = mock(HttpServletRequest.class);
         BillRequestDto billRequest = mock(BillRequestDto.class);
-        byte[] pdfBytes = new byte[] { 1, 2, 3 };
-        ResponseEntity<byte[]> expected = ResponseEntity.ok(pdfBytes);
+        Resource pdf = new ByteArrayResource(new byte[] { 1, 2, 3 });
+        ResponseEntity<Resource> expected = ResponseEntity.ok(pdf);
 
         when(invoiceService.handleGenerateBill(42L, billRequest, request)).thenReturn(expected);
 
-        ResponseEntity<byte[]> actual = controller.generateBill(42L, billRequest, request);
+        ResponseEntity<Resource> actual = controller.generateBill(42L, billRequest, request);
 
         verify(invoiceService, times(1)).handleGenerateBill(42L, billRequest, request);
         assertSame(expected, actual);
     }
+
+    @Test
+    void exportBills_delegatesToArchiveService_andReturnsResponse() {
+        InvoiceArchiveService invoiceArchiveService = mock(InvoiceArchiveService.class);
+        InvoiceController controller = new InvoiceController(mock(InvoiceService.class), invoiceArchiveService,
+                mock(TransactionLedgerExportService.class));
+        LocalDateTime from = LocalDateTime.of(2025, 9, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 10, 1, 0, 0);
+        ResponseEntity<StreamingResponseBody> expected = ResponseEntity.ok(outputStream -> {
+        });
+
+        when(invoiceArchiveService.handleExportArchive(from, to, BillType.INVOICE)).thenReturn(expected);
+
+        ResponseEntity<StreamingResponseBody> actual = controller.exportBills(from, to, BillType.INVOICE);
+
+        verify(invoiceArchiveService, times(1)).handleExportArchive(from, to, BillType.INVOICE);
+        assertSame(expected, actual);
+    }
+
+    @Test
+    void exportLedger_delegatesToLedgerExportService_andReturnsResponse() {
+        TransactionLedgerExportService ledgerExportService = mock(TransactionLedgerExportService.class);
+        InvoiceController controller = new InvoiceController(mock(InvoiceService.class),
+                mock(InvoiceArchiveService.class), ledgerExportService);
+        ResponseEntity<StreamingResponseBody> expected = ResponseEntity.ok(outputStream -> {
+        });
+
+        when(ledgerExportService.handleExportLedger()).thenReturn(expected);
+
+        ResponseEntity<StreamingResponseBody> actual = controller.exportLedger();
+
+        verify(ledgerExportService, times(1)).handleExportLedger();
+        assertSame(expected, actual);
+    }
 }
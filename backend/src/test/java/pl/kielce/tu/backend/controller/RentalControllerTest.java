@@ -16,6 +16,7 @@ import org.springframework.http.ResponseEntity;
 
 import jakarta.servlet.http.HttpServletRequest;
 import pl.kielce.tu.backend.model.constant.FilterConstants;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
 import pl.kielce.tu.backend.model.dto.RentalDto;
 import pl.kielce.tu.backend.service.rental.RentalService;
 
@@ -49,6 +50,20 @@ class RentalControllerTest {
         verify(rentalService).handleGetUserRentals(request, FilterConstants.HISTORICAL.getValue());
     }
 
+    @Test
+    void shouldSearchRentalHistory_forwardToService_andReturnResponse() {
+        ResponseEntity<CursorPageDto<RentalDto>> expected = ResponseEntity.ok(new CursorPageDto<>());
+
+        when(rentalService.handleSearchRentalHistory(request, "matrix", "INACTIVE", null, null, 12L, 20))
+                .thenReturn(expected);
+
+        ResponseEntity<CursorPageDto<RentalDto>> actual = rentalController.searchRentalHistory(request, "matrix",
+                "INACTIVE", null, null, 12L, 20);
+
+        assertSame(expected, actual);
+        verify(rentalService).handleSearchRentalHistory(request, "matrix", "INACTIVE", null, null, 12L, 20);
+    }
+
     @Test
     void shouldReturnDvd_forwardToService_andReturnResponse() {
         String id = "rental-1";
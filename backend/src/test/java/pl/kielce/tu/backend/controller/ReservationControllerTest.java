@@ -1,10 +1,15 @@
 package pl.kielce.tu.backend.controller;
 
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,8 +20,16 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import jakarta.servlet.http.HttpServletRequest;
+import pl.kielce.tu.backend.model.dto.BulkReservationActionDto;
+import pl.kielce.tu.backend.model.dto.BulkReservationResultDto;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
+import pl.kielce.tu.backend.model.dto.PagedResponseDto;
 import pl.kielce.tu.backend.model.dto.ReservationDto;
+import pl.kielce.tu.backend.service.reservation.ReservationBulkService;
 import pl.kielce.tu.backend.service.reservation.ReservationService;
+import pl.kielce.tu.backend.service.reservation.idempotency.IdempotencyClaim;
+import pl.kielce.tu.backend.service.reservation.idempotency.ReservationIdempotencyService;
+import pl.kielce.tu.backend.service.reservation.lane.ReservationLaneService;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationControllerTest {
@@ -24,6 +37,15 @@ class ReservationControllerTest {
     @Mock
     private ReservationService reservationService;
 
+    @Mock
+    private ReservationLaneService reservationLaneService;
+
+    @Mock
+    private ReservationBulkService reservationBulkService;
+
+    @Mock
+    private ReservationIdempotencyService reservationIdempotencyService;
+
     @Mock
     private HttpServletRequest request;
 
@@ -31,7 +53,11 @@ class ReservationControllerTest {
 
     @BeforeEach
     void setUp() {
-        reservationController = new ReservationController(reservationService);
+        reservationController = new ReservationController(reservationService, reservationLaneService, reservationBulkService,
+                reservationIdempotencyService);
+        lenient().when(reservationIdempotencyService.handleCreateReservation(any(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Function<IdempotencyClaim, ResponseEntity<Void>>>getArgument(3)
+                        .apply(null));
     }
 
     @Test
@@ -61,17 +87,74 @@ class ReservationControllerTest {
         verify(reservationService).handleGetUserReservations(request, filter);
     }
 
+    @Test
+    void getAllReservations_delegatesToService_andReturnsResponse() {
+        ResponseEntity<PagedResponseDto<ReservationDto>> expected = ResponseEntity
+                .ok(PagedResponseDto.<ReservationDto>builder().content(List.of(new ReservationDto())).build());
+
+        when(reservationService.handleGetAllReservations("PENDING", 3L, null, null, null, 0, 20))
+                .thenReturn(expected);
+
+        ResponseEntity<PagedResponseDto<ReservationDto>> actual = reservationController.getAllReservations("PENDING",
+                3L, null, null, null, 0, 20);
+
+        assertSame(expected, actual);
+        verify(reservationService).handleGetAllReservations("PENDING", 3L, null, null, null, 0, 20);
+    }
+
+    @Test
+    void getAllReservationsByCursor_delegatesToService_andReturnsResponse() {
+        ResponseEntity<CursorPageDto<ReservationDto>> expected = ResponseEntity
+                .ok(CursorPageDto.<ReservationDto>builder().build());
+
+        when(reservationService.handleGetAllReservationsByCursor(null, null, 7L, null, null, 120L, 50))
+                .thenReturn(expected);
+
+        ResponseEntity<CursorPageDto<ReservationDto>> actual = reservationController
+                .getAllReservationsByCursor(null, null, 7L, null, null, 120L, 50);
+
+        assertSame(expected, actual);
+        verify(reservationService).handleGetAllReservationsByCursor(null, null, 7L, null, null, 120L, 50);
+    }
+
     @Test
     void createReservation_delegatesToService_andReturnsResponse() {
         ReservationDto dto = new ReservationDto();
         ResponseEntity<Void> expected = ResponseEntity.status(HttpStatus.CREATED).build();
 
-        when(reservationService.handleCreateReservation(request, dto)).thenReturn(expected);
+        when(reservationService.handleCreateReservation(request, dto, null)).thenReturn(expected);
+
+        ResponseEntity<Void> actual = reservationController.createReservation(request, null, dto);
+
+        assertSame(expected, actual);
+        verify(reservationService).handleCreateReservation(request, dto, null);
+    }
+
+    @Test
+    void createReservation_whenLanesEnabled_delegatesToLaneService() {
+        ReservationDto dto = new ReservationDto();
+        ResponseEntity<Void> expected = ResponseEntity.status(HttpStatus.CREATED).build();
+
+        when(reservationLaneService.isEnabled()).thenReturn(true);
+        when(reservationLaneService.handleCreateReservation(request, dto, null)).thenReturn(expected);
 
-        ResponseEntity<Void> actual = reservationController.createReservation(request, dto);
+        ResponseEntity<Void> actual = reservationController.createReservation(request, null, dto);
 
         assertSame(expected, actual);
-        verify(reservationService).handleCreateReservation(request, dto);
+        verifyNoInteractions(reservationService);
+    }
+
+    @Test
+    void createReservation_passesIdempotencyKeyToIdempotencyService() {
+        ReservationDto dto = new ReservationDto();
+        ResponseEntity<Void> expected = ResponseEntity.status(HttpStatus.CREATED).build();
+
+        when(reservationService.handleCreateReservation(request, dto, null)).thenReturn(expected);
+
+        ResponseEntity<Void> actual = reservationController.createReservation(request, "retry-key", dto);
+
+        assertSame(expected, actual);
+        verify(reservationIdempotencyService).handleCreateReservation(eq(request), eq("retry-key"), eq(dto), any());
     }
 
     @Test
@@ -99,4 +182,30 @@ class ReservationControllerTest {
         assertSame(expected, actual);
         verify(reservationService).handleDeclineReservation(id);
     }
+
+    @Test
+    void bulkAcceptReservations_delegatesToBulkService_andReturnsResponse() {
+        BulkReservationActionDto dto = BulkReservationActionDto.builder().reservationIds(List.of(1L, 2L)).build();
+        ResponseEntity<BulkReservationResultDto> expected = ResponseEntity.ok(new BulkReservationResultDto());
+
+        when(reservationBulkService.handleBulkAccept(dto)).thenReturn(expected);
+
+        ResponseEntity<BulkReservationResultDto> actual = reservationController.bulkAcceptReservations(dto);
+
+        assertSame(expected, actual);
+        verify(reservationBulkService).handleBulkAccept(dto);
+    }
+
+    @Test
+    void bulkDeclineReservations_delegatesToBulkService_andReturnsResponse() {
+        BulkReservationActionDto dto = BulkReservationActionDto.builder().reservationIds(List.of(1L, 2L)).build();
+        ResponseEntity<BulkReservationResultDto> expected = ResponseEntity.ok(new BulkReservationResultDto());
+
+        when(reservationBulkService.handleBulkDecline(dto)).thenReturn(expected);
+
+        ResponseEntity<BulkReservationResultDto> actual = reservationController.bulkDeclineReservations(dto);
+
+        assertSame(expected, actual);
+        verify(reservationBulkService).handleBulkDecline(dto);
+    }
 }
@@ -0,0 +1,61 @@
+package pl.kielce.tu.backend.controller;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import pl.kielce.tu.backend.model.constant.RevenueDimension;
+import pl.kielce.tu.backend.model.constant.RevenuePeriod;
+import pl.kielce.tu.backend.model.dto.RevenueReportDto;
+import pl.kielce.tu.backend.service.revenue.RevenueRollupService;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueControllerTest {
+
+    @Mock
+    private RevenueRollupService revenueRollupService;
+
+    @InjectMocks
+    private RevenueController revenueController;
+
+    @Test
+    void getRevenueReport_delegatesToService_andReturnsResponse() {
+        LocalDate date = LocalDate.of(2025, 10, 14);
+        ResponseEntity<RevenueReportDto> expected = ResponseEntity.ok(RevenueReportDto.builder().build());
+
+        when(revenueRollupService.handleGetRevenueReport(RevenuePeriod.YEAR, date, RevenueDimension.GENRE))
+                .thenReturn(expected);
+
+        ResponseEntity<RevenueReportDto> actual = revenueController.getRevenueReport(RevenuePeriod.YEAR, date,
+                RevenueDimension.GENRE);
+
+        verify(revenueRollupService, times(1)).handleGetRevenueReport(RevenuePeriod.YEAR, date,
+                RevenueDimension.GENRE);
+        assertSame(expected, actual);
+    }
+
+    @Test
+    void backfillRevenue_delegatesToService_andReturnsResponse() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 2, 1);
+        ResponseEntity<Void> expected = ResponseEntity.status(HttpStatus.NO_CONTENT).build();
+
+        when(revenueRollupService.handleBackfill(from, to)).thenReturn(expected);
+
+        ResponseEntity<Void> actual = revenueController.backfillRevenue(from, to);
+
+        verify(revenueRollupService, times(1)).handleBackfill(from, to);
+        assertSame(expected, actual);
+    }
+}
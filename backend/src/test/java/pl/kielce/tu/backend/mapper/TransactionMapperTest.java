@@ -1,47 +1,64 @@
 package pl.kielce.tu.backend.mapper;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import pl.kielce.tu.backend.model.Money;
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.dto.TransactionDto;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.model.entity.Reservation;
 import pl.kielce.tu.backend.model.entity.Transaction;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.service.invoice.numbering.InvoiceNumberAllocator;
+import pl.kielce.tu.backend.service.invoice.numbering.InvoiceSequenceStore;
+import pl.kielce.tu.backend.service.rental.factory.RentalFactory;
+import pl.kielce.tu.backend.util.UserContextLogger;
 
 class TransactionMapperTest {
 
     private TransactionMapper transactionMapper;
+    private InvoiceNumberAllocator invoiceNumberAllocator;
 
     @BeforeEach
     void setUp() {
-        transactionMapper = new TransactionMapper();
+        InvoiceSequenceStore sequenceStore = mock(InvoiceSequenceStore.class);
+        when(sequenceStore.reserveBlock(anyInt(), anyInt())).thenReturn(Optional.of(1L));
+        invoiceNumberAllocator = new InvoiceNumberAllocator(20, sequenceStore, mock(UserContextLogger.class));
+        transactionMapper = new TransactionMapper(invoiceNumberAllocator);
     }
 
     @Test
     void shouldCreateTransactionEntity() {
         Rental rental = createTestRental();
         long rentalDays = 7L;
-        BigDecimal baseAmount = new BigDecimal("35.00");
-        BigDecimal lateFee = new BigDecimal("10.00");
-        BigDecimal totalAmount = new BigDecimal("45.00");
+        Money baseAmount = Money.ofMinor(3500L);
+        Money lateFee = Money.ofMinor(1000L);
+        Money totalAmount = Money.ofMinor(4500L);
 
         Transaction result = transactionMapper.toEntity(rental, rentalDays, baseAmount, lateFee, totalAmount);
 
         assertNotNull(result);
-        assertEquals(lateFee, result.getLateFee());
-        assertEquals(totalAmount, result.getTotalAmount());
+        assertEquals(lateFee.toBigDecimal(), result.getLateFee());
+        assertEquals(totalAmount.toBigDecimal(), result.getTotalAmount());
         assertEquals((int) rentalDays, result.getRentalPeriodDays());
         assertNotNull(result.getInvoiceId());
         assertTrue(result.getInvoiceId().startsWith("INV-"));
@@ -52,9 +69,9 @@ class TransactionMapperTest {
     void shouldGenerateUniqueInvoiceIds() {
         Rental rental = createTestRental();
         long rentalDays = 5L;
-        BigDecimal baseAmount = new BigDecimal("25.00");
-        BigDecimal lateFee = BigDecimal.ZERO;
-        BigDecimal totalAmount = new BigDecimal("25.00");
+        Money baseAmount = Money.ofMinor(2500L);
+        Money lateFee = Money.ZERO;
+        Money totalAmount = Money.ofMinor(2500L);
 
         Transaction first = transactionMapper.toEntity(rental, rentalDays, baseAmount, lateFee, totalAmount);
         Transaction second = transactionMapper.toEntity(rental, rentalDays, baseAmount, lateFee, totalAmount);
@@ -63,15 +80,32 @@ class TransactionMapperTest {
         assertNotNull(second.getInvoiceId());
         assertTrue(first.getInvoiceId().startsWith("INV-"));
         assertTrue(second.getInvoiceId().startsWith("INV-"));
+        assertNotEquals(first.getInvoiceId(), second.getInvoiceId());
+    }
+
+    @Test
+    void shouldKeepInvoiceIdAssignedWhenRentalWasCreated() {
+        Reservation reservation = createTestReservation();
+        Rental rental = new RentalFactory(invoiceNumberAllocator).createFromReservation(reservation);
+        String invoiceId = rental.getTransaction().getInvoiceId();
+        rental.setReturnDate(LocalDateTime.now());
+
+        Transaction completed = transactionMapper.toEntity(rental, 3L, Money.ofMinor(1500L), Money.ZERO,
+                Money.ofMinor(1500L));
+
+        int year = LocalDate.now().getYear();
+        assertEquals(String.format("INV-%d-%06d", year, 1), invoiceId);
+        assertEquals(invoiceId, completed.getInvoiceId());
+        assertEquals(String.format("INV-%d-%06d", year, 2), invoiceNumberAllocator.nextInvoiceNumber());
     }
 
     @Test
     void shouldCalculatePricePerDayCorrectly() {
         Rental rental = createTestRental();
         long rentalDays = 10L;
-        BigDecimal baseAmount = new BigDecimal("100.00");
-        BigDecimal lateFee = BigDecimal.ZERO;
-        BigDecimal totalAmount = new BigDecimal("100.00");
+        Money baseAmount = Money.ofMinor(10000L);
+        Money lateFee = Money.ZERO;
+        Money totalAmount = Money.ofMinor(10000L);
 
         Transaction result = transactionMapper.toEntity(rental, rentalDays, baseAmount, lateFee, totalAmount);
 
@@ -79,18 +113,28 @@ class TransactionMapperTest {
         assertEquals(new BigDecimal("10.00"), result.getPricePerDay());
     }
 
+    @Test
+    void shouldRoundPricePerDayHalfUpToGrosze() {
+        Rental rental = createTestRental();
+        Money baseAmount = Money.ofMinor(1000L);
+
+        Transaction result = transactionMapper.toEntity(rental, 3L, baseAmount, Money.ZERO, baseAmount);
+
+        assertEquals(new BigDecimal("3.33"), result.getPricePerDay());
+    }
+
     @Test
     void shouldHandleZeroRentalDays() {
         Rental rental = createTestRental();
         long rentalDays = 0L;
-        BigDecimal baseAmount = new BigDecimal("50.00");
-        BigDecimal lateFee = BigDecimal.ZERO;
-        BigDecimal totalAmount = new BigDecimal("50.00");
+        Money baseAmount = Money.ofMinor(5000L);
+        Money lateFee = Money.ZERO;
+        Money totalAmount = Money.ofMinor(5000L);
 
         Transaction result = transactionMapper.toEntity(rental, rentalDays, baseAmount, lateFee, totalAmount);
 
         assertNotNull(result);
-        assertEquals(BigDecimal.ZERO, result.getPricePerDay());
+        assertEquals(new BigDecimal("0.00"), result.getPricePerDay());
         assertEquals(0, result.getRentalPeriodDays());
     }
 
@@ -98,9 +142,9 @@ class TransactionMapperTest {
     void shouldSetBillTypeToReceiptWhenRentalHasReturnDate() {
         Rental rental = createTestRentalWithReturn();
         long rentalDays = 7L;
-        BigDecimal baseAmount = new BigDecimal("35.00");
-        BigDecimal lateFee = BigDecimal.ZERO;
-        BigDecimal totalAmount = new BigDecimal("35.00");
+        Money baseAmount = Money.ofMinor(3500L);
+        Money lateFee = Money.ZERO;
+        Money totalAmount = Money.ofMinor(3500L);
 
         Transaction result = transactionMapper.toEntity(rental, rentalDays, baseAmount, lateFee, totalAmount);
 
@@ -112,9 +156,9 @@ class TransactionMapperTest {
     void shouldSetBillTypeToNullWhenRentalHasNoReturnDate() {
         Rental rental = createTestRental();
         long rentalDays = 7L;
-        BigDecimal baseAmount = new BigDecimal("35.00");
-        BigDecimal lateFee = BigDecimal.ZERO;
-        BigDecimal totalAmount = new BigDecimal("35.00");
+        Money baseAmount = Money.ofMinor(3500L);
+        Money lateFee = Money.ZERO;
+        Money totalAmount = Money.ofMinor(3500L);
 
         Transaction result = transactionMapper.toEntity(rental, rentalDays, baseAmount, lateFee, totalAmount);
 
@@ -235,9 +279,9 @@ class TransactionMapperTest {
     void shouldSetGeneratedAtTimestamp() {
         Rental rental = createTestRental();
         long rentalDays = 5L;
-        BigDecimal baseAmount = new BigDecimal("25.00");
-        BigDecimal lateFee = BigDecimal.ZERO;
-        BigDecimal totalAmount = new BigDecimal("25.00");
+        Money baseAmount = Money.ofMinor(2500L);
+        Money lateFee = Money.ZERO;
+        Money totalAmount = Money.ofMinor(2500L);
 
         LocalDateTime before = LocalDateTime.now().minusSeconds(1);
         Transaction result = transactionMapper.toEntity(rental, rentalDays, baseAmount, lateFee, totalAmount);
@@ -260,6 +304,20 @@ class TransactionMapperTest {
         return rental;
     }
 
+    private Reservation createTestReservation() {
+        Dvd dvd = new Dvd();
+        dvd.setTitle("Test Movie");
+        dvd.setRentalPricePerDay(5.00f);
+        LocalDateTime rentalStart = LocalDateTime.now();
+        Reservation reservation = new Reservation();
+        reservation.setUser(new User());
+        reservation.setDvd(dvd);
+        reservation.setCount(1);
+        reservation.setRentalStart(rentalStart);
+        reservation.setRentalEnd(rentalStart.plusDays(3));
+        return reservation;
+    }
+
     private Rental createTestRentalWithReturn() {
         Rental rental = createTestRental();
         rental.setReturnDate(LocalDateTime.now());
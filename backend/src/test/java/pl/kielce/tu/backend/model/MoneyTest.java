@@ -0,0 +1,77 @@
+package pl.kielce.tu.backend.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    @Test
+    void ofFloat_usesDecimalRepresentationInsteadOfBinaryValue() {
+        assertEquals(299L, Money.of(2.99f).minorUnits());
+        assertEquals(10L, Money.of(0.1f).minorUnits());
+        assertEquals(1999L, Money.of(19.99f).minorUnits());
+    }
+
+    @Test
+    void ofBigDecimal_roundsHalfUpToGrosze() {
+        assertEquals(1L, Money.of(new BigDecimal("0.005")).minorUnits());
+        assertEquals(0L, Money.of(new BigDecimal("0.0049")).minorUnits());
+        assertEquals(-1L, Money.of(new BigDecimal("-0.005")).minorUnits());
+        assertEquals(1250L, Money.of(new BigDecimal("12.5")).minorUnits());
+    }
+
+    @Test
+    void ofNull_throws() {
+        assertThrows(NullPointerException.class, () -> Money.of((BigDecimal) null));
+    }
+
+    @Test
+    void ofMinor_zero_reusesSharedInstance() {
+        assertSame(Money.ZERO, Money.ofMinor(0L));
+    }
+
+    @Test
+    void arithmetic_isExactInMinorUnits() {
+        Money price = Money.of(2.99f);
+
+        assertEquals(Money.ofMinor(2093L), price.times(7));
+        assertEquals(Money.ofMinor(309L), price.plus(Money.ofMinor(10L)));
+        assertEquals(Money.ofMinor(289L), price.minus(Money.ofMinor(10L)));
+    }
+
+    @Test
+    void dividedBy_roundsHalfAwayFromZero() {
+        assertEquals(Money.ofMinor(333L), Money.ofMinor(1000L).dividedBy(3));
+        assertEquals(Money.ofMinor(667L), Money.ofMinor(2000L).dividedBy(3));
+        assertEquals(Money.ofMinor(3L), Money.ofMinor(5L).dividedBy(2));
+        assertEquals(Money.ofMinor(-3L), Money.ofMinor(-5L).dividedBy(2));
+        assertEquals(Money.ofMinor(-3L), Money.ofMinor(5L).dividedBy(-2));
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(5L).dividedBy(0));
+    }
+
+    @Test
+    void times_overflow_throws() {
+        assertThrows(ArithmeticException.class, () -> Money.ofMinor(Long.MAX_VALUE).times(2));
+    }
+
+    @Test
+    void toBigDecimal_andToString_keepTwoDecimals() {
+        assertEquals(new BigDecimal("0.00"), Money.ZERO.toBigDecimal());
+        assertEquals("1234.05", Money.ofMinor(123405L).toString());
+        assertEquals("-0.07", Money.ofMinor(-7L).toString());
+    }
+
+    @Test
+    void comparison_followsMinorUnits() {
+        assertTrue(Money.ofMinor(1L).isPositive());
+        assertFalse(Money.ZERO.isPositive());
+        assertTrue(Money.ofMinor(100L).compareTo(Money.ofMinor(99L)) > 0);
+    }
+}
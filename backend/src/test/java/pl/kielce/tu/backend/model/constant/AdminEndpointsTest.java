@@ -13,7 +13,7 @@ class AdminEndpointsTest {
     void getAllPatterns_shouldReturnAllDefinedPatterns() {
         String[] patterns = AdminEndpoints.getAllPatterns();
         assertNotNull(patterns, "getAllPatterns should not return null");
-        assertEquals(11, patterns.length, "Expected 11 patterns for defined endpoints");
+        assertEquals(21, patterns.length, "Expected 21 patterns for defined endpoints");
         assertEquals("/api/v1/dvd/create", patterns[0]);
         assertEquals("/api/v1/dvd/*/edit", patterns[1]);
         assertEquals("/api/v1/genres/create", patterns[2]);
@@ -21,10 +21,20 @@ class AdminEndpointsTest {
         assertEquals("/api/v1/reservations/*/accept", patterns[4]);
         assertEquals("/api/v1/reservations/*/decline", patterns[5]);
         assertEquals("/api/v1/reservations/all", patterns[6]);
-        assertEquals("/api/v1/rentals/*/return-accept", patterns[7]);
-        assertEquals("/api/v1/rentals/*/return-decline", patterns[8]);
-        assertEquals("/api/v1/rentals/return-requests", patterns[9]);
-        assertEquals("/api/v1/transactions/all", patterns[10]);
+        assertEquals("/api/v1/reservations/all/cursor", patterns[7]);
+        assertEquals("/api/v1/reservations/bulk-accept", patterns[8]);
+        assertEquals("/api/v1/reservations/bulk-decline", patterns[9]);
+        assertEquals("/api/v1/rentals/*/return-accept", patterns[10]);
+        assertEquals("/api/v1/rentals/*/return-decline", patterns[11]);
+        assertEquals("/api/v1/rentals/return-requests", patterns[12]);
+        assertEquals("/api/v1/transactions/all", patterns[13]);
+        assertEquals("/api/v1/admin/queue/stream", patterns[14]);
+        assertEquals("/api/v1/transactions/export", patterns[15]);
+        assertEquals("/api/v1/transactions/all/csv", patterns[16]);
+        assertEquals("/api/v1/revenue", patterns[17]);
+        assertEquals("/api/v1/revenue/backfill", patterns[18]);
+        assertEquals("/api/v1/analytics/utilization", patterns[19]);
+        assertEquals("/api/v1/analytics/utilization/recompute", patterns[20]);
     }
 
     @Test
@@ -109,6 +119,16 @@ class AdminEndpointsTest {
     void isMember_shouldReturnTrue_forAdminAllReservationsEndpoint() {
         assertTrue(AdminEndpoints.isMember("/api/v1/reservations/all"),
                 "Admin all reservations endpoint should be recognized as admin endpoint");
+        assertTrue(AdminEndpoints.isMember("/api/v1/reservations/all/cursor"),
+                "Admin reservations cursor endpoint should be recognized as admin endpoint");
+    }
+
+    @Test
+    void isMember_shouldReturnTrue_forBulkReservationEndpoints() {
+        assertTrue(AdminEndpoints.isMember("/api/v1/reservations/bulk-accept"),
+                "Bulk accept endpoint should be recognized as admin endpoint");
+        assertTrue(AdminEndpoints.isMember("/api/v1/reservations/bulk-decline"),
+                "Bulk decline endpoint should be recognized as admin endpoint");
     }
 
     @Test
@@ -8,9 +8,9 @@ import org.junit.jupiter.api.Test;
 class ReservationStatusTest {
 
     @Test
-    void values_shouldContainThreeConstants() {
+    void values_shouldContainFiveConstants() {
         ReservationStatus[] values = ReservationStatus.values();
-        assertEquals(4, values.length, "There should be exactly three reservation statuses");
+        assertEquals(5, values.length, "There should be exactly five reservation statuses");
     }
 
     @Test
@@ -19,6 +19,7 @@ class ReservationStatusTest {
         assertEquals("CANCELLED", ReservationStatus.CANCELLED.getValue());
         assertEquals("ACCEPTED", ReservationStatus.ACCEPTED.getValue());
         assertEquals("REJECTED", ReservationStatus.REJECTED.getValue());
+        assertEquals("EXPIRED", ReservationStatus.EXPIRED.getValue());
     }
 
     @Test
@@ -27,6 +28,7 @@ class ReservationStatusTest {
         assertEquals("CANCELLED", ReservationStatus.CANCELLED.getValue());
         assertEquals("ACCEPTED", ReservationStatus.ACCEPTED.name());
         assertEquals("REJECTED", ReservationStatus.REJECTED.name());
+        assertEquals("EXPIRED", ReservationStatus.EXPIRED.name());
     }
 
     @Test
@@ -1,11 +1,18 @@
 package pl.kielce.tu.backend.repository;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import pl.kielce.tu.backend.model.entity.Dvd;
 
 @DataJpaTest
 class DvdRepositoryTest {
@@ -13,6 +20,9 @@ class DvdRepositoryTest {
     @Autowired
     private DvdRepository dvdRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void repositoryIsInjected() {
         assertNotNull(dvdRepository, "DvdRepository should be injected by Spring");
@@ -23,4 +33,22 @@ class DvdRepositoryTest {
         long count = dvdRepository.count();
         assertTrue(count >= 0, "Repository count should be non-negative");
     }
+
+    @Test
+    void staleCopiesSaveDoesNotOverwriteAtomicIncrease() {
+        Dvd dvd = entityManager.persistFlushFind(Dvd.builder()
+                .title("Stale Copies")
+                .releaseYear(2020)
+                .directors(List.of("Director"))
+                .description("Description")
+                .durationMinutes(100)
+                .posterUrl("poster.jpg")
+                .avalaible(true)
+                .copiesAvalaible(3)
+                .build());
+        dvdRepository.increaseCopiesAvailable(dvd.getId(), 2);
+        dvd.setCopiesAvalaible(dvd.getCopiesAvalaible() - 1);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> dvdRepository.saveAndFlush(dvd));
+    }
 }
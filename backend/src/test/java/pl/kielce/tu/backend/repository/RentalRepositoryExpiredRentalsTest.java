@@ -14,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.constant.RentalStatus;
@@ -57,6 +58,26 @@ class RentalRepositoryExpiredRentalsTest {
         assertEquals(expiredRental.getId(), result.get(0).getId());
     }
 
+    @Test
+    @DisplayName("Should find expired active rental ids after the given id")
+    void shouldFindExpiredActiveRentalIdsAfterId() {
+        Rental first = createRental(LocalDateTime.now().minusDays(7), LocalDateTime.now().minusDays(1),
+                RentalStatus.ACTIVE);
+        Rental second = createRental(LocalDateTime.now().minusDays(7), LocalDateTime.now().minusDays(1),
+                RentalStatus.ACTIVE);
+        Rental returned = createRental(LocalDateTime.now().minusDays(7), LocalDateTime.now().minusDays(1),
+                RentalStatus.INACTIVE);
+        second.getTransaction().setInvoiceId("INV-TEST-2");
+        returned.getTransaction().setInvoiceId("INV-TEST-3");
+        entityManager.persist(first);
+        entityManager.persist(second);
+        entityManager.persist(returned);
+        entityManager.flush();
+        List<Long> result = rentalRepository.findExpiredActiveRentalIds(LocalDateTime.now(), first.getId(),
+                PageRequest.of(0, 10));
+        assertEquals(List.of(second.getId()), result);
+    }
+
     @Test
     @DisplayName("Should not find active rentals with future end date")
     void shouldNotFindActiveRentalsWithFutureEndDate() {
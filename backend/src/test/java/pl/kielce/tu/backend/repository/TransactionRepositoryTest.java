@@ -22,6 +22,7 @@ import org.springframework.transaction.annotation.Transactional;
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.constant.RankType;
 import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.dto.TransactionDto;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.model.entity.Transaction;
@@ -153,7 +154,7 @@ class TransactionRepositoryTest {
     @Test
     @Transactional
     @Rollback
-    void findByUserIdAndTransactionIsNotNull_and_ordered_list_methods() {
+    void findByUserIdAndTransactionIsNotNull_returnsUserRentals() {
         User u = createUser("listUser");
         Transaction t1 = createTransaction(LocalDateTime.now().minusMinutes(10));
         Transaction t2 = createTransaction(LocalDateTime.now().plusMinutes(10));
@@ -162,20 +163,26 @@ class TransactionRepositoryTest {
 
         List<Rental> list = repository.findByUserIdAndTransactionIsNotNull(uId(u));
         assertThat(list).isNotEmpty();
+    }
 
-        List<Rental> orderedByDesc = repository.findByUserIdOrderByGeneratedAtDesc(uId(u));
-        assertThat(orderedByDesc).isNotEmpty();
-        if (orderedByDesc.size() >= 2) {
-            assertThat(orderedByDesc.get(0).getTransaction().getGeneratedAt())
-                    .isAfterOrEqualTo(orderedByDesc.get(1).getTransaction().getGeneratedAt());
-        }
-
-        List<Rental> allOrdered = repository.findAllOrderByGeneratedAtDesc();
-        assertThat(allOrdered).isNotEmpty();
-        if (allOrdered.size() >= 2) {
-            assertThat(allOrdered.get(0).getTransaction().getGeneratedAt())
-                    .isAfterOrEqualTo(allOrdered.get(1).getTransaction().getGeneratedAt());
-        }
+    @Test
+    @Transactional
+    @Rollback
+    void findFirstUserTransactions_and_findUserTransactionsAfter_pageByKeyset() {
+        User u = createUser("keysetUser");
+        User other = createUser("otherUser");
+        LocalDateTime now = LocalDateTime.now();
+        Rental newest = createRental(u, createTransaction(now));
+        Rental middle = createRental(u, createTransaction(now.minusHours(1)));
+        Rental oldest = createRental(u, createTransaction(now.minusHours(2)));
+        createRental(other, createTransaction(now.plusHours(1)));
+
+        List<TransactionDto> first = repository.findFirstUserTransactions(uId(u), PageRequest.of(0, 2));
+        assertThat(first).extracting(TransactionDto::getId).containsExactly(rId(newest), rId(middle));
+
+        List<TransactionDto> next = repository.findUserTransactionsAfter(uId(u), rId(middle),
+                first.get(1).getGeneratedAt(), PageRequest.of(0, 2));
+        assertThat(next).extracting(TransactionDto::getId).containsExactly(rId(oldest));
     }
 
     private Long rId(Rental r) {
@@ -0,0 +1,132 @@
+package pl.kielce.tu.backend.repository.specification;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.dto.ReservationFilterDto;
+import pl.kielce.tu.backend.model.entity.Reservation;
+
+class ReservationSpecificationTest {
+
+    private ReservationSpecification reservationSpecification;
+    private Root<Reservation> root;
+    private CriteriaQuery<?> query;
+    private CriteriaBuilder criteriaBuilder;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        reservationSpecification = new ReservationSpecification();
+        root = mock(Root.class);
+        query = mock(CriteriaQuery.class);
+        criteriaBuilder = mock(CriteriaBuilder.class);
+        when(criteriaBuilder.and(any(Predicate[].class))).thenReturn(mock(Predicate.class));
+    }
+
+    @Test
+    void withFilters_withEmptyFilter_addsNoPredicates() {
+        Specification<Reservation> specification = reservationSpecification
+                .withFilters(ReservationFilterDto.builder().build());
+        specification.toPredicate(root, query, criteriaBuilder);
+
+        verify(root, never()).get(anyString());
+        verify(criteriaBuilder).and();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void withFilters_withStatusAndRange_addsOnlyPresentPredicates() {
+        Path<Object> statusPath = mock(Path.class);
+        Path<Object> rentalStartPath = mock(Path.class);
+        Predicate statusPredicate = mock(Predicate.class);
+        Predicate fromPredicate = mock(Predicate.class);
+        Predicate toPredicate = mock(Predicate.class);
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        LocalDateTime to = from.plusMonths(1);
+
+        when(root.get("status")).thenReturn(statusPath);
+        when(root.get("rentalStart")).thenReturn(rentalStartPath);
+        when(criteriaBuilder.equal(statusPath, ReservationStatus.PENDING)).thenReturn(statusPredicate);
+        when(criteriaBuilder.greaterThanOrEqualTo(any(Path.class), any(LocalDateTime.class)))
+                .thenReturn(fromPredicate);
+        when(criteriaBuilder.lessThan(any(Path.class), any(LocalDateTime.class))).thenReturn(toPredicate);
+
+        ReservationFilterDto filterDto = ReservationFilterDto.builder()
+                .status(ReservationStatus.PENDING)
+                .from(from)
+                .to(to)
+                .build();
+
+        Specification<Reservation> specification = reservationSpecification.withFilters(filterDto);
+        specification.toPredicate(root, query, criteriaBuilder);
+
+        verify(criteriaBuilder).and(statusPredicate, fromPredicate, toPredicate);
+        verify(root, never()).get("dvd");
+        verify(root, never()).get("user");
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void withFilters_withCursor_addsIdBoundBeforeFilters() {
+        Path<Long> idPath = mock(Path.class);
+        Path<Object> dvdPath = mock(Path.class);
+        Path<Object> dvdIdPath = mock(Path.class);
+        Predicate cursorPredicate = mock(Predicate.class);
+        Predicate dvdPredicate = mock(Predicate.class);
+
+        when(root.<Long>get("id")).thenReturn(idPath);
+        when(root.get("dvd")).thenReturn(dvdPath);
+        when(dvdPath.get("id")).thenReturn(dvdIdPath);
+        when(criteriaBuilder.lessThan(any(Path.class), any(Long.class))).thenReturn(cursorPredicate);
+        when(criteriaBuilder.equal(dvdIdPath, 3L)).thenReturn(dvdPredicate);
+
+        Specification<Reservation> specification = reservationSpecification
+                .withFilters(ReservationFilterDto.builder().dvdId(3L).build(), 10L);
+        specification.toPredicate(root, query, criteriaBuilder);
+
+        verify(criteriaBuilder).lessThan(idPath, 10L);
+        verify(criteriaBuilder).and(new Predicate[] { cursorPredicate, dvdPredicate });
+    }
+
+    @Test
+    void withFilters_forRowQuery_fetchesDvdAndUser() {
+        doReturnResultType(Reservation.class);
+
+        reservationSpecification.withFilters(ReservationFilterDto.builder().build())
+                .toPredicate(root, query, criteriaBuilder);
+
+        verify(root).fetch("dvd");
+        verify(root).fetch("user");
+    }
+
+    @Test
+    void withFilters_forCountQuery_skipsFetches() {
+        doReturnResultType(Long.class);
+
+        reservationSpecification.withFilters(ReservationFilterDto.builder().build())
+                .toPredicate(root, query, criteriaBuilder);
+
+        verify(root, never()).fetch(anyString());
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private void doReturnResultType(Class<?> resultType) {
+        when(((CriteriaQuery) query).getResultType()).thenReturn(resultType);
+    }
+}
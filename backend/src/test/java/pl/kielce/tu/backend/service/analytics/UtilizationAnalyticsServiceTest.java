@@ -0,0 +1,225 @@
+package pl.kielce.tu.backend.service.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.constant.UtilizationRanking;
+import pl.kielce.tu.backend.model.dto.DvdUtilizationDto;
+import pl.kielce.tu.backend.model.dto.RentalUsageDto;
+import pl.kielce.tu.backend.model.dto.ReservationHoldDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.DvdUtilization;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.DvdUtilizationRepository;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class UtilizationAnalyticsServiceTest {
+
+    private static final int WINDOW_DAYS = 10;
+
+    @Mock
+    private DvdRepository dvdRepository;
+
+    @Mock
+    private DvdUtilizationWriter writer;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private DvdUtilizationRepository dvdUtilizationRepository;
+
+    private UtilizationAnalyticsService service;
+
+    @BeforeEach
+    void setUp() {
+        UtilizationScanner scanner = new UtilizationScanner(2, rentalRepository, reservationRepository);
+        service = new UtilizationAnalyticsService(WINDOW_DAYS, 2, 2, dvdRepository, scanner, writer,
+                rentalRepository, userContextLogger, scheduledJobRunner, reservationRepository,
+                dvdUtilizationRepository);
+        lenient().when(rentalRepository.findUsageInRange(anyLong(), anyLong(), any())).thenReturn(List.of());
+        lenient().when(reservationRepository.findHoldsInRange(anyLong(), anyLong(), any())).thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void computeUtilization_aggregatesRentalsAndReservationsAcrossIdRanges() {
+        LocalDateTime now = LocalDateTime.now();
+        when(dvdRepository.findAll(Sort.by("id"))).thenReturn(List.of(dvd(1L, 3), dvd(2L, 1)));
+        when(rentalRepository.findMaxId()).thenReturn(7L);
+        when(reservationRepository.findMaxId()).thenReturn(2L);
+        when(rentalRepository.findUsageInRange(0L, 1L, PageRequest.of(0, 2))).thenReturn(List.of(
+                rental(1L, 1L, 2, RentalStatus.INACTIVE, now.minusDays(5), now.minusDays(3), now.minusDays(2))));
+        when(rentalRepository.findUsageInRange(3L, 5L, PageRequest.of(0, 2))).thenReturn(List.of(
+                rental(4L, 1L, 1, RentalStatus.ACTIVE, now.minusDays(30), now.minusDays(1), null),
+                rental(5L, 9L, 1, RentalStatus.ACTIVE, now.minusDays(1), now.plusDays(1), null)));
+        when(reservationRepository.findHoldsInRange(0L, 2L, PageRequest.of(0, 2))).thenReturn(List.of(
+                reservation(1L, 1L, ReservationStatus.ACCEPTED, now.minusHours(10), now.minusHours(4)),
+                reservation(2L, 2L, ReservationStatus.EXPIRED, now.minusDays(1), null)));
+
+        int rows = service.computeUtilization();
+
+        assertEquals(2, rows);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DvdUtilization>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer).replaceAll(captor.capture());
+        DvdUtilization first = captor.getValue().get(0);
+        assertEquals(1L, first.getDvdId());
+        assertEquals(4, first.getTotalCopies());
+        assertEquals(40L, first.getOwnedCopyDays());
+        assertEquals(16.0, first.getRentedCopyDays(), 0.01);
+        assertEquals(0.4, first.getUtilization(), 0.001);
+        assertEquals(2L, first.getEndedRentals());
+        assertEquals(2L, first.getOverdueRentals());
+        assertEquals(1.0, first.getOverdueRate(), 0.001);
+        assertEquals(1L, first.getReservations());
+        assertEquals(6.0, first.getAveragePendingHours(), 0.01);
+        DvdUtilization second = captor.getValue().get(1);
+        assertEquals(2L, second.getDvdId());
+        assertEquals(0.0, second.getUtilization());
+        assertEquals(0L, second.getReservations());
+        assertEquals(0.0, second.getAveragePendingHours());
+    }
+
+    @Test
+    void computeUtilization_noHistory_writesZeroedRows() {
+        when(dvdRepository.findAll(Sort.by("id"))).thenReturn(List.of(dvd(1L, 0)));
+
+        service.computeUtilization();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<DvdUtilization>> captor = ArgumentCaptor.forClass(List.class);
+        verify(writer).replaceAll(captor.capture());
+        DvdUtilization utilization = captor.getValue().get(0);
+        assertEquals(0L, utilization.getOwnedCopyDays());
+        assertEquals(0.0, utilization.getUtilization());
+        assertEquals(0.0, utilization.getOverdueRate());
+    }
+
+    @Test
+    void handleGetUtilizationRanking_sortsByRequestedMetric() {
+        DvdUtilization utilization = DvdUtilization.builder().dvdId(3L).dvdTitle("Heat").overdueRate(0.5).build();
+        Pageable expectedPage = PageRequest.of(0, 5,
+                Sort.by(Sort.Direction.ASC, "overdueRate").and(Sort.by("dvdId")));
+        when(dvdUtilizationRepository.findAll(expectedPage)).thenReturn(new PageImpl<>(List.of(utilization)));
+
+        ResponseEntity<List<DvdUtilizationDto>> response = service.handleGetUtilizationRanking(
+                UtilizationRanking.OVERDUE_RATE, Sort.Direction.ASC, 5);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        assertEquals("Heat", response.getBody().get(0).getDvdTitle());
+        assertEquals(0.5, response.getBody().get(0).getOverdueRate());
+    }
+
+    @Test
+    void handleGetUtilizationRanking_defaultsAndCapsLimit() {
+        Pageable expectedPage = PageRequest.of(0, 100,
+                Sort.by(Sort.Direction.DESC, "utilization").and(Sort.by("dvdId")));
+        when(dvdUtilizationRepository.findAll(expectedPage)).thenReturn(new PageImpl<>(List.of()));
+
+        ResponseEntity<List<DvdUtilizationDto>> response = service.handleGetUtilizationRanking(null, null, 500);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(dvdUtilizationRepository).findAll(expectedPage);
+    }
+
+    @Test
+    void handleGetUtilizationRanking_nonPositiveLimit_returnsBadRequest() {
+        ResponseEntity<List<DvdUtilizationDto>> response = service.handleGetUtilizationRanking(null, null, 0);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(dvdUtilizationRepository);
+    }
+
+    @Test
+    void handleRecompute_runsJobThroughRunner() {
+        when(dvdRepository.findAll(Sort.by("id"))).thenReturn(List.of(dvd(1L, 1)));
+        when(scheduledJobRunner.run(eq("dvd-utilization-analytics"), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+
+        ResponseEntity<Void> response = service.handleRecompute();
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(writer).replaceAll(any());
+    }
+
+    @Test
+    void handleRecompute_lockHeld_returnsConflict() {
+        when(scheduledJobRunner.run(anyString(), any())).thenReturn(false);
+
+        ResponseEntity<Void> response = service.handleRecompute();
+
+        assertSame(HttpStatus.CONFLICT, response.getStatusCode());
+        verifyNoInteractions(writer);
+    }
+
+    @Test
+    void handleRecompute_jobFailed_returnsInternalServerError() {
+        when(scheduledJobRunner.run(anyString(), any())).thenReturn(true);
+
+        ResponseEntity<Void> response = service.handleRecompute();
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    private Dvd dvd(Long id, int copiesAvailable) {
+        return Dvd.builder().id(id).title("DVD " + id).copiesAvalaible(copiesAvailable).build();
+    }
+
+    private RentalUsageDto rental(Long id, Long dvdId, int count, RentalStatus status, LocalDateTime start,
+            LocalDateTime end, LocalDateTime returnDate) {
+        return new RentalUsageDto(id, dvdId, count, status, start, end, returnDate);
+    }
+
+    private ReservationHoldDto reservation(Long id, Long dvdId, ReservationStatus status, LocalDateTime createdAt,
+            LocalDateTime decidedAt) {
+        return new ReservationHoldDto(id, dvdId, 1, status, createdAt, decidedAt);
+    }
+}
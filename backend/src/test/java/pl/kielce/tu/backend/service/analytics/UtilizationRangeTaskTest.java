@@ -0,0 +1,106 @@
+package pl.kielce.tu.backend.service.analytics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.dto.RentalUsageDto;
+import pl.kielce.tu.backend.model.dto.ReservationHoldDto;
+
+class UtilizationRangeTaskTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 14, 12, 0);
+    private static final UtilizationWindow WINDOW = new UtilizationWindow(NOW.minusDays(10), NOW);
+    private static final long[] DVD_IDS = { 2L, 5L, 9L };
+
+    @Test
+    void compute_splitsIdRangeIntoLeavesAndMergesCounters() {
+        ConcurrentLinkedQueue<String> leaves = new ConcurrentLinkedQueue<>();
+        UtilizationRangeTask task = new UtilizationRangeTask(0, 10, 3, DVD_IDS, (afterId, toId, counters) -> {
+            leaves.add(afterId + "-" + toId);
+            for (long id = afterId + 1; id <= toId; id++) {
+                counters.addRental(rental(5L, RentalStatus.ACTIVE, NOW.minusDays(1), NOW.plusDays(6), null),
+                        WINDOW);
+            }
+        });
+
+        UtilizationCounters counters = ForkJoinPool.commonPool().invoke(task);
+
+        assertEquals(4, leaves.size());
+        assertEquals(10L, counters.getHeldCopies(1));
+        assertEquals(10L * 86400, counters.getRentedCopySeconds(1));
+        assertEquals(0L, counters.getHeldCopies(0));
+    }
+
+    @Test
+    void compute_emptyRange_skipsScanning() {
+        UtilizationRangeTask task = new UtilizationRangeTask(0, 0, 3, DVD_IDS, (afterId, toId, counters) -> {
+            throw new IllegalStateException("Should not scan");
+        });
+
+        UtilizationCounters counters = ForkJoinPool.commonPool().invoke(task);
+
+        assertEquals(0L, counters.getHeldCopies(0));
+    }
+
+    @Test
+    void addRental_clipsRentedTimeToWindowAndCountsLateReturns() {
+        UtilizationCounters counters = new UtilizationCounters(DVD_IDS);
+
+        counters.addRental(rental(2L, RentalStatus.INACTIVE, NOW.minusDays(20), NOW.minusDays(9),
+                NOW.minusDays(8)), WINDOW);
+        counters.addRental(rental(2L, RentalStatus.INACTIVE, NOW.minusDays(4), NOW.minusDays(3),
+                NOW.minusDays(3)), WINDOW);
+        counters.addRental(rental(7L, RentalStatus.ACTIVE, NOW.minusDays(4), NOW.plusDays(1), null), WINDOW);
+
+        assertEquals(3L * 86400, counters.getRentedCopySeconds(0));
+        assertEquals(2L, counters.getEndedRentals(0));
+        assertEquals(1L, counters.getOverdueRentals(0));
+        assertEquals(0L, counters.getHeldCopies(0));
+    }
+
+    @Test
+    void addReservation_measuresPendingTimeUntilDecisionOrNow() {
+        UtilizationCounters counters = new UtilizationCounters(DVD_IDS);
+
+        counters.addReservation(reservation(ReservationStatus.ACCEPTED, NOW.minusHours(5), NOW.minusHours(3)),
+                WINDOW);
+        counters.addReservation(reservation(ReservationStatus.PENDING, NOW.minusHours(4), null), WINDOW);
+        counters.addReservation(reservation(ReservationStatus.REJECTED, NOW.minusDays(30), NOW.minusDays(29)),
+                WINDOW);
+
+        assertEquals(2L, counters.getReservations(2));
+        assertEquals(6L * 3600, counters.getPendingSeconds(2));
+        assertEquals(2L, counters.getHeldCopies(2));
+    }
+
+    @Test
+    void merge_sumsEveryCounter() {
+        UtilizationCounters first = new UtilizationCounters(DVD_IDS);
+        UtilizationCounters second = new UtilizationCounters(DVD_IDS);
+        first.addReservation(reservation(ReservationStatus.PENDING, NOW.minusHours(1), null), WINDOW);
+        second.addReservation(reservation(ReservationStatus.PENDING, NOW.minusHours(2), null), WINDOW);
+
+        UtilizationCounters merged = first.merge(second);
+
+        assertEquals(List.of(2L, 3L * 3600, 4L), List.of(merged.getReservations(2), merged.getPendingSeconds(2),
+                merged.getHeldCopies(2)));
+    }
+
+    private RentalUsageDto rental(Long dvdId, RentalStatus status, LocalDateTime start, LocalDateTime end,
+            LocalDateTime returnDate) {
+        return new RentalUsageDto(1L, dvdId, 1, status, start, end, returnDate);
+    }
+
+    private ReservationHoldDto reservation(ReservationStatus status, LocalDateTime createdAt,
+            LocalDateTime decidedAt) {
+        return new ReservationHoldDto(1L, 9L, 2, status, createdAt, decidedAt);
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -14,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.service.recommendation.cohort.RecommendationCohortCache;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,11 +27,15 @@ class DvdAvailabilityServiceTest {
     @Mock
     private UserContextLogger userContextLogger;
 
+    @Mock
+    private RecommendationCohortCache recommendationCohortCache;
+
     private DvdAvailabilityService dvdAvailabilityService;
 
     @BeforeEach
     void setUp() {
-        dvdAvailabilityService = new DvdAvailabilityService(dvdRepository, userContextLogger);
+        dvdAvailabilityService = new DvdAvailabilityService(dvdRepository, userContextLogger,
+                recommendationCohortCache);
     }
 
     @Test
@@ -42,12 +48,14 @@ class DvdAvailabilityServiceTest {
 
         assertEquals(2, dvd.getCopiesAvalaible());
         assertTrue(dvd.getAvalaible());
-        verify(dvdRepository).save(dvd);
+        verify(dvdRepository).saveAndFlush(dvd);
+        verify(recommendationCohortCache, never()).evictDvd(dvd.getId());
     }
 
     @Test
     void shouldSetUnavailableWhenLastCopyReserved() {
         Dvd dvd = new Dvd();
+        dvd.setId(4L);
         dvd.setCopiesAvalaible(1);
         dvd.setAvalaible(true);
 
@@ -55,7 +63,8 @@ class DvdAvailabilityServiceTest {
 
         assertEquals(0, dvd.getCopiesAvalaible());
         assertFalse(dvd.getAvalaible());
-        verify(dvdRepository).save(dvd);
+        verify(dvdRepository).saveAndFlush(dvd);
+        verify(recommendationCohortCache).evictDvd(4L);
     }
 
     @Test
@@ -77,6 +86,6 @@ class DvdAvailabilityServiceTest {
 
         assertEquals(1, dvd.getCopiesAvalaible());
         assertTrue(dvd.getAvalaible());
-        verify(dvdRepository).save(dvd);
+        verify(dvdRepository).saveAndFlush(dvd);
     }
 }
@@ -3,6 +3,7 @@ package pl.kielce.tu.backend.service.dvd;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,6 +33,7 @@ import pl.kielce.tu.backend.model.dto.PagedResponseDto;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.repository.DvdRepository;
 import pl.kielce.tu.backend.repository.specification.DvdSpecification;
+import pl.kielce.tu.backend.service.recommendation.cohort.RecommendationCohortCache;
 import pl.kielce.tu.backend.service.resource.ResourceService;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
@@ -56,13 +58,15 @@ class DvdServiceTest {
     private PageMapper pageMapper;
     @Mock
     private DvdSpecification dvdSpecification;
+    @Mock
+    private RecommendationCohortCache recommendationCohortCache;
 
     private DvdService dvdService;
 
     @BeforeEach
     void setUp() {
         dvdService = new DvdService(dvdMapper, pageMapper, dvdRepository, updateService, dvdFilterMapper,
-                resourceService, dvdSpecification, userContextLogger, validationService);
+                resourceService, dvdSpecification, userContextLogger, validationService, recommendationCohortCache);
     }
 
     @Test
@@ -171,6 +175,24 @@ class DvdServiceTest {
         verify(userContextLogger).logUserOperation("UPDATE_DVD", "Successfully updated DVD");
     }
 
+    @Test
+    void handleUpdateDvd_markedUnavailable_evictsCohortRecommendations() throws Exception {
+        DvdDto dto = mock(DvdDto.class);
+        Dvd existing = new Dvd();
+        existing.setId(2L);
+        existing.setAvalaible(true);
+        when(dvdRepository.findById(2L)).thenReturn(Optional.of(existing));
+        doAnswer(invocation -> {
+            existing.setAvalaible(false);
+            return null;
+        }).when(updateService).applyUpdates(existing, dto);
+
+        ResponseEntity<Void> response = dvdService.handleUpdateDvd("2", dto);
+
+        assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
+        verify(recommendationCohortCache).evictDvd(2L);
+    }
+
     @Test
     void handleUpdateDvd_badRequest_forNonNumericId() {
         DvdDto dto = mock(DvdDto.class);
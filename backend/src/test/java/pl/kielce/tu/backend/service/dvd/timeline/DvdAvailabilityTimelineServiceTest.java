@@ -0,0 +1,145 @@
+package pl.kielce.tu.backend.service.dvd.timeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import pl.kielce.tu.backend.model.dto.DvdAvailabilityCalendarDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class DvdAvailabilityTimelineServiceTest {
+
+    @Mock
+    private DvdRepository dvdRepository;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private DvdAvailabilityTimelineService timelineService;
+
+    private Dvd dvd;
+
+    @BeforeEach
+    void setUp() {
+        timelineService = new DvdAvailabilityTimelineService(90, 100, 60, dvdRepository, rentalRepository,
+                userContextLogger, reservationRepository);
+        dvd = new Dvd();
+        dvd.setId(1L);
+        dvd.setCopiesAvalaible(2);
+    }
+
+    @Test
+    void shouldBuildCalendarFromHeldBookings() {
+        LocalDate today = LocalDate.now();
+        Reservation reservation = Reservation.builder().id(10L).dvd(dvd).count(1)
+                .rentalStart(today.plusDays(2).atStartOfDay()).rentalEnd(today.plusDays(4).atStartOfDay()).build();
+        Rental rental = Rental.builder().id(20L).dvd(dvd).count(2)
+                .rentalStart(today.minusDays(3).atStartOfDay()).rentalEnd(today.plusDays(3).atStartOfDay()).build();
+        when(dvdRepository.findById(1L)).thenReturn(Optional.of(dvd));
+        when(reservationRepository.findByDvdIdAndStatusIn(eq(1L), anyList())).thenReturn(List.of(reservation));
+        when(rentalRepository.findByDvdIdAndStatusIn(eq(1L), anyList())).thenReturn(List.of(rental));
+
+        ResponseEntity<DvdAvailabilityCalendarDto> response = timelineService.handleGetAvailabilityCalendar("1",
+                today, today.plusDays(6));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        DvdAvailabilityCalendarDto calendar = response.getBody();
+        assertEquals(5, calendar.getTotalCopies());
+        assertEquals(2, calendar.getAvailableCopies());
+        assertEquals(7, calendar.getDays().size());
+        assertEquals(3, calendar.getDays().get(0).getAvailableCopies());
+        assertEquals(2, calendar.getDays().get(2).getAvailableCopies());
+        assertEquals(5, calendar.getDays().get(6).getAvailableCopies());
+    }
+
+    @Test
+    void shouldReuseCachedTimelineAndApplyReleases() {
+        LocalDate today = LocalDate.now();
+        Rental rental = Rental.builder().id(20L).dvd(dvd).count(2)
+                .rentalStart(today.atStartOfDay()).rentalEnd(today.plusDays(3).atStartOfDay()).build();
+        when(reservationRepository.findByDvdIdAndStatusIn(eq(1L), anyList())).thenReturn(List.of());
+        when(rentalRepository.findByDvdIdAndStatusIn(eq(1L), anyList())).thenReturn(List.of(rental));
+
+        assertEquals(2, timelineService.getAvailableCopies(dvd, today, today.plusDays(1)));
+        timelineService.releaseRental(rental);
+        dvd.setCopiesAvalaible(4);
+
+        assertEquals(4, timelineService.getAvailableCopies(dvd, today, today.plusDays(1)));
+        verify(rentalRepository, times(1)).findByDvdIdAndStatusIn(eq(1L), anyList());
+    }
+
+    @Test
+    void shouldReloadTimelineOnceTtlElapsed() {
+        timelineService = new DvdAvailabilityTimelineService(90, 100, 0, dvdRepository, rentalRepository,
+                userContextLogger, reservationRepository);
+        LocalDate today = LocalDate.now();
+        Rental rental = Rental.builder().id(20L).dvd(dvd).count(2)
+                .rentalStart(today.atStartOfDay()).rentalEnd(today.plusDays(3).atStartOfDay()).build();
+        when(reservationRepository.findByDvdIdAndStatusIn(eq(1L), anyList())).thenReturn(List.of());
+        when(rentalRepository.findByDvdIdAndStatusIn(eq(1L), anyList())).thenReturn(List.of(), List.of(rental));
+
+        assertEquals(2, timelineService.getAvailableCopies(dvd, today.plusDays(5), today.plusDays(6)));
+        dvd.setCopiesAvalaible(0);
+
+        assertEquals(2, timelineService.getAvailableCopies(dvd, today.plusDays(5), today.plusDays(6)));
+        verify(rentalRepository, times(2)).findByDvdIdAndStatusIn(eq(1L), anyList());
+    }
+
+    @Test
+    void shouldReturnBadRequestForInvalidId() {
+        ResponseEntity<DvdAvailabilityCalendarDto> response = timelineService.handleGetAvailabilityCalendar("abc",
+                null, null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void shouldReturnBadRequestForInvertedRange() {
+        when(dvdRepository.findById(1L)).thenReturn(Optional.of(dvd));
+        LocalDate today = LocalDate.now();
+
+        ResponseEntity<DvdAvailabilityCalendarDto> response = timelineService.handleGetAvailabilityCalendar("1",
+                today.plusDays(5), today.plusDays(1));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void shouldReturnNotFoundForMissingDvd() {
+        when(dvdRepository.findById(1L)).thenReturn(Optional.empty());
+
+        ResponseEntity<DvdAvailabilityCalendarDto> response = timelineService.handleGetAvailabilityCalendar("1",
+                null, null);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+}
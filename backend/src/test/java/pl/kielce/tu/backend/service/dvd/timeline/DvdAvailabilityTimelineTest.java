@@ -0,0 +1,89 @@
+package pl.kielce.tu.backend.service.dvd.timeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pl.kielce.tu.backend.model.constant.TimelineBookingType;
+
+class DvdAvailabilityTimelineTest {
+
+    private static final LocalDate ORIGIN = LocalDate.of(2030, 1, 1);
+
+    private DvdAvailabilityTimeline timeline;
+
+    @BeforeEach
+    void setUp() {
+        timeline = new DvdAvailabilityTimeline(ORIGIN, 30);
+    }
+
+    @Test
+    void shouldReturnZeroForEmptyTimeline() {
+        assertEquals(0, timeline.getMaxBooked(ORIGIN, ORIGIN.plusDays(29)));
+        assertEquals(0, timeline.getHeldCopies());
+    }
+
+    @Test
+    void shouldReportPeakOfOverlappingBookings() {
+        timeline.book(TimelineBookingType.RESERVATION, 1L, ORIGIN.plusDays(2), ORIGIN.plusDays(5), 2);
+        timeline.book(TimelineBookingType.RENTAL, 1L, ORIGIN.plusDays(4), ORIGIN.plusDays(8), 1);
+
+        assertEquals(3, timeline.getMaxBooked(ORIGIN, ORIGIN.plusDays(29)));
+        assertEquals(2, timeline.getMaxBooked(ORIGIN, ORIGIN.plusDays(3)));
+        assertEquals(1, timeline.getBookedOn(ORIGIN.plusDays(7)));
+        assertEquals(0, timeline.getBookedOn(ORIGIN.plusDays(9)));
+        assertEquals(3, timeline.getHeldCopies());
+    }
+
+    @Test
+    void shouldIgnoreDuplicateBooking() {
+        timeline.book(TimelineBookingType.RESERVATION, 1L, ORIGIN, ORIGIN.plusDays(2), 2);
+        timeline.book(TimelineBookingType.RESERVATION, 1L, ORIGIN, ORIGIN.plusDays(2), 2);
+
+        assertEquals(2, timeline.getBookedOn(ORIGIN.plusDays(1)));
+        assertEquals(2, timeline.getHeldCopies());
+    }
+
+    @Test
+    void shouldRemoveBookingOnRelease() {
+        timeline.book(TimelineBookingType.RESERVATION, 1L, ORIGIN, ORIGIN.plusDays(2), 2);
+        timeline.book(TimelineBookingType.RESERVATION, 2L, ORIGIN.plusDays(1), ORIGIN.plusDays(3), 1);
+
+        timeline.release(TimelineBookingType.RESERVATION, 1L);
+        timeline.release(TimelineBookingType.RESERVATION, 99L);
+
+        assertEquals(0, timeline.getBookedOn(ORIGIN));
+        assertEquals(1, timeline.getBookedOn(ORIGIN.plusDays(2)));
+        assertEquals(1, timeline.getHeldCopies());
+    }
+
+    @Test
+    void shouldClampBookingsOutsideHorizon() {
+        timeline.book(TimelineBookingType.RENTAL, 1L, ORIGIN.minusDays(5), ORIGIN.plusDays(1), 1);
+        timeline.book(TimelineBookingType.RESERVATION, 2L, ORIGIN.plusDays(25), ORIGIN.plusDays(60), 1);
+
+        assertEquals(1, timeline.getBookedOn(ORIGIN));
+        assertEquals(1, timeline.getBookedOn(ORIGIN.plusDays(29)));
+        assertEquals(0, timeline.getMaxBooked(ORIGIN.plusDays(40), ORIGIN.plusDays(50)));
+        assertEquals(0, timeline.getMaxBooked(ORIGIN.minusDays(10), ORIGIN.minusDays(1)));
+    }
+
+    @Test
+    void shouldDetectStaleOrigin() {
+        assertFalse(timeline.isStale(ORIGIN));
+        assertTrue(timeline.isStale(ORIGIN.plusDays(1)));
+        assertEquals(ORIGIN.plusDays(29), timeline.getLastDay());
+    }
+
+    @Test
+    void shouldRejectNonPositiveHorizon() {
+        assertThrows(IllegalArgumentException.class, () -> new DvdAvailabilityTimeline(ORIGIN, 0));
+    }
+
+}
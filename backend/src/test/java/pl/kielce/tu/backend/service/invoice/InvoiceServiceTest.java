@@ -2,8 +2,14 @@ package pl.kielce.tu.backend.service.invoice;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -11,20 +17,22 @@ import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import jakarta.servlet.http.HttpServletRequest;
 import pl.kielce.tu.backend.extractor.ClaimsExtractor;
-import pl.kielce.tu.backend.mapper.TransactionMapper;
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.constant.CookieNames;
 import pl.kielce.tu.backend.model.constant.RankType;
 import pl.kielce.tu.backend.model.constant.RentalStatus;
 import pl.kielce.tu.backend.model.dto.BillRequestDto;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
 import pl.kielce.tu.backend.model.dto.TransactionDto;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.model.entity.User;
@@ -32,8 +40,7 @@ import pl.kielce.tu.backend.repository.RentalRepository;
 import pl.kielce.tu.backend.repository.TransactionRepository;
 import pl.kielce.tu.backend.repository.UserRepository;
 import pl.kielce.tu.backend.service.auth.CookieService;
-import pl.kielce.tu.backend.service.invoice.factory.BillPdfStrategyFactory;
-import pl.kielce.tu.backend.service.invoice.strategy.BillPdfStrategy;
+import pl.kielce.tu.backend.service.invoice.storage.InvoicePdfStore;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,21 +55,21 @@ class InvoiceServiceTest {
     @Mock
     private RentalRepository rentalRepository;
     @Mock
-    private TransactionMapper transactionMapper;
-    @Mock
     private UserContextLogger userContextLogger;
     @Mock
-    private BillPdfStrategyFactory strategyFactory;
+    private InvoicePdfStore invoicePdfStore;
     @Mock
     private TransactionRepository transactionRepository;
 
+    @TempDir
+    Path tempDir;
+
     private InvoiceService invoiceService;
 
     @BeforeEach
     void setUp() {
         invoiceService = new InvoiceService(cookieService, userRepository, claimsExtractor,
-                rentalRepository, transactionMapper, userContextLogger, strategyFactory,
-                transactionRepository);
+                rentalRepository, userContextLogger, invoicePdfStore, transactionRepository);
         ReflectionTestUtils.setField(invoiceService, "jwtSecret", "test-secret");
     }
 
@@ -71,13 +78,58 @@ class InvoiceServiceTest {
         HttpServletRequest request = org.mockito.Mockito.mock(HttpServletRequest.class);
         when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn("token");
         when(claimsExtractor.extractUserId("token", "test-secret")).thenReturn(42L);
-        when(transactionRepository.findByUserIdOrderByGeneratedAtDesc(42L)).thenReturn(Collections.emptyList());
+        when(transactionRepository.findFirstUserTransactions(42L, PageRequest.of(0, 21)))
+                .thenReturn(Collections.emptyList());
+
+        var response = invoiceService.handleGetUserTransactions(request, null, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        CursorPageDto<TransactionDto> body = response.getBody();
+        assertEquals(0, body.getContent().size());
+        assertFalse(body.isHasNext());
+        assertNull(body.getNextCursor());
+    }
+
+    @Test
+    void handleGetUserTransactions_fullPage_returnsCursorOfLastRow() {
+        HttpServletRequest request = org.mockito.Mockito.mock(HttpServletRequest.class);
+        LocalDateTime cursorGeneratedAt = LocalDateTime.of(2025, 10, 1, 12, 0);
+        when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn("token");
+        when(claimsExtractor.extractUserId("token", "test-secret")).thenReturn(42L);
+        when(transactionRepository.findGeneratedAtByIdAndUserId(9L, 42L)).thenReturn(Optional.of(cursorGeneratedAt));
+        when(transactionRepository.findUserTransactionsAfter(42L, 9L, cursorGeneratedAt, PageRequest.of(0, 3)))
+                .thenReturn(List.of(transaction(8L), transaction(7L), transaction(6L)));
 
-        var response = invoiceService.handleGetUserTransactions(request);
+        var response = invoiceService.handleGetUserTransactions(request, 9L, 2);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        List<TransactionDto> body = response.getBody();
-        assertEquals(0, body != null ? body.size() : 0);
+        CursorPageDto<TransactionDto> body = response.getBody();
+        assertEquals(2, body.getContent().size());
+        assertTrue(body.isHasNext());
+        assertEquals(7L, body.getNextCursor());
+    }
+
+    @Test
+    void handleGetUserTransactions_unknownCursor_returnsBadRequest() {
+        HttpServletRequest request = org.mockito.Mockito.mock(HttpServletRequest.class);
+        when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn("token");
+        when(claimsExtractor.extractUserId("token", "test-secret")).thenReturn(42L);
+        when(transactionRepository.findGeneratedAtByIdAndUserId(9L, 42L)).thenReturn(Optional.empty());
+
+        var response = invoiceService.handleGetUserTransactions(request, 9L, 20);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void handleGetUserTransactions_nonPositiveSize_returnsBadRequest() {
+        HttpServletRequest request = org.mockito.Mockito.mock(HttpServletRequest.class);
+        when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn("token");
+        when(claimsExtractor.extractUserId("token", "test-secret")).thenReturn(42L);
+
+        var response = invoiceService.handleGetUserTransactions(request, null, 0);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
 
     @Test
@@ -85,7 +137,7 @@ class InvoiceServiceTest {
         HttpServletRequest request = org.mockito.Mockito.mock(HttpServletRequest.class);
         when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn(null);
 
-        var response = invoiceService.handleGetUserTransactions(request);
+        var response = invoiceService.handleGetUserTransactions(request, null, 20);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
     }
@@ -98,13 +150,15 @@ class InvoiceServiceTest {
         User adminUser = org.mockito.Mockito.mock(User.class);
         when(adminUser.getRank()).thenReturn(RankType.ADMIN);
         when(userRepository.findById(1L)).thenReturn(Optional.of(adminUser));
-        when(transactionRepository.findAllOrderByGeneratedAtDesc()).thenReturn(Collections.emptyList());
+        when(transactionRepository.findFirstTransactions(PageRequest.of(0, 101)))
+                .thenReturn(Collections.emptyList());
 
-        var response = invoiceService.handleGetAllTransactions(request);
+        var response = invoiceService.handleGetAllTransactions(request, null, 500);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        List<TransactionDto> body = response.getBody();
-        assertEquals(0, body != null ? body.size() : 0);
+        CursorPageDto<TransactionDto> body = response.getBody();
+        assertEquals(0, body.getContent().size());
+        assertEquals(100, body.getPageSize());
     }
 
     @Test
@@ -116,13 +170,13 @@ class InvoiceServiceTest {
         when(nonAdmin.getRank()).thenReturn(RankType.USER);
         when(userRepository.findById(2L)).thenReturn(Optional.of(nonAdmin));
 
-        var response = invoiceService.handleGetAllTransactions(request);
+        var response = invoiceService.handleGetAllTransactions(request, null, 20);
 
         assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
     }
 
     @Test
-    void handleGenerateBill_success_returnsPdfResponse() {
+    void handleGenerateBill_success_returnsPdfResponse() throws Exception {
         HttpServletRequest request = org.mockito.Mockito.mock(HttpServletRequest.class);
         when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn("token");
         when(claimsExtractor.extractUserId("token", "test-secret")).thenReturn(10L);
@@ -139,17 +193,17 @@ class InvoiceServiceTest {
         when(rentalUser.getRank()).thenReturn(RankType.USER);
         BillRequestDto billRequest = org.mockito.Mockito.mock(BillRequestDto.class);
         when(billRequest.getBillType()).thenReturn(BillType.INVOICE);
-        BillPdfStrategy strategy = org.mockito.Mockito.mock(BillPdfStrategy.class);
         byte[] pdf = "pdf-bytes".getBytes();
-        when(strategy.generatePdf(rental)).thenReturn(pdf);
-        when(strategyFactory.getStrategy(BillType.INVOICE)).thenReturn(strategy);
+        Path storedPdf = Files.write(tempDir.resolve("faktura_123.pdf"), pdf);
+        when(invoicePdfStore.getOrRender(rental, BillType.INVOICE)).thenReturn(storedPdf);
+        when(invoicePdfStore.getFilename(123L, BillType.INVOICE)).thenReturn("faktura_123.pdf");
 
         var response = invoiceService.handleGenerateBill(123L, billRequest, request);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(MediaType.APPLICATION_PDF, response.getHeaders().getContentType());
         assertEquals(pdf.length, response.getHeaders().getContentLength());
-        assertArrayEquals(pdf, response.getBody());
+        assertArrayEquals(pdf, response.getBody().getContentAsByteArray());
         String contentDisposition = response.getHeaders().getFirst("Content-Disposition");
         org.junit.jupiter.api.Assertions
                 .assertTrue(contentDisposition != null && contentDisposition.contains("faktura_123.pdf"));
@@ -193,4 +247,11 @@ class InvoiceServiceTest {
 
         assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
     }
+
+    private TransactionDto transaction(Long id) {
+        return TransactionDto.builder()
+                .id(id)
+                .rentalId(id)
+                .build();
+    }
 }
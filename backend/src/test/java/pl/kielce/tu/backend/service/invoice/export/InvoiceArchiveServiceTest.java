@@ -0,0 +1,146 @@
+package pl.kielce.tu.backend.service.invoice.export;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import pl.kielce.tu.backend.model.constant.BillType;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.repository.TransactionRepository;
+import pl.kielce.tu.backend.service.invoice.storage.InvoicePdfStore;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class InvoiceArchiveServiceTest {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 9, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2025, 10, 1, 0, 0);
+
+    @Mock
+    private InvoicePdfStore invoicePdfStore;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @TempDir
+    Path tempDir;
+
+    private InvoiceArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new InvoiceArchiveService(3, 2, 366, invoicePdfStore, userContextLogger, transactionRepository);
+        lenient().when(invoicePdfStore.getFilename(anyLong(), eq(BillType.INVOICE)))
+                .thenAnswer(invocation -> "faktura_" + invocation.getArgument(0) + ".pdf");
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void handleExportArchive_streamsBillsInGenerationOrder() throws Exception {
+        List<Long> ids = List.of(5L, 3L, 9L, 1L, 7L);
+        when(transactionRepository.findCompletedIdsGeneratedBetween(FROM, TO)).thenReturn(ids);
+        for (Long id : ids) {
+            Rental rental = Rental.builder().id(id).build();
+            when(transactionRepository.findByIdWithTransaction(id)).thenReturn(Optional.of(rental));
+            when(invoicePdfStore.getOrRender(rental, BillType.INVOICE))
+                    .thenReturn(Files.write(tempDir.resolve(id + ".pdf"), ("pdf-" + id).getBytes()));
+        }
+
+        ResponseEntity<StreamingResponseBody> response = service.handleExportArchive(FROM, TO, null);
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        response.getBody().writeTo(archive);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.parseMediaType("application/zip"), response.getHeaders().getContentType());
+        assertTrue(response.getHeaders().getFirst("Content-Disposition").contains("faktury_20250901_20251001.zip"));
+        List<String> names = new ArrayList<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+                String id = entry.getName().replace("faktura_", "").replace(".pdf", "");
+                assertArrayEquals(("pdf-" + id).getBytes(), zip.readAllBytes());
+            }
+        }
+        assertEquals(List.of("faktura_5.pdf", "faktura_3.pdf", "faktura_9.pdf", "faktura_1.pdf", "faktura_7.pdf"),
+                names);
+    }
+
+    @Test
+    void writeArchive_listsFailedBillsInErrorsEntry() throws Exception {
+        Rental rental = Rental.builder().id(1L).build();
+        when(transactionRepository.findByIdWithTransaction(1L)).thenReturn(Optional.of(rental));
+        when(transactionRepository.findByIdWithTransaction(2L)).thenReturn(Optional.empty());
+        when(invoicePdfStore.getOrRender(any(), eq(BillType.INVOICE)))
+                .thenReturn(Files.write(tempDir.resolve("1.pdf"), "pdf".getBytes()));
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+
+        service.writeArchive(List.of(1L, 2L), BillType.INVOICE, archive);
+
+        List<String> names = new ArrayList<>();
+        String errors = null;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(archive.toByteArray()))) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                names.add(entry.getName());
+                if (entry.getName().equals("errors.txt")) {
+                    errors = new String(zip.readAllBytes());
+                }
+            }
+        }
+        assertEquals(List.of("faktura_1.pdf", "errors.txt"), names);
+        assertTrue(errors.contains("2"));
+    }
+
+    @Test
+    void handleExportArchive_rejectsInvertedRange() {
+        ResponseEntity<StreamingResponseBody> response = service.handleExportArchive(TO, FROM, BillType.INVOICE);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(transactionRepository);
+    }
+
+    @Test
+    void handleExportArchive_rejectsTooLongRange() {
+        ResponseEntity<StreamingResponseBody> response = service.handleExportArchive(FROM, FROM.plusYears(2),
+                BillType.INVOICE);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
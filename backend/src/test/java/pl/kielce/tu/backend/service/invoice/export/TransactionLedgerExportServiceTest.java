@@ -0,0 +1,122 @@
+package pl.kielce.tu.backend.service.invoice.export;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import pl.kielce.tu.backend.model.constant.BillType;
+import pl.kielce.tu.backend.model.dto.TransactionDto;
+import pl.kielce.tu.backend.repository.TransactionRepository;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionLedgerExportServiceTest {
+
+    private static final LocalDateTime GENERATED_AT = LocalDateTime.of(2025, 10, 1, 14, 30);
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private TransactionLedgerExportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TransactionLedgerExportService(2, userContextLogger, transactionRepository);
+    }
+
+    @Test
+    void writeLedger_pagesThroughLedgerWithKeysetCursor() throws Exception {
+        TransactionDto first = transaction(9L, "Matrix", GENERATED_AT);
+        TransactionDto second = transaction(8L, "Alien", GENERATED_AT.minusHours(1));
+        TransactionDto third = transaction(4L, "Heat", GENERATED_AT.minusDays(1));
+        when(transactionRepository.findFirstTransactions(PageRequest.of(0, 2)))
+                .thenReturn(List.of(first, second));
+        when(transactionRepository.findTransactionsAfter(8L, second.getGeneratedAt(), PageRequest.of(0, 2)))
+                .thenReturn(List.of(third));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        service.writeLedger(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(4, lines.length);
+        assertTrue(lines[0].startsWith("id,invoiceId,dvdTitle"));
+        assertEquals("9,INV-9,Matrix,7,4.00,0.00,28.00,2025-10-01T14:30,INVOICE,9", lines[1]);
+        assertTrue(lines[3].startsWith("4,INV-4,Heat,"));
+    }
+
+    @Test
+    void writeLedger_fullLastBatch_queriesOnceMoreAndStops() throws Exception {
+        TransactionDto first = transaction(9L, "Matrix", GENERATED_AT);
+        TransactionDto second = transaction(8L, "Alien", GENERATED_AT);
+        when(transactionRepository.findFirstTransactions(PageRequest.of(0, 2)))
+                .thenReturn(List.of(first, second));
+        when(transactionRepository.findTransactionsAfter(8L, GENERATED_AT, PageRequest.of(0, 2)))
+                .thenReturn(Collections.emptyList());
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        service.writeLedger(output);
+
+        assertEquals(3, output.toString(StandardCharsets.UTF_8).split("\n").length);
+        verify(transactionRepository, times(1)).findTransactionsAfter(8L, GENERATED_AT, PageRequest.of(0, 2));
+    }
+
+    @Test
+    void writeLedger_quotesTitlesWithSeparators() throws Exception {
+        TransactionDto transaction = transaction(1L, "Good, \"Bad\" and Ugly", GENERATED_AT);
+        transaction.setBillType(null);
+        when(transactionRepository.findFirstTransactions(PageRequest.of(0, 2)))
+                .thenReturn(List.of(transaction));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        service.writeLedger(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals("1,INV-1,\"Good, \"\"Bad\"\" and Ugly\",7,4.00,0.00,28.00,2025-10-01T14:30,,1", lines[1]);
+    }
+
+    @Test
+    void handleExportLedger_returnsCsvAttachment() {
+        ResponseEntity<StreamingResponseBody> response = service.handleExportLedger();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("text/csv;charset=UTF-8", response.getHeaders().getContentType().toString());
+        assertTrue(response.getHeaders().getContentDisposition().getFilename().endsWith(".csv"));
+    }
+
+    private TransactionDto transaction(Long id, String title, LocalDateTime generatedAt) {
+        return TransactionDto.builder()
+                .id(id)
+                .invoiceId("INV-" + id)
+                .dvdTitle(title)
+                .rentalPeriodDays(7)
+                .pricePerDay(new BigDecimal("4.00"))
+                .lateFee(new BigDecimal("0.00"))
+                .totalAmount(new BigDecimal("28.00"))
+                .generatedAt(generatedAt)
+                .billType(BillType.INVOICE)
+                .rentalId(id)
+                .build();
+    }
+}
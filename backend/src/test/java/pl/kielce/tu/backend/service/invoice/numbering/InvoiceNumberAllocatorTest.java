@@ -0,0 +1,121 @@
+package pl.kielce.tu.backend.service.invoice.numbering;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class InvoiceNumberAllocatorTest {
+
+    private static final int BLOCK_SIZE = 3;
+
+    @Mock
+    private InvoiceSequenceStore sequenceStore;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    private InvoiceNumberAllocator allocator;
+
+    @BeforeEach
+    void setUp() {
+        allocator = new InvoiceNumberAllocator(BLOCK_SIZE, sequenceStore, userContextLogger);
+    }
+
+    @Test
+    void nextInvoiceNumber_servesNumbersFromReservedBlockBeforeReservingNext() {
+        when(sequenceStore.reserveBlock(2025, BLOCK_SIZE)).thenReturn(Optional.of(1L), Optional.of(4L));
+
+        List<String> numbers = List.of(allocator.nextInvoiceNumber(2025), allocator.nextInvoiceNumber(2025),
+                allocator.nextInvoiceNumber(2025), allocator.nextInvoiceNumber(2025));
+
+        assertEquals(List.of("INV-2025-000001", "INV-2025-000002", "INV-2025-000003", "INV-2025-000004"),
+                numbers);
+        verify(sequenceStore, times(2)).reserveBlock(2025, BLOCK_SIZE);
+    }
+
+    @Test
+    void nextInvoiceNumber_newYear_switchesToThatYearsSequence() {
+        when(sequenceStore.reserveBlock(2025, BLOCK_SIZE)).thenReturn(Optional.of(40L));
+        when(sequenceStore.reserveBlock(2026, BLOCK_SIZE)).thenReturn(Optional.of(1L));
+
+        assertEquals("INV-2025-000040", allocator.nextInvoiceNumber(2025));
+        assertEquals("INV-2026-000001", allocator.nextInvoiceNumber(2026));
+    }
+
+    @Test
+    void nextInvoiceNumber_missingSequence_createsItThenReserves() {
+        when(sequenceStore.reserveBlock(2025, BLOCK_SIZE)).thenReturn(Optional.empty(), Optional.of(1L));
+
+        assertEquals("INV-2025-000001", allocator.nextInvoiceNumber(2025));
+        verify(sequenceStore).createSequence(2025);
+    }
+
+    @Test
+    void nextInvoiceNumber_sequenceCreatedConcurrently_reservesFromExistingRow() {
+        when(sequenceStore.reserveBlock(2025, BLOCK_SIZE)).thenReturn(Optional.empty(), Optional.of(7L));
+        doThrow(new DataIntegrityViolationException("duplicate")).when(sequenceStore).createSequence(2025);
+
+        assertEquals("INV-2025-000007", allocator.nextInvoiceNumber(2025));
+    }
+
+    @Test
+    void nextInvoiceNumber_sequenceStillMissing_throws() {
+        when(sequenceStore.reserveBlock(2025, BLOCK_SIZE)).thenReturn(Optional.empty());
+
+        assertThrows(IllegalStateException.class, () -> allocator.nextInvoiceNumber(2025));
+    }
+
+    @Test
+    void nextInvoiceNumber_concurrentCallers_receiveDistinctConsecutiveNumbers() throws Exception {
+        AtomicLong sequence = new AtomicLong(1);
+        when(sequenceStore.reserveBlock(anyInt(), anyInt()))
+                .thenAnswer(invocation -> Optional.of(sequence.getAndAdd(BLOCK_SIZE)));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < 300; i++) {
+                futures.add(executor.submit(() -> allocator.nextInvoiceNumber(2025)));
+            }
+            List<String> numbers = new ArrayList<>();
+            for (Future<String> future : futures) {
+                numbers.add(future.get());
+            }
+            Collections.sort(numbers);
+            assertEquals(300, new HashSet<>(numbers).size());
+            assertEquals("INV-2025-000001", numbers.get(0));
+            assertEquals("INV-2025-000300", numbers.get(299));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void constructor_nonPositiveBlockSize_throws() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new InvoiceNumberAllocator(0, sequenceStore, userContextLogger));
+    }
+}
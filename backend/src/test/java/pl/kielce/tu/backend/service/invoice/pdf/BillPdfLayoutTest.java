@@ -0,0 +1,72 @@
+package pl.kielce.tu.backend.service.invoice.pdf;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+import pl.kielce.tu.backend.model.Money;
+
+class BillPdfLayoutTest {
+
+    private final BillPdfLayout layout = new BillPdfLayout();
+
+    @Test
+    void formatAmount_rendersTwoDecimals() {
+        assertEquals("12.50 PLN", layout.formatAmount(Money.of(new BigDecimal("12.5"))));
+        assertEquals("0.01 PLN", layout.formatAmount(Money.of(new BigDecimal("0.005"))));
+        assertEquals("1000.00 PLN", layout.formatAmount(Money.ofMinor(100000L)));
+        assertEquals("-0.05 PLN", layout.formatAmount(Money.ofMinor(-5L)));
+    }
+
+    @Test
+    void formatDates_useInvoiceAndReceiptPatterns() {
+        LocalDateTime dateTime = LocalDateTime.of(2025, 3, 7, 9, 5);
+
+        assertEquals("07.03.2025", layout.formatInvoiceDate(dateTime));
+        assertEquals("07.03.2025 09:05", layout.formatReceiptDate(dateTime));
+    }
+
+    @Test
+    void write_leavesTargetStreamOpen() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        FilterOutputStream outputStream = new FilterOutputStream(target) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+
+        layout.write(outputStream, layout::addInvoiceHeader);
+
+        assertTrue(target.size() > 0);
+        assertFalse(closed.get());
+    }
+
+    @Test
+    void write_reusesPrebuiltSectionsAcrossDocuments() throws Exception {
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+
+        layout.write(first, document -> {
+            layout.addReceiptHeader(document);
+            layout.addReceiptCompany(document);
+            layout.addReceiptFooter(document);
+        });
+        layout.write(second, document -> {
+            layout.addReceiptHeader(document);
+            layout.addReceiptCompany(document);
+            layout.addReceiptFooter(document);
+        });
+
+        assertEquals(first.size(), second.size());
+    }
+}
@@ -0,0 +1,62 @@
+package pl.kielce.tu.backend.service.invoice.render;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pl.kielce.tu.backend.model.constant.BillType;
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.model.entity.Transaction;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.invoice.storage.InvoicePdfStore;
+
+@ExtendWith(MockitoExtension.class)
+class InvoicePdfRendererTest {
+
+    @Mock
+    private InvoicePdfStore invoicePdfStore;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @InjectMocks
+    private InvoicePdfRenderer renderer;
+
+    @Test
+    void render_storesBothBillsAndRecordsPdfUrl() {
+        Rental rental = Rental.builder().id(3L).status(RentalStatus.INACTIVE)
+                .transaction(Transaction.builder().billType(BillType.INVOICE).build()).build();
+        when(rentalRepository.findById(3L)).thenReturn(Optional.of(rental));
+        when(invoicePdfStore.getStorageKey(3L, BillType.INVOICE)).thenReturn("3/faktura_3.pdf");
+
+        assertTrue(renderer.render(3L));
+
+        verify(invoicePdfStore).render(rental, BillType.INVOICE);
+        verify(invoicePdfStore).render(rental, BillType.RECEIPT);
+        assertEquals("3/faktura_3.pdf", rental.getTransaction().getPdfUrl());
+        verify(rentalRepository).save(rental);
+    }
+
+    @Test
+    void render_skipsRentalThatIsStillActive() {
+        Rental rental = Rental.builder().id(4L).status(RentalStatus.ACTIVE)
+                .transaction(Transaction.builder().build()).build();
+        when(rentalRepository.findById(4L)).thenReturn(Optional.of(rental));
+
+        assertFalse(renderer.render(4L));
+
+        verifyNoInteractions(invoicePdfStore);
+    }
+}
@@ -0,0 +1,99 @@
+package pl.kielce.tu.backend.service.invoice.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pl.kielce.tu.backend.model.constant.BillType;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.service.invoice.factory.BillPdfStrategyFactory;
+import pl.kielce.tu.backend.service.invoice.strategy.BillPdfStrategy;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class InvoicePdfStoreTest {
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private BillPdfStrategyFactory strategyFactory;
+
+    @Mock
+    private BillPdfStrategy strategy;
+
+    @TempDir
+    Path tempDir;
+
+    private InvoicePdfStore invoicePdfStore;
+    private Rental rental;
+
+    @BeforeEach
+    void setUp() {
+        invoicePdfStore = new InvoicePdfStore(tempDir.toString(), userContextLogger, strategyFactory);
+        rental = Rental.builder().id(12L).build();
+    }
+
+    @Test
+    void render_writesPdfUnderRentalDirectory() throws Exception {
+        byte[] pdf = "pdf".getBytes();
+        when(strategyFactory.getStrategy(BillType.INVOICE)).thenReturn(strategy);
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write(pdf);
+            return null;
+        }).when(strategy).writePdf(eq(rental), any());
+
+        Path stored = invoicePdfStore.render(rental, BillType.INVOICE);
+
+        assertEquals(tempDir.toAbsolutePath().resolve("12/faktura_12.pdf"), stored);
+        assertArrayEquals(pdf, Files.readAllBytes(stored));
+        try (var files = Files.list(stored.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void getOrRender_reusesStoredFileWithoutRendering() {
+        when(strategyFactory.getStrategy(BillType.RECEIPT)).thenReturn(strategy);
+
+        Path first = invoicePdfStore.getOrRender(rental, BillType.RECEIPT);
+        Path second = invoicePdfStore.getOrRender(rental, BillType.RECEIPT);
+
+        assertEquals(first, second);
+        verify(strategy, times(1)).writePdf(eq(rental), any());
+    }
+
+    @Test
+    void getOrRender_regeneratesMissingFile() throws Exception {
+        when(strategyFactory.getStrategy(BillType.INVOICE)).thenReturn(strategy);
+        Files.delete(invoicePdfStore.render(rental, BillType.INVOICE));
+
+        Path regenerated = invoicePdfStore.getOrRender(rental, BillType.INVOICE);
+
+        assertTrue(Files.exists(regenerated));
+        verify(strategy, times(2)).writePdf(eq(rental), any());
+    }
+
+    @Test
+    void getStorageKey_usesRentalDirectoryAndPolishFilename() {
+        assertEquals("7/paragon_7.pdf", invoicePdfStore.getStorageKey(7L, BillType.RECEIPT));
+        assertEquals("faktura_7.pdf", invoicePdfStore.getFilename(7L, BillType.INVOICE));
+    }
+}
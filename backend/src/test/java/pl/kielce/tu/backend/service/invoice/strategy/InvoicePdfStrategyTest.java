@@ -15,12 +15,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.model.entity.Transaction;
 import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.service.invoice.pdf.BillPdfLayout;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,6 +31,9 @@ class InvoicePdfStrategyTest {
     @Mock
     private UserContextLogger userContextLogger;
 
+    @Spy
+    private BillPdfLayout layout = new BillPdfLayout();
+
     @InjectMocks
     private InvoicePdfStrategy strategy;
 
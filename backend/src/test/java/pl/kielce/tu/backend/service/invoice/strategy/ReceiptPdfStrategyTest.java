@@ -20,11 +20,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.model.entity.Transaction;
+import pl.kielce.tu.backend.service.invoice.pdf.BillPdfLayout;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,6 +35,9 @@ class ReceiptPdfStrategyTest {
     @Mock
     private UserContextLogger userContextLogger;
 
+    @Spy
+    private BillPdfLayout layout = new BillPdfLayout();
+
     @Mock
     private Rental rental;
 
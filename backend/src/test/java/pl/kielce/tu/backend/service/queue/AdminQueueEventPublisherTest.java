@@ -0,0 +1,222 @@
+package pl.kielce.tu.backend.service.queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
+import pl.kielce.tu.backend.model.entity.AdminQueueEvent;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AdminQueueEventPublisher Tests")
+class AdminQueueEventPublisherTest {
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private SseEmitter emitter;
+
+    @Mock
+    private AdminQueueEventStore eventStore;
+
+    private AdminQueueEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(eventStore.append(any(), anyList(), any())).thenReturn(List.of(1L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should deliver published event to subscriber")
+    void shouldDeliverPublishedEvent() throws IOException {
+        publisher = createPublisher(16, 5);
+
+        ResponseEntity<SseEmitter> response = publisher.handleSubscribe();
+        publisher.publish(AdminQueueEventType.RESERVATION_PENDING, 12L);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(emitter, response.getBody());
+        verify(emitter, timeout(2000)).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Should reject subscriber beyond the limit")
+    void shouldRejectSubscriberBeyondLimit() {
+        publisher = createPublisher(16, 1);
+
+        publisher.handleSubscribe();
+        ResponseEntity<SseEmitter> response = publisher.handleSubscribe();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(1, publisher.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should drop subscriber when sending fails")
+    void shouldDropSubscriberWhenSendFails() throws IOException {
+        publisher = createPublisher(16, 5);
+        doThrow(new IOException("broken pipe")).when(emitter).send(any(SseEventBuilder.class));
+        publisher.handleSubscribe();
+
+        publisher.publish(AdminQueueEventType.RETURN_REQUESTED, List.of(3L, 4L));
+
+        verify(emitter, timeout(2000)).send(any(SseEventBuilder.class));
+        verify(emitter, after(200).times(1)).send(any(SseEventBuilder.class));
+        assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("Should not broadcast empty id lists")
+    void shouldNotBroadcastEmptyIdLists() throws IOException {
+        publisher = createPublisher(16, 5);
+        publisher.handleSubscribe();
+
+        publisher.publish(AdminQueueEventType.RETURN_REQUESTED, List.of());
+        publisher.publish(AdminQueueEventType.RESERVATION_PENDING, (Long) null);
+
+        verify(emitter, after(200).never()).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Should send heartbeat to every subscriber from the sender pool")
+    void shouldSendHeartbeatFromSenderPool() throws Exception {
+        publisher = createPublisher(16, 5);
+        publisher.handleSubscribe();
+        CompletableFuture<String> senderThread = new CompletableFuture<>();
+        doAnswer(invocation -> senderThread.complete(Thread.currentThread().getName()))
+                .when(emitter).send(any(SseEventBuilder.class));
+
+        publisher.sendHeartbeat();
+
+        assertTrue(senderThread.get(2, TimeUnit.SECONDS).startsWith("admin-queue-sender-"));
+        verify(emitter, never()).complete();
+    }
+
+    @Test
+    @DisplayName("Should store published event for other nodes")
+    void shouldStorePublishedEvent() {
+        publisher = createPublisher(16, 5);
+
+        publisher.publish(AdminQueueEventType.RETURN_REQUESTED, List.of(3L, 4L));
+
+        verify(eventStore).append(eq(AdminQueueEventType.RETURN_REQUESTED), eq(List.of(3L, 4L)),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should broadcast events committed on other nodes once")
+    void shouldBroadcastPolledEventsOnce() throws IOException {
+        publisher = createPublisher(16, 5);
+        publisher.handleSubscribe();
+        when(eventStore.findLatestId()).thenReturn(6L);
+        when(eventStore.findAfter(6L)).thenReturn(List.of(event(7L, "12,13")));
+        when(eventStore.findAfter(7L)).thenReturn(List.of());
+
+        publisher.pollCommittedEvents();
+        publisher.pollCommittedEvents();
+        publisher.pollCommittedEvents();
+
+        verify(emitter, timeout(2000)).send(any(SseEventBuilder.class));
+        verify(emitter, after(200).times(1)).send(any(SseEventBuilder.class));
+        verify(eventStore).findAfter(7L);
+    }
+
+    @Test
+    @DisplayName("Should not rebroadcast events published by this node")
+    void shouldSkipPolledEventsPublishedLocally() throws IOException {
+        publisher = createPublisher(16, 5);
+        publisher.handleSubscribe();
+        when(eventStore.findLatestId()).thenReturn(0L);
+        publisher.pollCommittedEvents();
+        publisher.publish(AdminQueueEventType.RESERVATION_PENDING, 12L);
+        when(eventStore.findAfter(0L)).thenReturn(List.of(event(1L, "12")));
+
+        publisher.pollCommittedEvents();
+
+        verify(emitter, timeout(2000)).send(any(SseEventBuilder.class));
+        verify(emitter, after(200).times(1)).send(any(SseEventBuilder.class));
+    }
+
+    @Test
+    @DisplayName("Should not poll the database without subscribers")
+    void shouldNotPollWithoutSubscribers() {
+        publisher = createPublisher(16, 5);
+
+        publisher.pollCommittedEvents();
+
+        verify(eventStore, never()).findLatestId();
+        verify(eventStore, never()).findAfter(anyLong());
+    }
+
+    @Test
+    @DisplayName("Should sweep events older than the retention")
+    void shouldSweepOldEvents() {
+        publisher = createPublisher(16, 5);
+        when(eventStore.deleteOccurredBefore(any())).thenReturn(4);
+        LocalDateTime before = LocalDateTime.now().minusSeconds(600);
+
+        assertEquals(4, publisher.sweepExpired());
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(eventStore).deleteOccurredBefore(cutoff.capture());
+        assertTrue(!cutoff.getValue().isBefore(before));
+    }
+
+    private AdminQueueEventPublisher createPublisher(int bufferSize, int maxSubscribers) {
+        AdminQueueEventPublisher created = spy(new AdminQueueEventPublisher(bufferSize, maxSubscribers, 60000, 1,
+                600000, eventStore, userContextLogger));
+        lenient().doReturn(emitter).when(created).createEmitter(anyLong());
+        return created;
+    }
+
+    private AdminQueueEvent event(Long id, String affectedIds) {
+        return AdminQueueEvent.builder()
+                .id(id)
+                .type(AdminQueueEventType.RESERVATION_PENDING)
+                .affectedIds(affectedIds)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+}
@@ -24,6 +24,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import jakarta.servlet.http.HttpServletRequest;
 import pl.kielce.tu.backend.extractor.ClaimsExtractor;
@@ -34,8 +35,12 @@ import pl.kielce.tu.backend.model.dto.DvdDto;
 import pl.kielce.tu.backend.model.dto.PagedResponseDto;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.repository.DvdRepository;
 import pl.kielce.tu.backend.repository.UserRepository;
 import pl.kielce.tu.backend.service.auth.CookieService;
+import pl.kielce.tu.backend.service.recommendation.cohort.RecommendationCohortCache;
+import pl.kielce.tu.backend.service.recommendation.materialized.MaterializedRecommendationReader;
+import pl.kielce.tu.backend.service.recommendation.materialized.RecommendationMaterializer;
 import pl.kielce.tu.backend.service.recommendation.strategy.RecommendationStrategy;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
@@ -69,6 +74,18 @@ class RecommendationServiceTest {
     @Mock
     private UserContextLogger userContextLogger;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private MaterializedRecommendationReader materializedReader;
+
+    @Mock
+    private RecommendationMaterializer recommendationMaterializer;
+
+    @Mock
+    private DvdRepository dvdRepository;
+
     private RecommendationService recommendationService;
 
     private final String jwtSecret = "testSecret";
@@ -76,8 +93,11 @@ class RecommendationServiceTest {
     @BeforeEach
     void setUp() {
         List<RecommendationStrategy> strategies = Arrays.asList(strategy1, strategy2);
+        RecommendationStrategyExecutor strategyExecutor = new RecommendationStrategyExecutor(1000, 10, 20,
+                userContextLogger, transactionManager, strategies, recommendationMapper,
+                new RecommendationCohortCache(100, 10), dvdRepository);
         recommendationService = new RecommendationService(pageMapper, cookieService, userRepository,
-                claimsExtractor, userContextLogger, strategies, recommendationMapper);
+                claimsExtractor, strategyExecutor, materializedReader, recommendationMaterializer);
         ReflectionTestUtils.setField(recommendationService, "jwtSecret", jwtSecret);
     }
 
@@ -120,6 +140,65 @@ class RecommendationServiceTest {
         assertEquals("Test reason 1", responseBody.getContent().get(0).getRecommendationReason());
         verify(userRepository).findById(userId);
         verify(strategy1).recommend(eq(user), any());
+        verify(recommendationMaterializer).store(eq(userId), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldHandleGetDvdRecommendations_notStorePartialListWhenStrategyFails() {
+        Long userId = 1L;
+        String token = "validToken";
+        User user = createTestUser(userId);
+        List<Dvd> dvds = createTestDvds();
+        List<DvdDto> expectedDtos = createTestDvdDtos();
+
+        when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn(token);
+        when(claimsExtractor.extractUserId(token, jwtSecret)).thenReturn(userId);
+        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(strategy1.getPriority()).thenReturn(1);
+        when(strategy2.getPriority()).thenReturn(2);
+        when(strategy1.recommend(eq(user), any())).thenReturn(dvds);
+        when(strategy2.recommend(eq(user), any())).thenThrow(new IllegalStateException("query failed"));
+        when(strategy1.getReason()).thenReturn("Test reason 1");
+        when(recommendationMapper.mapToRecommendationDtos(eq(dvds), anyString(), any())).thenReturn(expectedDtos);
+        when(pageMapper.toPagedResponse(any())).thenAnswer(invocation -> PagedResponseDto.<DvdDto>builder()
+                .content(expectedDtos)
+                .build());
+
+        ResponseEntity<PagedResponseDto<DvdDto>> response = recommendationService.handleGetDvdRecommendations(request,
+                0, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(recommendationMaterializer, never()).store(any(), any());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldHandleGetDvdRecommendations_serveMaterializedListWithoutLiveComputation() {
+        Long userId = 1L;
+        String token = "validToken";
+        List<DvdDto> storedDtos = createTestDvdDtos();
+        PagedResponseDto<DvdDto> pagedResponse = PagedResponseDto.<DvdDto>builder()
+                .content(storedDtos)
+                .totalElements(2)
+                .totalPages(1)
+                .currentPage(0)
+                .pageSize(20)
+                .build();
+
+        when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn(token);
+        when(claimsExtractor.extractUserId(token, jwtSecret)).thenReturn(userId);
+        when(materializedReader.find(userId)).thenReturn(Optional.of(storedDtos));
+        PagedResponseDto<DvdDto> mockResponse = (PagedResponseDto<DvdDto>) (PagedResponseDto<?>) pagedResponse;
+        when(pageMapper.toPagedResponse(any())).thenAnswer(invocation -> mockResponse);
+
+        ResponseEntity<PagedResponseDto<DvdDto>> response = recommendationService.handleGetDvdRecommendations(request,
+                0, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(userRepository, never()).findById(any());
+        verify(strategy1, never()).recommend(any(), any());
+        verify(recommendationMaterializer, never()).store(any(), any());
     }
 
     @Test
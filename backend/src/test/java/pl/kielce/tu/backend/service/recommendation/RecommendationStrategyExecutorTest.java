@@ -0,0 +1,376 @@
+package pl.kielce.tu.backend.service.recommendation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import pl.kielce.tu.backend.mapper.RecommendationMapper;
+import pl.kielce.tu.backend.model.dto.DvdDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.service.recommendation.cohort.RecommendationCohortCache;
+import pl.kielce.tu.backend.service.recommendation.cohort.RecommendationCohortKey;
+import pl.kielce.tu.backend.service.recommendation.strategy.RecommendationStrategy;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationStrategyExecutorTest {
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RecommendationMapper recommendationMapper;
+
+    @Mock
+    private DvdRepository dvdRepository;
+
+    @Mock
+    private RecommendationStrategy historyStrategy;
+
+    @Mock
+    private RecommendationStrategy popularStrategy;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final RecommendationCohortCache cohortCache = new RecommendationCohortCache(100, 10);
+
+    private RecommendationStrategyExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void execute_returnsResultsInPriorityOrder() {
+        User user = createUser();
+        stubStrategy(popularStrategy, 2, "Popular", dvd(2L));
+        stubStrategy(historyStrategy, 1, "History", dvd(1L));
+        executor = createExecutor(1000, List.of(popularStrategy, historyStrategy));
+
+        List<List<DvdDto>> results = executor.execute(user);
+
+        assertEquals(2, results.size());
+        assertEquals(1L, results.get(0).get(0).getId());
+        assertEquals("History", results.get(0).get(0).getRecommendationReason());
+        assertEquals(2L, results.get(1).get(0).getId());
+    }
+
+    @Test
+    void execute_runsStrategiesConcurrently() {
+        User user = createUser();
+        CountDownLatch started = new CountDownLatch(2);
+        stubBlockingStrategy(historyStrategy, 1, "History", dvd(1L), started);
+        stubBlockingStrategy(popularStrategy, 2, "Popular", dvd(2L), started);
+        executor = createExecutor(2000, List.of(historyStrategy, popularStrategy));
+
+        List<List<DvdDto>> results = executor.execute(user);
+
+        assertEquals(1, results.get(0).size());
+        assertEquals(1, results.get(1).size());
+    }
+
+    @Test
+    void execute_slowStrategyMissesDeadline_returnsPartialResults() {
+        User user = createUser();
+        stubStrategy(historyStrategy, 1, "History", dvd(1L));
+        when(popularStrategy.getPriority()).thenReturn(2);
+        when(popularStrategy.recommend(eq(user), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(dvd(2L));
+        });
+        executor = createExecutor(100, List.of(historyStrategy, popularStrategy));
+
+        long start = System.nanoTime();
+        List<List<DvdDto>> results = executor.execute(user);
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 2000);
+        assertEquals(1, results.get(0).size());
+        assertTrue(results.get(1).isEmpty());
+        verify(userContextLogger).logUserOperation(eq("STRATEGY_TIMEOUT"), anyString());
+    }
+
+    @Test
+    void execute_slowStrategyMissesDeadline_isInterrupted() throws InterruptedException {
+        User user = createUser();
+        CountDownLatch interrupted = new CountDownLatch(1);
+        stubStrategy(historyStrategy, 1, "History", dvd(1L));
+        when(popularStrategy.getPriority()).thenReturn(2);
+        when(popularStrategy.recommend(eq(user), any())).thenAnswer(invocation -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return List.of();
+        });
+        executor = createExecutor(100, List.of(historyStrategy, popularStrategy));
+
+        executor.execute(user);
+
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void execute_limitsConcurrentStrategiesToPermits() {
+        User user = createUser();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        Answer<List<Dvd>> tracking = invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            TimeUnit.MILLISECONDS.sleep(50);
+            running.decrementAndGet();
+            return List.of();
+        };
+        when(historyStrategy.getPriority()).thenReturn(1);
+        when(historyStrategy.recommend(eq(user), any())).thenAnswer(tracking);
+        when(popularStrategy.getPriority()).thenReturn(2);
+        when(popularStrategy.recommend(eq(user), any())).thenAnswer(tracking);
+        executor = createExecutor(2000, 1, List.of(historyStrategy, popularStrategy));
+
+        List<List<DvdDto>> results = executor.execute(user);
+
+        assertEquals(1, maxRunning.get());
+        assertEquals(List.of(List.of(), List.of()), results);
+    }
+
+    @Test
+    void execute_strategyWaitingForPermitPastDeadline_isSkipped() {
+        User user = createUser();
+        AtomicInteger started = new AtomicInteger();
+        Answer<List<Dvd>> blocking = invocation -> {
+            started.incrementAndGet();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of();
+        };
+        when(historyStrategy.getPriority()).thenReturn(1);
+        lenient().when(historyStrategy.recommend(eq(user), any())).thenAnswer(blocking);
+        when(popularStrategy.getPriority()).thenReturn(2);
+        lenient().when(popularStrategy.recommend(eq(user), any())).thenAnswer(blocking);
+        executor = createExecutor(100, 1, List.of(historyStrategy, popularStrategy));
+
+        List<List<DvdDto>> results = executor.execute(user);
+
+        assertEquals(List.of(List.of(), List.of()), results);
+        assertEquals(1, started.get());
+    }
+
+    @Test
+    void execute_boundsStrategyTransactionByRemainingDeadline() {
+        User user = createUser();
+        stubStrategy(historyStrategy, 1, "History", dvd(1L));
+        stubStrategy(popularStrategy, 2, "Popular", dvd(2L));
+        executor = createExecutor(1500, List.of(historyStrategy, popularStrategy));
+
+        executor.execute(user);
+
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        for (TransactionDefinition definition : definitions.getAllValues()) {
+            assertTrue(definition.isReadOnly());
+            assertEquals(2, definition.getTimeout());
+        }
+    }
+
+    @Test
+    void resolvePermits_leavesHalfOfPoolByDefaultAndCapsExplicitLimit() {
+        assertEquals(10, RecommendationStrategyExecutor.resolvePermits(0, 20));
+        assertEquals(1, RecommendationStrategyExecutor.resolvePermits(0, 1));
+        assertEquals(4, RecommendationStrategyExecutor.resolvePermits(4, 20));
+        assertEquals(19, RecommendationStrategyExecutor.resolvePermits(50, 20));
+    }
+
+    @Test
+    void execute_failingStrategy_doesNotDropOtherResults() {
+        User user = createUser();
+        when(historyStrategy.getPriority()).thenReturn(1);
+        when(historyStrategy.recommend(eq(user), any())).thenThrow(new IllegalStateException("boom"));
+        stubStrategy(popularStrategy, 2, "Popular", dvd(2L));
+        executor = createExecutor(1000, List.of(historyStrategy, popularStrategy));
+
+        List<List<DvdDto>> results = executor.execute(user);
+
+        assertTrue(results.get(0).isEmpty());
+        assertEquals(2L, results.get(1).get(0).getId());
+        verify(userContextLogger).logUserOperation(eq("STRATEGY_ERROR"), startsWith("Strategy"));
+    }
+
+    @Test
+    void recommend_cohortHit_runsOnlyPersonalStrategies() {
+        User user = createUser();
+        User sameCohortUser = createUser();
+        sameCohortUser.setId(2L);
+        stubStrategy(historyStrategy, 1, "History", dvd(1L));
+        stubStrategy(popularStrategy, 2, "Popular", dvd(2L));
+        when(popularStrategy.isCohortShared()).thenReturn(true);
+        when(dvdRepository.findAvailableIdsIn(List.of(2L))).thenReturn(List.of(2L));
+        executor = createExecutor(1000, List.of(historyStrategy, popularStrategy));
+
+        List<DvdDto> first = executor.recommend(user).recommendations();
+        List<DvdDto> second = executor.recommend(sameCohortUser).recommendations();
+
+        assertEquals(List.of(1L, 2L), first.stream().map(DvdDto::getId).toList());
+        assertEquals(List.of(1L, 2L), second.stream().map(DvdDto::getId).toList());
+        verify(popularStrategy, times(1)).recommend(any(), any());
+        verify(historyStrategy, times(2)).recommend(any(), any());
+    }
+
+    @Test
+    void recommend_cohortHit_dropsDvdsNoLongerAvailable() {
+        User user = createUser();
+        User sameCohortUser = createUser();
+        sameCohortUser.setId(2L);
+        stubStrategy(historyStrategy, 1, "History", dvd(1L));
+        stubStrategy(popularStrategy, 2, "Popular", dvd(2L));
+        when(popularStrategy.isCohortShared()).thenReturn(true);
+        when(dvdRepository.findAvailableIdsIn(List.of(2L))).thenReturn(List.of());
+        executor = createExecutor(1000, List.of(historyStrategy, popularStrategy));
+
+        executor.recommend(user);
+        List<DvdDto> second = executor.recommend(sameCohortUser).recommendations();
+
+        assertEquals(List.of(1L), second.stream().map(DvdDto::getId).toList());
+    }
+
+    @Test
+    void recommend_allStrategiesAnswer_reportsCompleteOutcome() {
+        User user = createUser();
+        stubStrategy(historyStrategy, 1, "History", dvd(1L));
+        stubStrategy(popularStrategy, 2, "Popular", dvd(2L));
+        executor = createExecutor(1000, List.of(historyStrategy, popularStrategy));
+
+        assertTrue(executor.recommend(user).complete());
+    }
+
+    @Test
+    void recommend_longerDeadline_waitsForSlowStrategy() {
+        User user = createUser();
+        when(popularStrategy.getPriority()).thenReturn(2);
+        when(popularStrategy.recommend(eq(user), any())).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(300);
+            return List.of(dvd(2L));
+        });
+        stubMapping(popularStrategy, "Popular", dvd(2L));
+        stubStrategy(historyStrategy, 1, "History", dvd(1L));
+        executor = createExecutor(100, List.of(historyStrategy, popularStrategy));
+
+        RecommendationOutcome result = executor.recommend(user, 2000);
+
+        assertTrue(result.complete());
+        assertEquals(List.of(1L, 2L), result.recommendations().stream().map(DvdDto::getId).toList());
+    }
+
+    @Test
+    void recommend_evictedDvd_recomputesCohortLayer() {
+        User user = createUser();
+        stubStrategy(historyStrategy, 1, "History", dvd(1L));
+        stubStrategy(popularStrategy, 2, "Popular", dvd(2L));
+        when(popularStrategy.isCohortShared()).thenReturn(true);
+        executor = createExecutor(1000, List.of(historyStrategy, popularStrategy));
+
+        executor.recommend(user);
+        cohortCache.evictDvd(2L);
+        executor.recommend(user);
+
+        verify(popularStrategy, times(2)).recommend(any(), any());
+    }
+
+    @Test
+    void recommend_sharedStrategyMissesDeadline_doesNotCacheCohort() {
+        User user = createUser();
+        when(popularStrategy.getPriority()).thenReturn(2);
+        when(popularStrategy.isCohortShared()).thenReturn(true);
+        when(popularStrategy.recommend(eq(user), any())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(dvd(2L));
+        });
+        stubStrategy(historyStrategy, 1, "History", dvd(1L));
+        executor = createExecutor(100, List.of(historyStrategy, popularStrategy));
+
+        RecommendationOutcome result = executor.recommend(user);
+
+        assertEquals(List.of(1L), result.recommendations().stream().map(DvdDto::getId).toList());
+        assertFalse(result.complete());
+        assertTrue(cohortCache.find(RecommendationCohortKey.of(user)).isEmpty());
+        verify(recommendationMapper, never()).mapToRecommendationDtos(eq(List.of(dvd(2L))), any(), any());
+    }
+
+    private RecommendationStrategyExecutor createExecutor(long timeoutMillis,
+            List<RecommendationStrategy> strategies) {
+        return createExecutor(timeoutMillis, 10, strategies);
+    }
+
+    private RecommendationStrategyExecutor createExecutor(long timeoutMillis, int maxConcurrentStrategies,
+            List<RecommendationStrategy> strategies) {
+        return new RecommendationStrategyExecutor(timeoutMillis, maxConcurrentStrategies, 20, userContextLogger,
+                transactionManager, strategies, recommendationMapper, cohortCache, dvdRepository);
+    }
+
+    private void stubStrategy(RecommendationStrategy strategy, int priority, String reason, Dvd dvd) {
+        when(strategy.getPriority()).thenReturn(priority);
+        when(strategy.recommend(any(), any())).thenReturn(List.of(dvd));
+        stubMapping(strategy, reason, dvd);
+    }
+
+    private void stubBlockingStrategy(RecommendationStrategy strategy, int priority, String reason, Dvd dvd,
+            CountDownLatch started) {
+        when(strategy.getPriority()).thenReturn(priority);
+        when(strategy.recommend(any(), any())).thenAnswer(invocation -> {
+            started.countDown();
+            return started.await(1, TimeUnit.SECONDS) ? List.of(dvd) : List.of();
+        });
+        stubMapping(strategy, reason, dvd);
+    }
+
+    private void stubMapping(RecommendationStrategy strategy, String reason, Dvd dvd) {
+        when(strategy.getReason()).thenReturn(reason);
+        when(recommendationMapper.mapToRecommendationDtos(eq(List.of(dvd)), eq(reason), any()))
+                .thenReturn(List.of(DvdDto.builder().id(dvd.getId()).recommendationReason(reason).build()));
+    }
+
+    private User createUser() {
+        User user = new User();
+        user.setId(1L);
+        user.setAge(25);
+        return user;
+    }
+
+    private Dvd dvd(Long id) {
+        Dvd dvd = new Dvd();
+        dvd.setId(id);
+        return dvd;
+    }
+
+}
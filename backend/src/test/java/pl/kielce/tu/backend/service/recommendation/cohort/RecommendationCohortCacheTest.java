@@ -0,0 +1,73 @@
+package pl.kielce.tu.backend.service.recommendation.cohort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import pl.kielce.tu.backend.model.dto.DvdDto;
+import pl.kielce.tu.backend.model.entity.Genre;
+import pl.kielce.tu.backend.model.entity.User;
+
+class RecommendationCohortCacheTest {
+
+    private final RecommendationCohortCache cache = new RecommendationCohortCache(100, 10);
+
+    @Test
+    void key_sameAgeAndGenreSet_matchesRegardlessOfGenreOrder() {
+        RecommendationCohortKey first = RecommendationCohortKey.of(user(30, 3L, 1L));
+        RecommendationCohortKey second = RecommendationCohortKey.of(user(30, 1L, 3L, 1L));
+
+        assertEquals(first, second);
+        assertEquals(25, first.minAge());
+        assertEquals(35, first.maxAge());
+        assertNotEquals(first, RecommendationCohortKey.of(user(31, 1L, 3L)));
+        assertNotEquals(first, RecommendationCohortKey.of(user(30, 1L)));
+    }
+
+    @Test
+    void evictDvd_removesOnlyCohortsListingThatDvd() {
+        RecommendationCohortKey first = RecommendationCohortKey.of(user(30, 1L));
+        RecommendationCohortKey second = RecommendationCohortKey.of(user(40, 1L));
+        cache.store(first, List.of(dto(1L), dto(2L)), cache.generation());
+        cache.store(second, List.of(dto(3L)), cache.generation());
+
+        cache.evictDvd(2L);
+
+        assertTrue(cache.find(first).isEmpty());
+        assertEquals(List.of(dto(3L)), cache.find(second).orElseThrow());
+    }
+
+    @Test
+    void store_computedBeforeEviction_isDiscarded() {
+        RecommendationCohortKey key = RecommendationCohortKey.of(user(30, 1L));
+        long generation = cache.generation();
+
+        cache.evictDvd(5L);
+        cache.store(key, List.of(dto(1L)), generation);
+
+        assertTrue(cache.find(key).isEmpty());
+    }
+
+    private User user(Integer age, Long... genreIds) {
+        User user = new User();
+        user.setAge(age);
+        List<Genre> genres = new ArrayList<>();
+        for (Long genreId : genreIds) {
+            Genre genre = new Genre();
+            genre.setId(genreId);
+            genres.add(genre);
+        }
+        user.setPreferredGenres(genres);
+        return user;
+    }
+
+    private DvdDto dto(Long id) {
+        return DvdDto.builder().id(id).build();
+    }
+
+}
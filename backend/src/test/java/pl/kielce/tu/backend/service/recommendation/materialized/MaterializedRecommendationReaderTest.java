@@ -0,0 +1,97 @@
+package pl.kielce.tu.backend.service.recommendation.materialized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pl.kielce.tu.backend.mapper.RecommendationMapper;
+import pl.kielce.tu.backend.model.constant.RecommendationReason;
+import pl.kielce.tu.backend.model.dto.DvdDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.UserRecommendationList;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.UserRecommendationListRepository;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class MaterializedRecommendationReaderTest {
+
+    @Mock
+    private DvdRepository dvdRepository;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private RecommendationMapper recommendationMapper;
+
+    @Mock
+    private UserRecommendationListRepository listRepository;
+
+    private MaterializedRecommendationReader reader;
+
+    @BeforeEach
+    void setUp() {
+        reader = new MaterializedRecommendationReader(dvdRepository, userContextLogger, recommendationMapper,
+                listRepository);
+    }
+
+    @Test
+    void find_noStoredList_returnsEmpty() {
+        when(listRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertTrue(reader.find(1L).isEmpty());
+        verify(dvdRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void find_keepsStoredOrderAndSkipsUnavailableOrDeletedDvds() {
+        when(listRepository.findById(1L)).thenReturn(Optional.of(UserRecommendationList.builder()
+                .userId(1L)
+                .dvdIds("30,10,20,40")
+                .reasonCodes("0013")
+                .computedAt(LocalDateTime.now())
+                .build()));
+        Dvd first = dvd(30L, true);
+        Dvd second = dvd(10L, true);
+        Dvd unavailable = dvd(20L, false);
+        when(dvdRepository.findAllById(List.of(30L, 10L, 20L, 40L))).thenReturn(List.of(second, unavailable, first));
+        stubMapping(first, RecommendationReason.USER_HISTORY);
+        stubMapping(second, RecommendationReason.USER_HISTORY);
+
+        List<DvdDto> recommendations = reader.find(1L).orElseThrow();
+
+        assertEquals(2, recommendations.size());
+        assertEquals(30L, recommendations.get(0).getId());
+        assertEquals(10L, recommendations.get(1).getId());
+        assertEquals(RecommendationReason.USER_HISTORY.getMessage(), recommendations.get(0).getRecommendationReason());
+    }
+
+    private void stubMapping(Dvd dvd, RecommendationReason reason) {
+        when(recommendationMapper.mapToRecommendationDtos(eq(List.of(dvd)), eq(reason.getMessage()), any()))
+                .thenReturn(List.of(DvdDto.builder().id(dvd.getId()).recommendationReason(reason.getMessage())
+                        .build()));
+    }
+
+    private Dvd dvd(Long id, boolean available) {
+        Dvd dvd = new Dvd();
+        dvd.setId(id);
+        dvd.setAvalaible(available);
+        return dvd;
+    }
+
+}
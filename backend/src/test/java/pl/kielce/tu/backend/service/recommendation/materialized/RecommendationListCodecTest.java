@@ -0,0 +1,69 @@
+package pl.kielce.tu.backend.service.recommendation.materialized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import pl.kielce.tu.backend.model.constant.RecommendationReason;
+import pl.kielce.tu.backend.model.dto.DvdDto;
+import pl.kielce.tu.backend.model.entity.UserRecommendationList;
+
+class RecommendationListCodecTest {
+
+    private static final LocalDateTime COMPUTED_AT = LocalDateTime.of(2025, 10, 1, 3, 0);
+
+    @Test
+    void encode_storesIdsAndOneReasonCodePerEntry() {
+        UserRecommendationList list = RecommendationListCodec.encode(7L, List.of(
+                dto(12L, RecommendationReason.USER_HISTORY),
+                dto(1500L, RecommendationReason.POPULAR)), COMPUTED_AT);
+
+        assertEquals(7L, list.getUserId());
+        assertEquals("12,1500", list.getDvdIds());
+        assertEquals("03", list.getReasonCodes());
+        assertEquals(COMPUTED_AT, list.getComputedAt());
+    }
+
+    @Test
+    void encode_skipsEntriesWithoutIdOrKnownReason() {
+        DvdDto unknownReason = DvdDto.builder().id(3L).recommendationReason("other").build();
+        DvdDto missingId = dto(null, RecommendationReason.AGE_GROUP);
+
+        UserRecommendationList list = RecommendationListCodec.encode(7L, List.of(unknownReason, missingId,
+                dto(4L, RecommendationReason.PREFERRED_GENRES)), COMPUTED_AT);
+
+        assertEquals("4", list.getDvdIds());
+        assertEquals("2", list.getReasonCodes());
+    }
+
+    @Test
+    void decode_roundTripsEncodedList() {
+        UserRecommendationList list = RecommendationListCodec.encode(7L, List.of(
+                dto(12L, RecommendationReason.USER_HISTORY),
+                dto(9L, RecommendationReason.AGE_GROUP),
+                dto(1500L, RecommendationReason.POPULAR)), COMPUTED_AT);
+
+        List<MaterializedRecommendation> decoded = RecommendationListCodec.decode(list);
+
+        assertEquals(List.of(
+                new MaterializedRecommendation(12L, RecommendationReason.USER_HISTORY),
+                new MaterializedRecommendation(9L, RecommendationReason.AGE_GROUP),
+                new MaterializedRecommendation(1500L, RecommendationReason.POPULAR)), decoded);
+    }
+
+    @Test
+    void decode_emptyList_returnsNoEntries() {
+        UserRecommendationList list = RecommendationListCodec.encode(7L, List.of(), COMPUTED_AT);
+
+        assertTrue(RecommendationListCodec.decode(list).isEmpty());
+    }
+
+    private DvdDto dto(Long id, RecommendationReason reason) {
+        return DvdDto.builder().id(id).recommendationReason(reason.getMessage()).build();
+    }
+
+}
@@ -0,0 +1,200 @@
+package pl.kielce.tu.backend.service.recommendation.materialized;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import pl.kielce.tu.backend.model.constant.RecommendationReason;
+import pl.kielce.tu.backend.model.dto.DvdDto;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.model.entity.UserRecommendationList;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.repository.UserRepository;
+import pl.kielce.tu.backend.service.recommendation.RecommendationOutcome;
+import pl.kielce.tu.backend.service.recommendation.RecommendationStrategyExecutor;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationMaterializerTest {
+
+    @Mock
+    private RecommendationListWriter writer;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private RecommendationStrategyExecutor strategyExecutor;
+
+    @Captor
+    private ArgumentCaptor<List<UserRecommendationList>> listsCaptor;
+
+    private RecommendationMaterializer materializer;
+
+    @BeforeEach
+    void setUp() {
+        materializer = new RecommendationMaterializer(2, 30, 5000, writer, userRepository, rentalRepository,
+                userContextLogger, scheduledJobRunner, transactionManager, strategyExecutor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        materializer.shutdown();
+    }
+
+    @Test
+    void materializeActiveUsers_pagesThroughActiveUsersAndPrunesStaleLists() {
+        User first = user(1L);
+        User second = user(2L);
+        User third = user(5L);
+        when(rentalRepository.findActiveUserIdsAfter(eq(0L), any(), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(1L, 2L));
+        when(rentalRepository.findActiveUserIdsAfter(eq(2L), any(), eq(PageRequest.of(0, 2))))
+                .thenReturn(List.of(5L));
+        when(userRepository.findAllWithPreferredGenresByIdIn(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(userRepository.findAllWithPreferredGenresByIdIn(List.of(5L))).thenReturn(List.of(third));
+        when(strategyExecutor.recommend(any(), eq(5000L))).thenReturn(complete(dto(10L, RecommendationReason.POPULAR)));
+
+        int materialized = materializer.materializeActiveUsers();
+
+        assertEquals(3, materialized);
+        verify(writer, times(2)).saveAll(listsCaptor.capture());
+        UserRecommendationList stored = listsCaptor.getAllValues().get(0).get(1);
+        assertEquals(2L, stored.getUserId());
+        assertEquals("10", stored.getDvdIds());
+        assertEquals("3", stored.getReasonCodes());
+        verify(writer).deleteComputedBefore(any());
+    }
+
+    @Test
+    void materialize_skipsUsersWithIncompleteRecommendations() {
+        User first = user(1L);
+        User second = user(2L);
+        when(userRepository.findAllWithPreferredGenresByIdIn(List.of(1L, 2L))).thenReturn(List.of(first, second));
+        when(strategyExecutor.recommend(first, 5000L)).thenReturn(complete(dto(10L, RecommendationReason.POPULAR)));
+        when(strategyExecutor.recommend(second, 5000L)).thenReturn(
+                new RecommendationOutcome(List.of(dto(11L, RecommendationReason.USER_HISTORY)), false));
+
+        assertEquals(1, materializer.materialize(List.of(1L, 2L)));
+
+        verify(writer).saveAll(listsCaptor.capture());
+        assertEquals(List.of(1L), listsCaptor.getValue().stream().map(UserRecommendationList::getUserId).toList());
+    }
+
+    @Test
+    void materialize_runsStrategiesAfterLoadTransactionCommits() {
+        User user = user(1L);
+        when(userRepository.findAllWithPreferredGenresByIdIn(List.of(1L))).thenReturn(List.of(user));
+        when(strategyExecutor.recommend(user, 5000L)).thenReturn(complete(dto(10L, RecommendationReason.POPULAR)));
+
+        assertEquals(1, materializer.materialize(List.of(1L)));
+
+        InOrder inOrder = inOrder(userRepository, transactionManager, strategyExecutor);
+        inOrder.verify(userRepository).findAllWithPreferredGenresByIdIn(List.of(1L));
+        inOrder.verify(transactionManager).commit(any());
+        inOrder.verify(strategyExecutor).recommend(user, 5000L);
+    }
+
+    @Test
+    void materializeActiveUsers_noActiveUsers_onlyPrunes() {
+        when(rentalRepository.findActiveUserIdsAfter(anyLong(), any(), any())).thenReturn(List.of());
+
+        assertEquals(0, materializer.materializeActiveUsers());
+
+        verify(writer, never()).saveAll(any());
+        verify(writer).deleteComputedBefore(any());
+    }
+
+    @Test
+    void scheduleRefresh_materializesUserInBackground() {
+        User user = user(4L);
+        Rental rental = new Rental();
+        rental.setUser(user);
+        when(userRepository.findAllWithPreferredGenresByIdIn(List.of(4L))).thenReturn(List.of(user));
+        when(strategyExecutor.recommend(user, 5000L)).thenReturn(complete(dto(8L, RecommendationReason.USER_HISTORY)));
+
+        materializer.scheduleRefresh(rental);
+
+        verify(writer, timeout(2000)).saveAll(listsCaptor.capture());
+        assertEquals(4L, listsCaptor.getValue().get(0).getUserId());
+        assertEquals("8", listsCaptor.getValue().get(0).getDvdIds());
+    }
+
+    @Test
+    void scheduleRefresh_rentalWithoutUser_isIgnored() {
+        materializer.scheduleRefresh(new Rental());
+
+        verify(userRepository, never()).findAllWithPreferredGenresByIdIn(any());
+    }
+
+    @Test
+    void store_persistsLiveResultInBackground() {
+        materializer.store(6L, List.of(dto(3L, RecommendationReason.AGE_GROUP)));
+
+        verify(writer, timeout(2000)).saveAll(listsCaptor.capture());
+        assertEquals(6L, listsCaptor.getValue().get(0).getUserId());
+        assertEquals("1", listsCaptor.getValue().get(0).getReasonCodes());
+    }
+
+    @Test
+    void refreshScheduled_lockHeld_skipsWithoutLogging() {
+        when(scheduledJobRunner.run(anyString(), any())).thenReturn(false);
+
+        materializer.refreshScheduled();
+
+        verify(rentalRepository, never()).findActiveUserIdsAfter(anyLong(), any(), any());
+        verify(userContextLogger, never()).logUserOperation(eq("RECOMMENDATIONS_MATERIALIZE"), anyString());
+    }
+
+    private User user(Long id) {
+        User user = new User();
+        user.setId(id);
+        user.setAge(30);
+        return user;
+    }
+
+    private RecommendationOutcome complete(DvdDto dto) {
+        return new RecommendationOutcome(List.of(dto), true);
+    }
+
+    private DvdDto dto(Long id, RecommendationReason reason) {
+        return DvdDto.builder().id(id).recommendationReason(reason.getMessage()).build();
+    }
+
+}
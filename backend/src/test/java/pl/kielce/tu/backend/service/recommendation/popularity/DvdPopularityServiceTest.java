@@ -0,0 +1,199 @@
+package pl.kielce.tu.backend.service.recommendation.popularity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import pl.kielce.tu.backend.model.dto.DvdPopularitySeedDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.DvdPopularityScore;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.repository.DvdPopularityScoreRepository;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class DvdPopularityServiceTest {
+
+    @Mock
+    private DvdRepository dvdRepository;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private DvdPopularityScoreRepository scoreRepository;
+
+    @Captor
+    private ArgumentCaptor<List<DvdPopularityScore>> rowsCaptor;
+
+    private DvdPopularityService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DvdPopularityService(30, 100, dvdRepository, rentalRepository, userContextLogger,
+                scheduledJobRunner, transactionManager, scoreRepository);
+    }
+
+    @Test
+    void findMostPopularAvailable_skipsUnavailableDvdsAndKeepsRanking() {
+        service.record(rental(1L, 30));
+        service.record(rental(2L, 30));
+        service.record(rental(2L, 30));
+        service.record(rental(3L, 30));
+        service.record(rental(3L, 30));
+        service.record(rental(3L, 30));
+        when(dvdRepository.findAllById(List.of(3L, 2L))).thenReturn(List.of(dvd(2L, true), dvd(3L, false)));
+
+        List<Dvd> result = service.findMostPopularAvailable(1);
+
+        assertEquals(List.of(2L), result.stream().map(Dvd::getId).toList());
+        verify(dvdRepository, never()).findAllById(List.of(1L));
+    }
+
+    @Test
+    void findMostPopularAvailableInAgeGroup_ignoresRentersOutsideRange() {
+        service.record(rental(1L, 50));
+        service.record(rental(2L, 28));
+        when(dvdRepository.findAllById(List.of(2L))).thenReturn(List.of(dvd(2L, true)));
+
+        List<Dvd> result = service.findMostPopularAvailableInAgeGroup(25, 35, 5);
+
+        assertEquals(List.of(2L), result.stream().map(Dvd::getId).toList());
+    }
+
+    @Test
+    void findMostPopularAvailable_noRentals_skipsDvdLookup() {
+        assertEquals(List.of(), service.findMostPopularAvailable(5));
+
+        verify(dvdRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void checkpoint_mergesPendingCountersIntoStoredScores() {
+        DvdPopularityScore existing = DvdPopularityScore.builder().id(1L).dvdId(4L)
+                .renterAge(DvdPopularityScore.ALL_AGES).score(2.0).scoredAt(LocalDateTime.now()).build();
+        service.record(rental(4L, 30));
+        when(scoreRepository.findAllForUpdateByDvdIdIn(Set.of(4L))).thenReturn(List.of(existing));
+
+        service.checkpoint();
+
+        verify(scoreRepository).saveAll(rowsCaptor.capture());
+        List<DvdPopularityScore> saved = rowsCaptor.getValue().stream()
+                .sorted(Comparator.comparing(DvdPopularityScore::getRenterAge))
+                .toList();
+        assertEquals(2, saved.size());
+        assertEquals(3.0, saved.get(0).getScore(), 1e-3);
+        assertEquals(30, saved.get(1).getRenterAge());
+        assertEquals(1.0, saved.get(1).getScore(), 1e-3);
+        verify(scoreRepository).findAll();
+    }
+
+    @Test
+    void checkpoint_mergeFails_keepsCountersForNextCheckpoint() {
+        service.record(rental(4L, 30));
+        when(scoreRepository.findAllForUpdateByDvdIdIn(any())).thenThrow(new RuntimeException("Lock timeout"))
+                .thenReturn(List.of());
+
+        assertThrows(RuntimeException.class, () -> service.checkpoint());
+        service.checkpoint();
+
+        verify(scoreRepository).saveAll(rowsCaptor.capture());
+        assertEquals(2, rowsCaptor.getValue().size());
+    }
+
+    @Test
+    void checkpoint_nothingChanged_skipsReload() {
+        when(scoreRepository.findAll()).thenReturn(List.of());
+        service.checkpoint();
+        when(scoreRepository.existsByScoredAtAfter(any())).thenReturn(false);
+
+        service.checkpoint();
+
+        verify(scoreRepository, times(1)).findAll();
+        verify(scoreRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void load_emptyTable_seedsScoresFromRentalHistory() {
+        when(scoreRepository.count()).thenReturn(0L);
+        when(scheduledJobRunner.run(eq("dvd-popularity-seed"), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        when(rentalRepository.countRentalsPerDvdAgeAndDay()).thenReturn(List.of(
+                new DvdPopularitySeedDto(7L, 30, LocalDate.now(), 2L),
+                new DvdPopularitySeedDto(7L, null, LocalDate.now(), 1L)));
+
+        service.load();
+
+        verify(scoreRepository).saveAll(rowsCaptor.capture());
+        List<DvdPopularityScore> seeded = rowsCaptor.getValue().stream()
+                .sorted(Comparator.comparing(DvdPopularityScore::getRenterAge))
+                .toList();
+        assertEquals(2, seeded.size());
+        assertEquals(DvdPopularityScore.ALL_AGES, seeded.get(0).getRenterAge());
+        assertEquals(30, seeded.get(1).getRenterAge());
+        assertEquals(seeded.get(0).getScore() * 2 / 3, seeded.get(1).getScore(), 1e-9);
+        verify(userContextLogger).logUserOperation(eq("DVD_POPULARITY_SEED"), anyString());
+    }
+
+    @Test
+    void load_existingScores_skipsSeed() {
+        when(scoreRepository.count()).thenReturn(3L);
+
+        service.load();
+
+        verify(scheduledJobRunner, never()).run(anyString(), any());
+        verify(scoreRepository).findAll();
+    }
+
+    private Rental rental(Long dvdId, Integer age) {
+        User user = new User();
+        user.setId(1L);
+        user.setAge(age);
+        return Rental.builder()
+                .dvd(dvd(dvdId, true))
+                .user(user)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private Dvd dvd(Long id, boolean available) {
+        return Dvd.builder().id(id).title("DVD " + id).avalaible(available).build();
+    }
+
+}
@@ -0,0 +1,108 @@
+package pl.kielce.tu.backend.service.recommendation.popularity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import pl.kielce.tu.backend.model.entity.DvdPopularityScore;
+
+class PopularityLeaderboardTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+    private PopularityLeaderboard leaderboard;
+
+    @BeforeEach
+    void setUp() {
+        leaderboard = new PopularityLeaderboard(30, 2, NOW);
+    }
+
+    @Test
+    void top_ranksByScoreAndKeepsOnlyTopSize() {
+        leaderboard.record(event(1L, 20, NOW));
+        leaderboard.record(event(2L, 20, NOW));
+        leaderboard.record(event(2L, 30, NOW));
+        leaderboard.record(event(3L, 40, NOW));
+        leaderboard.record(event(3L, 40, NOW));
+        leaderboard.record(event(3L, 40, NOW));
+
+        assertEquals(List.of(3L, 2L), leaderboard.top());
+    }
+
+    @Test
+    void top_recentRentalOutranksOlderOne() {
+        leaderboard.record(event(1L, 20, NOW.minusDays(60)));
+        leaderboard.record(event(1L, 20, NOW.minusDays(60)));
+        leaderboard.record(event(2L, 20, NOW));
+
+        assertEquals(List.of(2L, 1L), leaderboard.top());
+    }
+
+    @Test
+    void topForAges_sumsOnlyRentersWithinRange() {
+        leaderboard.record(event(1L, 24, NOW));
+        leaderboard.record(event(2L, 30, NOW));
+        leaderboard.record(event(2L, 36, NOW));
+        leaderboard.record(event(3L, 35, NOW));
+        leaderboard.record(event(3L, 25, NOW));
+
+        assertEquals(List.of(3L, 2L), leaderboard.topForAges(25, 35));
+        assertEquals(List.of(1L), leaderboard.topForAges(15, 24));
+    }
+
+    @Test
+    void record_withoutAge_countsOnlyOverall() {
+        leaderboard.record(event(5L, null, NOW));
+
+        assertEquals(List.of(5L), leaderboard.top());
+        assertTrue(leaderboard.topForAges(0, 120).isEmpty());
+    }
+
+    @Test
+    void toDeltas_decaysEventsToCheckpointTime() {
+        Map<PopularityKey, Double> deltas = leaderboard.toDeltas(List.of(
+                event(1L, 20, NOW.minusDays(30)),
+                event(1L, 20, NOW)), NOW);
+
+        assertEquals(1.5, deltas.get(new PopularityKey(1L, DvdPopularityScore.ALL_AGES)), 1e-9);
+        assertEquals(1.5, deltas.get(new PopularityKey(1L, 20)), 1e-9);
+    }
+
+    @Test
+    void reload_replacesScoresWithRowsAndKeepsPendingEvents() {
+        leaderboard.record(event(1L, 20, NOW));
+        leaderboard.record(event(1L, 20, NOW));
+        leaderboard.drainPending();
+        leaderboard.record(event(2L, 20, NOW));
+
+        leaderboard.reload(List.of(row(3L, DvdPopularityScore.ALL_AGES, 4.0, NOW.minusDays(30))), NOW);
+
+        assertEquals(List.of(3L, 2L), leaderboard.top());
+        assertEquals(1, leaderboard.drainPending().size());
+    }
+
+    @Test
+    void restorePending_requeuesEventsForNextCheckpoint() {
+        leaderboard.record(event(1L, 20, NOW));
+        List<PopularityEvent> drained = leaderboard.drainPending();
+
+        leaderboard.restorePending(drained);
+
+        assertEquals(drained, leaderboard.drainPending());
+    }
+
+    private PopularityEvent event(long dvdId, Integer age, LocalDateTime occurredAt) {
+        return new PopularityEvent(dvdId, age, occurredAt);
+    }
+
+    private DvdPopularityScore row(Long dvdId, int age, double score, LocalDateTime scoredAt) {
+        return DvdPopularityScore.builder().dvdId(dvdId).renterAge(age).score(score).scoredAt(scoredAt).build();
+    }
+
+}
@@ -0,0 +1,89 @@
+package pl.kielce.tu.backend.service.recommendation.similarity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class CoRentalModelBuilderTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(2);
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void recommend_ranksDvdsRentedByTheSameUsersFirst() {
+        CoRentalModelBuilder builder = new CoRentalModelBuilder();
+        rent(builder, 1L, 10L, 20L, 30L);
+        rent(builder, 2L, 10L, 20L);
+        rent(builder, 3L, 10L, 20L, 40L);
+        rent(builder, 4L, 30L, 40L);
+
+        CoRentalModel model = builder.build(pool, 1, 1, 10);
+
+        assertEquals(4, model.size());
+        assertEquals(List.of(20L, 30L, 40L), model.recommend(List.of(10L), 5));
+    }
+
+    @Test
+    void recommend_excludesAlreadyRentedDvdsAndSumsScoresAcrossSeeds() {
+        CoRentalModelBuilder builder = new CoRentalModelBuilder();
+        rent(builder, 1L, 10L, 20L, 50L);
+        rent(builder, 2L, 30L, 50L);
+        rent(builder, 3L, 10L, 40L);
+
+        CoRentalModel model = builder.build(pool, 2, 1, 10);
+
+        List<Long> result = model.recommend(List.of(10L, 30L), 5);
+
+        assertEquals(50L, result.get(0));
+        assertTrue(result.containsAll(List.of(20L, 40L)));
+        assertTrue(result.stream().noneMatch(id -> id == 10L || id == 30L));
+    }
+
+    @Test
+    void build_repeatedRentalsBySameUserCountOnce() {
+        CoRentalModelBuilder builder = new CoRentalModelBuilder();
+        rent(builder, 1L, 10L, 20L, 10L, 20L, 10L);
+
+        CoRentalModel model = builder.build(pool, 1, 2, 10);
+
+        assertEquals(0, model.neighbourCount());
+        assertTrue(model.recommend(List.of(10L), 5).isEmpty());
+    }
+
+    @Test
+    void build_keepsOnlyPairsWithMinimumSupportAndNeighbourLimit() {
+        CoRentalModelBuilder builder = new CoRentalModelBuilder();
+        rent(builder, 1L, 10L, 20L, 30L);
+        rent(builder, 2L, 10L, 20L, 40L);
+
+        CoRentalModel model = builder.build(pool, 1, 2, 1);
+
+        assertEquals(List.of(20L), model.recommend(List.of(10L), 5));
+        assertEquals(2, model.neighbourCount());
+    }
+
+    @Test
+    void recommend_unknownSeedsOrEmptyModel_returnsEmpty() {
+        CoRentalModelBuilder builder = new CoRentalModelBuilder();
+        rent(builder, 1L, 10L, 20L);
+
+        assertTrue(builder.build(pool, 1, 1, 10).recommend(List.of(99L), 5).isEmpty());
+        assertTrue(new CoRentalModelBuilder().build(pool, 1, 1, 10).recommend(List.of(10L), 5).isEmpty());
+    }
+
+    private void rent(CoRentalModelBuilder builder, long userId, long... dvdIds) {
+        for (long dvdId : dvdIds) {
+            builder.add(userId, dvdId);
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package pl.kielce.tu.backend.service.recommendation.similarity;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import pl.kielce.tu.backend.model.dto.CoRentalPairDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class CoRentalServiceTest {
+
+    @Mock
+    private DvdRepository dvdRepository;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    private CoRentalService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new CoRentalService(2, 1, 1, 10, 2, dvdRepository, rentalRepository, userContextLogger);
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void rebuild_pagesThroughCompletedRentalsById() {
+        when(rentalRepository.findInactiveRentalPairsAfter(0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(pair(1L, 1L, 10L), pair(2L, 1L, 20L)));
+        when(rentalRepository.findInactiveRentalPairsAfter(2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(pair(5L, 2L, 10L)));
+
+        assertTrue(service.rebuild());
+
+        verify(rentalRepository).findInactiveRentalPairsAfter(2L, PageRequest.of(0, 2));
+        verify(userContextLogger).logUserOperation(eq("CO_RENTAL_MODEL_REBUILD"), any());
+    }
+
+    @Test
+    void findCoRentedAvailable_skipsUnavailableDvdsAndKeepsRanking() {
+        when(rentalRepository.findInactiveRentalPairsAfter(0L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(pair(1L, 1L, 10L), pair(2L, 1L, 20L)));
+        when(rentalRepository.findInactiveRentalPairsAfter(2L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(pair(3L, 2L, 10L), pair(4L, 2L, 30L)));
+        when(rentalRepository.findInactiveRentalPairsAfter(4L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(pair(5L, 3L, 10L), pair(6L, 3L, 20L)));
+        when(rentalRepository.findInactiveRentalPairsAfter(6L, PageRequest.of(0, 2))).thenReturn(List.of());
+        service.rebuild();
+        when(dvdRepository.findAllById(List.of(20L, 30L))).thenReturn(List.of(dvd(30L, true), dvd(20L, false)));
+
+        List<Dvd> result = service.findCoRentedAvailable(List.of(10L), 5);
+
+        assertEquals(1, result.size());
+        assertEquals(30L, result.get(0).getId());
+    }
+
+    @Test
+    void findCoRentedAvailable_beforeFirstBuild_returnsEmptyWithoutQuerying() {
+        assertTrue(service.findCoRentedAvailable(List.of(10L), 5).isEmpty());
+
+        verifyNoInteractions(dvdRepository);
+    }
+
+    @Test
+    void rebuildScheduled_logsFailureAndKeepsPreviousModel() {
+        when(rentalRepository.findInactiveRentalPairsAfter(0L, PageRequest.of(0, 2)))
+                .thenThrow(new RuntimeException("Database error"));
+
+        service.rebuildScheduled();
+
+        verify(userContextLogger).logUserOperation("CO_RENTAL_MODEL_REBUILD", "Error: Database error");
+        assertTrue(service.findCoRentedAvailable(List.of(10L), 5).isEmpty());
+    }
+
+    private CoRentalPairDto pair(Long rentalId, Long userId, Long dvdId) {
+        return new CoRentalPairDto(rentalId, userId, dvdId);
+    }
+
+    private Dvd dvd(Long id, boolean available) {
+        Dvd dvd = new Dvd();
+        dvd.setId(id);
+        dvd.setAvalaible(available);
+        return dvd;
+    }
+
+}
@@ -2,8 +2,6 @@ package pl.kielce.tu.backend.service.recommendation.strategy;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -14,24 +12,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.User;
-import pl.kielce.tu.backend.repository.DvdRepository;
-import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.recommendation.popularity.DvdPopularityService;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @ExtendWith(MockitoExtension.class)
 class AgeGroupRecommendationStrategyTest {
 
     @Mock
-    private DvdRepository dvdRepository;
-
-    @Mock
-    private RentalRepository rentalRepository;
+    private DvdPopularityService dvdPopularityService;
 
     @Mock
     private UserContextLogger userContextLogger;
@@ -40,17 +31,15 @@ class AgeGroupRecommendationStrategyTest {
 
     @BeforeEach
     void setUp() {
-        strategy = new AgeGroupRecommendationStrategy(dvdRepository, rentalRepository);
+        strategy = new AgeGroupRecommendationStrategy(dvdPopularityService);
     }
 
     @Test
     void shouldRecommend_returnPopularDvdsInAgeGroup_whenRentalsExist() {
         User user = createTestUser(30);
         List<Dvd> expectedDvds = createTestDvds();
-        Page<Dvd> page = new PageImpl<>(expectedDvds);
 
-        when(rentalRepository.count()).thenReturn(5L);
-        when(dvdRepository.findMostPopularDvdsByAgeGroup(eq(25), eq(35), any(Pageable.class))).thenReturn(page);
+        when(dvdPopularityService.findMostPopularAvailableInAgeGroup(25, 35, 5)).thenReturn(expectedDvds);
 
         List<Dvd> result = strategy.recommend(user, userContextLogger);
 
@@ -62,7 +51,7 @@ class AgeGroupRecommendationStrategyTest {
     void shouldRecommend_returnEmptyList_whenNoRentalsExist() {
         User user = createTestUser(25);
 
-        when(rentalRepository.count()).thenReturn(0L);
+        when(dvdPopularityService.findMostPopularAvailableInAgeGroup(20, 30, 5)).thenReturn(List.of());
 
         List<Dvd> result = strategy.recommend(user, userContextLogger);
 
@@ -72,10 +61,8 @@ class AgeGroupRecommendationStrategyTest {
     @Test
     void shouldRecommend_returnEmptyList_whenNoAgeGroupData() {
         User user = createTestUser(20);
-        Page<Dvd> emptyPage = new PageImpl<>(List.of());
 
-        when(rentalRepository.count()).thenReturn(5L);
-        when(dvdRepository.findMostPopularDvdsByAgeGroup(eq(15), eq(25), any(Pageable.class))).thenReturn(emptyPage);
+        when(dvdPopularityService.findMostPopularAvailableInAgeGroup(15, 25, 5)).thenReturn(List.of());
 
         List<Dvd> result = strategy.recommend(user, userContextLogger);
 
@@ -86,10 +73,8 @@ class AgeGroupRecommendationStrategyTest {
     void shouldRecommend_calculateCorrectAgeRange() {
         User user = createTestUser(40);
         List<Dvd> expectedDvds = createTestDvds();
-        Page<Dvd> page = new PageImpl<>(expectedDvds);
 
-        when(rentalRepository.count()).thenReturn(10L);
-        when(dvdRepository.findMostPopularDvdsByAgeGroup(eq(35), eq(45), any(Pageable.class))).thenReturn(page);
+        when(dvdPopularityService.findMostPopularAvailableInAgeGroup(35, 45, 5)).thenReturn(expectedDvds);
 
         List<Dvd> result = strategy.recommend(user, userContextLogger);
 
@@ -0,0 +1,88 @@
+package pl.kielce.tu.backend.service.recommendation.strategy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.recommendation.similarity.CoRentalService;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class CoRentalRecommendationStrategyTest {
+
+    @Mock
+    private CoRentalService coRentalService;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    private CoRentalRecommendationStrategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = new CoRentalRecommendationStrategy(20, coRentalService, rentalRepository);
+    }
+
+    @Test
+    void shouldRecommend_returnCoRentedDvds_forDistinctRentalHistory() {
+        User user = createTestUser();
+        Dvd dvd = new Dvd();
+        dvd.setId(30L);
+        when(rentalRepository.findDvdIdsByUserIdAndStatus(1L, RentalStatus.INACTIVE, PageRequest.of(0, 20)))
+                .thenReturn(List.of(10L, 20L, 10L));
+        when(coRentalService.findCoRentedAvailable(Set.of(10L, 20L), 5)).thenReturn(List.of(dvd));
+
+        List<Dvd> result = strategy.recommend(user, userContextLogger);
+
+        assertEquals(List.of(dvd), result);
+    }
+
+    @Test
+    void shouldRecommend_returnEmptyList_whenUserHasNoCompletedRentals() {
+        User user = createTestUser();
+        when(rentalRepository.findDvdIdsByUserIdAndStatus(1L, RentalStatus.INACTIVE, PageRequest.of(0, 20)))
+                .thenReturn(List.of());
+
+        List<Dvd> result = strategy.recommend(user, userContextLogger);
+
+        assertTrue(result.isEmpty());
+        verifyNoInteractions(coRentalService);
+    }
+
+    @Test
+    void shouldGetPriority_returnCorrectValue() {
+        assertEquals(0, strategy.getPriority());
+    }
+
+    @Test
+    void shouldGetReason_returnCorrectMessage() {
+        assertEquals("Rekomendacje bazowane na wyborach osób, które wypożyczyły te same filmy co Ty.",
+                strategy.getReason());
+    }
+
+    private User createTestUser() {
+        User user = new User();
+        user.setId(1L);
+        user.setAge(30);
+        return user;
+    }
+
+}
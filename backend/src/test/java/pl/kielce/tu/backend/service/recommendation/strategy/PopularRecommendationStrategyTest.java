@@ -2,7 +2,6 @@ package pl.kielce.tu.backend.service.recommendation.strategy;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
@@ -13,24 +12,17 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.Pageable;
 
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.User;
-import pl.kielce.tu.backend.repository.DvdRepository;
-import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.recommendation.popularity.DvdPopularityService;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @ExtendWith(MockitoExtension.class)
 class PopularRecommendationStrategyTest {
 
     @Mock
-    private DvdRepository dvdRepository;
-
-    @Mock
-    private RentalRepository rentalRepository;
+    private DvdPopularityService dvdPopularityService;
 
     @Mock
     private UserContextLogger userContextLogger;
@@ -39,17 +31,15 @@ class PopularRecommendationStrategyTest {
 
     @BeforeEach
     void setUp() {
-        strategy = new PopularRecommendationStrategy(dvdRepository, rentalRepository);
+        strategy = new PopularRecommendationStrategy(dvdPopularityService);
     }
 
     @Test
     void shouldRecommend_returnPopularDvds_whenRentalsExist() {
         User user = createTestUser();
         List<Dvd> expectedDvds = createTestDvds();
-        Page<Dvd> page = new PageImpl<>(expectedDvds);
 
-        when(rentalRepository.count()).thenReturn(10L);
-        when(dvdRepository.findMostPopularAvailableDvds(any(Pageable.class))).thenReturn(page);
+        when(dvdPopularityService.findMostPopularAvailable(5)).thenReturn(expectedDvds);
 
         List<Dvd> result = strategy.recommend(user, userContextLogger);
 
@@ -61,7 +51,7 @@ class PopularRecommendationStrategyTest {
     void shouldRecommend_returnEmptyList_whenNoRentalsExist() {
         User user = createTestUser();
 
-        when(rentalRepository.count()).thenReturn(0L);
+        when(dvdPopularityService.findMostPopularAvailable(5)).thenReturn(List.of());
 
         List<Dvd> result = strategy.recommend(user, userContextLogger);
 
@@ -69,12 +59,10 @@ class PopularRecommendationStrategyTest {
     }
 
     @Test
-    void shouldRecommend_returnEmptyList_whenRentalsExistButNoPopularDvds() {
+    void shouldRecommend_returnEmptyList_whenLeaderboardLookupFails() {
         User user = createTestUser();
-        Page<Dvd> emptyPage = new PageImpl<>(List.of());
 
-        when(rentalRepository.count()).thenReturn(5L);
-        when(dvdRepository.findMostPopularAvailableDvds(any(Pageable.class))).thenReturn(emptyPage);
+        when(dvdPopularityService.findMostPopularAvailable(5)).thenThrow(new RuntimeException("Database error"));
 
         List<Dvd> result = strategy.recommend(user, userContextLogger);
 
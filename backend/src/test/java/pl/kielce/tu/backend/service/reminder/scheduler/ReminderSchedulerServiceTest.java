@@ -202,4 +202,30 @@ class ReminderSchedulerServiceTest {
         verify(userContextLogger, times(1)).logUserOperation("SCHEDULER_COMPLETE", "Processed: 0 successful, 1 failed");
     }
 
+    @Test
+    void processAvailableDvdRemindersForDvds_whenNoIds_doesNotQuery() {
+        reminderSchedulerService.processAvailableDvdReminders(List.of());
+
+        verify(dvdReminderRepository, never()).findRemindersForAvailableDvdsIn(any());
+    }
+
+    @Test
+    void processAvailableDvdRemindersForDvds_sendsRemindersForReleasedDvds() throws IOException {
+        User user = Mockito.mock(User.class);
+        when(user.getEmail()).thenReturn("user@example.com");
+        Dvd dvd = Mockito.mock(Dvd.class);
+        when(dvd.getTitle()).thenReturn("Matrix");
+        when(dvd.getRentalPricePerDay()).thenReturn(4.5f);
+        DvdReminder reminder = DvdReminder.builder().id(1L).user(user).dvd(dvd).build();
+        Resource resource = Mockito.mock(Resource.class);
+        when(resourceLoader.getResource(TEMPLATE_PATH)).thenReturn(resource);
+        when(resource.getInputStream())
+                .thenReturn(new ByteArrayInputStream(TEMPLATE_CONTENT.getBytes(StandardCharsets.UTF_8)));
+        when(dvdReminderRepository.findRemindersForAvailableDvdsIn(List.of(7L))).thenReturn(List.of(reminder));
+
+        reminderSchedulerService.processAvailableDvdReminders(List.of(7L));
+
+        verify(emailStrategy).sendEmail(eq("user@example.com"), eq(REMINDER_SUBJECT), anyString());
+        verify(dvdReminderRepository).delete(reminder);
+    }
 }
@@ -0,0 +1,51 @@
+package pl.kielce.tu.backend.service.reminder.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderSchedulerTest {
+
+    @Mock
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @Mock
+    private ReminderSchedulerService reminderSchedulerService;
+
+    @InjectMocks
+    private ReminderScheduler scheduler;
+
+    @Test
+    void processAvailableDvdReminders_runsServiceUnderJobLock() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        }).when(scheduledJobRunner).run(eq("dvd-availability-reminders"), any(Runnable.class));
+
+        scheduler.processAvailableDvdReminders();
+
+        verify(reminderSchedulerService).processAvailableDvdReminders();
+    }
+
+    @Test
+    void processAvailableDvdReminders_skipsServiceWhenLockNotAcquired() {
+        doAnswer(invocation -> false).when(scheduledJobRunner)
+                .run(eq("dvd-availability-reminders"), any(Runnable.class));
+
+        scheduler.processAvailableDvdReminders();
+
+        verify(reminderSchedulerService, never()).processAvailableDvdReminders();
+    }
+
+}
@@ -0,0 +1,145 @@
+package pl.kielce.tu.backend.service.rental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import pl.kielce.tu.backend.model.dto.ExpiredRentalCandidateDto;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+import pl.kielce.tu.backend.service.rental.strategy.ExpiredRentalVetoStrategy;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpiredRentalChunkProcessor Tests")
+class ExpiredRentalChunkProcessorTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private ExpiredRentalVetoStrategy vetoStrategy;
+
+    @Mock
+    private AdminQueueEventPublisher adminQueueEventPublisher;
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("Should bulk update all candidates when no strategy vetoes")
+    void shouldBulkUpdateAllCandidates() {
+        ExpiredRentalChunkProcessor processor = new ExpiredRentalChunkProcessor(rentalRepository, List.of(),
+                adminQueueEventPublisher);
+        when(rentalRepository.findExpiredActiveRentalCandidates(now, 0L, PageRequest.of(0, 10)))
+                .thenReturn(List.of(candidate(4L), candidate(9L)));
+        when(rentalRepository.markExpiredAsReturnRequested(List.of(4L, 9L), now)).thenReturn(2);
+
+        ExpiredRentalChunk chunk = processor.processChunk(now, 0L, 10);
+
+        assertEquals(2, chunk.scanned());
+        assertEquals(2, chunk.updated());
+        assertEquals(0, chunk.vetoed());
+        assertEquals(9L, chunk.lastRentalId());
+    }
+
+    @Test
+    @DisplayName("Should exclude vetoed rentals from the bulk update")
+    void shouldExcludeVetoedRentals() {
+        ExpiredRentalChunkProcessor processor = new ExpiredRentalChunkProcessor(rentalRepository,
+                List.of(vetoStrategy), adminQueueEventPublisher);
+        List<ExpiredRentalCandidateDto> candidates = List.of(candidate(1L), candidate(2L), candidate(3L));
+        when(rentalRepository.findExpiredActiveRentalCandidates(now, 0L, PageRequest.of(0, 3)))
+                .thenReturn(candidates);
+        when(vetoStrategy.findVetoedRentalIds(candidates)).thenReturn(Set.of(2L));
+        when(rentalRepository.markExpiredAsReturnRequested(List.of(1L, 3L), now)).thenReturn(2);
+
+        ExpiredRentalChunk chunk = processor.processChunk(now, 0L, 3);
+
+        assertEquals(3, chunk.scanned());
+        assertEquals(2, chunk.updated());
+        assertEquals(1, chunk.vetoed());
+        assertEquals(3L, chunk.lastRentalId());
+        verify(adminQueueEventPublisher).publish(AdminQueueEventType.RETURN_REQUESTED, List.of(1L, 3L));
+    }
+
+    @Test
+    @DisplayName("Should skip update when every candidate is vetoed")
+    void shouldSkipUpdateWhenAllVetoed() {
+        ExpiredRentalChunkProcessor processor = new ExpiredRentalChunkProcessor(rentalRepository,
+                List.of(vetoStrategy), adminQueueEventPublisher);
+        List<ExpiredRentalCandidateDto> candidates = List.of(candidate(5L));
+        when(rentalRepository.findExpiredActiveRentalCandidates(now, 0L, PageRequest.of(0, 3)))
+                .thenReturn(candidates);
+        when(vetoStrategy.findVetoedRentalIds(candidates)).thenReturn(Set.of(5L));
+
+        ExpiredRentalChunk chunk = processor.processChunk(now, 0L, 3);
+
+        assertEquals(1, chunk.vetoed());
+        assertEquals(0, chunk.updated());
+        verify(rentalRepository, never()).markExpiredAsReturnRequested(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Should return empty chunk when nothing expired")
+    void shouldReturnEmptyChunk() {
+        ExpiredRentalChunkProcessor processor = new ExpiredRentalChunkProcessor(rentalRepository, List.of(),
+                adminQueueEventPublisher);
+        when(rentalRepository.findExpiredActiveRentalCandidates(now, 5L, PageRequest.of(0, 3)))
+                .thenReturn(List.of());
+
+        ExpiredRentalChunk chunk = processor.processChunk(now, 5L, 3);
+
+        assertEquals(0, chunk.scanned());
+        assertEquals(5L, chunk.lastRentalId());
+    }
+
+    @Test
+    @DisplayName("Should look up chunk ids without processing them")
+    void shouldFindChunkIds() {
+        ExpiredRentalChunkProcessor processor = new ExpiredRentalChunkProcessor(rentalRepository, List.of(),
+                adminQueueEventPublisher);
+        when(rentalRepository.findExpiredActiveRentalIds(now, 5L, PageRequest.of(0, 3)))
+                .thenReturn(List.of(6L, 7L));
+
+        assertEquals(List.of(6L, 7L), processor.findChunkIds(now, 5L, 3));
+        verify(rentalRepository, never()).markExpiredAsReturnRequested(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should update due rentals picked by id")
+    void shouldUpdateDueRentalsById() {
+        ExpiredRentalChunkProcessor processor = new ExpiredRentalChunkProcessor(rentalRepository, List.of(),
+                adminQueueEventPublisher);
+        when(rentalRepository.findExpiredActiveRentalCandidatesByIdIn(List.of(2L, 8L), now))
+                .thenReturn(List.of(candidate(2L)));
+        when(rentalRepository.markExpiredAsReturnRequested(List.of(2L), now)).thenReturn(1);
+
+        ExpiredRentalChunk chunk = processor.processDueRentals(List.of(2L, 8L), now);
+
+        assertEquals(1, chunk.scanned());
+        assertEquals(1, chunk.updated());
+    }
+
+    private ExpiredRentalCandidateDto candidate(Long id) {
+        return ExpiredRentalCandidateDto.builder()
+                .rentalId(id)
+                .userId(1L)
+                .dvdId(1L)
+                .rentalEnd(now.minusDays(1))
+                .build();
+    }
+}
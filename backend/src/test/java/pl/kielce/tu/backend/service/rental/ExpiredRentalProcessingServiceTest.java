@@ -3,15 +3,13 @@ package pl.kielce.tu.backend.service.rental;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.never;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,12 +19,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
-import pl.kielce.tu.backend.model.constant.RentalStatus;
 import pl.kielce.tu.backend.model.dto.ExpiredRentalProcessingDto;
-import pl.kielce.tu.backend.model.entity.Rental;
-import pl.kielce.tu.backend.repository.RentalRepository;
-import pl.kielce.tu.backend.service.rental.strategy.ReturnRequestStrategy;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,53 +29,40 @@ import pl.kielce.tu.backend.util.UserContextLogger;
 class ExpiredRentalProcessingServiceTest {
 
     @Mock
-    private RentalRepository rentalRepository;
-
-    @Mock
-    private ReturnRequestStrategy returnRequestStrategy;
+    private UserContextLogger userContextLogger;
 
     @Mock
-    private UserContextLogger userContextLogger;
+    private ExpiredRentalChunkProcessor chunkProcessor;
 
     @InjectMocks
     private ExpiredRentalProcessingService service;
 
-    private Rental expiredRental;
-    private List<Rental> expiredRentals;
-
     @BeforeEach
     void setUp() {
-        expiredRental = createExpiredRental(1L);
-        expiredRentals = Arrays.asList(
-                expiredRental,
-                createExpiredRental(2L),
-                createExpiredRental(3L));
+        ReflectionTestUtils.setField(service, "chunkSize", 3);
     }
 
     @Test
     @DisplayName("Should process all expired rentals successfully")
     void shouldProcessAllExpiredRentalsSuccessfully() {
-
-        when(rentalRepository.findExpiredActiveRentals(any(LocalDateTime.class)))
-                .thenReturn(expiredRentals);
-        when(returnRequestStrategy.canProcess(any(Rental.class)))
-                .thenReturn(true);
+        when(chunkProcessor.processChunk(any(LocalDateTime.class), eq(0L), eq(3)))
+                .thenReturn(new ExpiredRentalChunk(2, 2, 0, 2L));
 
         ExpiredRentalProcessingDto result = service.processExpiredRentals();
 
         assertNotNull(result);
-        assertEquals(3, result.getTotalExpiredRentals());
-        assertEquals(3, result.getProcessedSuccessfully());
+        assertEquals(2, result.getTotalExpiredRentals());
+        assertEquals(2, result.getProcessedSuccessfully());
         assertEquals(0, result.getFailedToProcess());
-        verify(returnRequestStrategy, times(3)).processReturnRequest(any(Rental.class));
+        assertEquals(0, result.getVetoed());
+        verify(chunkProcessor, times(1)).processChunk(any(LocalDateTime.class), any(), eq(3));
     }
 
     @Test
     @DisplayName("Should handle no expired rentals")
     void shouldHandleNoExpiredRentals() {
-
-        when(rentalRepository.findExpiredActiveRentals(any(LocalDateTime.class)))
-                .thenReturn(Collections.emptyList());
+        when(chunkProcessor.processChunk(any(LocalDateTime.class), eq(0L), eq(3)))
+                .thenReturn(new ExpiredRentalChunk(0, 0, 0, 0L));
 
         ExpiredRentalProcessingDto result = service.processExpiredRentals();
 
@@ -88,50 +70,61 @@ class ExpiredRentalProcessingServiceTest {
         assertEquals(0, result.getTotalExpiredRentals());
         assertEquals(0, result.getProcessedSuccessfully());
         assertEquals(0, result.getFailedToProcess());
-        verify(returnRequestStrategy, never()).processReturnRequest(any(Rental.class));
     }
 
     @Test
-    @DisplayName("Should handle partial processing failures")
-    void shouldHandlePartialProcessingFailures() {
-
-        when(rentalRepository.findExpiredActiveRentals(any(LocalDateTime.class)))
-                .thenReturn(expiredRentals);
-        when(returnRequestStrategy.canProcess(any(Rental.class)))
-                .thenReturn(true, false, true);
+    @DisplayName("Should continue with next chunk after the last processed id")
+    void shouldContinueWithNextChunkAfterLastProcessedId() {
+        when(chunkProcessor.processChunk(any(LocalDateTime.class), eq(0L), eq(3)))
+                .thenReturn(new ExpiredRentalChunk(3, 3, 0, 7L));
+        when(chunkProcessor.processChunk(any(LocalDateTime.class), eq(7L), eq(3)))
+                .thenReturn(new ExpiredRentalChunk(3, 2, 1, 12L));
+        when(chunkProcessor.processChunk(any(LocalDateTime.class), eq(12L), eq(3)))
+                .thenReturn(new ExpiredRentalChunk(1, 0, 0, 15L));
 
         ExpiredRentalProcessingDto result = service.processExpiredRentals();
 
-        assertNotNull(result);
-        assertEquals(3, result.getTotalExpiredRentals());
-        assertEquals(2, result.getProcessedSuccessfully());
+        assertEquals(7, result.getTotalExpiredRentals());
+        assertEquals(5, result.getProcessedSuccessfully());
+        assertEquals(1, result.getVetoed());
         assertEquals(1, result.getFailedToProcess());
     }
 
     @Test
-    @DisplayName("Should handle exception during processing")
-    void shouldHandleExceptionDuringProcessing() {
-
-        when(rentalRepository.findExpiredActiveRentals(any(LocalDateTime.class)))
-                .thenReturn(expiredRentals);
-        when(returnRequestStrategy.canProcess(any(Rental.class)))
-                .thenReturn(true);
-        doThrow(new RuntimeException("Processing error"))
-                .when(returnRequestStrategy).processReturnRequest(any(Rental.class));
+    @DisplayName("Should skip past a failed chunk and count its rentals as failed")
+    void shouldSkipPastFailedChunk() {
+        when(chunkProcessor.processChunk(any(LocalDateTime.class), eq(0L), eq(3)))
+                .thenReturn(new ExpiredRentalChunk(3, 3, 0, 3L));
+        when(chunkProcessor.processChunk(any(LocalDateTime.class), eq(3L), eq(3)))
+                .thenThrow(new RuntimeException("Processing error"));
+        when(chunkProcessor.findChunkIds(any(LocalDateTime.class), eq(3L), eq(3)))
+                .thenReturn(List.of(4L, 5L, 6L));
+        when(chunkProcessor.processChunk(any(LocalDateTime.class), eq(6L), eq(3)))
+                .thenReturn(new ExpiredRentalChunk(1, 1, 0, 9L));
 
         ExpiredRentalProcessingDto result = service.processExpiredRentals();
 
-        assertNotNull(result);
-        assertEquals(3, result.getTotalExpiredRentals());
-        assertEquals(0, result.getProcessedSuccessfully());
+        assertEquals(7, result.getTotalExpiredRentals());
+        assertEquals(4, result.getProcessedSuccessfully());
         assertEquals(3, result.getFailedToProcess());
+        verify(userContextLogger).logUserOperation(eq("EXPIRED_RENTAL_CHUNK_FAILED"), anyString());
     }
 
-    private Rental createExpiredRental(Long id) {
-        return Rental.builder()
-                .id(id)
-                .status(RentalStatus.ACTIVE)
-                .rentalEnd(LocalDateTime.now().minusDays(1))
-                .build();
+    @Test
+    @DisplayName("Should stop and report partial results when the failed chunk cannot be skipped")
+    void shouldStopWhenFailedChunkCannotBeSkipped() {
+        when(chunkProcessor.processChunk(any(LocalDateTime.class), eq(0L), eq(3)))
+                .thenReturn(new ExpiredRentalChunk(3, 3, 0, 3L));
+        when(chunkProcessor.processChunk(any(LocalDateTime.class), eq(3L), eq(3)))
+                .thenThrow(new RuntimeException("Processing error"));
+        when(chunkProcessor.findChunkIds(any(LocalDateTime.class), eq(3L), eq(3)))
+                .thenThrow(new RuntimeException("Connection lost"));
+
+        ExpiredRentalProcessingDto result = service.processExpiredRentals();
+
+        assertNotNull(result);
+        assertEquals(3, result.getTotalExpiredRentals());
+        assertEquals(3, result.getProcessedSuccessfully());
+        verify(userContextLogger, times(2)).logUserOperation(eq("EXPIRED_RENTAL_CHUNK_FAILED"), anyString());
     }
 }
@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -18,6 +20,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -25,14 +28,20 @@ import jakarta.servlet.http.HttpServletRequest;
 import pl.kielce.tu.backend.extractor.ClaimsExtractor;
 import pl.kielce.tu.backend.mapper.RentalFilterMapper;
 import pl.kielce.tu.backend.mapper.RentalMapper;
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
 import pl.kielce.tu.backend.model.constant.CookieNames;
 import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
 import pl.kielce.tu.backend.model.dto.RentalDto;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.repository.RentalRepository;
 import pl.kielce.tu.backend.service.auth.CookieService;
 import pl.kielce.tu.backend.service.dvd.DvdAvailabilityService;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
+import pl.kielce.tu.backend.service.invoice.render.InvoicePdfRenderService;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+import pl.kielce.tu.backend.service.recommendation.materialized.RecommendationMaterializer;
 import pl.kielce.tu.backend.service.rental.strategy.ReturnRequestStrategy;
 import pl.kielce.tu.backend.service.rental.transaction.TransactionGeneratorService;
 
@@ -55,6 +64,14 @@ class RentalServiceTest {
     private TransactionGeneratorService transactionGenerator;
     @Mock
     private ReturnRequestStrategy returnRequestStrategy;
+    @Mock
+    private DvdAvailabilityTimelineService availabilityTimelineService;
+    @Mock
+    private AdminQueueEventPublisher adminQueueEventPublisher;
+    @Mock
+    private InvoicePdfRenderService invoicePdfRenderService;
+    @Mock
+    private RecommendationMaterializer recommendationMaterializer;
     @InjectMocks
     private RentalService rentalService;
 
@@ -96,6 +113,68 @@ class RentalServiceTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
     }
 
+    @Test
+    void handleSearchRentalHistory_firstPage_returnsCursorToLastRow() {
+        when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn("token");
+        when(claimsExtractor.extractUserId("token", null)).thenReturn(1L);
+        when(filterMapper.mapFilterToStatus("HISTORICAL")).thenReturn(RentalStatus.INACTIVE);
+        List<RentalDto> rows = List.of(RentalDto.builder().id(9L).build(), RentalDto.builder().id(7L).build(),
+                RentalDto.builder().id(4L).build());
+        when(rentalRepository.findHistoryAfter(1L, null, null, RentalStatus.INACTIVE, null, null, "%matrix%",
+                PageRequest.of(0, 3))).thenReturn(rows);
+
+        ResponseEntity<CursorPageDto<RentalDto>> response = rentalService.handleSearchRentalHistory(request,
+                " Matrix ", "HISTORICAL", null, null, null, 2);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotNull(response.getBody());
+        assertEquals(2, response.getBody().getContent().size());
+        assertEquals(7L, response.getBody().getNextCursor());
+        assertEquals(true, response.getBody().isHasNext());
+    }
+
+    @Test
+    void handleSearchRentalHistory_withCursor_resolvesCursorCreatedAt() {
+        LocalDateTime cursorCreatedAt = LocalDateTime.of(2024, 5, 1, 12, 0);
+        when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn("token");
+        when(claimsExtractor.extractUserId("token", null)).thenReturn(1L);
+        when(rentalRepository.findCreatedAtByIdAndUserId(7L, 1L)).thenReturn(Optional.of(cursorCreatedAt));
+        when(rentalRepository.findHistoryAfter(eq(1L), eq(7L), eq(cursorCreatedAt), isNull(), isNull(), isNull(),
+                isNull(), eq(PageRequest.of(0, 21)))).thenReturn(List.of(RentalDto.builder().id(4L).build()));
+
+        ResponseEntity<CursorPageDto<RentalDto>> response = rentalService.handleSearchRentalHistory(request, null,
+                null, null, null, 7L, 20);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(1, response.getBody().getContent().size());
+        assertEquals(null, response.getBody().getNextCursor());
+    }
+
+    @Test
+    void handleSearchRentalHistory_withForeignCursor_returnsBadRequest() {
+        when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn("token");
+        when(claimsExtractor.extractUserId("token", null)).thenReturn(1L);
+        when(rentalRepository.findCreatedAtByIdAndUserId(99L, 1L)).thenReturn(Optional.empty());
+
+        ResponseEntity<CursorPageDto<RentalDto>> response = rentalService.handleSearchRentalHistory(request, null,
+                null, null, null, 99L, 20);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(rentalRepository, never()).findHistoryAfter(any(), any(), any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void handleSearchRentalHistory_withInvertedRange_returnsBadRequest() {
+        when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn("token");
+        when(claimsExtractor.extractUserId("token", null)).thenReturn(1L);
+        LocalDateTime from = LocalDateTime.of(2024, 6, 1, 0, 0);
+
+        ResponseEntity<CursorPageDto<RentalDto>> response = rentalService.handleSearchRentalHistory(request, null,
+                null, from, from.minusDays(1), null, 20);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
     @Test
     void handleReturnDvd_whenActive_setsReturnRequestedAndReturnsAccepted() {
         when(filterMapper.parseRentalId("1")).thenReturn(1L);
@@ -107,6 +186,7 @@ class RentalServiceTest {
 
         assertEquals(HttpStatus.ACCEPTED, response.getStatusCode());
         verify(returnRequestStrategy).processReturnRequest(rental);
+        verify(adminQueueEventPublisher).publish(AdminQueueEventType.RETURN_REQUESTED, 1L);
     }
 
     @Test
@@ -151,6 +231,9 @@ class RentalServiceTest {
         verify(transactionGenerator).generateTransaction(rental);
         verify(dvdAvailabilityService).increaseAvailability(dvd, 3);
         verify(rentalRepository).save(rental);
+        verify(availabilityTimelineService).releaseRental(rental);
+        verify(invoicePdfRenderService).scheduleRender(rental);
+        verify(recommendationMaterializer).scheduleRefresh(rental);
     }
 
     @Test
@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import pl.kielce.tu.backend.model.Money;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.util.UserContextLogger;
@@ -34,9 +35,9 @@ class LateFeeCalculationServiceTest {
         rental.setRentalEnd(dueDate);
         rental.setReturnDate(returnDate);
 
-        BigDecimal lateFee = lateFeeService.calculateLateFee(rental);
+        Money lateFee = lateFeeService.calculateLateFee(rental);
 
-        assertEquals(BigDecimal.ZERO, lateFee);
+        assertEquals(Money.ZERO, lateFee);
     }
 
     @Test
@@ -48,9 +49,30 @@ class LateFeeCalculationServiceTest {
         rental.setRentalEnd(dueDate);
         rental.setReturnDate(returnDate);
 
-        BigDecimal lateFee = lateFeeService.calculateLateFee(rental);
+        Money lateFee = lateFeeService.calculateLateFee(rental);
 
-        assertTrue(lateFee.compareTo(BigDecimal.ZERO) > 0);
+        assertTrue(lateFee.isPositive());
+    }
+
+    @Test
+    void shouldChargeMultipliedDailyPriceInExactGroszePerOverdueDay() {
+        Rental rental = createTestRental();
+        rental.getDvd().setRentalPricePerDay(2.99f);
+        LocalDateTime dueDate = LocalDateTime.of(2025, 10, 1, 12, 0);
+        rental.setRentalEnd(dueDate);
+        rental.setReturnDate(dueDate.plusHours(50));
+
+        Money lateFee = lateFeeService.calculateLateFee(rental);
+
+        assertEquals(new BigDecimal("89.70"), lateFee.toBigDecimal());
+    }
+
+    @Test
+    void calculateLateFeeMinor_matchesEntityBasedCalculation() {
+        LocalDateTime dueDate = LocalDateTime.of(2025, 10, 1, 12, 0);
+
+        assertEquals(0L, lateFeeService.calculateLateFeeMinor(500L, dueDate, dueDate));
+        assertEquals(10000L, lateFeeService.calculateLateFeeMinor(500L, dueDate, dueDate.plusDays(2)));
     }
 
     private Rental createTestRental() {
@@ -8,8 +8,9 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import org.junit.jupiter.api.Test;
-import org.mockito.Mockito;
 
+import pl.kielce.tu.backend.model.Money;
+import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.Rental;
 
 class RentalCalculationServiceTest {
@@ -43,23 +44,36 @@ class RentalCalculationServiceTest {
 
     @Test
     void calculateBaseAmount_computesPricePerDay_timesDays_timesCount() {
-        Rental rental = mock(Rental.class, Mockito.RETURNS_DEEP_STUBS);
-        when(rental.getDvd().getRentalPricePerDay()).thenReturn(2.5f);
-        when(rental.getCount()).thenReturn(2);
+        Rental rental = Rental.builder()
+                .dvd(Dvd.builder().rentalPricePerDay(2.5f).build())
+                .count(2)
+                .build();
 
         long rentalDays = 3L;
-        BigDecimal base = service.calculateBaseAmount(rental, rentalDays);
+        Money base = service.calculateBaseAmount(rental, rentalDays);
 
-        assertEquals(BigDecimal.valueOf(15.0), base);
+        assertEquals(Money.ofMinor(1500L), base);
+    }
+
+    @Test
+    void calculateBaseAmount_usesExactGroszeForFloatPrices() {
+        Rental rental = Rental.builder()
+                .dvd(Dvd.builder().rentalPricePerDay(2.99f).build())
+                .count(3)
+                .build();
+
+        Money base = service.calculateBaseAmount(rental, 7L);
+
+        assertEquals(new BigDecimal("62.79"), base.toBigDecimal());
     }
 
     @Test
     void calculateTotalAmount_addsBaseAndLateFee() {
-        BigDecimal base = BigDecimal.valueOf(10.00);
-        BigDecimal lateFee = BigDecimal.valueOf(2.50);
+        Money base = Money.ofMinor(1000L);
+        Money lateFee = Money.ofMinor(250L);
 
-        BigDecimal total = service.calculateTotalAmount(base, lateFee);
+        Money total = service.calculateTotalAmount(base, lateFee);
 
-        assertEquals(BigDecimal.valueOf(12.50), total);
+        assertEquals(Money.ofMinor(1250L), total);
     }
 }
@@ -0,0 +1,162 @@
+package pl.kielce.tu.backend.service.rental.deadline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pl.kielce.tu.backend.model.constant.RentalStatus;
+import pl.kielce.tu.backend.model.dto.ExpiredRentalCandidateDto;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.service.rental.ExpiredRentalChunk;
+import pl.kielce.tu.backend.service.rental.ExpiredRentalChunkProcessor;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RentalDeadlineService Tests")
+class RentalDeadlineServiceTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private ExpiredRentalChunkProcessor chunkProcessor;
+
+    private RentalDeadlineService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fire overdue rentals loaded at startup")
+    void shouldFireOverdueRentalsLoadedAtStartup() {
+        service = createService(true);
+        when(rentalRepository.findActiveRentalDeadlines())
+                .thenReturn(List.of(candidate(1L, LocalDateTime.now().minusHours(1))));
+        when(chunkProcessor.processDueRentals(eq(List.of(1L)), any(LocalDateTime.class)))
+                .thenReturn(new ExpiredRentalChunk(1, 1, 0, 1L));
+
+        service.start();
+
+        verify(chunkProcessor, timeout(2000)).processDueRentals(eq(List.of(1L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should fire newly scheduled rental when its deadline passes")
+    void shouldFireScheduledRentalAtDeadline() {
+        service = createService(true);
+        when(rentalRepository.findActiveRentalDeadlines()).thenReturn(List.of());
+        when(chunkProcessor.processDueRentals(eq(List.of(7L)), any(LocalDateTime.class)))
+                .thenReturn(new ExpiredRentalChunk(1, 1, 0, 7L));
+        service.start();
+
+        service.schedule(rental(7L, LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(200))));
+
+        assertEquals(1, service.getScheduledCount());
+        verify(chunkProcessor, timeout(2000)).processDueRentals(eq(List.of(7L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Should retry due rentals after a failed batch")
+    void shouldRetryDueRentalsAfterFailure() {
+        service = createService(true);
+        when(rentalRepository.findActiveRentalDeadlines())
+                .thenReturn(List.of(candidate(2L, LocalDateTime.now().minusHours(1))));
+        when(chunkProcessor.processDueRentals(eq(List.of(2L)), any(LocalDateTime.class)))
+                .thenThrow(new RuntimeException("Connection lost"))
+                .thenReturn(new ExpiredRentalChunk(1, 1, 0, 2L));
+
+        service.start();
+
+        verify(chunkProcessor, timeout(2000).times(2))
+                .processDueRentals(eq(List.of(2L)), any(LocalDateTime.class));
+        verify(userContextLogger, timeout(2000)).logUserOperation(eq("RENTAL_DEADLINE_FIRED"), anyString());
+        assertEquals(0, service.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("Should ignore superseded deadline when rental end moves")
+    void shouldIgnoreSupersededDeadline() {
+        service = createService(true);
+        when(rentalRepository.findActiveRentalDeadlines()).thenReturn(List.of());
+        service.start();
+
+        service.schedule(rental(3L, LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(100))));
+        service.schedule(rental(3L, LocalDateTime.now().plusDays(2)));
+
+        verify(chunkProcessor, after(500).never()).processDueRentals(anyList(), any(LocalDateTime.class));
+        assertEquals(1, service.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("Should not schedule inactive rentals")
+    void shouldNotScheduleInactiveRentals() {
+        service = createService(true);
+        Rental rental = rental(4L, LocalDateTime.now().plusDays(1));
+        rental.setStatus(RentalStatus.RETURN_REQUESTED);
+
+        service.schedule(rental);
+
+        assertEquals(0, service.getScheduledCount());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void shouldDoNothingWhenDisabled() {
+        service = createService(false);
+
+        service.start();
+        service.schedule(rental(5L, LocalDateTime.now().minusDays(1)));
+
+        assertEquals(0, service.getScheduledCount());
+        verifyNoInteractions(rentalRepository);
+        verify(chunkProcessor, never()).processDueRentals(anyList(), any(LocalDateTime.class));
+    }
+
+    private RentalDeadlineService createService(boolean enabled) {
+        return new RentalDeadlineService(enabled, 50, 100, rentalRepository, userContextLogger, chunkProcessor);
+    }
+
+    private Rental rental(Long id, LocalDateTime rentalEnd) {
+        return Rental.builder()
+                .id(id)
+                .status(RentalStatus.ACTIVE)
+                .rentalEnd(rentalEnd)
+                .build();
+    }
+
+    private ExpiredRentalCandidateDto candidate(Long id, LocalDateTime rentalEnd) {
+        return ExpiredRentalCandidateDto.builder()
+                .rentalId(id)
+                .userId(1L)
+                .dvdId(1L)
+                .rentalEnd(rentalEnd)
+                .build();
+    }
+}
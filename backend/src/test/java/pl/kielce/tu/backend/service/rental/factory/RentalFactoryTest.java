@@ -7,16 +7,21 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 
+import pl.kielce.tu.backend.model.Money;
 import pl.kielce.tu.backend.model.constant.BillType;
 import pl.kielce.tu.backend.model.constant.RentalStatus;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.model.entity.Reservation;
 import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.service.invoice.numbering.InvoiceNumberAllocator;
+import pl.kielce.tu.backend.service.invoice.numbering.InvoiceSequenceStore;
+import pl.kielce.tu.backend.util.UserContextLogger;
 
 class RentalFactoryTest {
 
@@ -33,10 +38,10 @@ class RentalFactoryTest {
         Mockito.when(reservation.getCount()).thenReturn(3);
         Mockito.when(reservation.getRentalStart()).thenReturn(rentalStart);
         Mockito.when(reservation.getRentalEnd()).thenReturn(rentalEnd);
-        Mockito.when(dvd.getRentalPricePerDay()).thenReturn(2.50f);
+        Mockito.when(dvd.getRentalPrice()).thenReturn(Money.of(2.50f));
         Mockito.when(dvd.getTitle()).thenReturn("Test Movie");
 
-        RentalFactory factory = new RentalFactory();
+        RentalFactory factory = createFactory();
         Rental rental = factory.createFromReservation(reservation);
 
         assertSame(user, rental.getUser(), "User should be propagated from reservation");
@@ -67,10 +72,10 @@ class RentalFactoryTest {
         Mockito.when(reservation.getCount()).thenReturn(1);
         Mockito.when(reservation.getRentalStart()).thenReturn(rentalStart);
         Mockito.when(reservation.getRentalEnd()).thenReturn(rentalEnd);
-        Mockito.when(dvd.getRentalPricePerDay()).thenReturn(3.99f);
+        Mockito.when(dvd.getRentalPrice()).thenReturn(Money.of(3.99f));
         Mockito.when(dvd.getTitle()).thenReturn("Another Movie");
 
-        RentalFactory factory = new RentalFactory();
+        RentalFactory factory = createFactory();
         Rental rental = factory.createFromReservation(reservation);
         assertEquals(1, rental.getCount());
         assertEquals(RentalStatus.ACTIVE, rental.getStatus());
@@ -91,10 +96,10 @@ class RentalFactoryTest {
         Mockito.when(reservation.getCount()).thenReturn(2);
         Mockito.when(reservation.getRentalStart()).thenReturn(rentalStart);
         Mockito.when(reservation.getRentalEnd()).thenReturn(rentalEnd);
-        Mockito.when(dvd.getRentalPricePerDay()).thenReturn(5.00f);
+        Mockito.when(dvd.getRentalPrice()).thenReturn(Money.of(5.00f));
         Mockito.when(dvd.getTitle()).thenReturn("Expensive Movie");
 
-        RentalFactory factory = new RentalFactory();
+        RentalFactory factory = createFactory();
         Rental rental = factory.createFromReservation(reservation);
 
         assertNotNull(rental.getTransaction());
@@ -122,10 +127,10 @@ class RentalFactoryTest {
         Mockito.when(reservation.getCount()).thenReturn(1);
         Mockito.when(reservation.getRentalStart()).thenReturn(rentalStart);
         Mockito.when(reservation.getRentalEnd()).thenReturn(rentalEnd);
-        Mockito.when(dvd.getRentalPricePerDay()).thenReturn(1.99f);
+        Mockito.when(dvd.getRentalPrice()).thenReturn(Money.of(1.99f));
         Mockito.when(dvd.getTitle()).thenReturn("Budget Movie");
 
-        RentalFactory factory = new RentalFactory();
+        RentalFactory factory = createFactory();
         Rental rental = factory.createFromReservation(reservation);
 
         assertNotNull(rental.getTransaction());
@@ -146,10 +151,10 @@ class RentalFactoryTest {
         Mockito.when(reservation.getCount()).thenReturn(1);
         Mockito.when(reservation.getRentalStart()).thenReturn(rentalStart);
         Mockito.when(reservation.getRentalEnd()).thenReturn(rentalEnd);
-        Mockito.when(dvd.getRentalPricePerDay()).thenReturn(2.00f);
+        Mockito.when(dvd.getRentalPrice()).thenReturn(Money.of(2.00f));
         Mockito.when(dvd.getTitle()).thenReturn("Test Movie");
 
-        RentalFactory factory = new RentalFactory();
+        RentalFactory factory = createFactory();
         Rental rental1 = factory.createFromReservation(reservation);
         Rental rental2 = factory.createFromReservation(reservation);
 
@@ -172,10 +177,10 @@ class RentalFactoryTest {
         Mockito.when(reservation.getCount()).thenReturn(2);
         Mockito.when(reservation.getRentalStart()).thenReturn(rentalStart);
         Mockito.when(reservation.getRentalEnd()).thenReturn(rentalEnd);
-        Mockito.when(dvd.getRentalPricePerDay()).thenReturn(10.00f);
+        Mockito.when(dvd.getRentalPrice()).thenReturn(Money.of(10.00f));
         Mockito.when(dvd.getTitle()).thenReturn("Same Day Movie");
 
-        RentalFactory factory = new RentalFactory();
+        RentalFactory factory = createFactory();
         Rental rental = factory.createFromReservation(reservation);
 
         assertNotNull(rental.getTransaction());
@@ -187,4 +192,11 @@ class RentalFactoryTest {
         assertEquals(0, expectedTotal.compareTo(rental.getTransaction().getTotalAmount()),
                 "Total amount should be 0 for same-time rental");
     }
+
+    private RentalFactory createFactory() {
+        InvoiceSequenceStore sequenceStore = Mockito.mock(InvoiceSequenceStore.class);
+        Mockito.when(sequenceStore.reserveBlock(Mockito.anyInt(), Mockito.anyInt())).thenReturn(Optional.of(1L));
+        return new RentalFactory(
+                new InvoiceNumberAllocator(20, sequenceStore, Mockito.mock(UserContextLogger.class)));
+    }
 }
@@ -1,5 +1,10 @@
 package pl.kielce.tu.backend.service.rental.scheduler;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,6 +19,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import pl.kielce.tu.backend.model.dto.ExpiredRentalProcessingDto;
 import pl.kielce.tu.backend.service.rental.ExpiredRentalProcessingService;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,6 +32,9 @@ class RentalSchedulerTest {
     @Mock
     private UserContextLogger userContextLogger;
 
+    @Mock
+    private ScheduledJobRunner scheduledJobRunner;
+
     @InjectMocks
     private RentalScheduler scheduler;
 
@@ -33,6 +42,10 @@ class RentalSchedulerTest {
 
     @BeforeEach
     void setUp() {
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        }).when(scheduledJobRunner).run(eq("expired-rental-sweep"), any(Runnable.class));
         processingResult = ExpiredRentalProcessingDto.builder()
                 .totalExpiredRentals(5)
                 .processedSuccessfully(5)
@@ -82,4 +95,14 @@ class RentalSchedulerTest {
 
         verify(expiredRentalProcessingService, times(1)).processExpiredRentals();
     }
+
+    @Test
+    @DisplayName("Should skip processing when job runner does not acquire the lock")
+    void shouldSkipProcessingWhenLockNotAcquired() {
+        doAnswer(invocation -> false).when(scheduledJobRunner).run(eq("expired-rental-sweep"), any(Runnable.class));
+
+        scheduler.processExpiredRentals();
+
+        verify(expiredRentalProcessingService, never()).processExpiredRentals();
+    }
 }
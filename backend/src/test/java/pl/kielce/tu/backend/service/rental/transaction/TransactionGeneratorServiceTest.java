@@ -16,10 +16,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import pl.kielce.tu.backend.mapper.TransactionMapper;
+import pl.kielce.tu.backend.model.Money;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.model.entity.Transaction;
 import pl.kielce.tu.backend.service.rental.calculation.LateFeeCalculationService;
 import pl.kielce.tu.backend.service.rental.calculation.RentalCalculationService;
+import pl.kielce.tu.backend.service.revenue.RevenueRollupService;
 import pl.kielce.tu.backend.util.UserContextLogger;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,12 +39,15 @@ class TransactionGeneratorServiceTest {
     @Mock
     private UserContextLogger userContextLogger;
 
+    @Mock
+    private RevenueRollupService revenueRollupService;
+
     private TransactionGeneratorService transactionService;
 
     @BeforeEach
     void setUp() {
         transactionService = new TransactionGeneratorService(transactionMapper, userContextLogger, lateFeeService,
-                calculationService);
+                calculationService, revenueRollupService);
     }
 
     @Test
@@ -51,9 +56,9 @@ class TransactionGeneratorServiceTest {
         rental.setId(1L);
         Transaction expectedTransaction = new Transaction();
 
-        BigDecimal baseAmount = new BigDecimal("35.00");
-        BigDecimal lateFee = BigDecimal.ZERO;
-        BigDecimal totalAmount = new BigDecimal("35.00");
+        Money baseAmount = Money.ofMinor(3500L);
+        Money lateFee = Money.ZERO;
+        Money totalAmount = Money.ofMinor(3500L);
         long rentalDays = 7L;
 
         when(calculationService.calculateRentalDays(rental)).thenReturn(rentalDays);
@@ -72,6 +77,8 @@ class TransactionGeneratorServiceTest {
         verify(lateFeeService).calculateLateFee(rental);
         verify(calculationService).calculateTotalAmount(baseAmount, lateFee);
         verify(transactionMapper).toEntity(rental, rentalDays, baseAmount, lateFee, totalAmount);
+        verify(revenueRollupService).record(rental, expectedTransaction.getGeneratedAt(), new BigDecimal("35.00"),
+                new BigDecimal("0.00"));
     }
 
     @Test
@@ -79,9 +86,9 @@ class TransactionGeneratorServiceTest {
         Rental rental = new Rental();
         Transaction expectedTransaction = new Transaction();
 
-        BigDecimal baseAmount = new BigDecimal("35.00");
-        BigDecimal lateFee = new BigDecimal("50.00");
-        BigDecimal totalAmount = new BigDecimal("85.00");
+        Money baseAmount = Money.ofMinor(3500L);
+        Money lateFee = Money.ofMinor(5000L);
+        Money totalAmount = Money.ofMinor(8500L);
         long rentalDays = 7L;
 
         when(calculationService.calculateRentalDays(rental)).thenReturn(rentalDays);
@@ -104,20 +111,20 @@ class TransactionGeneratorServiceTest {
         Transaction expectedTransaction = new Transaction();
 
         when(calculationService.calculateRentalDays(rental)).thenReturn(5L);
-        when(calculationService.calculateBaseAmount(eq(rental), eq(5L))).thenReturn(new BigDecimal("25.00"));
-        when(lateFeeService.calculateLateFee(rental)).thenReturn(BigDecimal.ZERO);
-        when(calculationService.calculateTotalAmount(eq(new BigDecimal("25.00")), eq(BigDecimal.ZERO)))
-                .thenReturn(new BigDecimal("25.00"));
-        when(transactionMapper.toEntity(eq(rental), eq(5L), eq(new BigDecimal("25.00")), eq(BigDecimal.ZERO),
-                eq(new BigDecimal("25.00")))).thenReturn(expectedTransaction);
+        when(calculationService.calculateBaseAmount(eq(rental), eq(5L))).thenReturn(Money.ofMinor(2500L));
+        when(lateFeeService.calculateLateFee(rental)).thenReturn(Money.ZERO);
+        when(calculationService.calculateTotalAmount(eq(Money.ofMinor(2500L)), eq(Money.ZERO)))
+                .thenReturn(Money.ofMinor(2500L));
+        when(transactionMapper.toEntity(eq(rental), eq(5L), eq(Money.ofMinor(2500L)), eq(Money.ZERO),
+                eq(Money.ofMinor(2500L)))).thenReturn(expectedTransaction);
 
         transactionService.generateTransaction(rental);
 
         verify(calculationService, times(1)).calculateRentalDays(rental);
         verify(calculationService, times(1)).calculateBaseAmount(rental, 5L);
         verify(lateFeeService, times(1)).calculateLateFee(rental);
-        verify(calculationService, times(1)).calculateTotalAmount(new BigDecimal("25.00"), BigDecimal.ZERO);
-        verify(transactionMapper, times(1)).toEntity(rental, 5L, new BigDecimal("25.00"), BigDecimal.ZERO,
-                new BigDecimal("25.00"));
+        verify(calculationService, times(1)).calculateTotalAmount(Money.ofMinor(2500L), Money.ZERO);
+        verify(transactionMapper, times(1)).toEntity(rental, 5L, Money.ofMinor(2500L), Money.ZERO,
+                Money.ofMinor(2500L));
     }
 }
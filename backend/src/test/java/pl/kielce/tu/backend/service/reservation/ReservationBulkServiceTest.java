@@ -0,0 +1,178 @@
+package pl.kielce.tu.backend.service.reservation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import pl.kielce.tu.backend.model.constant.ReservationActionOutcome;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.dto.BulkReservationActionDto;
+import pl.kielce.tu.backend.model.dto.BulkReservationResultDto;
+import pl.kielce.tu.backend.model.dto.ReservationActionOutcomeDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.service.dvd.DvdAvailabilityService;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+import pl.kielce.tu.backend.service.recommendation.popularity.DvdPopularityService;
+import pl.kielce.tu.backend.service.rental.deadline.RentalDeadlineService;
+import pl.kielce.tu.backend.service.rental.factory.RentalFactory;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationBulkServiceTest {
+
+    @Mock
+    private RentalFactory rentalFactory;
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private DvdAvailabilityService availabilityService;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private DvdAvailabilityTimelineService availabilityTimelineService;
+
+    @Mock
+    private RentalDeadlineService rentalDeadlineService;
+
+    @Mock
+    private AdminQueueEventPublisher adminQueueEventPublisher;
+
+    @Mock
+    private DvdPopularityService dvdPopularityService;
+
+    @InjectMocks
+    private ReservationBulkService reservationBulkService;
+
+    private Dvd firstDvd;
+    private Dvd secondDvd;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reservationBulkService, "maxBulkSize", 3);
+        firstDvd = Dvd.builder().id(1L).copiesAvalaible(0).build();
+        secondDvd = Dvd.builder().id(2L).copiesAvalaible(0).build();
+    }
+
+    @Test
+    void handleBulkAccept_createsRentalsForPendingAndReportsOutcomes() {
+        Reservation pending = reservation(10L, firstDvd, 1, ReservationStatus.PENDING);
+        Reservation cancelled = reservation(11L, firstDvd, 1, ReservationStatus.CANCELLED);
+        Rental rental = new Rental();
+        when(reservationRepository.findAllForUpdateWithDvdAndUserByIdIn(List.of(10L, 11L, 12L)))
+                .thenReturn(List.of(pending, cancelled));
+        when(rentalFactory.createFromReservation(pending)).thenReturn(rental);
+
+        ResponseEntity<BulkReservationResultDto> response = reservationBulkService
+                .handleBulkAccept(actionFor(10L, 11L, 12L));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        BulkReservationResultDto result = response.getBody();
+        assertEquals(1, result.getSucceeded());
+        assertEquals(2, result.getFailed());
+        assertEquals(List.of(ReservationActionOutcome.ACCEPTED, ReservationActionOutcome.NOT_PENDING,
+                ReservationActionOutcome.NOT_FOUND),
+                result.getOutcomes().stream().map(ReservationActionOutcomeDto::getOutcome).toList());
+        assertEquals(ReservationStatus.ACCEPTED, pending.getStatus());
+        assertEquals(ReservationStatus.CANCELLED, cancelled.getStatus());
+        verify(rentalRepository).saveAll(List.of(rental));
+        verify(reservationRepository).saveAll(List.of(pending));
+        verify(availabilityTimelineService).registerRental(rental);
+        verify(rentalDeadlineService).schedule(rental);
+        verify(dvdPopularityService).record(rental);
+        verify(availabilityTimelineService).releaseReservation(pending);
+        verifyNoInteractions(availabilityService);
+    }
+
+    @Test
+    void handleBulkDecline_releasesCopiesOncePerDvd() {
+        Reservation first = reservation(10L, firstDvd, 1, ReservationStatus.PENDING);
+        Reservation second = reservation(11L, firstDvd, 2, ReservationStatus.PENDING);
+        Reservation third = reservation(12L, secondDvd, 1, ReservationStatus.PENDING);
+        when(reservationRepository.findAllForUpdateWithDvdAndUserByIdIn(List.of(10L, 11L, 12L)))
+                .thenReturn(List.of(third, first, second));
+
+        ResponseEntity<BulkReservationResultDto> response = reservationBulkService
+                .handleBulkDecline(actionFor(10L, 11L, 12L));
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(3, response.getBody().getSucceeded());
+        verify(availabilityService).increaseAvailability(firstDvd, 3);
+        verify(availabilityService).increaseAvailability(secondDvd, 1);
+        assertEquals(ReservationStatus.REJECTED, second.getStatus());
+        verifyNoInteractions(rentalFactory, rentalRepository);
+    }
+
+    @Test
+    void handleBulkAccept_returnsBadRequestWhenIdsMissing() {
+        ResponseEntity<BulkReservationResultDto> response = reservationBulkService
+                .handleBulkAccept(new BulkReservationActionDto());
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void handleBulkDecline_returnsBadRequestWhenTooManyIds() {
+        ResponseEntity<BulkReservationResultDto> response = reservationBulkService
+                .handleBulkDecline(actionFor(1L, 2L, 3L, 4L));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(availabilityService, never()).increaseAvailability(any(), any());
+    }
+
+    @Test
+    void handleBulkAccept_returnsInternalServerErrorWhenSaveFails() {
+        Reservation pending = reservation(10L, firstDvd, 1, ReservationStatus.PENDING);
+        when(reservationRepository.findAllForUpdateWithDvdAndUserByIdIn(List.of(10L))).thenReturn(List.of(pending));
+        when(rentalFactory.createFromReservation(pending)).thenReturn(new Rental());
+        when(rentalRepository.saveAll(any())).thenThrow(new RuntimeException("db error"));
+
+        ResponseEntity<BulkReservationResultDto> response = reservationBulkService.handleBulkAccept(actionFor(10L));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    private BulkReservationActionDto actionFor(Long... ids) {
+        return BulkReservationActionDto.builder().reservationIds(List.of(ids)).build();
+    }
+
+    private Reservation reservation(Long id, Dvd dvd, int count, ReservationStatus status) {
+        return Reservation.builder()
+                .id(id)
+                .dvd(dvd)
+                .count(count)
+                .status(status)
+                .rentalStart(LocalDateTime.now())
+                .rentalEnd(LocalDateTime.now().plusDays(2))
+                .build();
+    }
+
+}
@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.RETURNS_SELF;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -15,34 +17,56 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor.SpecificationFluentQuery;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 import jakarta.servlet.http.HttpServletRequest;
 import pl.kielce.tu.backend.extractor.ClaimsExtractor;
+import pl.kielce.tu.backend.mapper.PageMapper;
 import pl.kielce.tu.backend.mapper.ReservationFilterMapper;
 import pl.kielce.tu.backend.mapper.ReservationMapper;
 import pl.kielce.tu.backend.model.constant.CookieNames;
 import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.dto.CursorPageDto;
+import pl.kielce.tu.backend.model.dto.PagedResponseDto;
 import pl.kielce.tu.backend.model.dto.ReservationDto;
+import pl.kielce.tu.backend.model.dto.ReservationFilterDto;
 import pl.kielce.tu.backend.model.entity.Dvd;
 import pl.kielce.tu.backend.model.entity.Rental;
 import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.model.entity.ReservationIdempotencyKey;
 import pl.kielce.tu.backend.model.entity.User;
 import pl.kielce.tu.backend.repository.DvdRepository;
 import pl.kielce.tu.backend.repository.RentalRepository;
 import pl.kielce.tu.backend.repository.ReservationRepository;
 import pl.kielce.tu.backend.repository.UserRepository;
+import pl.kielce.tu.backend.repository.specification.ReservationSpecification;
 import pl.kielce.tu.backend.service.auth.CookieService;
 import pl.kielce.tu.backend.service.dvd.DvdAvailabilityService;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+import pl.kielce.tu.backend.service.recommendation.popularity.DvdPopularityService;
+import pl.kielce.tu.backend.service.rental.deadline.RentalDeadlineService;
 import pl.kielce.tu.backend.service.rental.factory.RentalFactory;
+import pl.kielce.tu.backend.service.reservation.approval.ReservationAutoApprovalService;
+import pl.kielce.tu.backend.service.reservation.idempotency.IdempotencyClaim;
+import pl.kielce.tu.backend.service.reservation.idempotency.ReservationIdempotencyStore;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationServiceTest {
@@ -69,6 +93,34 @@ class ReservationServiceTest {
     private ReservationRepository reservationRepository;
     @Mock
     private ReservationValidationService reservationValidationService;
+    @Mock
+    private DvdAvailabilityTimelineService availabilityTimelineService;
+    @Mock
+    private RentalDeadlineService rentalDeadlineService;
+
+    @Mock
+    private AdminQueueEventPublisher adminQueueEventPublisher;
+
+    @Mock
+    private ReservationAutoApprovalService autoApprovalService;
+
+    @Mock
+    private DvdPopularityService dvdPopularityService;
+
+    @Mock
+    private ReservationIdempotencyStore idempotencyStore;
+
+    @Mock
+    private ReservationSpecification reservationSpecification;
+
+    @Mock
+    private Specification<Reservation> specification;
+
+    @Captor
+    private ArgumentCaptor<ReservationFilterDto> filterCaptor;
+
+    @Spy
+    private PageMapper pageMapper;
 
     @InjectMocks
     private ReservationService reservationService;
@@ -115,11 +167,41 @@ class ReservationServiceTest {
         when(userRepository.findById(7L)).thenReturn(Optional.of(user));
         when(dvdRepository.findById(11L)).thenReturn(Optional.of(dvd));
 
-        ResponseEntity<Void> response = reservationService.handleCreateReservation(request, dto);
+        ResponseEntity<Void> response = reservationService.handleCreateReservation(request, dto, null);
 
         assert response.getStatusCode() == HttpStatus.CREATED;
         verify(availabilityService).decreaseAvailability(dvd, 1);
         verify(reservationRepository).save(any(Reservation.class));
+        verify(availabilityTimelineService).registerReservation(any(Reservation.class));
+        verify(autoApprovalService).submit(any(Reservation.class));
+    }
+
+    @Test
+    void handleCreateReservation_claimsIdempotencyKeyBeforeDecreasingAvailability() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn("token");
+        when(claimsExtractor.extractUserId(eq("token"), any())).thenReturn(7L);
+
+        ReservationDto dto = new ReservationDto();
+        dto.setDvdId(11L);
+        dto.setRentalStart(LocalDateTime.now());
+        dto.setRentalEnd(LocalDateTime.now().plusDays(7));
+        dto.setCount(1);
+
+        Dvd dvd = mock(Dvd.class);
+        when(userRepository.findById(7L)).thenReturn(Optional.of(mock(User.class)));
+        when(dvdRepository.findById(11L)).thenReturn(Optional.of(dvd));
+        IdempotencyClaim claim = new IdempotencyClaim(7L, "key-1", "fingerprint");
+        ReservationIdempotencyKey idempotencyKey = new ReservationIdempotencyKey();
+        when(idempotencyStore.claim(claim)).thenReturn(idempotencyKey);
+
+        ResponseEntity<Void> response = reservationService.handleCreateReservation(request, dto, claim);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        InOrder inOrder = inOrder(idempotencyStore, availabilityService);
+        inOrder.verify(idempotencyStore).claim(claim);
+        inOrder.verify(availabilityService).decreaseAvailability(dvd, 1);
+        inOrder.verify(idempotencyStore).complete(idempotencyKey, HttpStatus.CREATED);
     }
 
     @Test
@@ -131,7 +213,7 @@ class ReservationServiceTest {
 
         ReservationDto dto = new ReservationDto();
 
-        ResponseEntity<Void> response = reservationService.handleCreateReservation(request, dto);
+        ResponseEntity<Void> response = reservationService.handleCreateReservation(request, dto, null);
 
         assert response.getStatusCode() == HttpStatus.BAD_REQUEST;
         verifyNoInteractions(dvdRepository, userRepository, reservationRepository, availabilityService);
@@ -143,7 +225,7 @@ class ReservationServiceTest {
         when(filterMapper.parseReservationId(id)).thenReturn(5L);
 
         Reservation reservation = mock(Reservation.class);
-        when(reservationRepository.findById(5L)).thenReturn(Optional.of(reservation));
+        when(reservationRepository.findForUpdateById(5L)).thenReturn(Optional.of(reservation));
         when(reservation.getStatus()).thenReturn(ReservationStatus.PENDING);
 
         Rental rental = new Rental();
@@ -155,6 +237,10 @@ class ReservationServiceTest {
         verify(rentalFactory).createFromReservation(reservation);
         verify(rentalRepository).save(rental);
         verify(reservationRepository).save(reservation);
+        verify(availabilityTimelineService).registerRental(rental);
+        verify(rentalDeadlineService).schedule(rental);
+        verify(dvdPopularityService).record(rental);
+        verify(availabilityTimelineService).releaseReservation(reservation);
     }
 
     @Test
@@ -163,7 +249,7 @@ class ReservationServiceTest {
         when(filterMapper.parseReservationId(id)).thenReturn(6L);
 
         Reservation reservation = mock(Reservation.class);
-        when(reservationRepository.findById(6L)).thenReturn(Optional.of(reservation));
+        when(reservationRepository.findForUpdateById(6L)).thenReturn(Optional.of(reservation));
         when(reservation.getStatus()).thenReturn(ReservationStatus.ACCEPTED);
 
         ResponseEntity<Void> response = reservationService.handleAcceptReservation(id);
@@ -176,7 +262,7 @@ class ReservationServiceTest {
     void handleAcceptReservation_notFoundWhenMissing() {
         String id = "999";
         when(filterMapper.parseReservationId(id)).thenReturn(999L);
-        when(reservationRepository.findById(999L)).thenReturn(Optional.empty());
+        when(reservationRepository.findForUpdateById(999L)).thenReturn(Optional.empty());
 
         ResponseEntity<Void> response = reservationService.handleAcceptReservation(id);
 
@@ -190,7 +276,7 @@ class ReservationServiceTest {
 
         Reservation reservation = mock(Reservation.class);
         Dvd dvd = mock(Dvd.class);
-        when(reservationRepository.findById(8L)).thenReturn(Optional.of(reservation));
+        when(reservationRepository.findForUpdateById(8L)).thenReturn(Optional.of(reservation));
         when(reservation.getStatus()).thenReturn(ReservationStatus.PENDING);
         when(reservation.getDvd()).thenReturn(dvd);
         when(reservation.getCount()).thenReturn(2);
@@ -200,6 +286,7 @@ class ReservationServiceTest {
         assert response.getStatusCode() == HttpStatus.ACCEPTED;
         verify(availabilityService).increaseAvailability(dvd, 2);
         verify(reservationRepository).save(reservation);
+        verify(availabilityTimelineService).releaseReservation(reservation);
     }
 
     @Test
@@ -214,7 +301,7 @@ class ReservationServiceTest {
 
         Reservation reservation = mock(Reservation.class);
         Dvd dvd = mock(Dvd.class);
-        when(reservationRepository.findById(10L)).thenReturn(Optional.of(reservation));
+        when(reservationRepository.findForUpdateById(10L)).thenReturn(Optional.of(reservation));
         when(reservation.getDvd()).thenReturn(dvd);
         when(reservation.getCount()).thenReturn(3);
 
@@ -238,7 +325,7 @@ class ReservationServiceTest {
         when(filterMapper.parseReservationId(id)).thenReturn(11L);
 
         Reservation reservation = mock(Reservation.class);
-        when(reservationRepository.findById(11L)).thenReturn(Optional.of(reservation));
+        when(reservationRepository.findForUpdateById(11L)).thenReturn(Optional.of(reservation));
 
         doThrow(new pl.kielce.tu.backend.exception.ValidationException("Validation error"))
                 .when(reservationValidationService).validateReservationCancellation(any(), any());
@@ -259,7 +346,7 @@ class ReservationServiceTest {
         when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn(token);
         when(claimsExtractor.extractUserId(eq(token), any())).thenReturn(42L);
         when(filterMapper.parseReservationId(id)).thenReturn(999L);
-        when(reservationRepository.findById(999L)).thenReturn(Optional.empty());
+        when(reservationRepository.findForUpdateById(999L)).thenReturn(Optional.empty());
 
         ResponseEntity<Void> response = reservationService.handleCancelReservation(request, id);
 
@@ -267,4 +354,91 @@ class ReservationServiceTest {
         verifyNoInteractions(reservationValidationService);
         verifyNoInteractions(availabilityService);
     }
+
+    @Test
+    void handleGetAllReservations_capsPageSizeAndPassesFilters() {
+        LocalDateTime from = LocalDateTime.of(2024, 1, 1, 0, 0);
+        Reservation reservation = Reservation.builder().id(5L).build();
+        ReservationDto dto = ReservationDto.builder().id(5L).build();
+        PageRequest expectedPage = PageRequest.of(1, 100, Sort.by(Sort.Direction.DESC, "id"));
+        when(filterMapper.mapFilterToStatus("pending")).thenReturn(ReservationStatus.PENDING);
+        when(reservationSpecification.withFilters(any())).thenReturn(specification);
+        when(reservationRepository.findAll(specification, expectedPage))
+                .thenReturn(new PageImpl<>(List.of(reservation), expectedPage, 101));
+        when(reservationMapper.toDto(reservation)).thenReturn(dto);
+
+        ResponseEntity<PagedResponseDto<ReservationDto>> response = reservationService
+                .handleGetAllReservations("pending", 3L, null, from, null, 1, 500);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        PagedResponseDto<ReservationDto> body = Objects.requireNonNull(response.getBody());
+        assertEquals(List.of(dto), body.getContent());
+        assertEquals(101, body.getTotalElements());
+        assertEquals(2, body.getTotalPages());
+        assertEquals(1, body.getCurrentPage());
+        verify(reservationSpecification).withFilters(filterCaptor.capture());
+        ReservationFilterDto filter = filterCaptor.getValue();
+        assertEquals(ReservationStatus.PENDING, filter.getStatus());
+        assertEquals(3L, filter.getDvdId());
+        assertEquals(null, filter.getUserId());
+        assertEquals(from, filter.getFrom());
+        assertEquals(null, filter.getTo());
+    }
+
+    @Test
+    void handleGetAllReservations_returnsBadRequestForInvertedDateRange() {
+        LocalDateTime from = LocalDateTime.of(2024, 2, 1, 0, 0);
+
+        ResponseEntity<PagedResponseDto<ReservationDto>> response = reservationService
+                .handleGetAllReservations(null, null, null, from, from.minusDays(1), 0, 20);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(reservationRepository);
+    }
+
+    @Test
+    void handleGetAllReservationsByCursor_returnsNextCursorWhenMoreRowsExist() {
+        List<Reservation> rows = List.of(Reservation.builder().id(9L).build(), Reservation.builder().id(8L).build(),
+                Reservation.builder().id(7L).build());
+        SpecificationFluentQuery<Reservation> fluentQuery = stubCursorQuery(10L, rows);
+        when(reservationMapper.toDtoList(rows)).thenReturn(List.of(ReservationDto.builder().id(9L).build(),
+                ReservationDto.builder().id(8L).build(), ReservationDto.builder().id(7L).build()));
+
+        ResponseEntity<CursorPageDto<ReservationDto>> response = reservationService
+                .handleGetAllReservationsByCursor(null, null, null, null, null, 10L, 2);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        CursorPageDto<ReservationDto> page = Objects.requireNonNull(response.getBody());
+        assertEquals(2, page.getContent().size());
+        assertEquals(8L, page.getNextCursor());
+        assertEquals(true, page.isHasNext());
+        verify(fluentQuery).sortBy(Sort.by(Sort.Direction.DESC, "id"));
+        verify(fluentQuery).limit(3);
+    }
+
+    @Test
+    void handleGetAllReservationsByCursor_lastPageHasNoCursor() {
+        List<Reservation> rows = List.of(Reservation.builder().id(2L).build());
+        stubCursorQuery(null, rows);
+        when(reservationMapper.toDtoList(rows)).thenReturn(List.of(ReservationDto.builder().id(2L).build()));
+
+        ResponseEntity<CursorPageDto<ReservationDto>> response = reservationService
+                .handleGetAllReservationsByCursor(null, null, null, null, null, null, 50);
+
+        CursorPageDto<ReservationDto> page = Objects.requireNonNull(response.getBody());
+        assertEquals(1, page.getContent().size());
+        assertEquals(null, page.getNextCursor());
+        assertEquals(false, page.isHasNext());
+    }
+
+    @SuppressWarnings("unchecked")
+    private SpecificationFluentQuery<Reservation> stubCursorQuery(Long after, List<Reservation> rows) {
+        SpecificationFluentQuery<Reservation> fluentQuery = mock(SpecificationFluentQuery.class, RETURNS_SELF);
+        when(fluentQuery.all()).thenReturn(rows);
+        when(reservationSpecification.withFilters(any(), eq(after))).thenReturn(specification);
+        when(reservationRepository.findBy(eq(specification), any())).thenAnswer(invocation -> invocation
+                .<Function<SpecificationFluentQuery<Reservation>, List<Reservation>>>getArgument(1).apply(fluentQuery));
+        return fluentQuery;
+    }
+
 }
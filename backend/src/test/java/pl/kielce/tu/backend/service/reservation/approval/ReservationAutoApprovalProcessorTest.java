@@ -0,0 +1,100 @@
+package pl.kielce.tu.backend.service.reservation.approval;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.repository.RentalRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.service.reservation.ReservationBulkService;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationAutoApprovalProcessor Tests")
+class ReservationAutoApprovalProcessorTest {
+
+    @Mock
+    private RentalRepository rentalRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationBulkService reservationBulkService;
+
+    private ReservationAutoApprovalProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        AutoApprovalRule rule = new TrustedCustomerAutoApprovalRule(true, 2, new BigDecimal("10.0"), 14);
+        processor = new ReservationAutoApprovalProcessor(List.of(rule), rentalRepository, reservationRepository,
+                reservationBulkService);
+    }
+
+    @Test
+    @DisplayName("Should accept matching reservations and record the rule")
+    void shouldAcceptMatchingReservationsAndRecordRule() {
+        Reservation trusted = reservation(1L, 10L, ReservationStatus.PENDING, 1);
+        Reservation tooLarge = reservation(2L, 11L, ReservationStatus.PENDING, 5);
+        Reservation overdue = reservation(3L, 12L, ReservationStatus.PENDING, 1);
+        when(reservationRepository.findAllForUpdateWithDvdAndUserByIdIn(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(trusted, tooLarge, overdue));
+        when(rentalRepository.findUserIdsWithOverdueRentals(anyCollection(), any(LocalDateTime.class)))
+                .thenReturn(List.of(12L));
+
+        AutoApprovalBatch result = processor.process(List.of(1L, 2L, 3L));
+
+        assertEquals(3, result.evaluated());
+        assertEquals(1, result.approved());
+        assertEquals(Map.of("trusted-customer", 1), result.approvedByRule());
+        assertEquals("trusted-customer", trusted.getApprovedByRule());
+        assertNull(tooLarge.getApprovedByRule());
+        assertNull(overdue.getApprovedByRule());
+        verify(reservationBulkService).acceptPendingReservations(List.of(trusted));
+    }
+
+    @Test
+    @DisplayName("Should skip reservations already resolved manually")
+    void shouldSkipReservationsAlreadyResolved() {
+        when(reservationRepository.findAllForUpdateWithDvdAndUserByIdIn(List.of(1L)))
+                .thenReturn(List.of(reservation(1L, 10L, ReservationStatus.ACCEPTED, 1)));
+
+        AutoApprovalBatch result = processor.process(List.of(1L));
+
+        assertEquals(0, result.evaluated());
+        verifyNoInteractions(rentalRepository, reservationBulkService);
+    }
+
+    private Reservation reservation(Long id, Long userId, ReservationStatus status, int count) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return Reservation.builder()
+                .id(id)
+                .user(User.builder().id(userId).isVerified(true).build())
+                .dvd(Dvd.builder().id(1L).rentalPricePerDay(3.0f).build())
+                .count(count)
+                .status(status)
+                .rentalStart(start)
+                .rentalEnd(start.plusDays(3))
+                .build();
+    }
+
+}
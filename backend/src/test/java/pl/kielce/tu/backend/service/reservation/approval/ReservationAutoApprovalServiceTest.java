@@ -0,0 +1,64 @@
+package pl.kielce.tu.backend.service.reservation.approval;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationAutoApprovalService Tests")
+class ReservationAutoApprovalServiceTest {
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private ReservationAutoApprovalProcessor processor;
+
+    private ReservationAutoApprovalService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should process submitted reservations as one micro-batch")
+    void shouldProcessSubmittedReservationsAsOneBatch() {
+        service = new ReservationAutoApprovalService(true, 50, 100, 100, userContextLogger, processor);
+        when(processor.process(anyList())).thenReturn(new AutoApprovalBatch(2, 1, Map.of("trusted-customer", 1)));
+        service.start();
+
+        service.submit(List.of(Reservation.builder().id(1L).build(), Reservation.builder().id(2L).build()));
+
+        verify(processor, timeout(2000)).process(List.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("Should ignore submissions when disabled")
+    void shouldIgnoreSubmissionsWhenDisabled() {
+        service = new ReservationAutoApprovalService(false, 50, 0, 100, userContextLogger, processor);
+        service.start();
+
+        service.submit(Reservation.builder().id(1L).build());
+
+        verifyNoInteractions(processor, userContextLogger);
+    }
+
+}
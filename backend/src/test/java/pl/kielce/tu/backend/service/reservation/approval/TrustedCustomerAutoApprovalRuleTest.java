@@ -0,0 +1,76 @@
+package pl.kielce.tu.backend.service.reservation.approval;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.model.entity.User;
+
+@DisplayName("TrustedCustomerAutoApprovalRule Tests")
+class TrustedCustomerAutoApprovalRuleTest {
+
+    private final TrustedCustomerAutoApprovalRule rule = new TrustedCustomerAutoApprovalRule(true, 2,
+            new BigDecimal("10.0"), 14);
+
+    @Test
+    @DisplayName("Should approve small short reservation from verified user")
+    void shouldApproveSmallShortReservationFromVerifiedUser() {
+        assertTrue(rule.matches(new AutoApprovalCandidate(reservation(true, 2, 5.0f, 7), false)));
+    }
+
+    @Test
+    @DisplayName("Should leave unverified user for manual review")
+    void shouldRejectUnverifiedUser() {
+        assertFalse(rule.matches(new AutoApprovalCandidate(reservation(false, 1, 5.0f, 7), false)));
+    }
+
+    @Test
+    @DisplayName("Should leave user with overdue rentals for manual review")
+    void shouldRejectUserWithOverdueRentals() {
+        assertFalse(rule.matches(new AutoApprovalCandidate(reservation(true, 1, 5.0f, 7), true)));
+    }
+
+    @Test
+    @DisplayName("Should leave large, expensive or long reservations for manual review")
+    void shouldRejectReservationsOutsideLimits() {
+        assertFalse(rule.matches(new AutoApprovalCandidate(reservation(true, 3, 5.0f, 7), false)));
+        assertFalse(rule.matches(new AutoApprovalCandidate(reservation(true, 1, 10.0f, 7), false)));
+        assertFalse(rule.matches(new AutoApprovalCandidate(reservation(true, 1, 5.0f, 14), false)));
+    }
+
+    @Test
+    @DisplayName("Should compare the price limit at cent precision")
+    void shouldComparePriceLimitInCents() {
+        assertTrue(rule.matches(new AutoApprovalCandidate(reservation(true, 1, 9.99f, 7), false)));
+        assertFalse(rule.matches(new AutoApprovalCandidate(reservation(true, 1, 10.00f, 7), false)));
+    }
+
+    @Test
+    @DisplayName("Should approve nothing when disabled")
+    void shouldApproveNothingWhenDisabled() {
+        TrustedCustomerAutoApprovalRule disabled = new TrustedCustomerAutoApprovalRule(false, 2,
+                new BigDecimal("10.0"), 14);
+
+        assertFalse(disabled.matches(new AutoApprovalCandidate(reservation(true, 1, 5.0f, 7), false)));
+    }
+
+    private Reservation reservation(boolean verified, int count, float pricePerDay, int days) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1);
+        return Reservation.builder()
+                .id(1L)
+                .user(User.builder().id(1L).isVerified(verified).build())
+                .dvd(Dvd.builder().id(1L).rentalPricePerDay(pricePerDay).build())
+                .count(count)
+                .rentalStart(start)
+                .rentalEnd(start.plusDays(days))
+                .build();
+    }
+
+}
@@ -0,0 +1,127 @@
+package pl.kielce.tu.backend.service.reservation.expiry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import pl.kielce.tu.backend.model.constant.AdminQueueEventType;
+import pl.kielce.tu.backend.model.constant.ReservationStatus;
+import pl.kielce.tu.backend.model.dto.DvdCopyDeltaDto;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExpiryChunkProcessorTest {
+
+    @Mock
+    private DvdRepository dvdRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private DvdAvailabilityTimelineService availabilityTimelineService;
+
+    @Mock
+    private AdminQueueEventPublisher adminQueueEventPublisher;
+
+    @InjectMocks
+    private ReservationExpiryChunkProcessor chunkProcessor;
+
+    @Test
+    void expireChunk_updatesStatusesAndReleasesCopiesPerDvd() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(48);
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(reservationRepository.findIdsByStatusAndCreatedAtBefore(ReservationStatus.PENDING, cutoff,
+                PageRequest.of(0, 3))).thenReturn(ids);
+        when(reservationRepository.findAllForUpdateByIdInAndStatus(ids, ReservationStatus.PENDING))
+                .thenReturn(List.of(reservationWithId(1L), reservationWithId(2L), reservationWithId(3L)));
+        when(reservationRepository.updateStatusForIds(eq(ids), eq(ReservationStatus.PENDING),
+                eq(ReservationStatus.EXPIRED), any(LocalDateTime.class))).thenReturn(3);
+        when(reservationRepository.sumCountsByDvdForIds(ids, ReservationStatus.PENDING))
+                .thenReturn(List.of(new DvdCopyDeltaDto(10L, 3L), new DvdCopyDeltaDto(20L, 1L)));
+
+        ReservationExpiryChunk chunk = chunkProcessor.expireChunk(cutoff, 3);
+
+        assertEquals(3, chunk.expiredReservations());
+        assertEquals(4, chunk.releasedCopies());
+        assertEquals(List.of(10L, 20L), chunk.dvdIds());
+        verify(dvdRepository).increaseCopiesAvailable(10L, 3);
+        verify(dvdRepository).increaseCopiesAvailable(20L, 1);
+        verify(availabilityTimelineService).evict(10L);
+        verify(availabilityTimelineService).evict(20L);
+    }
+
+    @Test
+    void expireChunk_releasesOnlyRowsStillPendingUnderLock() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(48);
+        List<Long> ids = List.of(1L, 2L, 3L);
+        when(reservationRepository.findIdsByStatusAndCreatedAtBefore(ReservationStatus.PENDING, cutoff,
+                PageRequest.of(0, 3))).thenReturn(ids);
+        when(reservationRepository.findAllForUpdateByIdInAndStatus(ids, ReservationStatus.PENDING))
+                .thenReturn(List.of(reservationWithId(2L)));
+        when(reservationRepository.sumCountsByDvdForIds(List.of(2L), ReservationStatus.PENDING))
+                .thenReturn(List.of(new DvdCopyDeltaDto(10L, 1L)));
+        when(reservationRepository.updateStatusForIds(eq(List.of(2L)), eq(ReservationStatus.PENDING),
+                eq(ReservationStatus.EXPIRED), any(LocalDateTime.class))).thenReturn(1);
+
+        ReservationExpiryChunk chunk = chunkProcessor.expireChunk(cutoff, 3);
+
+        assertEquals(1, chunk.expiredReservations());
+        assertEquals(1, chunk.releasedCopies());
+        verify(dvdRepository).increaseCopiesAvailable(10L, 1);
+        verify(adminQueueEventPublisher).publish(AdminQueueEventType.RESERVATION_RESOLVED, List.of(2L));
+    }
+
+    @Test
+    void expireChunk_whenOverlappingRunExpiredEverything_releasesNothing() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(48);
+        when(reservationRepository.findIdsByStatusAndCreatedAtBefore(ReservationStatus.PENDING, cutoff,
+                PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+        when(reservationRepository.findAllForUpdateByIdInAndStatus(List.of(1L, 2L), ReservationStatus.PENDING))
+                .thenReturn(List.of());
+
+        ReservationExpiryChunk chunk = chunkProcessor.expireChunk(cutoff, 2);
+
+        assertEquals(0, chunk.expiredReservations());
+        verify(reservationRepository, never()).updateStatusForIds(anyList(), any(), any(), any());
+        verifyNoInteractions(dvdRepository, availabilityTimelineService, adminQueueEventPublisher);
+    }
+
+    @Test
+    void expireChunk_whenNothingToExpire_returnsEmptyChunk() {
+        when(reservationRepository.findIdsByStatusAndCreatedAtBefore(eq(ReservationStatus.PENDING), any(), any()))
+                .thenReturn(List.of());
+
+        ReservationExpiryChunk chunk = chunkProcessor.expireChunk(LocalDateTime.now(), 100);
+
+        assertEquals(0, chunk.expiredReservations());
+        verify(reservationRepository, never()).updateStatusForIds(anyList(), any(), any(), any());
+        verifyNoInteractions(dvdRepository, availabilityTimelineService);
+    }
+
+    private Reservation reservationWithId(Long id) {
+        Reservation reservation = new Reservation();
+        reservation.setId(id);
+        return reservation;
+    }
+
+}
@@ -0,0 +1,111 @@
+package pl.kielce.tu.backend.service.reservation.expiry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import pl.kielce.tu.backend.model.dto.ReservationExpiryDto;
+import pl.kielce.tu.backend.service.reminder.scheduler.ReminderSchedulerService;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExpiryServiceTest {
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private ReservationExpiryChunkProcessor chunkProcessor;
+
+    @Mock
+    private ReminderSchedulerService reminderSchedulerService;
+
+    @InjectMocks
+    private ReservationExpiryService reservationExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reservationExpiryService, "holdTimeoutHours", 48L);
+        ReflectionTestUtils.setField(reservationExpiryService, "chunkSize", 2);
+        ReflectionTestUtils.setField(reservationExpiryService, "maxChunks", 10);
+    }
+
+    @Test
+    void expireStaleReservations_processesChunksUntilEmptyAndAggregatesResults() {
+        when(chunkProcessor.expireChunk(any(LocalDateTime.class), eq(2)))
+                .thenReturn(new ReservationExpiryChunk(2, 3, List.of(1L, 2L)))
+                .thenReturn(new ReservationExpiryChunk(1, 1, List.of(2L)))
+                .thenReturn(new ReservationExpiryChunk(0, 0, List.of()));
+
+        ReservationExpiryDto result = reservationExpiryService.expireStaleReservations();
+
+        assertEquals(3, result.getExpiredReservations());
+        assertEquals(4, result.getReleasedCopies());
+        assertEquals(2, result.getAffectedDvds());
+        assertEquals(2, result.getChunks());
+        verify(chunkProcessor, times(3)).expireChunk(any(LocalDateTime.class), eq(2));
+        verify(reminderSchedulerService).processAvailableDvdReminders(Set.of(1L, 2L));
+    }
+
+    @Test
+    void expireStaleReservations_usesHoldTimeoutForCutoff() {
+        when(chunkProcessor.expireChunk(any(LocalDateTime.class), anyInt()))
+                .thenAnswer(invocation -> {
+                    LocalDateTime cutoff = invocation.getArgument(0);
+                    LocalDateTime expected = LocalDateTime.now().minusHours(48);
+                    assertEquals(true, Math.abs(java.time.Duration.between(cutoff, expected).toSeconds()) < 5);
+                    return new ReservationExpiryChunk(0, 0, List.of());
+                });
+
+        ReservationExpiryDto result = reservationExpiryService.expireStaleReservations();
+
+        assertEquals(0, result.getExpiredReservations());
+        assertEquals(0, result.getChunks());
+    }
+
+    @Test
+    void expireStaleReservations_stopsAtMaxChunks() {
+        ReflectionTestUtils.setField(reservationExpiryService, "maxChunks", 2);
+        when(chunkProcessor.expireChunk(any(LocalDateTime.class), anyInt()))
+                .thenReturn(new ReservationExpiryChunk(2, 2, List.of(1L)));
+
+        ReservationExpiryDto result = reservationExpiryService.expireStaleReservations();
+
+        assertEquals(2, result.getChunks());
+        assertEquals(4, result.getExpiredReservations());
+        verify(chunkProcessor, times(2)).expireChunk(any(LocalDateTime.class), anyInt());
+    }
+
+    @Test
+    void expireStaleReservations_whenRemindersFail_stillReturnsResult() {
+        when(chunkProcessor.expireChunk(any(LocalDateTime.class), anyInt()))
+                .thenReturn(new ReservationExpiryChunk(1, 1, List.of(5L)))
+                .thenReturn(new ReservationExpiryChunk(0, 0, List.of()));
+        doThrow(new RuntimeException("mail down")).when(reminderSchedulerService)
+                .processAvailableDvdReminders(Set.of(5L));
+
+        ReservationExpiryDto result = reservationExpiryService.expireStaleReservations();
+
+        assertEquals(1, result.getExpiredReservations());
+        verify(userContextLogger).logUserOperation(eq("RESERVATION_EXPIRY_REMINDERS_FAILED"), anyString());
+    }
+
+}
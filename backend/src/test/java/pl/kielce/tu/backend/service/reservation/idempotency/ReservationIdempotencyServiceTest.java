@@ -0,0 +1,201 @@
+package pl.kielce.tu.backend.service.reservation.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import jakarta.servlet.http.HttpServletRequest;
+import pl.kielce.tu.backend.extractor.ClaimsExtractor;
+import pl.kielce.tu.backend.model.constant.CookieNames;
+import pl.kielce.tu.backend.model.dto.ReservationDto;
+import pl.kielce.tu.backend.model.entity.ReservationIdempotencyKey;
+import pl.kielce.tu.backend.service.auth.CookieService;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReservationIdempotencyService Tests")
+class ReservationIdempotencyServiceTest {
+
+    @Mock
+    private CookieService cookieService;
+
+    @Mock
+    private ClaimsExtractor claimsExtractor;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private ReservationIdempotencyStore idempotencyStore;
+
+    @Mock
+    private HttpServletRequest request;
+
+    private ReservationIdempotencyService service;
+    private final AtomicInteger executions = new AtomicInteger();
+    private final Map<String, ReservationIdempotencyKey> storedKeys = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        service = new ReservationIdempotencyService(60, cookieService, claimsExtractor, userContextLogger,
+                idempotencyStore);
+        ReflectionTestUtils.setField(service, "jwtSecret", "secret");
+        lenient().when(cookieService.getTokenFromCookie(request, CookieNames.ACCESS_TOKEN)).thenReturn("token");
+        lenient().when(claimsExtractor.extractUserId(eq("token"), any())).thenReturn(1L);
+        lenient().when(idempotencyStore.find(any())).thenAnswer(invocation -> {
+            IdempotencyClaim claim = invocation.getArgument(0);
+            return Optional.ofNullable(storedKeys.get(claim.userId() + ":" + claim.key()));
+        });
+    }
+
+    @Test
+    @DisplayName("Should run action without claim when key is missing")
+    void shouldRunActionWithoutKey() {
+        service.handleCreateReservation(request, null, dto(1), claim -> {
+            assertNull(claim);
+            return createdAction().apply(claim);
+        });
+        service.handleCreateReservation(request, null, dto(1), createdAction());
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should replay stored outcome for repeated key")
+    void shouldReplayStoredOutcome() {
+        ResponseEntity<Void> first = service.handleCreateReservation(request, "key-1", dto(1), createdAction());
+        ResponseEntity<Void> second = service.handleCreateReservation(request, "key-1", dto(1), createdAction());
+
+        assertEquals(HttpStatus.CREATED, first.getStatusCode());
+        assertEquals(HttpStatus.CREATED, second.getStatusCode());
+        assertEquals("true", second.getHeaders().getFirst("Idempotent-Replayed"));
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should pass claim with sha-256 fingerprint to action")
+    void shouldPassClaimWithDigestFingerprint() {
+        service.handleCreateReservation(request, "key-1", dto(1), createdAction());
+
+        ReservationIdempotencyKey stored = storedKeys.get("1:key-1");
+        assertNotNull(stored);
+        assertEquals(64, stored.getFingerprint().length());
+    }
+
+    @Test
+    @DisplayName("Should reject reused key with different payload")
+    void shouldRejectReusedKeyWithDifferentPayload() {
+        service.handleCreateReservation(request, "key-1", dto(1), createdAction());
+
+        ResponseEntity<Void> response = service.handleCreateReservation(request, "key-1", dto(2), createdAction());
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should answer conflict while original request is still in flight")
+    void shouldAnswerConflictWhileInFlight() {
+        service.handleCreateReservation(request, "key-1", dto(1), createdAction());
+        storedKeys.get("1:key-1").setResponseStatus(null);
+
+        ResponseEntity<Void> response = service.handleCreateReservation(request, "key-1", dto(1), createdAction());
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should run retry again after server error rolled the key back")
+    void shouldRunRetryAfterServerError() {
+        ResponseEntity<Void> failed = service.handleCreateReservation(request, "key-1", dto(1),
+                claim -> ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build());
+
+        ResponseEntity<Void> retry = service.handleCreateReservation(request, "key-1", dto(1), createdAction());
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, failed.getStatusCode());
+        assertEquals(HttpStatus.CREATED, retry.getStatusCode());
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should replay outcome committed by concurrent duplicate after losing the insert")
+    void shouldReplayOutcomeOfConcurrentWinner() {
+        ResponseEntity<Void> response = service.handleCreateReservation(request, "key-1", dto(1), claim -> {
+            createdAction().apply(claim);
+            throw new IllegalStateException("duplicate key");
+        });
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals("true", response.getHeaders().getFirst("Idempotent-Replayed"));
+    }
+
+    @Test
+    @DisplayName("Should reject blank key")
+    void shouldRejectBlankKey() {
+        ResponseEntity<Void> response = service.handleCreateReservation(request, " ", dto(1), createdAction());
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    @DisplayName("Should sweep keys older than ttl")
+    void shouldSweepKeysOlderThanTtl() {
+        when(idempotencyStore.deleteCreatedBefore(any())).thenReturn(3);
+        LocalDateTime before = LocalDateTime.now().minusMinutes(60);
+
+        assertEquals(3, service.sweepExpired());
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(idempotencyStore).deleteCreatedBefore(cutoff.capture());
+        assertTrue(!cutoff.getValue().isBefore(before));
+    }
+
+    private Function<IdempotencyClaim, ResponseEntity<Void>> createdAction() {
+        return claim -> {
+            executions.incrementAndGet();
+            if (claim != null) {
+                storedKeys.put(claim.userId() + ":" + claim.key(), ReservationIdempotencyKey.builder()
+                        .userId(claim.userId())
+                        .idempotencyKey(claim.key())
+                        .fingerprint(claim.fingerprint())
+                        .responseStatus(HttpStatus.CREATED.value())
+                        .createdAt(LocalDateTime.now())
+                        .build());
+            }
+            return ResponseEntity.status(HttpStatus.CREATED).build();
+        };
+    }
+
+    private ReservationDto dto(int count) {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 1, 10, 0);
+        return ReservationDto.builder().dvdId(5L).rentalStart(start).rentalEnd(start.plusDays(3)).count(count)
+                .build();
+    }
+
+}
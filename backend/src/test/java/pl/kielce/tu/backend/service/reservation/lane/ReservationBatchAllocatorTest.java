@@ -0,0 +1,192 @@
+package pl.kielce.tu.backend.service.reservation.lane;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+
+import pl.kielce.tu.backend.exception.ValidationException;
+import pl.kielce.tu.backend.model.dto.ReservationDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.Reservation;
+import pl.kielce.tu.backend.model.entity.ReservationIdempotencyKey;
+import pl.kielce.tu.backend.model.entity.User;
+import pl.kielce.tu.backend.repository.DvdRepository;
+import pl.kielce.tu.backend.repository.ReservationRepository;
+import pl.kielce.tu.backend.repository.UserRepository;
+import pl.kielce.tu.backend.service.dvd.DvdAvailabilityService;
+import pl.kielce.tu.backend.service.dvd.timeline.DvdAvailabilityTimelineService;
+import pl.kielce.tu.backend.service.queue.AdminQueueEventPublisher;
+import pl.kielce.tu.backend.service.reservation.ReservationValidationService;
+import pl.kielce.tu.backend.service.reservation.approval.ReservationAutoApprovalService;
+import pl.kielce.tu.backend.service.reservation.idempotency.IdempotencyClaim;
+import pl.kielce.tu.backend.service.reservation.idempotency.ReservationIdempotencyStore;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationBatchAllocatorTest {
+
+    @Mock
+    private DvdRepository dvdRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private DvdAvailabilityService availabilityService;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationValidationService reservationValidationService;
+
+    @Mock
+    private DvdAvailabilityTimelineService availabilityTimelineService;
+
+    @Mock
+    private AdminQueueEventPublisher adminQueueEventPublisher;
+
+    @Mock
+    private ReservationAutoApprovalService autoApprovalService;
+
+    @Mock
+    private ReservationIdempotencyStore idempotencyStore;
+
+    @InjectMocks
+    private ReservationBatchAllocator batchAllocator;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void allocate_grantsRequestsUntilCopiesRunOut() throws ValidationException {
+        Dvd dvd = new Dvd();
+        dvd.setId(5L);
+        dvd.setCopiesAvalaible(2);
+        when(dvdRepository.findById(5L)).thenReturn(Optional.of(dvd));
+        when(userRepository.findAllById(anyList())).thenReturn(List.of(userWithId(1L), userWithId(2L)));
+        doAnswer(invocation -> {
+            ReservationDto dto = invocation.getArgument(0);
+            if (dto.getCount() > dvd.getCopiesAvalaible()) {
+                throw new ValidationException("Insufficient copies");
+            }
+            return null;
+        }).when(reservationValidationService).validateReservationRequest(any(), any());
+        doAnswer(invocation -> {
+            dvd.setCopiesAvalaible(dvd.getCopiesAvalaible() - (Integer) invocation.getArgument(1));
+            return null;
+        }).when(availabilityService).decreaseAvailability(any(), any());
+
+        List<HttpStatus> outcomes = batchAllocator.allocate(5L, List.of(
+                requestFor(1L, 2), requestFor(2L, 1), requestFor(3L, 1)));
+
+        assertEquals(List.of(HttpStatus.CREATED, HttpStatus.BAD_REQUEST, HttpStatus.NOT_FOUND), outcomes);
+        ArgumentCaptor<List<Reservation>> captor = ArgumentCaptor.forClass(List.class);
+        verify(reservationRepository).saveAll(captor.capture());
+        assertEquals(1, captor.getValue().size());
+        verify(availabilityTimelineService).registerReservation(captor.getValue().get(0));
+        verify(autoApprovalService).submit(captor.getValue());
+    }
+
+    @Test
+    void allocate_whenDvdMissing_returnsNotFoundForAll() throws ValidationException {
+        when(dvdRepository.findById(5L)).thenReturn(Optional.empty());
+
+        List<HttpStatus> outcomes = batchAllocator.allocate(5L, List.of(requestFor(1L, 1), requestFor(2L, 1)));
+
+        assertEquals(List.of(HttpStatus.NOT_FOUND, HttpStatus.NOT_FOUND), outcomes);
+        verify(reservationRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void allocate_whenValidationFails_doesNotDecreaseAvailability() throws ValidationException {
+        Dvd dvd = new Dvd();
+        dvd.setId(5L);
+        dvd.setCopiesAvalaible(0);
+        when(dvdRepository.findById(5L)).thenReturn(Optional.of(dvd));
+        when(userRepository.findAllById(anyList())).thenReturn(List.of(userWithId(1L)));
+        doThrow(new ValidationException("DVD not available")).when(reservationValidationService)
+                .validateReservationRequest(any(), any());
+
+        List<HttpStatus> outcomes = batchAllocator.allocate(5L, List.of(requestFor(1L, 1)));
+
+        assertEquals(List.of(HttpStatus.BAD_REQUEST), outcomes);
+        verify(availabilityService, never()).decreaseAvailability(any(), any());
+    }
+
+    @Test
+    void allocate_rejectsRepeatedIdempotencyKeyWithinBatch() throws ValidationException {
+        Dvd dvd = new Dvd();
+        dvd.setId(5L);
+        dvd.setCopiesAvalaible(5);
+        when(dvdRepository.findById(5L)).thenReturn(Optional.of(dvd));
+        when(userRepository.findAllById(anyList())).thenReturn(List.of(userWithId(1L)));
+        IdempotencyClaim claim = new IdempotencyClaim(1L, "key-1", "fingerprint");
+        ReservationIdempotencyKey idempotencyKey = new ReservationIdempotencyKey();
+        when(idempotencyStore.find(claim)).thenReturn(Optional.empty());
+        when(idempotencyStore.claim(claim)).thenReturn(idempotencyKey);
+
+        List<HttpStatus> outcomes = batchAllocator.allocate(5L, List.of(
+                requestFor(1L, 1, claim), requestFor(1L, 1, claim)));
+
+        assertEquals(List.of(HttpStatus.CREATED, HttpStatus.CONFLICT), outcomes);
+        verify(idempotencyStore).claim(claim);
+        verify(idempotencyStore).complete(idempotencyKey, HttpStatus.CREATED);
+        verify(availabilityService).decreaseAvailability(dvd, 1);
+    }
+
+    @Test
+    void allocate_rejectsIdempotencyKeyAlreadyStored() throws ValidationException {
+        Dvd dvd = new Dvd();
+        dvd.setId(5L);
+        when(dvdRepository.findById(5L)).thenReturn(Optional.of(dvd));
+        when(userRepository.findAllById(anyList())).thenReturn(List.of(userWithId(1L)));
+        IdempotencyClaim claim = new IdempotencyClaim(1L, "key-1", "fingerprint");
+        when(idempotencyStore.find(claim)).thenReturn(Optional.of(new ReservationIdempotencyKey()));
+
+        List<HttpStatus> outcomes = batchAllocator.allocate(5L, List.of(requestFor(1L, 1, claim)));
+
+        assertEquals(List.of(HttpStatus.CONFLICT), outcomes);
+        verify(idempotencyStore, never()).claim(any());
+        verify(availabilityService, never()).decreaseAvailability(any(), any());
+    }
+
+    private User userWithId(Long id) {
+        User user = new User();
+        user.setId(id);
+        return user;
+    }
+
+    private ReservationLaneRequest requestFor(Long userId, int count) {
+        return requestFor(userId, count, null);
+    }
+
+    private ReservationLaneRequest requestFor(Long userId, int count, IdempotencyClaim claim) {
+        ReservationDto dto = new ReservationDto();
+        dto.setDvdId(5L);
+        dto.setRentalStart(LocalDateTime.now());
+        dto.setRentalEnd(LocalDateTime.now().plusDays(2));
+        dto.setCount(count);
+        return new ReservationLaneRequest(userId, dto, claim, new CompletableFuture<>());
+    }
+
+}
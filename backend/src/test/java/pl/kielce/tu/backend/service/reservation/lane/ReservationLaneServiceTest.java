@@ -0,0 +1,214 @@
+package pl.kielce.tu.backend.service.reservation.lane;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import jakarta.servlet.http.HttpServletRequest;
+import pl.kielce.tu.backend.model.dto.ReservationDto;
+import pl.kielce.tu.backend.service.reservation.ReservationService;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationLaneServiceTest {
+
+    @Mock
+    private ReservationService reservationService;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private ReservationBatchAllocator batchAllocator;
+
+    private ReservationLaneService laneService;
+
+    @AfterEach
+    void tearDown() {
+        if (laneService != null) {
+            laneService.shutdown();
+        }
+    }
+
+    @Test
+    void submit_whenDisabled_throwsIllegalState() {
+        laneService = createLaneService(false);
+
+        assertFalse(laneService.isEnabled());
+        assertThrows(IllegalStateException.class, () -> laneService.submit(1L, reservationFor(5L, 1), null));
+        verifyNoInteractions(batchAllocator);
+    }
+
+    @Test
+    void submit_completesFuturesWithAllocatorOutcomes() throws Exception {
+        laneService = createLaneService(true);
+        when(batchAllocator.allocate(eq(5L), anyList())).thenAnswer(invocation -> {
+            List<ReservationLaneRequest> requests = invocation.getArgument(1);
+            List<HttpStatus> outcomes = new ArrayList<>();
+            requests.forEach(request -> outcomes.add(
+                    request.reservation().getCount() > 1 ? HttpStatus.BAD_REQUEST : HttpStatus.CREATED));
+            return outcomes;
+        });
+
+        CompletableFuture<HttpStatus> first = laneService.submit(1L, reservationFor(5L, 1), null);
+        CompletableFuture<HttpStatus> second = laneService.submit(2L, reservationFor(5L, 3), null);
+
+        assertEquals(HttpStatus.CREATED, first.get(5, TimeUnit.SECONDS));
+        assertEquals(HttpStatus.BAD_REQUEST, second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_whenAllocatorFails_completesWithInternalServerError() throws Exception {
+        laneService = createLaneService(true);
+        when(batchAllocator.allocate(eq(5L), anyList())).thenThrow(new RuntimeException("db down"));
+
+        CompletableFuture<HttpStatus> result = laneService.submit(1L, reservationFor(5L, 1), null);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void submit_whenBatchFailsTwice_fallsBackToSingleRequestTransactions() throws Exception {
+        laneService = createLaneService(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(batchAllocator.allocate(eq(7L), anyList())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(HttpStatus.CREATED);
+        });
+        when(batchAllocator.allocate(eq(5L), anyList())).thenAnswer(invocation -> {
+            List<ReservationLaneRequest> requests = invocation.getArgument(1);
+            if (requests.size() > 1) {
+                throw new OptimisticLockingFailureException("dvd changed");
+            }
+            if (requests.get(0).userId() == 2L) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return List.of(HttpStatus.CREATED);
+        });
+        CompletableFuture<HttpStatus> blocker = laneService.submit(0L, reservationFor(7L, 1), null);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<HttpStatus> first = laneService.submit(1L, reservationFor(5L, 1), null);
+        CompletableFuture<HttpStatus> second = laneService.submit(2L, reservationFor(5L, 1), null);
+        release.countDown();
+
+        assertEquals(HttpStatus.CREATED, blocker.get(5, TimeUnit.SECONDS));
+        assertEquals(HttpStatus.CREATED, first.get(5, TimeUnit.SECONDS));
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, second.get(5, TimeUnit.SECONDS));
+        verify(batchAllocator, times(2)).allocate(eq(5L), argThat(requests -> requests.size() == 2));
+    }
+
+    @Test
+    void handleCreateReservation_laneStuck_returnsServiceUnavailableAndDropsRequest() throws Exception {
+        laneService = createLaneService(true, 100);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(reservationService.extractUserIdFromRequest(request)).thenReturn(7L);
+        when(batchAllocator.allocate(eq(5L), anyList())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return List.of(HttpStatus.CREATED);
+        });
+        CompletableFuture<HttpStatus> blocker = laneService.submit(1L, reservationFor(5L, 1), null);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        ResponseEntity<Void> response = laneService.handleCreateReservation(request, reservationFor(5L, 1), null);
+        release.countDown();
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals(HttpStatus.CREATED, blocker.get(5, TimeUnit.SECONDS));
+        verify(batchAllocator, after(200).times(1)).allocate(eq(5L), anyList());
+    }
+
+    @Test
+    void handleCreateReservation_returnsAllocatedStatus() {
+        laneService = createLaneService(true);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(reservationService.extractUserIdFromRequest(request)).thenReturn(7L);
+        when(batchAllocator.allocate(eq(5L), anyList())).thenReturn(List.of(HttpStatus.CREATED));
+
+        ResponseEntity<Void> response = laneService.handleCreateReservation(request, reservationFor(5L, 1), null);
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+    }
+
+    @Test
+    void handleCreateReservation_slowBatch_returnsRealStatusInsteadOfAccepted() {
+        laneService = createLaneService(true);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(reservationService.extractUserIdFromRequest(request)).thenReturn(7L);
+        when(batchAllocator.allocate(eq(5L), anyList())).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(300);
+            return List.of(HttpStatus.BAD_REQUEST);
+        });
+
+        ResponseEntity<Void> response = laneService.handleCreateReservation(request, reservationFor(5L, 1), null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void handleCreateReservation_returnsBadRequestWhenInvalidDto() {
+        laneService = createLaneService(true);
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        ReservationDto reservationDto = new ReservationDto();
+        when(reservationService.extractUserIdFromRequest(request)).thenReturn(7L);
+        doThrow(new IllegalArgumentException("DVD ID is required")).when(reservationService)
+                .validateBasicReservationData(reservationDto);
+
+        ResponseEntity<Void> response = laneService.handleCreateReservation(request, reservationDto, null);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(batchAllocator);
+    }
+
+    private ReservationLaneService createLaneService(boolean enabled) {
+        return createLaneService(enabled, 5000);
+    }
+
+    private ReservationLaneService createLaneService(boolean enabled, long timeoutMillis) {
+        return new ReservationLaneService(enabled, 2, 16, timeoutMillis, reservationService, userContextLogger,
+                batchAllocator);
+    }
+
+    private ReservationDto reservationFor(Long dvdId, int count) {
+        ReservationDto dto = new ReservationDto();
+        dto.setDvdId(dvdId);
+        dto.setRentalStart(LocalDateTime.now());
+        dto.setRentalEnd(LocalDateTime.now().plusDays(3));
+        dto.setCount(count);
+        return dto;
+    }
+
+}
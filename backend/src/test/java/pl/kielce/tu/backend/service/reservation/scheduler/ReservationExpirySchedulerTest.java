@@ -0,0 +1,56 @@
+package pl.kielce.tu.backend.service.reservation.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pl.kielce.tu.backend.model.dto.ReservationExpiryDto;
+import pl.kielce.tu.backend.service.reservation.expiry.ReservationExpiryService;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationExpirySchedulerTest {
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private ReservationExpiryService reservationExpiryService;
+
+    @Mock
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @InjectMocks
+    private ReservationExpiryScheduler scheduler;
+
+    @Test
+    void expireStaleReservations_invokesServiceAndLogsResult() {
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        }).when(scheduledJobRunner).run(eq("reservation-expiry"), any(Runnable.class));
+        when(reservationExpiryService.expireStaleReservations()).thenReturn(ReservationExpiryDto.builder()
+                .expiredReservations(4)
+                .releasedCopies(6)
+                .affectedDvds(2)
+                .chunks(1)
+                .build());
+
+        scheduler.expireStaleReservations();
+
+        verify(reservationExpiryService, times(1)).expireStaleReservations();
+        verify(userContextLogger).logUserOperation(eq("RESERVATION_EXPIRY_COMPLETED"),
+                eq("Expired: 4, Released copies: 6, DVDs: 2, Chunks: 1"));
+    }
+
+}
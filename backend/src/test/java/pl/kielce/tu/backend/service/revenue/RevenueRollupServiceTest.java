@@ -0,0 +1,221 @@
+package pl.kielce.tu.backend.service.revenue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import pl.kielce.tu.backend.model.constant.RevenueDimension;
+import pl.kielce.tu.backend.model.constant.RevenuePeriod;
+import pl.kielce.tu.backend.model.dto.RevenueEntryDto;
+import pl.kielce.tu.backend.model.dto.RevenueReportDto;
+import pl.kielce.tu.backend.model.dto.RevenueTotalsDto;
+import pl.kielce.tu.backend.model.entity.Dvd;
+import pl.kielce.tu.backend.model.entity.Genre;
+import pl.kielce.tu.backend.model.entity.Rental;
+import pl.kielce.tu.backend.repository.RevenueRollupRepository;
+import pl.kielce.tu.backend.service.scheduler.ScheduledJobRunner;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+class RevenueRollupServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 10, 14);
+    private static final BigDecimal BASE = new BigDecimal("28.00");
+    private static final BigDecimal LATE_FEE = new BigDecimal("4.50");
+
+    @Mock
+    private RevenueRollupStore rollupStore;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    @Mock
+    private ScheduledJobRunner scheduledJobRunner;
+
+    @Mock
+    private RevenueRollupRepository rollupRepository;
+
+    private RevenueRollupService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RevenueRollupService(true, rollupStore, userContextLogger, scheduledJobRunner,
+                rollupRepository);
+    }
+
+    @Test
+    void record_existingRows_incrementsDvdAndEachGenreInIdOrder() {
+        Rental rental = rental(dvd(7L, genre(3L), genre(1L)));
+        when(rollupRepository.increment(any(), eq(DAY), any(), eq(BASE), eq(LATE_FEE))).thenReturn(1);
+
+        service.record(rental, DAY.atTime(12, 0), BASE, LATE_FEE);
+
+        InOrder order = inOrder(rollupRepository);
+        order.verify(rollupRepository).increment(RevenueDimension.DVD, DAY, 7L, BASE, LATE_FEE);
+        order.verify(rollupRepository).increment(RevenueDimension.GENRE, DAY, 1L, BASE, LATE_FEE);
+        order.verify(rollupRepository).increment(RevenueDimension.GENRE, DAY, 3L, BASE, LATE_FEE);
+        verifyNoInteractions(rollupStore);
+    }
+
+    @Test
+    void record_missingRow_createsRowAndIncrementsAgain() {
+        Rental rental = rental(dvd(7L));
+        when(rollupRepository.increment(RevenueDimension.DVD, DAY, 7L, BASE, LATE_FEE)).thenReturn(0, 1);
+
+        service.record(rental, DAY.atTime(12, 0), BASE, LATE_FEE);
+
+        verify(rollupStore).ensureRow(RevenueDimension.DVD, DAY, 7L);
+        verify(rollupRepository, times(2)).increment(RevenueDimension.DVD, DAY, 7L, BASE, LATE_FEE);
+    }
+
+    @Test
+    void record_rowCreatedConcurrently_stillIncrements() {
+        Rental rental = rental(dvd(7L));
+        when(rollupRepository.increment(RevenueDimension.DVD, DAY, 7L, BASE, LATE_FEE)).thenReturn(0, 1);
+        doThrow(new DataIntegrityViolationException("duplicate")).when(rollupStore)
+                .ensureRow(RevenueDimension.DVD, DAY, 7L);
+
+        service.record(rental, DAY.atTime(12, 0), BASE, LATE_FEE);
+
+        verify(rollupRepository, times(2)).increment(RevenueDimension.DVD, DAY, 7L, BASE, LATE_FEE);
+    }
+
+    @Test
+    void record_withoutGenerationTime_doesNothing() {
+        service.record(rental(dvd(7L)), null, BASE, LATE_FEE);
+
+        verifyNoInteractions(rollupRepository, rollupStore);
+    }
+
+    @Test
+    void handleGetRevenueReport_month_queriesCalendarMonth() {
+        LocalDate from = LocalDate.of(2025, 10, 1);
+        LocalDate to = LocalDate.of(2025, 11, 1);
+        RevenueTotalsDto totals = RevenueTotalsDto.builder().rentalCount(3L).build();
+        List<RevenueEntryDto> entries = List.of(RevenueEntryDto.builder().id(1L).name("Drama").build());
+        when(rollupRepository.findTotals(from, to)).thenReturn(totals);
+        when(rollupRepository.findGenreRevenue(from, to)).thenReturn(entries);
+
+        ResponseEntity<RevenueReportDto> response = service.handleGetRevenueReport(RevenuePeriod.MONTH, DAY,
+                RevenueDimension.GENRE);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(from, response.getBody().getFrom());
+        assertEquals(to, response.getBody().getTo());
+        assertSame(totals, response.getBody().getTotals());
+        assertSame(entries, response.getBody().getEntries());
+        verify(rollupRepository, never()).findDvdRevenue(any(), any());
+    }
+
+    @Test
+    void handleGetRevenueReport_defaults_toDvdYearBoundaries() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2026, 1, 1);
+        when(rollupRepository.findDvdRevenue(from, to)).thenReturn(List.of());
+
+        ResponseEntity<RevenueReportDto> response = service.handleGetRevenueReport(RevenuePeriod.YEAR, DAY, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(RevenueDimension.DVD, response.getBody().getDimension());
+        verify(rollupRepository).findTotals(from, to);
+    }
+
+    @Test
+    void handleBackfill_runsRebuildUnderJobLock() {
+        LocalDate from = LocalDate.of(2025, 1, 1);
+        LocalDate to = LocalDate.of(2025, 2, 1);
+        when(scheduledJobRunner.run(eq("revenue-rollup-backfill"), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+        when(rollupStore.rebuild(from, to)).thenReturn(12);
+
+        ResponseEntity<Void> response = service.handleBackfill(from, to);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(rollupStore).rebuild(from, to);
+    }
+
+    @Test
+    void handleBackfill_alreadyRunning_returnsConflict() {
+        when(scheduledJobRunner.run(anyString(), any())).thenReturn(false);
+
+        ResponseEntity<Void> response = service.handleBackfill(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1));
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void handleBackfill_failedRebuild_returnsInternalServerError() {
+        when(scheduledJobRunner.run(anyString(), any())).thenReturn(true);
+
+        ResponseEntity<Void> response = service.handleBackfill(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 2, 1));
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+    }
+
+    @Test
+    void handleBackfill_invertedRange_returnsBadRequest() {
+        ResponseEntity<Void> response = service.handleBackfill(LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1));
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verifyNoInteractions(scheduledJobRunner);
+    }
+
+    @Test
+    void backfillIfEmpty_existingRollups_skipsBackfill() {
+        when(rollupRepository.count()).thenReturn(5L);
+
+        service.backfillIfEmpty();
+
+        verifyNoInteractions(scheduledJobRunner);
+    }
+
+    @Test
+    void backfillIfEmpty_emptyTable_rebuildsHistoryIncludingToday() {
+        when(rollupRepository.count()).thenReturn(0L);
+        when(scheduledJobRunner.run(anyString(), any())).thenAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return true;
+        });
+
+        service.backfillIfEmpty();
+
+        verify(rollupStore).rebuild(LocalDate.EPOCH, LocalDate.now().plusDays(1));
+    }
+
+    private Rental rental(Dvd dvd) {
+        return Rental.builder().id(1L).dvd(dvd).build();
+    }
+
+    private Dvd dvd(Long id, Genre... genres) {
+        return Dvd.builder().id(id).title("Matrix").genres(List.of(genres)).build();
+    }
+
+    private Genre genre(Long id) {
+        return Genre.builder().id(id).name("Genre " + id).build();
+    }
+}
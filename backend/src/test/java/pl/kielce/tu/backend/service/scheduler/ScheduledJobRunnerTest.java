@@ -0,0 +1,178 @@
+package pl.kielce.tu.backend.service.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import pl.kielce.tu.backend.model.constant.SchedulerRunOutcome;
+import pl.kielce.tu.backend.model.entity.SchedulerRun;
+import pl.kielce.tu.backend.util.UserContextLogger;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ScheduledJobRunner Tests")
+class ScheduledJobRunnerTest {
+
+    @Mock
+    private SchedulerLockStore lockStore;
+
+    @Mock
+    private UserContextLogger userContextLogger;
+
+    private ScheduledJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new ScheduledJobRunner("node-a", 600, 30, 0, lockStore, userContextLogger);
+    }
+
+    @Test
+    @DisplayName("Should run task, record success and release lock")
+    void shouldRunTaskAndRecordSuccess() {
+        when(lockStore.tryAcquire("job", "node-a", Duration.ofSeconds(600)))
+                .thenReturn(true);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        boolean result = runner.run("job", () -> executed.set(true));
+
+        assertTrue(result);
+        assertTrue(executed.get());
+        ArgumentCaptor<SchedulerRun> captor = ArgumentCaptor.forClass(SchedulerRun.class);
+        verify(lockStore).recordRun(captor.capture());
+        assertEquals(SchedulerRunOutcome.SUCCEEDED, captor.getValue().getOutcome());
+        assertEquals("node-a", captor.getValue().getNodeId());
+        verify(lockStore).release("job", "node-a", Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Should skip task when lock is held by another node")
+    void shouldSkipWhenLockHeldElsewhere() {
+        when(lockStore.tryAcquire("job", "node-a", Duration.ofSeconds(600)))
+                .thenReturn(false);
+        AtomicBoolean executed = new AtomicBoolean();
+
+        boolean result = runner.run("job", () -> executed.set(true));
+
+        assertFalse(result);
+        assertFalse(executed.get());
+        verify(lockStore, never()).recordRun(any());
+        verify(lockStore, never()).release(anyString(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should record failure and still release lock when task throws")
+    void shouldRecordFailureWhenTaskThrows() {
+        when(lockStore.tryAcquire("job", "node-a", Duration.ofSeconds(600)))
+                .thenReturn(true);
+
+        runner.run("job", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        ArgumentCaptor<SchedulerRun> captor = ArgumentCaptor.forClass(SchedulerRun.class);
+        verify(lockStore).recordRun(captor.capture());
+        assertEquals(SchedulerRunOutcome.FAILED, captor.getValue().getOutcome());
+        assertEquals("boom", captor.getValue().getErrorMessage());
+        verify(lockStore).release("job", "node-a", Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("Should skip overlapping run of the same job on this node")
+    void shouldSkipOverlappingRun() throws InterruptedException {
+        when(lockStore.tryAcquire("job", "node-a", Duration.ofSeconds(600)))
+                .thenReturn(true);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        Thread first = new Thread(() -> runner.run("job", () -> {
+            started.countDown();
+            awaitQuietly(finish);
+        }));
+        first.start();
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+
+        boolean overlapping = runner.run("job", () -> {
+        });
+
+        finish.countDown();
+        first.join(2000);
+        assertFalse(overlapping);
+        verify(userContextLogger).logUserOperation(eq("SCHEDULER_JOB_SKIPPED"), anyString());
+    }
+
+    @Test
+    @DisplayName("Should skip task when lock acquisition fails")
+    void shouldSkipWhenLockAcquisitionFails() {
+        when(lockStore.tryAcquire("job", "node-a", Duration.ofSeconds(600)))
+                .thenThrow(new RuntimeException("duplicate key"));
+
+        boolean result = runner.run("job", () -> {
+        });
+
+        assertFalse(result);
+        verify(userContextLogger).logUserOperation(eq("SCHEDULER_LOCK_FAILED"), anyString());
+    }
+
+    @Test
+    @DisplayName("Should renew lease while a long task is still running")
+    void shouldRenewLeaseForLongRunningTask() throws InterruptedException {
+        runner = new ScheduledJobRunner("node-a", 7, 6, 0, lockStore, userContextLogger);
+        when(lockStore.tryAcquire("job", "node-a", Duration.ofSeconds(7))).thenReturn(true);
+        when(lockStore.extend("job", "node-a", Duration.ofSeconds(7))).thenReturn(true);
+
+        runner.run("job", () -> sleepQuietly(2600));
+
+        verify(lockStore, atLeastOnce()).extend("job", "node-a", Duration.ofSeconds(7));
+        verify(lockStore).release("job", "node-a", Duration.ofSeconds(6));
+        runner.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should reject minimum hold shorter than jitter plus clock skew margin")
+    void shouldRejectMinimumHoldShorterThanJitter() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ScheduledJobRunner("node-a", 600, 5, 2000, lockStore, userContextLogger));
+    }
+
+    @Test
+    @DisplayName("Should reject lock ttl not longer than minimum hold")
+    void shouldRejectTtlNotLongerThanMinimumHold() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ScheduledJobRunner("node-a", 30, 30, 0, lockStore, userContextLogger));
+    }
+
+    private void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(2, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package pl.kielce.tu.backend.service.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import pl.kielce.tu.backend.model.entity.SchedulerLock;
+import pl.kielce.tu.backend.repository.SchedulerLockRepository;
+
+@DataJpaTest
+@Import(SchedulerLockStore.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("SchedulerLockStore Tests")
+class SchedulerLockStoreTest {
+
+    @Autowired
+    private SchedulerLockStore lockStore;
+
+    @Autowired
+    private SchedulerLockRepository lockRepository;
+
+    @Test
+    @DisplayName("Should keep lock for minimum hold after a quick run")
+    void shouldKeepLockForMinimumHoldAfterQuickRun() {
+        assertTrue(lockStore.tryAcquire("quick-job", "node-a", Duration.ofMinutes(10)));
+
+        lockStore.release("quick-job", "node-a", Duration.ofSeconds(30));
+
+        SchedulerLock lock = lockRepository.findById("quick-job").orElseThrow();
+        assertEquals(lock.getLockedAt().plusSeconds(30), lock.getLockedUntil());
+        assertFalse(lockStore.tryAcquire("quick-job", "node-b", Duration.ofMinutes(10)));
+    }
+
+    @Test
+    @DisplayName("Should use database time for lease boundaries")
+    void shouldUseDatabaseTimeForLeaseBoundaries() {
+        LocalDateTime databaseTime = lockRepository.currentDatabaseTime();
+
+        assertTrue(lockStore.tryAcquire("db-time-job", "node-a", Duration.ofMinutes(10)));
+
+        SchedulerLock lock = lockRepository.findById("db-time-job").orElseThrow();
+        assertFalse(lock.getLockedAt().isBefore(databaseTime));
+        assertEquals(lock.getLockedAt().plusMinutes(10), lock.getLockedUntil());
+    }
+
+    @Test
+    @DisplayName("Should extend lease only for the holding node")
+    void shouldExtendLeaseOnlyForHoldingNode() {
+        assertTrue(lockStore.tryAcquire("long-job", "node-a", Duration.ofSeconds(60)));
+
+        assertTrue(lockStore.extend("long-job", "node-a", Duration.ofMinutes(10)));
+        assertFalse(lockStore.extend("long-job", "node-b", Duration.ofMinutes(10)));
+
+        SchedulerLock lock = lockRepository.findById("long-job").orElseThrow();
+        assertTrue(lock.getLockedUntil().isAfter(lock.getLockedAt().plusSeconds(60)));
+    }
+
+}
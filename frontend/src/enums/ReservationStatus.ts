@@ -3,6 +3,7 @@ export const ReservationStatus = {
   ACCEPTED: "ACCEPTED",
   REJECTED: "REJECTED",
   CANCELLED: "CANCELLED",
+  EXPIRED: "EXPIRED",
 } as const;
 
 export type ReservationStatus =
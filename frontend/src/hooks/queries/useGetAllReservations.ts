@@ -1,25 +1,30 @@
 import { useQuery } from "@tanstack/react-query";
 import { axiosInstance } from "@/interceptor";
 import type { ReservationDto } from "@/interfaces/responses/ReservationDto";
+import type { PagedResponseDto } from "@/interfaces/responses/PagedResponseDto";
 import type { ReservationStatus } from "@/enums/ReservationStatus";
 
+interface GetAllReservationsParams {
+  filter?: ReservationStatus;
+  page?: number;
+  size?: number;
+}
+
 const getAllReservations = async (
-  filter?: ReservationStatus
-): Promise<ReservationDto[]> => {
-  const response = await axiosInstance.get<ReservationDto[]>(
+  params?: GetAllReservationsParams
+): Promise<PagedResponseDto<ReservationDto>> => {
+  const response = await axiosInstance.get<PagedResponseDto<ReservationDto>>(
     "/reservations/all",
     {
-      params: {
-        filter,
-      },
+      params,
     }
   );
   return response.data;
 };
 
-export const useGetAllReservations = (filter?: ReservationStatus) => {
+export const useGetAllReservations = (params?: GetAllReservationsParams) => {
   return useQuery({
-    queryKey: ["allReservations", filter],
-    queryFn: () => getAllReservations(filter),
+    queryKey: ["allReservations", params],
+    queryFn: () => getAllReservations(params),
   });
 };
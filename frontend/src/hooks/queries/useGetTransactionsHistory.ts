@@ -1,15 +1,27 @@
-import { useQuery } from "@tanstack/react-query";
+import { useInfiniteQuery } from "@tanstack/react-query";
 import { axiosInstance } from "@/interceptor";
+import type { CursorPageDto } from "@/interfaces/responses/CursorPageDto";
 import type { TransactionDto } from "@/interfaces/responses/TransactionDto";
 
-const getTransactionsHistory = async (): Promise<TransactionDto[]> => {
-  const response = await axiosInstance.get<TransactionDto[]>("/transactions");
+const PAGE_SIZE = 20;
+
+const getTransactionsHistory = async (
+  after: number | null
+): Promise<CursorPageDto<TransactionDto>> => {
+  const response = await axiosInstance.get<CursorPageDto<TransactionDto>>(
+    "/transactions",
+    { params: { after: after ?? undefined, size: PAGE_SIZE } }
+  );
   return response.data;
 };
 
 export const useGetTransactionsHistory = () => {
-  return useQuery({
+  return useInfiniteQuery({
     queryKey: ["transactionsHistory"],
-    queryFn: getTransactionsHistory,
+    queryFn: ({ pageParam }) => getTransactionsHistory(pageParam),
+    initialPageParam: null as number | null,
+    getNextPageParam: (lastPage) =>
+      lastPage.hasNext ? lastPage.nextCursor : undefined,
+    select: (data) => data.pages.flatMap((page) => page.content),
   });
 };
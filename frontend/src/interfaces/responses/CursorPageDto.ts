@@ -0,0 +1,6 @@
+export interface CursorPageDto<T> {
+  content: T[];
+  nextCursor: number | null;
+  pageSize: number;
+  hasNext: boolean;
+}
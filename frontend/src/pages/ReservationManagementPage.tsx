@@ -4,6 +4,7 @@ import { useState } from 'react';
 
 import { DashboardHeader } from '@/components/DashboardHeader';
 import { DashboardSidebar } from '@/components/DashboardSidebar';
+import { Pagination } from '@/components/Pagination';
 import { Badge } from '@/components/ui/badge';
 import { Button } from '@/components/ui/button';
 import {
@@ -44,15 +45,37 @@ const statusConfig: Record<ReservationStatus, { label: string; className: string
     label: 'Anulowana',
     className: 'bg-gray-500 hover:bg-gray-500/80',
   },
+  EXPIRED: {
+    label: 'Wygasła',
+    className: 'bg-gray-400 hover:bg-gray-400/80',
+  },
 };
 
 export const ReservationManagementPage = () => {
   const [filter, setFilter] = useState<ReservationStatus | 'ALL'>('ALL');
+  const [currentPage, setCurrentPage] = useState(0);
+  const pageSize = 20;
+
   const {
-    data: reservations,
+    data: reservationsData,
     isLoading,
     isError,
-  } = useGetAllReservations(filter === 'ALL' ? undefined : filter);
+  } = useGetAllReservations({
+    filter: filter === 'ALL' ? undefined : filter,
+    page: currentPage,
+    size: pageSize,
+  });
+  const reservations = reservationsData?.content;
+
+  const handleFilterChange = (value: ReservationStatus | 'ALL') => {
+    setFilter(value);
+    setCurrentPage(0);
+  };
+
+  const handlePageChange = (page: number) => {
+    setCurrentPage(page);
+    window.scrollTo({ top: 0, behavior: 'smooth' });
+  };
 
   const { mutate: acceptReservation, isPending: isAccepting } = useAcceptReservation();
   const { mutate: declineReservation, isPending: isDeclining } = useDeclineReservation();
@@ -72,7 +95,7 @@ export const ReservationManagementPage = () => {
       );
     }
 
-    if (!reservations || reservations.length === 0) {
+    if (!reservationsData || !reservations || reservations.length === 0) {
       return (
         <div className="text-center text-muted-foreground">
           Nie znaleziono rezerwacji dla wybranego filtra.
@@ -81,100 +104,111 @@ export const ReservationManagementPage = () => {
     }
 
     return (
-      <div className="rounded-md border overflow-hidden">
-        <div className="overflow-x-auto">
-          <div className="inline-block min-w-full align-middle">
-            <Table>
-              <TableHeader>
-                <TableRow>
-                  <TableHead className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
-                    ID
-                  </TableHead>
-                  <TableHead className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
-                    Tytuł DVD
-                  </TableHead>
-                  <TableHead className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
-                    Data rezerwacji
-                  </TableHead>
-                  <TableHead className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
-                    Okres wypożyczenia
-                  </TableHead>
-                  <TableHead className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
-                    Status
-                  </TableHead>
-                  <TableHead className="text-right whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
-                    Akcje
-                  </TableHead>
-                </TableRow>
-              </TableHeader>
-              <TableBody>
-                {reservations.map((reservation) => {
-                  const statusInfo = statusConfig[reservation.status as ReservationStatus];
-                  const isActionPending = isAccepting || isDeclining;
-                  return (
-                    <TableRow key={reservation.id}>
-                      <TableCell className="font-medium whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
-                        {reservation.id}
-                      </TableCell>
-                      <TableCell className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
-                        {reservation.dvdTitle}
-                      </TableCell>
-                      <TableCell className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
-                        {format(new Date(reservation.createdAt), 'dd.MM.yyyy')}
-                      </TableCell>
-                      <TableCell className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
-                        {format(new Date(reservation.rentalStart), 'dd.MM.yyyy')} -{' '}
-                        {format(new Date(reservation.rentalEnd), 'dd.MM.yyyy')}
-                      </TableCell>
-                      <TableCell className="px-2 sm:px-4">
-                        <Badge className={`${statusInfo.className} text-[10px] sm:text-xs`}>
-                          {statusInfo.label}
-                        </Badge>
-                      </TableCell>
-                      <TableCell className="text-right px-2 sm:px-4">
-                        {reservation.status === 'PENDING' && (
-                          <div className="flex flex-col sm:flex-row justify-end gap-1 sm:gap-2 whitespace-nowrap">
-                            <Button
-                              size="sm"
-                              variant="outline"
-                              className="border-green-500 text-green-500 hover:bg-green-50 hover:text-green-600 text-xs px-2 py-1 h-auto"
-                              onClick={() => acceptReservation(String(reservation.id))}
-                              disabled={isActionPending}
-                            >
-                              {isAccepting ? (
-                                <Loader className="mr-1 size-3 animate-spin" />
-                              ) : (
-                                <Check className="mr-1 size-3" />
-                              )}
-                              <span className="hidden sm:inline">Akceptuj</span>
-                              <span className="sm:hidden">✓</span>
-                            </Button>
-                            <Button
-                              size="sm"
-                              variant="outline"
-                              className="border-red-500 text-red-500 hover:bg-red-50 hover:text-red-600 text-xs px-2 py-1 h-auto"
-                              onClick={() => declineReservation(String(reservation.id))}
-                              disabled={isActionPending}
-                            >
-                              {isDeclining ? (
-                                <Loader className="mr-1 size-3 animate-spin" />
-                              ) : (
-                                <X className="mr-1 size-3" />
-                              )}
-                              <span className="hidden sm:inline">Odrzuć</span>
-                              <span className="sm:hidden">✗</span>
-                            </Button>
-                          </div>
-                        )}
-                      </TableCell>
-                    </TableRow>
-                  );
-                })}
-              </TableBody>
-            </Table>
+      <>
+        <div className="rounded-md border overflow-hidden">
+          <div className="overflow-x-auto">
+            <div className="inline-block min-w-full align-middle">
+              <Table>
+                <TableHeader>
+                  <TableRow>
+                    <TableHead className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
+                      ID
+                    </TableHead>
+                    <TableHead className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
+                      Tytuł DVD
+                    </TableHead>
+                    <TableHead className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
+                      Data rezerwacji
+                    </TableHead>
+                    <TableHead className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
+                      Okres wypożyczenia
+                    </TableHead>
+                    <TableHead className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
+                      Status
+                    </TableHead>
+                    <TableHead className="text-right whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
+                      Akcje
+                    </TableHead>
+                  </TableRow>
+                </TableHeader>
+                <TableBody>
+                  {reservations.map((reservation) => {
+                    const statusInfo = statusConfig[reservation.status as ReservationStatus];
+                    const isActionPending = isAccepting || isDeclining;
+                    return (
+                      <TableRow key={reservation.id}>
+                        <TableCell className="font-medium whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
+                          {reservation.id}
+                        </TableCell>
+                        <TableCell className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
+                          {reservation.dvdTitle}
+                        </TableCell>
+                        <TableCell className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
+                          {format(new Date(reservation.createdAt), 'dd.MM.yyyy')}
+                        </TableCell>
+                        <TableCell className="whitespace-nowrap text-xs sm:text-sm px-2 sm:px-4">
+                          {format(new Date(reservation.rentalStart), 'dd.MM.yyyy')} -{' '}
+                          {format(new Date(reservation.rentalEnd), 'dd.MM.yyyy')}
+                        </TableCell>
+                        <TableCell className="px-2 sm:px-4">
+                          <Badge className={`${statusInfo.className} text-[10px] sm:text-xs`}>
+                            {statusInfo.label}
+                          </Badge>
+                        </TableCell>
+                        <TableCell className="text-right px-2 sm:px-4">
+                          {reservation.status === 'PENDING' && (
+                            <div className="flex flex-col sm:flex-row justify-end gap-1 sm:gap-2 whitespace-nowrap">
+                              <Button
+                                size="sm"
+                                variant="outline"
+                                className="border-green-500 text-green-500 hover:bg-green-50 hover:text-green-600 text-xs px-2 py-1 h-auto"
+                                onClick={() => acceptReservation(String(reservation.id))}
+                                disabled={isActionPending}
+                              >
+                                {isAccepting ? (
+                                  <Loader className="mr-1 size-3 animate-spin" />
+                                ) : (
+                                  <Check className="mr-1 size-3" />
+                                )}
+                                <span className="hidden sm:inline">Akceptuj</span>
+                                <span className="sm:hidden">✓</span>
+                              </Button>
+                              <Button
+                                size="sm"
+                                variant="outline"
+                                className="border-red-500 text-red-500 hover:bg-red-50 hover:text-red-600 text-xs px-2 py-1 h-auto"
+                                onClick={() => declineReservation(String(reservation.id))}
+                                disabled={isActionPending}
+                              >
+                                {isDeclining ? (
+                                  <Loader className="mr-1 size-3 animate-spin" />
+                                ) : (
+                                  <X className="mr-1 size-3" />
+                                )}
+                                <span className="hidden sm:inline">Odrzuć</span>
+                                <span className="sm:hidden">✗</span>
+                              </Button>
+                            </div>
+                          )}
+                        </TableCell>
+                      </TableRow>
+                    );
+                  })}
+                </TableBody>
+              </Table>
+            </div>
           </div>
         </div>
-      </div>
+        <Pagination
+          currentPage={reservationsData.currentPage}
+          totalPages={reservationsData.totalPages}
+          totalElements={reservationsData.totalElements}
+          pageSize={reservationsData.pageSize}
+          hasNext={reservationsData.hasNext}
+          hasPrevious={reservationsData.hasPrevious}
+          onPageChange={handlePageChange}
+        />
+      </>
     );
   };
 
@@ -194,7 +228,7 @@ export const ReservationManagementPage = () => {
               </span>
               <Select
                 value={filter}
-                onValueChange={(value) => setFilter(value as ReservationStatus | 'ALL')}
+                onValueChange={(value) => handleFilterChange(value as ReservationStatus | 'ALL')}
               >
                 <SelectTrigger className="w-full sm:w-[180px]">
                   <SelectValue />
@@ -205,6 +239,7 @@ export const ReservationManagementPage = () => {
                   <SelectItem value="ACCEPTED">Zaakceptowane</SelectItem>
                   <SelectItem value="REJECTED">Odrzucone</SelectItem>
                   <SelectItem value="CANCELLED">Anulowane</SelectItem>
+                  <SelectItem value="EXPIRED">Wygasłe</SelectItem>
                 </SelectContent>
               </Select>
             </div>
@@ -30,6 +30,9 @@ export const TransactionsHistoryPage = () => {
     data: transactions,
     isLoading,
     isError,
+    hasNextPage,
+    fetchNextPage,
+    isFetchingNextPage,
   } = useGetTransactionsHistory();
 
   const [downloadingId, setDownloadingId] = useState<number | null>(null);
@@ -183,6 +186,24 @@ export const TransactionsHistoryPage = () => {
             </TableBody>
           </Table>
         </div>
+        {hasNextPage && (
+          <div className="flex justify-center border-t p-4">
+            <Button
+              variant="outline"
+              onClick={() => fetchNextPage()}
+              disabled={isFetchingNextPage}
+            >
+              {isFetchingNextPage ? (
+                <>
+                  <Loader className="mr-2 size-4 animate-spin" />
+                  Ładowanie...
+                </>
+              ) : (
+                "Załaduj więcej"
+              )}
+            </Button>
+          </div>
+        )}
       </div>
     );
   };
@@ -41,6 +41,11 @@ const statusConfig = {
     color: 'bg-gray-500',
     icon: <XCircle className="mr-2 size-4" />,
   },
+  EXPIRED: {
+    label: 'Wygasła',
+    color: 'bg-gray-400',
+    icon: <Clock className="mr-2 size-4" />,
+  },
 };
 
 export function UserReservationsPage() {
@@ -155,6 +160,7 @@ export function UserReservationsPage() {
                 <TabsTrigger value="ACCEPTED">Zaakceptowane</TabsTrigger>
                 <TabsTrigger value="REJECTED">Odrzucone</TabsTrigger>
                 <TabsTrigger value="CANCELLED">Anulowane</TabsTrigger>
+                <TabsTrigger value="EXPIRED">Wygasłe</TabsTrigger>
               </TabsList>
             </Tabs>
           </div>
@@ -266,6 +266,7 @@ MEDIA_POSTER_CACHE_CONTROL="${MEDIA_POSTER_CACHE_CONTROL:-public, max-age=315360
 MEDIA_POSTER_DEFAULT_CONTENT_TYPE="${MEDIA_POSTER_DEFAULT_CONTENT_TYPE:-application/octet-stream}"
 MEDIA_AVATAR_UPLOAD_DIR="${MEDIA_AVATAR_UPLOAD_DIR:-/app/uploads/avatars}"
 MEDIA_AVATAR_MAX_SIZE="${MEDIA_AVATAR_MAX_SIZE:-5242880}"
+MEDIA_INVOICE_DIR="${MEDIA_INVOICE_DIR:-/app/uploads/invoices}"
 
 echo "📝 Creating Docker Compose environment configuration..."
 DOCKER_ENV_FILE="$BASE_DIR/.env"
@@ -311,6 +312,9 @@ spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect
 spring.jpa.show-sql=true
 spring.jpa.defer-datasource-initialization=true
 spring.jpa.hibernate.ddl-auto=update
+spring.jpa.properties.hibernate.jdbc.batch_size=50
+spring.jpa.properties.hibernate.order_inserts=true
+spring.jpa.properties.hibernate.order_updates=true
 spring.sql.init.mode=always
 spring.servlet.multipart.max-file-size=-1
 spring.servlet.multipart.max-request-size=-1
@@ -361,6 +365,7 @@ media.poster.cache-control=$MEDIA_POSTER_CACHE_CONTROL
 media.poster.default-content-type=$MEDIA_POSTER_DEFAULT_CONTENT_TYPE
 media.avatar.upload-dir=$MEDIA_AVATAR_UPLOAD_DIR
 media.avatar.max-size=$MEDIA_AVATAR_MAX_SIZE
+media.invoice.dir=$MEDIA_INVOICE_DIR
 spring.mail.host=$MAIL_HOST
 spring.mail.port=$MAIL_PORT
 spring.mail.username=$MAIL_USERNAME
@@ -376,6 +381,77 @@ email.verification.template=classpath:templates/email-verification.html
 email.reminder.subject=CineRent - Film dostępny!
 email.reminder.template=classpath:templates/dvd-availability-notification.html
 server.base-url=https://localhost:10443
+availability.timeline.horizon-days=365
+availability.timeline.max-cached=1000
+availability.timeline.ttl-seconds=60
+recommendation.strategy.timeout-ms=800
+recommendation.materialize.batch-size=200
+recommendation.materialize.active-days=180
+recommendation.materialize.strategy-timeout-ms=5000
+recommendation.materialize.cron=0 0 3 * * *
+recommendation.popularity.half-life-days=30
+recommendation.popularity.top-size=100
+recommendation.popularity.checkpoint-ms=300000
+recommendation.co-rental.cron=0 30 2 * * *
+recommendation.co-rental.parallelism=2
+recommendation.co-rental.page-size=5000
+recommendation.co-rental.leaf-size=256
+recommendation.co-rental.min-support=2
+recommendation.co-rental.max-neighbours=50
+recommendation.co-rental.history-size=20
+recommendation.cohort.max-cached=10000
+recommendation.cohort.ttl-minutes=10
+reservation.lanes.enabled=false
+reservation.lanes.count=8
+reservation.lanes.batch-size=64
+reservation.lanes.timeout-ms=5000
+reservation.bulk.max-size=500
+reservation.hold.timeout-hours=48
+reservation.expiry.chunk-size=500
+reservation.expiry.max-chunks=100
+reservation.expiry.cron=0 */10 * * * *
+rental.expiry.chunk-size=1000
+rental.expiry.reconcile-cron=0 0 * * * *
+rental.deadline.enabled=true
+rental.deadline.batch-size=200
+rental.deadline.retry-delay-ms=30000
+reminder.cron=0 * * * * *
+scheduler.node-id=
+scheduler.lock.ttl-seconds=600
+scheduler.lock.min-hold-seconds=30
+scheduler.jitter-ms=2000
+spring.task.scheduling.pool.size=4
+admin.queue.buffer-size=256
+admin.queue.max-subscribers=50
+admin.queue.emitter-timeout-ms=1800000
+admin.queue.sender-threads=2
+admin.queue.heartbeat-ms=15000
+admin.queue.poll-ms=1000
+admin.queue.retention-ms=600000
+admin.queue.sweep-cron=0 */5 * * * *
+reservation.auto-approval.enabled=false
+reservation.auto-approval.batch-size=50
+reservation.auto-approval.linger-ms=200
+reservation.auto-approval.queue-capacity=10000
+reservation.auto-approval.trusted.enabled=true
+reservation.auto-approval.trusted.max-count=2
+reservation.auto-approval.trusted.max-price-per-day=10.0
+reservation.auto-approval.trusted.max-rental-days=14
+reservation.idempotency.ttl-minutes=1440
+reservation.idempotency.sweep-cron=0 30 * * * *
+invoice.pdf.render-threads=2
+invoice.export.threads=4
+invoice.export.window=8
+invoice.export.max-range-days=366
+invoice.ledger.batch-size=500
+invoice.number.block-size=20
+revenue.rollup.backfill-on-startup=true
+analytics.utilization.window-days=90
+analytics.utilization.parallelism=4
+analytics.utilization.leaf-size=20000
+analytics.utilization.batch-size=1000
+analytics.utilization.cron=0 30 2 * * *
+spring.mvc.async.request-timeout=600000
 EOF
 
 echo "✅ Application properties configured: $APP_PROPERTIES_FILE"